@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import com.liferay.apio.architect.annotation.GeneratedType;
+
+import java.io.IOException;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+/**
+ * Generates a {@code GeneratedType} for every interface annotated with {@code
+ * Vocabulary.Type}, so its representor and form are filled with plain Java
+ * code instead of reading its annotations with reflection at runtime.
+ *
+ * <p>
+ * The processor doesn't claim the annotation, so other processors can still
+ * process it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@SupportedAnnotationTypes(GeneratedTypeProcessor.TYPE_ANNOTATION)
+public class GeneratedTypeProcessor extends AbstractProcessor {
+
+	/**
+	 * The name of the {@code Vocabulary.Type} annotation.
+	 *
+	 * @review
+	 */
+	public static final String TYPE_ANNOTATION =
+		"com.liferay.apio.architect.annotation.Vocabulary.Type";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnvironment) {
+		super.init(processingEnvironment);
+
+		_elements = processingEnvironment.getElementUtils();
+		_messager = processingEnvironment.getMessager();
+
+		_generatedTypeWriter = new GeneratedTypeWriter(
+			processingEnvironment.getFiler());
+		_typeDescriptionParser = new TypeDescriptionParser(
+			processingEnvironment, this::_isGenerated);
+	}
+
+	@Override
+	public boolean process(
+		Set<? extends TypeElement> annotations,
+		RoundEnvironment roundEnvironment) {
+
+		TypeElement typeElement = _elements.getTypeElement(TYPE_ANNOTATION);
+
+		if (typeElement == null) {
+			return false;
+		}
+
+		Set<? extends Element> elements =
+			roundEnvironment.getElementsAnnotatedWith(typeElement);
+
+		for (Element element : elements) {
+			if (element instanceof TypeElement) {
+				TypeElement annotatedTypeElement = (TypeElement)element;
+
+				_roundTypeNames.add(
+					String.valueOf(annotatedTypeElement.getQualifiedName()));
+			}
+		}
+
+		for (Element element : elements) {
+			if (element instanceof TypeElement) {
+				_write((TypeElement)element);
+			}
+		}
+
+		return false;
+	}
+
+	private boolean _isGenerated(TypeElement typeElement) {
+		String typeName = String.valueOf(typeElement.getQualifiedName());
+
+		if (_roundTypeNames.contains(typeName)) {
+			return true;
+		}
+
+		String generatedClassName = GeneratedType.getClassName(
+			String.valueOf(_elements.getBinaryName(typeElement)));
+
+		if (_elements.getTypeElement(generatedClassName) != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private void _write(TypeElement typeElement) {
+		Optional<TypeDescription> optional = _typeDescriptionParser.parse(
+			typeElement);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		TypeDescription typeDescription = optional.get();
+
+		if (!_writtenClassNames.add(
+				typeDescription.getGeneratedClassName())) {
+
+			return;
+		}
+
+		try {
+			_generatedTypeWriter.write(typeDescription);
+		}
+		catch (IOException ioe) {
+			_messager.printMessage(
+				ERROR,
+				"Unable to write " + typeDescription.getGeneratedClassName() +
+					": " + ioe.getMessage(),
+				typeElement);
+		}
+	}
+
+	private Elements _elements;
+	private GeneratedTypeWriter _generatedTypeWriter;
+	private Messager _messager;
+	private final Set<String> _roundTypeNames = new HashSet<>();
+	private TypeDescriptionParser _typeDescriptionParser;
+	private final Set<String> _writtenClassNames = new HashSet<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,692 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription.Kind;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription.ValueKind;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.MethodDescription;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.JavaFileObject;
+
+/**
+ * Writes the source code of the {@code GeneratedType} of a {@link
+ * TypeDescription}.
+ *
+ * <p>
+ * The generated code fills the representor and form builders in the same order
+ * as {@code RepresentorTransformer}, {@code NestedRepresentorTransformer} and
+ * {@code FormTransformer}, so both produce the same representations. Like the
+ * functions created by {@code RepresentorTransformerUtil#getMethodFunction},
+ * the generated getters return {@code null} if the type's method throws an
+ * exception.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class GeneratedTypeWriter {
+
+	public GeneratedTypeWriter(Filer filer) {
+		_filer = filer;
+	}
+
+	/**
+	 * Writes the source code of the {@code GeneratedType} of a type.
+	 *
+	 * @param  typeDescription the type's description
+	 * @throws IOException if the source file couldn't be written
+	 * @review
+	 */
+	public void write(TypeDescription typeDescription) throws IOException {
+		JavaFileObject javaFileObject = _filer.createSourceFile(
+			typeDescription.getGeneratedClassName(),
+			typeDescription.getTypeElement());
+
+		try (Writer writer = javaFileObject.openWriter()) {
+			writer.write(_toSource(typeDescription));
+		}
+	}
+
+	private static String _getDefaultValue(TypeMirror typeMirror) {
+		TypeKind typeKind = typeMirror.getKind();
+
+		if (typeKind == TypeKind.BOOLEAN) {
+			return "false";
+		}
+
+		if (typeKind.isPrimitive()) {
+			return "0";
+		}
+
+		return "null";
+	}
+
+	private static String _getFormMethodName(ValueKind valueKind) {
+		if (valueKind == ValueKind.BINARY) {
+			return "addOptionalFile";
+		}
+
+		if (valueKind == ValueKind.BOOLEAN) {
+			return "addOptionalBoolean";
+		}
+
+		if (valueKind == ValueKind.DATE) {
+			return "addOptionalDate";
+		}
+
+		if (valueKind == ValueKind.DOUBLE) {
+			return "addOptionalDouble";
+		}
+
+		if (valueKind == ValueKind.NUMBER) {
+			return "addOptionalLong";
+		}
+
+		return "addOptionalString";
+	}
+
+	private static String _getRepresentorMethodName(ValueKind valueKind) {
+		if (valueKind == ValueKind.BINARY) {
+			return "addBinary";
+		}
+
+		if (valueKind == ValueKind.BOOLEAN) {
+			return "addBoolean";
+		}
+
+		if (valueKind == ValueKind.DATE) {
+			return "addDate";
+		}
+
+		if ((valueKind == ValueKind.DOUBLE) ||
+			(valueKind == ValueKind.NUMBER)) {
+
+			return "addNumber";
+		}
+
+		return "addString";
+	}
+
+	private static String _toStringLiteral(String string) {
+		StringBuilder sb = new StringBuilder("\"");
+
+		for (char c : string.toCharArray()) {
+			if ((c == '"') || (c == '\\')) {
+				sb.append('\\');
+				sb.append(c);
+			}
+			else if ((c < ' ') || (c > '~')) {
+				sb.append(String.format("\\u%04x", (int)c));
+			}
+			else {
+				sb.append(c);
+			}
+		}
+
+		sb.append('"');
+
+		return sb.toString();
+	}
+
+	private void _appendCommonFields(
+		SourceBuilder sourceBuilder, TypeDescription typeDescription) {
+
+		sourceBuilder.line(1, "private static void _addCommonFields(");
+		sourceBuilder.line(
+			2, _BASE_REPRESENTOR + ".BaseFirstStep<" + _typeName + ", ?, ?>",
+			" firstStep) {");
+		sourceBuilder.line();
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LINK_TO)) {
+
+			if (!fieldDescription.isSingle() ||
+				!fieldDescription.isRepresentor()) {
+
+				continue;
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.addLinkedModel(", _key(fieldDescription), ", ",
+				"_cast(", fieldDescription.getResourceClassName(), ".class), ",
+				_getter(fieldDescription), ");");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.BASIC)) {
+
+			if (!fieldDescription.isRepresentor()) {
+				continue;
+			}
+
+			ValueKind valueKind = fieldDescription.getValueKind();
+
+			String key = _key(fieldDescription);
+
+			if (valueKind == ValueKind.LOCALIZED_BY_LANGUAGE) {
+				sourceBuilder.line(
+					2, "firstStep.addLocalizedStringByLanguage(", key,
+					", (model, acceptLanguage) -> _get(() -> model.",
+					fieldDescription.getMethodName(), "(acceptLanguage)));");
+			}
+			else if (valueKind == ValueKind.LOCALIZED_BY_LOCALE) {
+				sourceBuilder.line(
+					2, "firstStep.addLocalizedStringByLocale(", key,
+					", (model, locale) -> _get(() -> model.",
+					fieldDescription.getMethodName(), "(locale)));");
+			}
+			else {
+				sourceBuilder.line(
+					2, "firstStep.", _getRepresentorMethodName(valueKind),
+					"(", key, ", ", _getter(fieldDescription), ");");
+			}
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LIST)) {
+
+			ValueKind valueKind = fieldDescription.getValueKind();
+
+			if (!fieldDescription.isRepresentor() ||
+				(valueKind == ValueKind.BINARY) ||
+				(valueKind == ValueKind.DATE)) {
+
+				continue;
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.",
+				_getRepresentorMethodName(valueKind), "List(",
+				_key(fieldDescription), ", model -> _cast(_get(() -> model.",
+				fieldDescription.getMethodName(), "())));");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.RELATIVE_URL)) {
+
+			if (!fieldDescription.isRepresentor()) {
+				continue;
+			}
+
+			String methodName = "addRelativeURL";
+
+			if (fieldDescription.isFromApplication()) {
+				methodName = "addApplicationRelativeURL";
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.", methodName, "(", _key(fieldDescription), ", ",
+				_getter(fieldDescription), ");");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.NESTED)) {
+
+			if (!fieldDescription.isRepresentor()) {
+				continue;
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.addNested(", _key(fieldDescription), ", ",
+				_getter(fieldDescription), ", new ",
+				fieldDescription.getGeneratedClassName(),
+				"()::getNestedRepresentor);");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.NESTED_LIST)) {
+
+			if (!fieldDescription.isRepresentor()) {
+				continue;
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.addNestedList(", _key(fieldDescription), ", ",
+				_getter(fieldDescription), ", new ",
+				fieldDescription.getGeneratedClassName(),
+				"()::getNestedRepresentor);");
+		}
+
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+	}
+
+	private void _appendForm(
+		SourceBuilder sourceBuilder, TypeDescription typeDescription) {
+
+		sourceBuilder.line(1, "@Override");
+		sourceBuilder.line(
+			1, "public ", _FORM, "<", _typeName, "> getForm(");
+		sourceBuilder.line(
+			2, _FORM, ".Builder<", _typeName, "> builder) {");
+		sourceBuilder.line();
+		sourceBuilder.line(
+			2, _FORM, ".Builder.FieldStep<", _typeName, "> fieldStep = ",
+			"builder.title(__ -> \"\").description(__ -> \"\").constructor(",
+			"Instance::new);");
+		sourceBuilder.line();
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.RELATIVE_URL)) {
+
+			_appendFormField(
+				sourceBuilder, fieldDescription, "addOptionalString", null);
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.BASIC)) {
+
+			ValueKind valueKind = fieldDescription.getValueKind();
+
+			_appendFormField(
+				sourceBuilder, fieldDescription,
+				_getFormMethodName(valueKind), null);
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LIST)) {
+
+			ValueKind valueKind = fieldDescription.getValueKind();
+
+			_appendFormField(
+				sourceBuilder, fieldDescription,
+				_getFormMethodName(valueKind) + "List", null);
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LINK_TO)) {
+
+			_appendFormField(
+				sourceBuilder, fieldDescription, "addOptionalLinkedModel",
+				"_cast(" + fieldDescription.getResourceClassName() + ".class)");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.NESTED)) {
+
+			_appendFormField(
+				sourceBuilder, fieldDescription, "addOptionalNestedModel",
+				"new " + fieldDescription.getGeneratedClassName() +
+					"()::getForm");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.NESTED_LIST)) {
+
+			_appendFormField(
+				sourceBuilder, fieldDescription, "addOptionalNestedModelList",
+				"new " + fieldDescription.getGeneratedClassName() +
+					"()::getForm");
+		}
+
+		sourceBuilder.line();
+		sourceBuilder.line(2, "return fieldStep.build();");
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+	}
+
+	private void _appendFormField(
+		SourceBuilder sourceBuilder, FieldDescription fieldDescription,
+		String methodName, String argument) {
+
+		if (!fieldDescription.isForm()) {
+			return;
+		}
+
+		String arguments = _key(fieldDescription);
+
+		if (argument != null) {
+			arguments = arguments + ", " + argument;
+		}
+
+		sourceBuilder.line(
+			2, "fieldStep.", methodName, "(", arguments, ", (model, value) -> ",
+			"((Instance)model)._", fieldDescription.getMethodName(),
+			" = value);");
+	}
+
+	private void _appendInstance(
+		SourceBuilder sourceBuilder, TypeDescription typeDescription) {
+
+		sourceBuilder.line(
+			1, "private static final class Instance implements ", _typeName,
+			" {");
+		sourceBuilder.line();
+
+		List<MethodDescription> methodDescriptions =
+			typeDescription.getMethodDescriptions();
+
+		for (MethodDescription methodDescription : methodDescriptions) {
+			ExecutableElement method = methodDescription.getMethod();
+			ExecutableType executableType =
+				methodDescription.getExecutableType();
+
+			StringBuilder sb = new StringBuilder();
+
+			List<? extends TypeMirror> parameterTypes =
+				executableType.getParameterTypes();
+
+			for (int i = 0; i < parameterTypes.size(); i++) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+
+				sb.append(parameterTypes.get(i));
+				sb.append(" p");
+				sb.append(i);
+			}
+
+			TypeMirror returnType = executableType.getReturnType();
+
+			sourceBuilder.line(2, "@Override");
+			sourceBuilder.line(
+				2, "public ", String.valueOf(returnType), " ",
+				String.valueOf(method.getSimpleName()), "(", sb.toString(),
+				") {");
+
+			if (methodDescription.isStored()) {
+				sourceBuilder.line(
+					3, "return _cast(_", String.valueOf(method.getSimpleName()),
+					");");
+			}
+			else if (returnType.getKind() != TypeKind.VOID) {
+				sourceBuilder.line(
+					3, "return ", _getDefaultValue(returnType), ";");
+			}
+
+			sourceBuilder.line(2, "}");
+			sourceBuilder.line();
+		}
+
+		for (FieldDescription fieldDescription :
+				typeDescription.getFieldDescriptions()) {
+
+			if (fieldDescription.isForm() &&
+				sourceBuilder.addField(fieldDescription.getMethodName())) {
+
+				sourceBuilder.line(
+					2, "private Object _", fieldDescription.getMethodName(),
+					";");
+			}
+		}
+
+		sourceBuilder.line();
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+	}
+
+	private void _appendNestedRepresentor(
+		SourceBuilder sourceBuilder, TypeDescription typeDescription) {
+
+		sourceBuilder.line(1, "@Override");
+		sourceBuilder.line(
+			1, "public ", _NESTED_REPRESENTOR, "<", _typeName, ">");
+		sourceBuilder.line(2, "getNestedRepresentor(");
+		sourceBuilder.line(
+			3, _NESTED_REPRESENTOR, ".Builder<", _typeName, "> builder) {");
+		sourceBuilder.line();
+		sourceBuilder.line(
+			2, _NESTED_REPRESENTOR, ".FirstStep<", _typeName, "> firstStep = ",
+			"builder.types(", _toStringLiteral(typeDescription.getTypeName()),
+			");");
+		sourceBuilder.line();
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LINK_TO)) {
+
+			if (!fieldDescription.isChildCollection()) {
+				continue;
+			}
+
+			sourceBuilder.line(
+				2, "firstStep.addRelatedCollection(", _key(fieldDescription),
+				", ", fieldDescription.getResourceClassName(), ".class, ",
+				_getter(fieldDescription), ");");
+		}
+
+		sourceBuilder.line(2, "_addCommonFields(firstStep);");
+		sourceBuilder.line();
+		sourceBuilder.line(2, "return firstStep.build();");
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+	}
+
+	private void _appendRepresentor(
+		SourceBuilder sourceBuilder, TypeDescription typeDescription) {
+
+		sourceBuilder.line(1, "@Override");
+		sourceBuilder.line(
+			1, "public ", _REPRESENTOR, "<", _typeName, "> getRepresentor(");
+		sourceBuilder.line(
+			2, _REPRESENTOR, ".Builder<", _typeName, ", ?> builder) {");
+		sourceBuilder.line();
+		sourceBuilder.line(
+			2, _REPRESENTOR, ".Builder<", _typeName, ", Object> typedBuilder ",
+			"= _cast(builder);");
+		sourceBuilder.line();
+
+		String identifierFunction = "model -> null";
+
+		ExecutableElement idMethod = typeDescription.getIdMethod();
+
+		if (idMethod != null) {
+			identifierFunction =
+				"model -> _get(() -> model." + idMethod.getSimpleName() +
+					"())";
+		}
+
+		sourceBuilder.line(
+			2, _REPRESENTOR, ".FirstStep<", _typeName, "> firstStep = ",
+			"typedBuilder.types(",
+			_toStringLiteral(typeDescription.getTypeName()), ").identifier(",
+			identifierFunction, ");");
+		sourceBuilder.line();
+
+		ExecutableElement lastModifiedMethod =
+			typeDescription.getLastModifiedMethod();
+
+		if (lastModifiedMethod != null) {
+			sourceBuilder.line(
+				2, "firstStep.lastModified(model -> _get(() -> model.",
+				String.valueOf(lastModifiedMethod.getSimpleName()), "()));");
+		}
+
+		ExecutableElement versionMethod = typeDescription.getVersionMethod();
+
+		if (versionMethod != null) {
+			sourceBuilder.line(
+				2, "firstStep.version(model -> java.util.Objects.toString(",
+				"_get(() -> model.",
+				String.valueOf(versionMethod.getSimpleName()), "()), null));");
+		}
+
+		for (FieldDescription fieldDescription :
+				_filter(typeDescription, Kind.LINK_TO)) {
+
+			if (!fieldDescription.isRepresentor()) {
+				continue;
+			}
+
+			if (fieldDescription.isChildCollection()) {
+				sourceBuilder.line(
+					2, "firstStep.addRelatedCollection(",
+					_key(fieldDescription), ", ",
+					fieldDescription.getResourceClassName(), ".class);");
+			}
+			else if (fieldDescription.isGenericParentCollection()) {
+				sourceBuilder.line(
+					2, "firstStep.addRelatedCollection(",
+					_key(fieldDescription), ", ",
+					fieldDescription.getResourceClassName(), ".class, ",
+					_getter(fieldDescription), ");");
+			}
+		}
+
+		sourceBuilder.line(2, "_addCommonFields(firstStep);");
+		sourceBuilder.line();
+		sourceBuilder.line(2, "return firstStep.build();");
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+	}
+
+	private Iterable<FieldDescription> _filter(
+		TypeDescription typeDescription, Kind kind) {
+
+		List<FieldDescription> fieldDescriptions =
+			typeDescription.getFieldDescriptions();
+
+		Predicate<FieldDescription> predicate =
+			fieldDescription -> fieldDescription.getKind() == kind;
+
+		return () -> fieldDescriptions.stream(
+		).filter(
+			predicate
+		).iterator();
+	}
+
+	private String _getter(FieldDescription fieldDescription) {
+		return "model -> _get(() -> model." +
+			fieldDescription.getMethodName() + "())";
+	}
+
+	private String _key(FieldDescription fieldDescription) {
+		return _toStringLiteral(fieldDescription.getKey());
+	}
+
+	private String _toSource(TypeDescription typeDescription) {
+		String generatedClassName = typeDescription.getGeneratedClassName();
+
+		int index = generatedClassName.lastIndexOf('.');
+
+		_typeName = String.valueOf(
+			typeDescription.getTypeElement().getQualifiedName());
+
+		SourceBuilder sourceBuilder = new SourceBuilder();
+
+		if (index != -1) {
+			sourceBuilder.line(
+				0, "package ", generatedClassName.substring(0, index), ";");
+			sourceBuilder.line();
+		}
+
+		sourceBuilder.line(0, "/**");
+		sourceBuilder.line(
+			0, " * Fills the representor and form builders of {@link ",
+			_typeName, "}.");
+		sourceBuilder.line(0, " *");
+		sourceBuilder.line(
+			0, " * <p>This class has been generated by ",
+			GeneratedTypeProcessor.class.getName(), ". Don't modify it.</p>");
+		sourceBuilder.line(0, " */");
+		sourceBuilder.line(
+			0, "@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+		sourceBuilder.line(
+			0, "public final class ", generatedClassName.substring(index + 1));
+		sourceBuilder.line(
+			1, "implements ", _GENERATED_TYPE, "<", _typeName, "> {");
+		sourceBuilder.line();
+
+		_appendForm(sourceBuilder, typeDescription);
+		_appendNestedRepresentor(sourceBuilder, typeDescription);
+		_appendRepresentor(sourceBuilder, typeDescription);
+		_appendCommonFields(sourceBuilder, typeDescription);
+
+		sourceBuilder.line(1, "private static <V> V _cast(Object object) {");
+		sourceBuilder.line(2, "return (V)object;");
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+		sourceBuilder.line(
+			1, "private static <V> V _get(",
+			"java.util.concurrent.Callable<V> callable) {");
+		sourceBuilder.line(2, "try {");
+		sourceBuilder.line(3, "return callable.call();");
+		sourceBuilder.line(2, "}");
+		sourceBuilder.line(2, "catch (Exception e) {");
+		sourceBuilder.line(3, "return null;");
+		sourceBuilder.line(2, "}");
+		sourceBuilder.line(1, "}");
+		sourceBuilder.line();
+
+		_appendInstance(sourceBuilder, typeDescription);
+
+		sourceBuilder.line(0, "}");
+
+		return sourceBuilder.toString();
+	}
+
+	private static final String _BASE_REPRESENTOR =
+		"com.liferay.apio.architect.representor.BaseRepresentor";
+
+	private static final String _FORM = "com.liferay.apio.architect.form.Form";
+
+	private static final String _GENERATED_TYPE =
+		"com.liferay.apio.architect.annotation.GeneratedType";
+
+	private static final String _NESTED_REPRESENTOR =
+		"com.liferay.apio.architect.representor.NestedRepresentor";
+
+	private static final String _REPRESENTOR =
+		"com.liferay.apio.architect.representor.Representor";
+
+	private final Filer _filer;
+	private String _typeName;
+
+	private static class SourceBuilder {
+
+		public boolean addField(String name) {
+			return _fieldNames.add(name);
+		}
+
+		public void line() {
+			_sb.append('\n');
+		}
+
+		public void line(int indentation, String... parts) {
+			for (int i = 0; i < indentation; i++) {
+				_sb.append('\t');
+			}
+
+			for (String part : parts) {
+				_sb.append(part);
+			}
+
+			_sb.append('\n');
+		}
+
+		@Override
+		public String toString() {
+			return _sb.toString();
+		}
+
+		private final Set<String> _fieldNames = new HashSet<>();
+		private final StringBuilder _sb = new StringBuilder();
+
+	}
+
+}
\ No newline at end of file
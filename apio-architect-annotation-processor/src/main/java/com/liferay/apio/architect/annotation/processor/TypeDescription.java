@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ExecutableType;
+
+/**
+ * Holds the information about an interface annotated with {@code
+ * Vocabulary.Type} needed to generate its {@code GeneratedType}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TypeDescription {
+
+	public TypeDescription(
+		TypeElement typeElement, String typeName, String generatedClassName) {
+
+		_typeElement = typeElement;
+		_typeName = typeName;
+		_generatedClassName = generatedClassName;
+	}
+
+	public List<FieldDescription> getFieldDescriptions() {
+		return _fieldDescriptions;
+	}
+
+	/**
+	 * Returns the fully qualified name of the generated class.
+	 *
+	 * @return the generated class's name
+	 * @review
+	 */
+	public String getGeneratedClassName() {
+		return _generatedClassName;
+	}
+
+	public ExecutableElement getIdMethod() {
+		return _idMethod;
+	}
+
+	public ExecutableElement getLastModifiedMethod() {
+		return _lastModifiedMethod;
+	}
+
+	/**
+	 * Returns the methods the generated implementation of the type must
+	 * override, with their types as members of the type.
+	 *
+	 * @return the methods to override
+	 * @review
+	 */
+	public List<MethodDescription> getMethodDescriptions() {
+		return _methodDescriptions;
+	}
+
+	public TypeElement getTypeElement() {
+		return _typeElement;
+	}
+
+	/**
+	 * Returns the value of the type's {@code Vocabulary.Type} annotation.
+	 *
+	 * @return the type's name
+	 * @review
+	 */
+	public String getTypeName() {
+		return _typeName;
+	}
+
+	public ExecutableElement getVersionMethod() {
+		return _versionMethod;
+	}
+
+	public void setIdMethod(ExecutableElement idMethod) {
+		_idMethod = idMethod;
+	}
+
+	public void setLastModifiedMethod(ExecutableElement lastModifiedMethod) {
+		_lastModifiedMethod = lastModifiedMethod;
+	}
+
+	public void setVersionMethod(ExecutableElement versionMethod) {
+		_versionMethod = versionMethod;
+	}
+
+	/**
+	 * Describes a method annotated with {@code Vocabulary.Field}.
+	 *
+	 * @review
+	 */
+	public static class FieldDescription {
+
+		public FieldDescription(
+			Kind kind, ValueKind valueKind, String key,
+			ExecutableElement method, boolean form, boolean representor) {
+
+			_kind = kind;
+			_valueKind = valueKind;
+			_key = key;
+			_method = method;
+			_form = form;
+			_representor = representor;
+		}
+
+		public String getGeneratedClassName() {
+			return _generatedClassName;
+		}
+
+		public String getKey() {
+			return _key;
+		}
+
+		public Kind getKind() {
+			return _kind;
+		}
+
+		public ExecutableElement getMethod() {
+			return _method;
+		}
+
+		public String getMethodName() {
+			return String.valueOf(_method.getSimpleName());
+		}
+
+		public String getResourceClassName() {
+			return _resourceClassName;
+		}
+
+		public ValueKind getValueKind() {
+			return _valueKind;
+		}
+
+		public boolean isChildCollection() {
+			return _resourceType.equals("CHILD_COLLECTION");
+		}
+
+		public boolean isForm() {
+			return _form;
+		}
+
+		public boolean isFromApplication() {
+			return _fromApplication;
+		}
+
+		public boolean isGenericParentCollection() {
+			return _resourceType.equals("GENERIC_PARENT_COLLECTION");
+		}
+
+		public boolean isRepresentor() {
+			return _representor;
+		}
+
+		public boolean isSingle() {
+			return _resourceType.equals("SINGLE");
+		}
+
+		public void setFromApplication(boolean fromApplication) {
+			_fromApplication = fromApplication;
+		}
+
+		/**
+		 * Sets the name of the class generated for the type of a nested
+		 * field.
+		 *
+		 * @param  generatedClassName the generated class's name
+		 * @review
+		 */
+		public void setGeneratedClassName(String generatedClassName) {
+			_generatedClassName = generatedClassName;
+		}
+
+		/**
+		 * Sets the resource of a {@code Vocabulary.LinkTo} field, and the
+		 * name of its {@code Vocabulary.LinkTo.ResourceType}.
+		 *
+		 * @param  resourceClassName the resource's identifier class name
+		 * @param  resourceType the name of the resource type
+		 * @review
+		 */
+		public void setResource(String resourceClassName, String resourceType) {
+			_resourceClassName = resourceClassName;
+			_resourceType = resourceType;
+		}
+
+		/**
+		 * The kinds of fields supported by the generated code.
+		 *
+		 * @review
+		 */
+		public enum Kind {
+
+			BASIC, LINK_TO, LIST, NESTED, NESTED_LIST, RELATIVE_URL
+
+		}
+
+		/**
+		 * The kinds of values of basic and list fields.
+		 *
+		 * @review
+		 */
+		public enum ValueKind {
+
+			BINARY, BOOLEAN, DATE, DOUBLE, LOCALIZED_BY_LANGUAGE,
+			LOCALIZED_BY_LOCALE, NONE, NUMBER, STRING
+
+		}
+
+		private final boolean _form;
+		private boolean _fromApplication;
+		private String _generatedClassName;
+		private final String _key;
+		private final Kind _kind;
+		private final ExecutableElement _method;
+		private final boolean _representor;
+		private String _resourceClassName;
+		private String _resourceType = "";
+		private final ValueKind _valueKind;
+
+	}
+
+	/**
+	 * Describes a method that the generated implementation of the type must
+	 * override.
+	 *
+	 * @review
+	 */
+	public static class MethodDescription {
+
+		public MethodDescription(
+			ExecutableElement method, ExecutableType executableType,
+			boolean stored) {
+
+			_method = method;
+			_executableType = executableType;
+			_stored = stored;
+		}
+
+		public ExecutableType getExecutableType() {
+			return _executableType;
+		}
+
+		public ExecutableElement getMethod() {
+			return _method;
+		}
+
+		/**
+		 * Returns {@code true} if the method returns a value set by the form.
+		 *
+		 * @return {@code true} if the method returns a value set by the form;
+		 *         {@code false} otherwise
+		 * @review
+		 */
+		public boolean isStored() {
+			return _stored;
+		}
+
+		private final ExecutableType _executableType;
+		private final ExecutableElement _method;
+		private final boolean _stored;
+
+	}
+
+	private final List<FieldDescription> _fieldDescriptions =
+		new ArrayList<>();
+	private final String _generatedClassName;
+	private ExecutableElement _idMethod;
+	private ExecutableElement _lastModifiedMethod;
+	private final List<MethodDescription> _methodDescriptions =
+		new ArrayList<>();
+	private final TypeElement _typeElement;
+	private final String _typeName;
+	private ExecutableElement _versionMethod;
+
+}
\ No newline at end of file
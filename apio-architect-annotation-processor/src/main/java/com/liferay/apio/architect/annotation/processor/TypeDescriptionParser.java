@@ -0,0 +1,635 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import static javax.lang.model.element.ElementKind.INTERFACE;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.type.TypeKind.DECLARED;
+import static javax.tools.Diagnostic.Kind.NOTE;
+
+import com.liferay.apio.architect.annotation.GeneratedType;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription.Kind;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.FieldDescription.ValueKind;
+import com.liferay.apio.architect.annotation.processor.TypeDescription.MethodDescription;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Reads the annotations of an interface annotated with {@code
+ * Vocabulary.Type}, and creates the {@link TypeDescription} used to generate
+ * its {@code GeneratedType}.
+ *
+ * <p>
+ * Only the annotations that {@code TypeProcessor} would read at runtime are
+ * taken into account. If a type uses a feature that the generated code doesn't
+ * support, a note is printed and no description is returned, so the type keeps
+ * being read with reflection.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TypeDescriptionParser {
+
+	public TypeDescriptionParser(
+		ProcessingEnvironment processingEnvironment,
+		Predicate<TypeElement> generatedPredicate) {
+
+		_elements = processingEnvironment.getElementUtils();
+		_messager = processingEnvironment.getMessager();
+		_types = processingEnvironment.getTypeUtils();
+		_generatedPredicate = generatedPredicate;
+	}
+
+	/**
+	 * Returns the description of a type, if its code can be generated;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  typeElement the type
+	 * @return the type's description, if its code can be generated; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<TypeDescription> parse(TypeElement typeElement) {
+		String name = String.valueOf(typeElement.getQualifiedName());
+
+		if (_typeDescriptions.containsKey(name)) {
+			return _typeDescriptions.get(name);
+		}
+
+		if (!_parsingTypeNames.add(name)) {
+			return Optional.empty();
+		}
+
+		Optional<TypeDescription> optional;
+
+		try {
+			optional = Optional.of(_parse(typeElement));
+		}
+		catch (UnsupportedTypeException ute) {
+			_messager.printMessage(
+				NOTE,
+				"Unable to generate the code of " + name + ", it will be " +
+					"read with reflection: " + ute.getMessage(),
+				typeElement);
+
+			optional = Optional.empty();
+		}
+		finally {
+			_parsingTypeNames.remove(name);
+		}
+
+		_typeDescriptions.put(name, optional);
+
+		return optional;
+	}
+
+	private void _checkNoParameters(
+			ExecutableElement method, ExecutableType executableType)
+		throws UnsupportedTypeException {
+
+		List<? extends TypeMirror> parameterTypes =
+			executableType.getParameterTypes();
+
+		if (!parameterTypes.isEmpty()) {
+			throw new UnsupportedTypeException(
+				"method " + method.getSimpleName() + " has parameters");
+		}
+	}
+
+	private AnnotationMirror _getAnnotationMirror(
+		Element element, String annotationName) {
+
+		for (AnnotationMirror annotationMirror :
+				element.getAnnotationMirrors()) {
+
+			DeclaredType declaredType = annotationMirror.getAnnotationType();
+
+			TypeElement typeElement = (TypeElement)declaredType.asElement();
+
+			if (typeElement.getQualifiedName().contentEquals(annotationName)) {
+				return annotationMirror;
+			}
+		}
+
+		return null;
+	}
+
+	private String _getEnumValue(
+		AnnotationMirror annotationMirror, String name) {
+
+		Element element = (Element)_getValue(annotationMirror, name);
+
+		return String.valueOf(element.getSimpleName());
+	}
+
+	private String _getGeneratedClassName(
+			ExecutableElement method, TypeElement typeElement)
+		throws UnsupportedTypeException {
+
+		if (!parse(typeElement).isPresent()) {
+			throw new UnsupportedTypeException(
+				"the type of method " + method.getSimpleName() +
+					" is not supported");
+		}
+
+		if (!_generatedPredicate.test(typeElement)) {
+			throw new UnsupportedTypeException(
+				"the code of the type of method " + method.getSimpleName() +
+					" has not been generated");
+		}
+
+		return GeneratedType.getClassName(
+			String.valueOf(_elements.getBinaryName(typeElement)));
+	}
+
+	private String _getQualifiedName(TypeMirror typeMirror) {
+		if (typeMirror.getKind() != DECLARED) {
+			return null;
+		}
+
+		TypeElement typeElement = (TypeElement)_types.asElement(typeMirror);
+
+		return String.valueOf(typeElement.getQualifiedName());
+	}
+
+	private Object _getValue(AnnotationMirror annotationMirror, String name) {
+		Map<? extends ExecutableElement, ? extends AnnotationValue>
+			elementValues = _elements.getElementValuesWithDefaults(
+				annotationMirror);
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue>
+				entry : elementValues.entrySet()) {
+
+			ExecutableElement executableElement = entry.getKey();
+
+			if (executableElement.getSimpleName().contentEquals(name)) {
+				AnnotationValue annotationValue = entry.getValue();
+
+				return annotationValue.getValue();
+			}
+		}
+
+		return null;
+	}
+
+	private ValueKind _getValueKind(TypeMirror typeMirror) {
+		String qualifiedName = _getQualifiedName(typeMirror);
+
+		if (qualifiedName == null) {
+			return ValueKind.NONE;
+		}
+
+		if (qualifiedName.equals(_BINARY_FILE)) {
+			return ValueKind.BINARY;
+		}
+
+		if (qualifiedName.equals(Boolean.class.getName())) {
+			return ValueKind.BOOLEAN;
+		}
+
+		if (qualifiedName.equals(_DATE)) {
+			return ValueKind.DATE;
+		}
+
+		if (qualifiedName.equals(Double.class.getName())) {
+			return ValueKind.DOUBLE;
+		}
+
+		if (qualifiedName.equals(String.class.getName())) {
+			return ValueKind.STRING;
+		}
+
+		TypeElement numberTypeElement = _elements.getTypeElement(
+			Number.class.getName());
+
+		if (_types.isAssignable(typeMirror, numberTypeElement.asType())) {
+			return ValueKind.NUMBER;
+		}
+
+		return ValueKind.NONE;
+	}
+
+	private boolean _isInterfaceMethod(ExecutableElement method) {
+		Set<Modifier> modifiers = method.getModifiers();
+
+		if (modifiers.contains(PRIVATE) || modifiers.contains(STATIC)) {
+			return false;
+		}
+
+		Element enclosingElement = method.getEnclosingElement();
+
+		if ((enclosingElement.getKind() != INTERFACE) ||
+			_isObjectMethod(method)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private boolean _isObjectMethod(ExecutableElement method) {
+		String name = String.valueOf(method.getSimpleName());
+
+		List<? extends Element> parameters = method.getParameters();
+
+		if (name.equals("hashCode") || name.equals("toString")) {
+			return parameters.isEmpty();
+		}
+
+		if (name.equals("equals") && (parameters.size() == 1)) {
+			Element parameter = parameters.get(0);
+
+			return Object.class.getName(
+			).equals(
+				_getQualifiedName(parameter.asType())
+			);
+		}
+
+		return false;
+	}
+
+	private boolean _isType(TypeMirror typeMirror) {
+		if (typeMirror.getKind() != DECLARED) {
+			return false;
+		}
+
+		Element element = _types.asElement(typeMirror);
+
+		if (_getAnnotationMirror(element, _TYPE) != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private TypeDescription _parse(TypeElement typeElement)
+		throws UnsupportedTypeException {
+
+		if (typeElement.getKind() != INTERFACE) {
+			throw new UnsupportedTypeException("it is not an interface");
+		}
+
+		if (!typeElement.getTypeParameters().isEmpty()) {
+			throw new UnsupportedTypeException("it has type parameters");
+		}
+
+		AnnotationMirror typeAnnotationMirror = _getAnnotationMirror(
+			typeElement, _TYPE);
+
+		TypeDescription typeDescription = new TypeDescription(
+			typeElement, (String)_getValue(typeAnnotationMirror, "value"),
+			GeneratedType.getClassName(
+				String.valueOf(_elements.getBinaryName(typeElement))));
+
+		DeclaredType declaredType = (DeclaredType)typeElement.asType();
+
+		List<ExecutableElement> methods = ElementFilter.methodsIn(
+			_elements.getAllMembers(typeElement));
+
+		Set<String> formMethodNames = new HashSet<>();
+
+		for (ExecutableElement method : methods) {
+			if (!_isInterfaceMethod(method)) {
+				continue;
+			}
+
+			ExecutableType executableType = (ExecutableType)_types.asMemberOf(
+				declaredType, method);
+
+			_parseIdentifierMethods(typeDescription, method, executableType);
+
+			AnnotationMirror fieldAnnotationMirror = _getAnnotationMirror(
+				method, _FIELD);
+
+			if (fieldAnnotationMirror == null) {
+				continue;
+			}
+
+			FieldDescription fieldDescription = _parseField(
+				method, executableType, fieldAnnotationMirror);
+
+			if (fieldDescription.isForm()) {
+				formMethodNames.add(fieldDescription.getMethodName());
+			}
+
+			List<FieldDescription> fieldDescriptions =
+				typeDescription.getFieldDescriptions();
+
+			fieldDescriptions.add(fieldDescription);
+		}
+
+		Set<String> signatures = new HashSet<>();
+
+		for (ExecutableElement method : methods) {
+			if (!_isInterfaceMethod(method)) {
+				continue;
+			}
+
+			String methodName = String.valueOf(method.getSimpleName());
+
+			boolean stored = formMethodNames.contains(methodName);
+
+			if (!stored && !method.getModifiers().contains(ABSTRACT)) {
+				continue;
+			}
+
+			if (!method.getTypeParameters().isEmpty()) {
+				throw new UnsupportedTypeException(
+					"method " + methodName + " has type parameters");
+			}
+
+			ExecutableType executableType = (ExecutableType)_types.asMemberOf(
+				declaredType, method);
+
+			String signature =
+				methodName + _types.erasure(executableType).toString();
+
+			if (!signatures.add(signature)) {
+				continue;
+			}
+
+			List<MethodDescription> methodDescriptions =
+				typeDescription.getMethodDescriptions();
+
+			methodDescriptions.add(
+				new MethodDescription(method, executableType, stored));
+		}
+
+		return typeDescription;
+	}
+
+	private FieldDescription _parseField(
+			ExecutableElement method, ExecutableType executableType,
+			AnnotationMirror fieldAnnotationMirror)
+		throws UnsupportedTypeException {
+
+		String key = (String)_getValue(fieldAnnotationMirror, "value");
+		String mode = _getEnumValue(fieldAnnotationMirror, "mode");
+
+		boolean form = mode.equals("READ_ONLY") || mode.equals("READ_WRITE");
+		boolean representor =
+			mode.equals("WRITE_ONLY") || mode.equals("READ_WRITE");
+
+		TypeMirror returnType = executableType.getReturnType();
+
+		if (_getAnnotationMirror(method, _BIDIRECTIONAL_MODEL) != null) {
+			throw new UnsupportedTypeException(
+				"method " + method.getSimpleName() + " is a bidirectional " +
+					"model");
+		}
+
+		AnnotationMirror linkToAnnotationMirror = _getAnnotationMirror(
+			method, _LINK_TO);
+
+		if (linkToAnnotationMirror != null) {
+			_checkNoParameters(method, executableType);
+
+			String resourceType = _getEnumValue(
+				linkToAnnotationMirror, "resourceType");
+
+			FieldDescription fieldDescription = new FieldDescription(
+				Kind.LINK_TO, ValueKind.NONE, key, method,
+				form && resourceType.equals("SINGLE"), representor);
+
+			fieldDescription.setResource(
+				_getQualifiedName(
+					(TypeMirror)_getValue(linkToAnnotationMirror, "resource")),
+				resourceType);
+
+			return fieldDescription;
+		}
+
+		AnnotationMirror relativeURLAnnotationMirror = _getAnnotationMirror(
+			method, _RELATIVE_URL);
+
+		if (relativeURLAnnotationMirror != null) {
+			_checkNoParameters(method, executableType);
+
+			if (_getValueKind(returnType) != ValueKind.STRING) {
+				throw new UnsupportedTypeException(
+					"relative URL method " + method.getSimpleName() +
+						" does not return a string");
+			}
+
+			FieldDescription fieldDescription = new FieldDescription(
+				Kind.RELATIVE_URL, ValueKind.STRING, key, method, form,
+				representor);
+
+			fieldDescription.setFromApplication(
+				(Boolean)_getValue(
+					relativeURLAnnotationMirror, "fromApplication"));
+
+			return fieldDescription;
+		}
+
+		if (_LIST.equals(_getQualifiedName(returnType))) {
+			_checkNoParameters(method, executableType);
+
+			DeclaredType listType = (DeclaredType)returnType;
+
+			List<? extends TypeMirror> typeArguments =
+				listType.getTypeArguments();
+
+			if ((typeArguments.size() != 1) ||
+				(typeArguments.get(0).getKind() != DECLARED)) {
+
+				throw new UnsupportedTypeException(
+					"method " + method.getSimpleName() + " returns a list " +
+						"without a concrete element type");
+			}
+
+			TypeMirror elementType = typeArguments.get(0);
+
+			if (_isType(elementType)) {
+				FieldDescription fieldDescription = new FieldDescription(
+					Kind.NESTED_LIST, ValueKind.NONE, key, method, form,
+					representor);
+
+				fieldDescription.setGeneratedClassName(
+					_getGeneratedClassName(
+						method, (TypeElement)_types.asElement(elementType)));
+
+				return fieldDescription;
+			}
+
+			ValueKind valueKind = _getValueKind(elementType);
+
+			return new FieldDescription(
+				Kind.LIST, valueKind, key, method,
+				form && (valueKind != ValueKind.NONE),
+				representor && (valueKind != ValueKind.NONE));
+		}
+
+		if (_isType(returnType)) {
+			_checkNoParameters(method, executableType);
+
+			FieldDescription fieldDescription = new FieldDescription(
+				Kind.NESTED, ValueKind.NONE, key, method, form, representor);
+
+			fieldDescription.setGeneratedClassName(
+				_getGeneratedClassName(
+					method, (TypeElement)_types.asElement(returnType)));
+
+			return fieldDescription;
+		}
+
+		ValueKind valueKind = _getValueKind(returnType);
+
+		List<? extends TypeMirror> parameterTypes =
+			executableType.getParameterTypes();
+
+		if ((valueKind == ValueKind.STRING) && !parameterTypes.isEmpty()) {
+			String parameterName = null;
+
+			if (parameterTypes.size() == 1) {
+				parameterName = _getQualifiedName(parameterTypes.get(0));
+			}
+
+			if (Locale.class.getName().equals(parameterName)) {
+				valueKind = ValueKind.LOCALIZED_BY_LOCALE;
+			}
+			else if (_ACCEPT_LANGUAGE.equals(parameterName)) {
+				valueKind = ValueKind.LOCALIZED_BY_LANGUAGE;
+			}
+			else {
+				throw new UnsupportedTypeException(
+					"localized method " + method.getSimpleName() +
+						" must only receive a locale or an accept language");
+			}
+		}
+		else {
+			_checkNoParameters(method, executableType);
+		}
+
+		return new FieldDescription(
+			Kind.BASIC, valueKind, key, method,
+			form && (valueKind != ValueKind.NONE),
+			representor && (valueKind != ValueKind.NONE));
+	}
+
+	private void _parseIdentifierMethods(
+			TypeDescription typeDescription, ExecutableElement method,
+			ExecutableType executableType)
+		throws UnsupportedTypeException {
+
+		if ((typeDescription.getIdMethod() == null) &&
+			(_getAnnotationMirror(method, _ID) != null)) {
+
+			_checkNoParameters(method, executableType);
+
+			typeDescription.setIdMethod(method);
+		}
+
+		if ((typeDescription.getLastModifiedMethod() == null) &&
+			(_getAnnotationMirror(method, _LAST_MODIFIED) != null)) {
+
+			_checkNoParameters(method, executableType);
+
+			if (!_DATE.equals(
+					_getQualifiedName(executableType.getReturnType()))) {
+
+				throw new UnsupportedTypeException(
+					"last modified method " + method.getSimpleName() +
+						" does not return a date");
+			}
+
+			typeDescription.setLastModifiedMethod(method);
+		}
+
+		if ((typeDescription.getVersionMethod() == null) &&
+			(_getAnnotationMirror(method, _VERSION) != null)) {
+
+			_checkNoParameters(method, executableType);
+
+			typeDescription.setVersionMethod(method);
+		}
+	}
+
+	private static final String _ACCEPT_LANGUAGE =
+		"com.liferay.apio.architect.language.AcceptLanguage";
+
+	private static final String _BIDIRECTIONAL_MODEL =
+		"com.liferay.apio.architect.annotation.Vocabulary.BidirectionalModel";
+
+	private static final String _BINARY_FILE =
+		"com.liferay.apio.architect.file.BinaryFile";
+
+	private static final String _DATE = "java.util.Date";
+
+	private static final String _FIELD =
+		"com.liferay.apio.architect.annotation.Vocabulary.Field";
+
+	private static final String _ID =
+		"com.liferay.apio.architect.annotation.Id";
+
+	private static final String _LAST_MODIFIED =
+		"com.liferay.apio.architect.annotation.LastModified";
+
+	private static final String _LINK_TO =
+		"com.liferay.apio.architect.annotation.Vocabulary.LinkTo";
+
+	private static final String _LIST = "java.util.List";
+
+	private static final String _RELATIVE_URL =
+		"com.liferay.apio.architect.annotation.Vocabulary.RelativeURL";
+
+	private static final String _TYPE = GeneratedTypeProcessor.TYPE_ANNOTATION;
+
+	private static final String _VERSION =
+		"com.liferay.apio.architect.annotation.Version";
+
+	private final Elements _elements;
+	private final Predicate<TypeElement> _generatedPredicate;
+	private final Messager _messager;
+	private final Set<String> _parsingTypeNames = new HashSet<>();
+	private final Map<String, Optional<TypeDescription>> _typeDescriptions =
+		new HashMap<>();
+	private final Types _types;
+
+	private static class UnsupportedTypeException extends Exception {
+
+		private UnsupportedTypeException(String message) {
+			super(message);
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.annotation.GeneratedType;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class GeneratedTypeProcessorTest {
+
+	@Before
+	public void setUp() throws IOException {
+		_classesFolder = temporaryFolder.newFolder("classes");
+		_generatedFolder = temporaryFolder.newFolder("generated");
+		_sourceFolder = temporaryFolder.newFolder("source");
+	}
+
+	@Test
+	public void testGeneratedTypeIsNotWrittenForBidirectionalModels()
+		throws IOException {
+
+		_writeSource(
+			"Bidirectional", "@Type(\"Bidirectional\")",
+			"public interface Bidirectional extends Identifier<Long> {",
+			"@BidirectionalModel(field = @Field(\"children\"), " +
+				"modelClass = Bidirectional.class)",
+			"@Field(\"parent\")", "public Long getParentId();", "}");
+
+		List<String> messages = _compile("Bidirectional");
+
+		assertThat(messages, hasItem(containsString("read with reflection")));
+
+		File file = new File(
+			_generatedFolder, "test/Bidirectional_GeneratedType.java");
+
+		assertThat(file.exists(), is(false));
+	}
+
+	@Test
+	public void testGeneratedTypeIsWrittenForGenericParentCollections()
+		throws Exception {
+
+		_writeSource(
+			"Comment", "@Type(\"Comment\")",
+			"public interface Comment extends Identifier<Long> {",
+			"@Field(\"comments\")",
+			"@LinkTo(resource = Comment.class, resourceType = " +
+				"LinkTo.ResourceType.GENERIC_PARENT_COLLECTION)",
+			"public Long getCommentsId();", "@Id", "public Long getId();",
+			"}");
+
+		List<String> messages = _compile("Comment");
+
+		assertThat(messages, not(hasItem(containsString("reflection"))));
+
+		assertThat(
+			_newGeneratedType("Comment"), is(instanceOf(GeneratedType.class)));
+	}
+
+	@Test
+	public void testGeneratedTypeIsWrittenForNestedTypes() throws Exception {
+		_writeSource(
+			"Address", "@Type(\"Address\")", "public interface Address {",
+			"@Field(\"street\")", "public String getStreet();", "}");
+		_writeSource(
+			"Person", "@Type(\"Person\")",
+			"public interface Person extends Identifier<Long> {",
+			"@Field(\"address\")", "public Address getAddress();",
+			"@Field(\"previousAddress\")",
+			"public java.util.List<Address> getPreviousAddresses();", "@Id",
+			"public Long getId();", "}");
+
+		List<String> messages = _compile("Address", "Person");
+
+		assertThat(messages, not(hasItem(containsString("reflection"))));
+
+		assertThat(
+			_newGeneratedType("Address"), is(instanceOf(GeneratedType.class)));
+		assertThat(
+			_newGeneratedType("Person"), is(instanceOf(GeneratedType.class)));
+	}
+
+	@Test
+	public void testGeneratedTypeIsWrittenForSupportedTypes() throws Exception {
+		_writeSource(
+			"Supported", "@Type(\"Supported\")",
+			"public interface Supported extends Identifier<Long> {",
+			"@Field(\"active\")", "public Boolean getActive();",
+			"@Field(\"dateCreated\")", "@LastModified",
+			"public java.util.Date getDateCreated();",
+			"@Field(value = \"description\", mode = FieldMode.WRITE_ONLY)",
+			"public String getDescription(java.util.Locale locale);", "@Id",
+			"public Long getId();", "@Field(\"image\")",
+			"@RelativeURL(fromApplication = true)", "public String getImage();",
+			"@Field(\"keywords\")",
+			"public java.util.List<String> getKeywords();",
+			"@Field(\"children\")",
+			"@LinkTo(resource = Supported.class, resourceType = " +
+				"LinkTo.ResourceType.CHILD_COLLECTION)",
+			"public default Long getChildrenId() {", "return getId();", "}",
+			"@Field(\"parent\")", "@LinkTo(resource = Supported.class)",
+			"public Long getParentId();", "@Field(\"price\")",
+			"public Double getPrice();", "@Version",
+			"public long getVersion();", "public int getUnannotated();", "}");
+
+		List<String> messages = _compile("Supported");
+
+		assertThat(messages, not(hasItem(containsString("reflection"))));
+
+		assertThat(
+			_newGeneratedType("Supported"),
+			is(instanceOf(GeneratedType.class)));
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private List<String> _compile(String... names) throws IOException {
+		JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		DiagnosticCollector<JavaFileObject> diagnosticCollector =
+			new DiagnosticCollector<>();
+
+		try (StandardJavaFileManager standardJavaFileManager =
+				javaCompiler.getStandardFileManager(null, null, UTF_8)) {
+
+			List<File> files = new ArrayList<>();
+
+			for (String name : names) {
+				files.add(new File(_sourceFolder, name + ".java"));
+			}
+
+			CompilationTask compilationTask = javaCompiler.getTask(
+				null, standardJavaFileManager, diagnosticCollector,
+				Arrays.asList(
+					"-classpath", System.getProperty("java.class.path"), "-d",
+					_classesFolder.getPath(), "-s", _generatedFolder.getPath()),
+				null,
+				standardJavaFileManager.getJavaFileObjectsFromFiles(files));
+
+			compilationTask.setProcessors(
+				Collections.singletonList(new GeneratedTypeProcessor()));
+
+			assertThat(compilationTask.call(), is(true));
+		}
+
+		List<String> messages = new ArrayList<>();
+
+		for (Diagnostic<? extends JavaFileObject> diagnostic :
+				diagnosticCollector.getDiagnostics()) {
+
+			messages.add(diagnostic.getMessage(Locale.ENGLISH));
+		}
+
+		return messages;
+	}
+
+	private Object _newGeneratedType(String name) throws Exception {
+		URI uri = _classesFolder.toURI();
+
+		try (URLClassLoader urlClassLoader = new URLClassLoader(
+				new URL[] {uri.toURL()}, getClass().getClassLoader())) {
+
+			Class<?> clazz = urlClassLoader.loadClass(
+				GeneratedType.getClassName("test." + name));
+
+			return clazz.newInstance();
+		}
+	}
+
+	private void _writeSource(String name, String... lines)
+		throws IOException {
+
+		List<String> source = new ArrayList<>();
+
+		source.add("package test;");
+		source.add("import com.liferay.apio.architect.annotation.*;");
+		source.add(
+			"import com.liferay.apio.architect.annotation.Vocabulary.*;");
+		source.add("import com.liferay.apio.architect.identifier.Identifier;");
+
+		Collections.addAll(source, lines);
+
+		File file = new File(_sourceFolder, name + ".java");
+
+		Files.write(file.toPath(), source, UTF_8);
+	}
+
+	private File _classesFolder;
+	private File _generatedFolder;
+	private File _sourceFolder;
+
+}
\ No newline at end of file
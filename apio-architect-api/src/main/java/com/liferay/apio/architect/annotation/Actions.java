@@ -89,6 +89,37 @@ public @interface Actions {
 
 	}
 
+	/**
+	 * Defines an annotation that indicates a method retrieves several elements
+	 * at once, given their identifiers. That method must live inside a class
+	 * that implements {@link com.liferay.apio.architect.router.ActionRouter}.
+	 *
+	 * <p>
+	 * Unlike the rest of the actions, this one isn't exposed as an endpoint.
+	 * It's used when writing a collection page whose items embed a related
+	 * model of this type, so all the related models of the page are retrieved
+	 * with one call instead of calling the {@link Retrieve} action once per
+	 * item. If no batch action exists for a type, its {@link Retrieve} action
+	 * is used instead.
+	 * </p>
+	 *
+	 * <p>
+	 * The method must include a {@code java.util.List} argument annotated with
+	 * {@link Id}, that receives the identifiers of the elements to retrieve,
+	 * and must return a {@code java.util.List} with the elements in the same
+	 * order as their identifiers, with {@code null} for the elements that
+	 * couldn't be found. The rest of the parameters will be provided from the
+	 * request using the appropriate {@link
+	 * com.liferay.apio.architect.provider.Provider}.
+	 * </p>
+	 *
+	 * @review
+	 */
+	@Retention(RUNTIME)
+	@Target(METHOD)
+	public @interface BatchRetrieve {
+	}
+
 	/**
 	 * Defines an annotation that indicates a method creates elements. That
 	 * method must live inside a class that implements {@link
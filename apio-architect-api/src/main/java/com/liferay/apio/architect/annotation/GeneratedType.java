@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.annotation;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.representor.NestedRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+
+/**
+ * Fills the representor and form builders of an interface annotated with
+ * {@link Vocabulary.Type} with plain Java code, generated at build time by
+ * the {@code apio-architect-annotation-processor} module.
+ *
+ * <p>
+ * The generated class lives in the same package as the type, and its name is
+ * the type's binary name, with every {@code $} replaced by an {@code _},
+ * followed by {@link #CLASS_NAME_SUFFIX}. If the class is present, it's used
+ * instead of reading the type's annotations with reflection.
+ * </p>
+ *
+ * <p>
+ * This interface should only be implemented by generated code.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type
+ * @review
+ */
+@ConsumerType
+public interface GeneratedType<T> {
+
+	/**
+	 * The suffix of the name of the generated classes.
+	 *
+	 * @review
+	 */
+	public static final String CLASS_NAME_SUFFIX = "_GeneratedType";
+
+	/**
+	 * Returns the name of the class generated for a type.
+	 *
+	 * @param  typeClassName the binary name of the type
+	 * @return the name of the class generated for the type
+	 * @review
+	 */
+	public static String getClassName(String typeClassName) {
+		return typeClassName.replace('$', '_') + CLASS_NAME_SUFFIX;
+	}
+
+	/**
+	 * Fills the form builder with the type's fields, and returns the form.
+	 *
+	 * @param  builder the form builder
+	 * @return the form
+	 * @review
+	 */
+	public Form<T> getForm(Form.Builder<T> builder);
+
+	/**
+	 * Fills the nested representor builder with the type's fields, and
+	 * returns the nested representor.
+	 *
+	 * @param  builder the nested representor builder
+	 * @return the nested representor
+	 * @review
+	 */
+	public NestedRepresentor<T> getNestedRepresentor(
+		NestedRepresentor.Builder<T> builder);
+
+	/**
+	 * Fills the representor builder with the type's identifier and fields,
+	 * and returns the representor.
+	 *
+	 * @param  builder the representor builder
+	 * @return the representor
+	 * @review
+	 */
+	public Representor<T> getRepresentor(Representor.Builder<T, ?> builder);
+
+}
\ No newline at end of file
@@ -16,7 +16,17 @@ package com.liferay.apio.architect.file;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+import java.util.Date;
+import java.util.Optional;
 
 /**
  * @author Javier Gamarra
@@ -35,10 +45,67 @@ public class BinaryFile {
 		_size = size;
 		_mimeType = mimeType;
 		_name = name;
+
+		_lastModified = null;
+		_path = null;
 	}
 
+	/**
+	 * Creates a binary file backed by a file. Its size and last modification
+	 * date are read when the binary file is created. The file is only opened
+	 * when the binary file is written, so it can be served partially or
+	 * conditionally.
+	 *
+	 * @param  path the file's path
+	 * @param  mimeType the file's MIME type
+	 * @param  name the file's name
+	 * @throws UncheckedIOException if the file's attributes couldn't be read
+	 * @review
+	 */
+	public BinaryFile(Path path, String mimeType, String name) {
+		BasicFileAttributes basicFileAttributes = _readAttributes(path);
+
+		_path = path;
+		_mimeType = mimeType;
+		_name = name;
+
+		FileTime fileTime = basicFileAttributes.lastModifiedTime();
+
+		_inputStream = null;
+		_lastModified = new Date(fileTime.toMillis());
+		_size = basicFileAttributes.size();
+	}
+
+	/**
+	 * Returns the binary file's content. If the binary file is backed by a
+	 * file, a new input stream is opened every time this method is called.
+	 *
+	 * @return the binary file's content
+	 * @throws UncheckedIOException if the backing file couldn't be opened
+	 */
 	public InputStream getInputStream() {
-		return _inputStream;
+		if (_path == null) {
+			return _inputStream;
+		}
+
+		try {
+			return Files.newInputStream(_path);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	/**
+	 * Returns the last modification date of the binary file, if it's backed
+	 * by a file; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Date> getLastModifiedOptional() {
+		return Optional.ofNullable(_lastModified);
 	}
 
 	public String getMimeType() {
@@ -49,13 +116,36 @@ public class BinaryFile {
 		return _name;
 	}
 
+	/**
+	 * Returns the path of the file backing the binary file, if present;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the backing file's path, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Path> getPathOptional() {
+		return Optional.ofNullable(_path);
+	}
+
 	public long getSize() {
 		return _size;
 	}
 
+	private static BasicFileAttributes _readAttributes(Path path) {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
 	private final InputStream _inputStream;
+	private final Date _lastModified;
 	private final String _mimeType;
 	private final String _name;
+	private final Path _path;
 	private final long _size;
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.apio.architect.file.BinaryFile;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Represents the current HTTP request body.
@@ -119,6 +120,26 @@ public interface Body {
 		return Optional.empty();
 	}
 
+	/**
+	 * Returns a stream of the nested bodies from the body, if present; returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * Unlike {@link #getBodyMembersOptional()}, this method lets
+	 * implementations read each member only when it's needed, so big batch
+	 * bodies don't have to be kept in memory as a whole. The returned stream
+	 * can only be consumed once.
+	 * </p>
+	 *
+	 * @return the stream, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<Stream<Body>> getBodyMembersStreamOptional() {
+		Optional<List<Body>> optional = getBodyMembersOptional();
+
+		return optional.map(List::stream);
+	}
+
 	/**
 	 * Returns a list of files from the body, if present; returns {@code
 	 * Optional#empty()} otherwise.
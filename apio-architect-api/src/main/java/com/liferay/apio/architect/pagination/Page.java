@@ -36,6 +36,37 @@ import java.util.Optional;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the cursor used to request this page with the {@code after}
+	 * parameter, if present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the cursor used to request this page with the {@code after}
+	 *         parameter, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getAfterCursorOptional();
+
+	/**
+	 * Returns the cursor used to request this page with the {@code before}
+	 * parameter, if present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the cursor used to request this page with the {@code before}
+	 *         parameter, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getBeforeCursorOptional();
+
+	/**
+	 * Returns the estimated total number of elements in the collection, if
+	 * the exact total is unknown and the resource provided an estimation;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the estimated total number of elements, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getEstimatedTotalCountOptional();
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -51,12 +82,24 @@ public interface Page<T> {
 	public int getItemsPerPage();
 
 	/**
-	 * Returns the number of the collection's last page.
+	 * Returns the number of the collection's last page. If the total number of
+	 * elements is unknown, returns the number of the last page known to exist.
 	 *
 	 * @return the number of the collection's last page
 	 */
 	public int getLastPageNumber();
 
+	/**
+	 * Returns the cursor of the next page, if the collection is paginated with
+	 * cursors and there is a next page; returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional();
+
 	/**
 	 * Returns the list of operations for the page.
 	 *
@@ -83,6 +126,17 @@ public interface Page<T> {
 	@Deprecated
 	public Optional<Path> getPathOptional();
 
+	/**
+	 * Returns the cursor of the previous page, if the collection is paginated
+	 * with cursors and there is a previous page; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getPreviousCursorOptional();
+
 	/**
 	 * The page's resource. It can be either a {@link Resource.Paged} or a
 	 * {@link Resource.Nested}
@@ -101,12 +155,24 @@ public interface Page<T> {
 	public String getResourceName();
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the total number of elements in the collection, or {@code -1} if
+	 * it's unknown.
 	 *
-	 * @return the total number of elements in the collection
+	 * @return the total number of elements in the collection, or {@code -1} if
+	 *         it's unknown
 	 */
 	public int getTotalCount();
 
+	/**
+	 * Returns the total number of elements in the collection, if known;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the total number of elements in the collection, if known;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getTotalCountOptional();
+
 	/**
 	 * Returns {@code true} if another page follows this page in the collection.
 	 *
@@ -124,4 +190,13 @@ public interface Page<T> {
 	 */
 	public boolean hasPrevious();
 
+	/**
+	 * Returns {@code true} if the page was requested, or must be navigated,
+	 * with cursors instead of page numbers.
+	 *
+	 * @return {@code true} if the page uses cursors; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isCursorBased();
+
 }
\ No newline at end of file
@@ -17,20 +17,165 @@ package com.liferay.apio.architect.pagination;
 import aQute.bnd.annotation.ConsumerType;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.IntSupplier;
 
 /**
  * Provides the information needed by Apio Architect to construct a valid {@link
  * Page}.
  *
+ * <p>
+ * The total number of elements in the collection is optional. Pages of
+ * resources that use cursor pagination should provide the cursors of the
+ * previous and next pages, which clients send back in the {@code before} and
+ * {@code after} parameters of the {@link Pagination}.
+ * </p>
+ *
+ * <p>
+ * If counting the elements is expensive, the total can be provided as an
+ * {@code IntSupplier} that only runs when the client requests the exact count
+ * (see {@link Pagination#isTotalCountRequested()}), optionally along with a
+ * cheap estimation that's returned to the rest of the clients.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the model's type
  */
 @ConsumerType
 public class PageItems<T> {
 
+	/**
+	 * Creates the page items of a collection whose total number of elements
+	 * is unknown.
+	 *
+	 * @param  items the page's items
+	 * @review
+	 */
+	public PageItems(Collection<T> items) {
+		this(items, -1, null, null);
+	}
+
 	public PageItems(Collection<T> items, int totalCount) {
+		this(items, totalCount, null, null);
+	}
+
+	/**
+	 * Creates the page items of a collection paginated with cursors, whose
+	 * total number of elements is unknown.
+	 *
+	 * @param  items the page's items
+	 * @param  previousCursor the cursor of the previous page, or {@code null}
+	 *         if this is the first page
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the last page
+	 * @review
+	 */
+	public PageItems(
+		Collection<T> items, String previousCursor, String nextCursor) {
+
+		this(items, -1, previousCursor, nextCursor);
+	}
+
+	/**
+	 * Creates the page items of a collection whose total number of elements
+	 * is only computed if the client requests it.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCountSupplier the function that computes the total number
+	 *         of elements in the collection
+	 * @review
+	 */
+	public PageItems(Collection<T> items, IntSupplier totalCountSupplier) {
+		this(items, totalCountSupplier, -1, null, null);
+	}
+
+	/**
+	 * Creates the page items of a collection whose total number of elements
+	 * is only computed if the client requests it. The rest of the clients
+	 * receive the estimated total.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCountSupplier the function that computes the total number
+	 *         of elements in the collection
+	 * @param  estimatedTotalCount the estimated total number of elements in
+	 *         the collection, or {@code -1} if there's no estimation
+	 * @review
+	 */
+	public PageItems(
+		Collection<T> items, IntSupplier totalCountSupplier,
+		int estimatedTotalCount) {
+
+		this(items, totalCountSupplier, estimatedTotalCount, null, null);
+	}
+
+	/**
+	 * Creates the page items of a collection paginated with cursors, whose
+	 * total number of elements is only computed if the client requests it.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCountSupplier the function that computes the total number
+	 *         of elements in the collection
+	 * @param  estimatedTotalCount the estimated total number of elements in
+	 *         the collection, or {@code -1} if there's no estimation
+	 * @param  previousCursor the cursor of the previous page, or {@code null}
+	 *         if this is the first page
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the last page
+	 * @review
+	 */
+	public PageItems(
+		Collection<T> items, IntSupplier totalCountSupplier,
+		int estimatedTotalCount, String previousCursor, String nextCursor) {
+
+		_items = items;
+		_totalCountSupplier = totalCountSupplier;
+		_estimatedTotalCount = estimatedTotalCount;
+		_previousCursor = previousCursor;
+		_nextCursor = nextCursor;
+
+		_totalCount = -1;
+		_totalCountLazy = true;
+	}
+
+	/**
+	 * Creates the page items of a collection paginated with cursors.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCount the total number of elements in the collection, or
+	 *         {@code -1} if it's unknown
+	 * @param  previousCursor the cursor of the previous page, or {@code null}
+	 *         if this is the first page
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the last page
+	 * @review
+	 */
+	public PageItems(
+		Collection<T> items, int totalCount, String previousCursor,
+		String nextCursor) {
+
 		_items = items;
 		_totalCount = totalCount;
+		_previousCursor = previousCursor;
+		_nextCursor = nextCursor;
+
+		_estimatedTotalCount = -1;
+		_totalCountLazy = false;
+	}
+
+	/**
+	 * Returns the estimated total number of elements in the collection, if
+	 * present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the estimated total number of elements in the collection, if
+	 *         present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getEstimatedTotalCountOptional() {
+		if (_estimatedTotalCount < 0) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_estimatedTotalCount);
 	}
 
 	/**
@@ -43,15 +188,90 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the cursor of the next page, if present; returns {@code
+	 * Optional#empty()} otherwise.
 	 *
-	 * @return the total number of elements in the collection
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
+	/**
+	 * Returns the cursor of the previous page, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
+	/**
+	 * Returns the total number of elements in the collection, or {@code -1} if
+	 * it's unknown. If the total is lazy, the first call to this method
+	 * computes it. The total is computed only once, even if several threads
+	 * call this method at the same time.
+	 *
+	 * @return the total number of elements in the collection, or {@code -1} if
+	 *         it's unknown
 	 */
 	public int getTotalCount() {
+		if (_totalCountSupplier != null) {
+			synchronized (this) {
+				IntSupplier totalCountSupplier = _totalCountSupplier;
+
+				if (totalCountSupplier != null) {
+					_totalCount = totalCountSupplier.getAsInt();
+
+					_totalCountSupplier = null;
+				}
+			}
+		}
+
 		return _totalCount;
 	}
 
+	/**
+	 * Returns the total number of elements in the collection, if known;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the total number of elements in the collection, if known;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Integer> getTotalCountOptional() {
+		int totalCount = getTotalCount();
+
+		if (totalCount < 0) {
+			return Optional.empty();
+		}
+
+		return Optional.of(totalCount);
+	}
+
+	/**
+	 * Returns {@code true} if the total number of elements is computed on
+	 * demand, and should only be requested if the client asks for it.
+	 *
+	 * @return {@code true} if the total number of elements is computed on
+	 *         demand; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isTotalCountLazy() {
+		return _totalCountLazy;
+	}
+
+	private final int _estimatedTotalCount;
 	private final Collection<T> _items;
-	private final int _totalCount;
+	private final String _nextCursor;
+	private final String _previousCursor;
+	private int _totalCount;
+	private final boolean _totalCountLazy;
+	private volatile IntSupplier _totalCountSupplier;
 
 }
\ No newline at end of file
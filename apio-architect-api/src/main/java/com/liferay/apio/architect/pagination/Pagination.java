@@ -16,10 +16,28 @@ package com.liferay.apio.architect.pagination;
 
 import aQute.bnd.annotation.ProviderType;
 
+import java.util.Optional;
+
 /**
  * Defines pagination for a collection endpoint. An instance of this class is
  * handed to resources that handle pagination parameters.
  *
+ * <p>
+ * Pages can be requested by number, with the {@code page} and {@code per_page}
+ * parameters, or with the opaque cursors returned in a previous {@link
+ * PageItems}, with the {@code after} or {@code before} parameters. Cursors let
+ * resources run keyset queries (e.g., {@code WHERE id > ?}) instead of
+ * skipping {@link #getStartPosition()} elements, whose cost grows with the
+ * page number.
+ * </p>
+ *
+ * <p>
+ * Clients request the exact total number of elements with the {@code
+ * count=exact} parameter or the {@code Prefer: count=exact} header. Resources
+ * that can't count their elements cheaply should return {@link PageItems}
+ * with a total count supplier, which only runs in that case.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -28,6 +46,28 @@ import aQute.bnd.annotation.ProviderType;
 @ProviderType
 public interface Pagination {
 
+	/**
+	 * Returns the cursor after which the requested page starts, if the page
+	 * was requested with the {@code after} parameter; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor after which the requested page starts, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getAfterCursorOptional();
+
+	/**
+	 * Returns the cursor before which the requested page ends, if the page was
+	 * requested with the {@code before} parameter; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor before which the requested page ends, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getBeforeCursorOptional();
+
 	/**
 	 * Returns the position of the requested page's last element.
 	 *
@@ -56,4 +96,14 @@ public interface Pagination {
 	 */
 	public int getStartPosition();
 
+	/**
+	 * Returns {@code true} if the client requested the exact total number of
+	 * elements in the collection.
+	 *
+	 * @return {@code true} if the client requested the exact total number of
+	 *         elements; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isTotalCountRequested();
+
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -43,6 +45,30 @@ public interface Representor<T> extends BaseRepresentor<T> {
 	 */
 	public Object getIdentifier(T model);
 
+	/**
+	 * Returns the date in which the model was last modified, if the
+	 * representor has a function to obtain it; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  model the model instance
+	 * @return the model's last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Date> getLastModifiedOptional(T model);
+
+	/**
+	 * Returns the model's version, if the representor has a function to obtain
+	 * it; returns {@code Optional#empty()} otherwise. Two instances of a model
+	 * with the same version must have the same representation.
+	 *
+	 * @param  model the model instance
+	 * @return the model's version, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getVersionOptional(T model);
+
 	/**
 	 * Creates generic representations of your domain models that Apio
 	 * hypermedia writers can understand.
@@ -97,6 +123,32 @@ public interface Representor<T> extends BaseRepresentor<T> {
 		public <S extends Identifier> FirstStep<T> addRelatedCollection(
 			String key, Class<S> itemIdentifierClass);
 
+		/**
+		 * Provides a lambda function that can be used to obtain the date in
+		 * which a model was last modified. This date is used to answer
+		 * conditional requests without writing the model.
+		 *
+		 * @param  lastModifiedFunction lambda function used to obtain a model's
+		 *         last modification date
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> lastModified(
+			Function<T, Date> lastModifiedFunction);
+
+		/**
+		 * Provides a lambda function that can be used to obtain a model's
+		 * version (e.g., a revision number or a hash of its content). The
+		 * version is used as the model's entity tag, to answer conditional
+		 * requests without writing the model.
+		 *
+		 * @param  versionFunction lambda function used to obtain a model's
+		 *         version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T> version(Function<T, String> versionFunction);
+
 	}
 
 	@ProviderType
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.tracing;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Instances of this interface are notified of the phases of each request
+ * handled by Apio Architect, so they can be bridged to a tracer.
+ *
+ * <p>
+ * The phases are reported as spans with the following names: {@code route}
+ * (resolution of the action), {@code provide} (provision of the action's
+ * parameters), {@code action} (execution of the action), {@code embedded}
+ * (retrieval of embedded related models) and {@code serialization} (writing
+ * of the response). A phase can be reported several times for the same
+ * request, and the {@code embedded} spans are nested in the {@code
+ * serialization} span.
+ * </p>
+ *
+ * <p>
+ * Spans can start and finish in different threads, so implementations
+ * mustn't rely on thread-local state to match them. Listeners are called
+ * synchronously, so they should return quickly.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+public interface SpanListener {
+
+	/**
+	 * Called when a span finishes.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the span's name
+	 * @param  durationNanos the span's duration, in nanoseconds
+	 * @review
+	 */
+	public default void spanFinished(
+		HttpServletRequest httpServletRequest, String name,
+		long durationNanos) {
+	}
+
+	/**
+	 * Called when a span starts.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the span's name
+	 * @review
+	 */
+	public default void spanStarted(
+		HttpServletRequest httpServletRequest, String name) {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,539 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.util;
+
+import static java.util.Arrays.asList;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformer;
+import com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.related.RelatedCollection;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+import com.liferay.apio.architect.sample.internal.type.Comment;
+import com.liferay.apio.architect.sample.internal.type.Person;
+import com.liferay.apio.architect.sample.internal.type.PostalAddress;
+import com.liferay.apio.architect.sample.internal.type.Rating;
+import com.liferay.apio.architect.sample.internal.type.Review;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Provides the sample data and functions used by the writer benchmarks. The
+ * representors are created from the sample {@link BlogPosting} and {@link
+ * Person} types, the same way the annotation-based action routers do.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class BenchmarkUtil {
+
+	/**
+	 * The name of the blog posting resource.
+	 */
+	public static final String BLOG_POSTINGS = "blog-postings";
+
+	/**
+	 * The name of the person resource.
+	 */
+	public static final String PEOPLE = "people";
+
+	/**
+	 * Returns the mock action semantics of the provided resource.
+	 *
+	 * @param  resource the resource
+	 * @return the resource's action semantics
+	 * @review
+	 */
+	public static Stream<ActionSemantics> getActionSemantics(
+		Resource resource) {
+
+		List<ActionSemantics> list = _actionSemantics.getOrDefault(
+			resource, Collections.emptyList());
+
+		return list.stream();
+	}
+
+	/**
+	 * Returns a blog posting with the provided ID, created by a person with
+	 * the same ID.
+	 *
+	 * @param  id the blog posting's ID
+	 * @return the blog posting
+	 * @review
+	 */
+	public static BlogPosting getBlogPosting(long id) {
+		return new BlogPosting() {
+
+			@Override
+			public String getAlternativeHeadline() {
+				return "Alternative headline of the blog posting " + id;
+			}
+
+			@Override
+			public String getArticleBody() {
+				return _ARTICLE_BODY;
+			}
+
+			@Override
+			public Long getCreatorId() {
+				return id;
+			}
+
+			@Override
+			public Date getDateCreated() {
+				return _DATE;
+			}
+
+			@Override
+			public Date getDateModified() {
+				return _DATE;
+			}
+
+			@Override
+			public String getFileFormat() {
+				return "text/html";
+			}
+
+			@Override
+			public String getHeadline() {
+				return "Headline of the blog posting " + id;
+			}
+
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public List<Review> getReviews() {
+				return asList(_getReview(id, 4L), _getReview(id + 1, 2L));
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the list of blog postings with IDs from {@code 1} to the
+	 * provided size.
+	 *
+	 * @param  size the number of blog postings
+	 * @return the list of blog postings
+	 * @review
+	 */
+	public static List<BlogPosting> getBlogPostings(int size) {
+		List<BlogPosting> blogPostings = new ArrayList<>(size);
+
+		for (long id = 1; id <= size; id++) {
+			blogPostings.add(getBlogPosting(id));
+		}
+
+		return blogPostings;
+	}
+
+	/**
+	 * Returns the {@link Embedded} predicate for the provided embedded depth:
+	 * {@code 0} embeds nothing, {@code 1} embeds the blog posting's creator,
+	 * and any greater depth embeds every related model, including the ones
+	 * inside nested fields.
+	 *
+	 * @param  depth the embedded depth
+	 * @return the {@code Embedded} predicate
+	 * @review
+	 */
+	public static Embedded getEmbedded(int depth) {
+		if (depth <= 0) {
+			return __ -> false;
+		}
+
+		if (depth == 1) {
+			return "creator"::equals;
+		}
+
+		return __ -> true;
+	}
+
+	/**
+	 * Returns the {@link Fields} function for the provided fields selection.
+	 * The {@code all} selection returns every field. Any other selection is
+	 * treated as a comma-separated list of the field names to return.
+	 *
+	 * @param  selection the fields selection
+	 * @return the {@code Fields} function
+	 * @review
+	 */
+	public static Fields getFields(String selection) {
+		if ("all".equals(selection)) {
+			return __ -> __ -> true;
+		}
+
+		List<String> fields = asList(selection.split(","));
+
+		return __ -> fields::contains;
+	}
+
+	/**
+	 * Returns a mock {@link Path} for the provided resource name and
+	 * identifier.
+	 *
+	 * @param  name the resource name
+	 * @param  identifier the identifier
+	 * @return the {@code Path}
+	 * @review
+	 */
+	public static Optional<Path> getPath(String name, Object identifier) {
+		return Optional.of(new Path(name, String.valueOf(identifier)));
+	}
+
+	/**
+	 * Returns a {@link RepresentableManager} that returns the representors of
+	 * the sample types.
+	 *
+	 * @return the {@code RepresentableManager}
+	 * @review
+	 */
+	public static RepresentableManager getRepresentableManager() {
+		return new RepresentableManager() {
+
+			@Override
+			public <T> Optional<Representor<T>> getRepresentorOptional(
+				String name) {
+
+				return Optional.ofNullable(
+					(Representor<T>)_representors.get(name));
+			}
+
+			@Override
+			public Map<String, Representor> getRepresentors() {
+				return _representors;
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the representor for the provided resource name.
+	 *
+	 * @param  name the resource name
+	 * @return the representor, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<Representor<?>> getRepresentorOptional(
+		String name) {
+
+		return Optional.<Representor<?>>ofNullable(_representors.get(name));
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} with the provided embedded depth and
+	 * fields selection.
+	 *
+	 * @param  embeddedDepth the embedded depth
+	 * @param  fieldsSelection the fields selection
+	 * @return the {@code RequestInfo}
+	 * @review
+	 */
+	public static RequestInfo getRequestInfo(
+		int embeddedDepth, String fieldsSelection) {
+
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "http://localhost:8080"
+			).applicationURL(
+				() -> "http://localhost:8080/o/api"
+			).embedded(
+				getEmbedded(embeddedDepth)
+			).fields(
+				getFields(fieldsSelection)
+			).language(
+				() -> Locale.US
+			).build());
+	}
+
+	/**
+	 * Returns the resource name of the provided identifier class name.
+	 *
+	 * @param  className the identifier class name
+	 * @return the resource name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static Optional<String> getResourceName(String className) {
+		return Optional.ofNullable(_resourceNames.get(className));
+	}
+
+	/**
+	 * Returns the resource names of the sample types.
+	 *
+	 * @return the resource names
+	 * @review
+	 */
+	public static List<String> getResourceNames() {
+		return new ArrayList<>(_representors.keySet());
+	}
+
+	/**
+	 * Returns the sample resources with, at least, one action.
+	 *
+	 * @return the resources
+	 * @review
+	 */
+	public static Stream<Resource> getResources() {
+		Set<Resource> resources = _actionSemantics.keySet();
+
+		return resources.stream();
+	}
+
+	/**
+	 * Returns the single model for the provided identifier and identifier
+	 * class. Only people can be retrieved as related models.
+	 *
+	 * @param  identifier the identifier
+	 * @param  identifierClass the identifier class
+	 * @return the single model, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<SingleModel> getSingleModel(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		if (!Person.class.equals(identifierClass)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(
+			new SingleModelImpl<>(_getPerson((Long)identifier), PEOPLE));
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, String method, Class<?> returnClass) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			method
+		).returns(
+			returnClass
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static String _getName(Class<? extends Identifier<?>> clazz) {
+		if (BlogPosting.class.equals(clazz)) {
+			return BLOG_POSTINGS;
+		}
+
+		if (Comment.class.equals(clazz)) {
+			return "comments";
+		}
+
+		return PEOPLE;
+	}
+
+	private static Person _getPerson(long id) {
+		return new Person() {
+
+			@Override
+			public Date getBirthDate() {
+				return _DATE;
+			}
+
+			@Override
+			public String getEmail() {
+				return "person" + id + "@example.com";
+			}
+
+			@Override
+			public String getFamilyName() {
+				return "Family name " + id;
+			}
+
+			@Override
+			public String getGivenName() {
+				return "Given name " + id;
+			}
+
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getImage() {
+				return "/images/" + id;
+			}
+
+			@Override
+			public List<String> getJobTitles() {
+				return asList("Developer", "Writer");
+			}
+
+			@Override
+			public String getName() {
+				return "Given name " + id + " Family name " + id;
+			}
+
+			@Override
+			public PostalAddress getPostalAddress() {
+				return _postalAddress;
+			}
+
+		};
+	}
+
+	private static Review _getReview(long creatorId, long ratingValue) {
+		Rating rating = new Rating() {
+
+			@Override
+			public Long getCreatorId() {
+				return creatorId;
+			}
+
+			@Override
+			public Long getRatingValue() {
+				return ratingValue;
+			}
+
+		};
+
+		return new Review() {
+
+			@Override
+			public Rating getRating() {
+				return rating;
+			}
+
+			@Override
+			public String getReviewBody() {
+				return "Review body of the person " + creatorId;
+			}
+
+		};
+	}
+
+	private static Representor<?> _toRepresentor(Class<?> clazz) {
+		Map<String, List<RelatedCollection<?, ?>>> relatedCollections =
+			new HashMap<>();
+
+		return RepresentorTransformer.toRepresentor(
+			TypeProcessor.processType(clazz), BenchmarkUtil::_getName,
+			relatedCollections);
+	}
+
+	private BenchmarkUtil() {
+	}
+
+	private static final String _ARTICLE_BODY = Stream.generate(
+		() -> "Lorem ipsum dolor sit amet, consectetur adipiscing elit."
+	).limit(
+		20
+	).collect(
+		Collectors.joining(" ")
+	);
+
+	private static final Date _DATE = new Date(1514764800000L);
+
+	private static final Map<Resource, List<ActionSemantics>> _actionSemantics =
+		new HashMap<>();
+	private static final PostalAddress _postalAddress = new PostalAddress() {
+
+		@Override
+		public String getAddressCountry() {
+			return "es";
+		}
+
+		@Override
+		public String getAddressLocality() {
+			return "Madrid";
+		}
+
+		@Override
+		public String getAddressRegion() {
+			return "Madrid";
+		}
+
+		@Override
+		public String getPostalCode() {
+			return "28001";
+		}
+
+		@Override
+		public String getStreetAddress() {
+			return "Calle Gran Vía, 1";
+		}
+
+	};
+	private static final Map<String, Representor> _representors =
+		new HashMap<>();
+	private static final Map<String, String> _resourceNames = new HashMap<>();
+
+	static {
+		_representors.put(BLOG_POSTINGS, _toRepresentor(BlogPosting.class));
+		_representors.put(PEOPLE, _toRepresentor(Person.class));
+
+		_resourceNames.put(BlogPosting.class.getName(), BLOG_POSTINGS);
+		_resourceNames.put(Person.class.getName(), PEOPLE);
+
+		for (String name : asList(BLOG_POSTINGS, PEOPLE)) {
+			_actionSemantics.put(
+				Paged.of(name),
+				asList(
+					_createActionSemantics(
+						Paged.of(name), "retrieve", "GET", Page.class),
+					_createActionSemantics(
+						Paged.of(name), "create", "POST", SingleModel.class)));
+			_actionSemantics.put(
+				Item.of(name),
+				asList(
+					_createActionSemantics(
+						Item.of(name), "retrieve", "GET", SingleModel.class),
+					_createActionSemantics(
+						Item.of(name), "replace", "PUT", SingleModel.class),
+					_createActionSemantics(
+						Item.of(name), "remove", "DELETE", Void.class)));
+		}
+	}
+
+}
\ No newline at end of file
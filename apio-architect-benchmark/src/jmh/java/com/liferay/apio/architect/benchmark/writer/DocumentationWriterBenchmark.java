@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
+import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.documentation.contributor.CustomDocumentationImpl;
+import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDDocumentationMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.writer.DocumentationWriter;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of writing the API documentation of the sample types
+ * with a {@link DocumentationWriter}. JSON-LD (Hydra) is the only format with
+ * a {@link DocumentationMessageMapper}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class DocumentationWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		CustomDocumentation.Builder customDocumentationBuilder =
+			new CustomDocumentationImpl.BuilderImpl();
+
+		customDocumentationBuilder.addDescription(
+			"blog-postings/retrieve", "retrieves the blog postings");
+
+		_customDocumentation = customDocumentationBuilder.build();
+
+		_requestInfo = BenchmarkUtil.getRequestInfo(0, "all");
+	}
+
+	@Benchmark
+	public String write() {
+		RepresentableManager representableManager =
+			BenchmarkUtil.getRepresentableManager();
+
+		Documentation documentation = new Documentation(
+			() -> Optional.of(() -> "Benchmark API"),
+			() -> Optional.of(() -> "API used by the benchmarks"),
+			() -> Optional.of(() -> "http://localhost:8080/o/api"),
+			representableManager::getRepresentors,
+			BenchmarkUtil.getResources(), BenchmarkUtil::getActionSemantics,
+			() -> _customDocumentation);
+
+		DocumentationWriter documentationWriter = DocumentationWriter.create(
+			builder -> builder.documentation(
+				documentation
+			).documentationMessageMapper(
+				_documentationMessageMapper
+			).requestInfo(
+				_requestInfo
+			).typeFunction(
+				identifierClass -> Optional.of(identifierClass.getSimpleName())
+			).build());
+
+		return documentationWriter.write();
+	}
+
+	private CustomDocumentation _customDocumentation;
+	private final DocumentationMessageMapper _documentationMessageMapper =
+		new JSONLDDocumentationMessageMapper();
+	private RequestInfo _requestInfo;
+
+}
\ No newline at end of file
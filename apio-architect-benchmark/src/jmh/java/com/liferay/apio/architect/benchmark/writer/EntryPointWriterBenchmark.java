@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALEntryPointMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDEntryPointMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONEntryPointMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.EntryPointWriter;
+import com.liferay.apio.architect.internal.writer.EntryPointWriter.Builder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of writing the entry point of the sample resources
+ * with an {@link EntryPointWriter}, for every supported format.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class EntryPointWriterBenchmark {
+
+	@Param({"hal", "json-ld", "plain-json"})
+	public String format;
+
+	@Setup
+	public void setUp() {
+		_entryPointMessageMapper = _getEntryPointMessageMapper(format);
+		_requestInfo = BenchmarkUtil.getRequestInfo(0, "all");
+		_resourceNames = BenchmarkUtil.getResourceNames();
+	}
+
+	@Benchmark
+	public String write() {
+		EntryPointWriter entryPointWriter = Builder.entryPoint(
+			() -> _resourceNames
+		).entryPointMessageMapper(
+			_entryPointMessageMapper
+		).requestInfo(
+			_requestInfo
+		).typeFunction(
+			Optional::of
+		).build();
+
+		return entryPointWriter.write();
+	}
+
+	private static EntryPointMessageMapper _getEntryPointMessageMapper(
+		String format) {
+
+		if ("hal".equals(format)) {
+			return new HALEntryPointMessageMapper();
+		}
+
+		if ("json-ld".equals(format)) {
+			return new JSONLDEntryPointMessageMapper();
+		}
+
+		if ("plain-json".equals(format)) {
+			return new PlainJSONEntryPointMessageMapper();
+		}
+
+		throw new IllegalArgumentException("Unknown format " + format);
+	}
+
+	private EntryPointMessageMapper _entryPointMessageMapper;
+	private RequestInfo _requestInfo;
+	private List<String> _resourceNames;
+
+}
\ No newline at end of file
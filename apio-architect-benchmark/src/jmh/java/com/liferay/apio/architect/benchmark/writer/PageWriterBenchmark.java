@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.BLOG_POSTINGS;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of writing a page of sample {@link BlogPosting}
+ * items with a {@link PageWriter}, for every supported format, page size,
+ * embedded depth and fields selection.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class PageWriterBenchmark {
+
+	@Param({"0", "1", "2"})
+	public int embeddedDepth;
+
+	@Param({"all", "headline,creator,name"})
+	public String fields;
+
+	@Param({"hal", "json-ld", "plain-json"})
+	public String format;
+
+	@Param({"1", "30", "100"})
+	public int pageSize;
+
+	@Setup
+	public void setUp() {
+		PageItems<BlogPosting> pageItems = new PageItems<>(
+			BenchmarkUtil.getBlogPostings(pageSize), pageSize * 10);
+
+		_page = new PageImpl<>(
+			Paged.of(BLOG_POSTINGS), pageItems,
+			new PaginationImpl(pageSize, 2));
+
+		_pageMessageMapper = _getPageMessageMapper(format);
+		_requestInfo = BenchmarkUtil.getRequestInfo(embeddedDepth, fields);
+	}
+
+	@Benchmark
+	public int write() throws IOException {
+		PageWriter<BlogPosting> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				BenchmarkUtil::getPath
+			).resourceNameFunction(
+				BenchmarkUtil::getResourceName
+			).representorFunction(
+				BenchmarkUtil::getRepresentorOptional
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				BenchmarkUtil::getSingleModel
+			).actionSemanticsFunction(
+				BenchmarkUtil::getActionSemantics
+			).build());
+
+		_byteArrayOutputStream.reset();
+
+		pageWriter.write(_byteArrayOutputStream);
+
+		return _byteArrayOutputStream.size();
+	}
+
+	private static PageMessageMapper<BlogPosting> _getPageMessageMapper(
+		String format) {
+
+		if ("hal".equals(format)) {
+			return new BenchmarkHALPageMessageMapper();
+		}
+
+		if ("json-ld".equals(format)) {
+			return new JSONLDPageMessageMapper<>();
+		}
+
+		if ("plain-json".equals(format)) {
+			return new PlainJSONPageMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException("Unknown format " + format);
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private Page<BlogPosting> _page;
+	private PageMessageMapper<BlogPosting> _pageMessageMapper;
+	private RequestInfo _requestInfo;
+
+	private static class BenchmarkHALPageMessageMapper
+		extends HALPageMessageMapper<BlogPosting> {
+
+		private BenchmarkHALPageMessageMapper() {
+			representableManager = BenchmarkUtil.getRepresentableManager();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.writer;
+
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.BLOG_POSTINGS;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.sample.internal.type.BlogPosting;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of writing a sample {@link BlogPosting} with a
+ * {@link SingleModelWriter}, for every supported format, embedded depth and
+ * fields selection.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class SingleModelWriterBenchmark {
+
+	@Param({"0", "1", "2"})
+	public int embeddedDepth;
+
+	@Param({"all", "headline,creator,name"})
+	public String fields;
+
+	@Param({"hal", "json-ld", "plain-json"})
+	public String format;
+
+	@Setup
+	public void setUp() {
+		_requestInfo = BenchmarkUtil.getRequestInfo(embeddedDepth, fields);
+		_singleModel = new SingleModelImpl<>(
+			BenchmarkUtil.getBlogPosting(1L), BLOG_POSTINGS);
+		_singleModelMessageMapper = _getSingleModelMessageMapper(format);
+	}
+
+	@Benchmark
+	public int write() throws IOException {
+		SingleModelWriter<BlogPosting> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					BenchmarkUtil::getPath
+				).resourceNameFunction(
+					BenchmarkUtil::getResourceName
+				).representorFunction(
+					BenchmarkUtil::getRepresentorOptional
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					BenchmarkUtil::getSingleModel
+				).actionSemanticsFunction(
+					BenchmarkUtil::getActionSemantics
+				).build());
+
+		_byteArrayOutputStream.reset();
+
+		singleModelWriter.write(_byteArrayOutputStream);
+
+		return _byteArrayOutputStream.size();
+	}
+
+	private static SingleModelMessageMapper<BlogPosting>
+		_getSingleModelMessageMapper(String format) {
+
+		if ("hal".equals(format)) {
+			return new HALSingleModelMessageMapper<>();
+		}
+
+		if ("json-ld".equals(format)) {
+			return new JSONLDSingleModelMessageMapper<>();
+		}
+
+		if ("plain-json".equals(format)) {
+			return new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		throw new IllegalArgumentException("Unknown format " + format);
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private RequestInfo _requestInfo;
+	private SingleModel<BlogPosting> _singleModel;
+	private SingleModelMessageMapper<BlogPosting> _singleModelMessageMapper;
+
+}
\ No newline at end of file
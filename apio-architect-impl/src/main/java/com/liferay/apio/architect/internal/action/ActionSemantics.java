@@ -14,12 +14,20 @@
 
 package com.liferay.apio.architect.internal.action;
 
+import static com.liferay.apio.architect.internal.metrics.Metrics.FAILURE;
+import static com.liferay.apio.architect.internal.metrics.Metrics.SUCCESS;
+import static com.liferay.apio.architect.internal.tracing.Tracing.ACTION;
+import static com.liferay.apio.architect.internal.tracing.Tracing.PROVIDE;
+
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.metrics.Metrics;
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.resource.Resource;
 
@@ -31,8 +39,11 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * Instances of this class contains semantic information about an action like
  *
@@ -140,17 +151,19 @@ public final class ActionSemantics {
 	 * @review
 	 */
 	public Action toAction(ProvideFunction provideFunction) {
-		return request -> Try.of(
-			getParamClasses()::stream
-		).map(
-			stream -> stream.map(
-				provideFunction.apply(this, request)
-			).collect(
-				toList()
-			)
-		).mapTry(
-			this::execute
-		);
+		return request -> {
+			if (!Metrics.INSTANCE.isEnabled()) {
+				return _execute(provideFunction, request);
+			}
+
+			long start = System.nanoTime();
+
+			Try<Object> objectTry = _execute(provideFunction, request);
+
+			_recordLatency(objectTry, start);
+
+			return objectTry;
+		};
 	}
 
 	/**
@@ -499,6 +512,80 @@ public final class ActionSemantics {
 
 	}
 
+	private static void _finishOnCompletion(Try<Object> objectTry, Span span) {
+		if (objectTry.isSuccess() &&
+			(objectTry.get() instanceof CompletionStage)) {
+
+			CompletionStage<?> completionStage =
+				(CompletionStage<?>)objectTry.get();
+
+			completionStage.whenComplete((object, throwable) -> span.finish());
+
+			return;
+		}
+
+		span.finish();
+	}
+
+	private Try<Object> _execute(
+		ProvideFunction provideFunction, HttpServletRequest request) {
+
+		Tracing tracing = Tracing.INSTANCE;
+
+		Span provideSpan = tracing.startSpan(request, PROVIDE);
+
+		Try<List<Object>> paramsTry = Try.of(
+			getParamClasses()::stream
+		).map(
+			stream -> stream.map(
+				provideFunction.apply(this, request)
+			).collect(
+				toList()
+			)
+		);
+
+		provideSpan.finish();
+
+		Span actionSpan = tracing.startSpan(request, ACTION);
+
+		Try<Object> objectTry = paramsTry.mapTry(this::execute);
+
+		_finishOnCompletion(objectTry, actionSpan);
+
+		return objectTry;
+	}
+
+	/**
+	 * Records the latency of an execution of this action. If the action
+	 * returns a {@code CompletionStage}, the latency is recorded once the stage
+	 * completes, without modifying it.
+	 */
+	private void _recordLatency(Try<Object> objectTry, long start) {
+		Metrics metrics = Metrics.INSTANCE;
+
+		String resourceName = _resource.getName();
+
+		if (objectTry.isSuccess() &&
+			(objectTry.get() instanceof CompletionStage)) {
+
+			CompletionStage<?> completionStage =
+				(CompletionStage<?>)objectTry.get();
+
+			completionStage.whenComplete(
+				(object, throwable) -> metrics.recordAction(
+					resourceName, _name, _method,
+					(throwable == null) ? SUCCESS : FAILURE,
+					System.nanoTime() - start));
+
+			return;
+		}
+
+		metrics.recordAction(
+			resourceName, _name, _method,
+			objectTry.isSuccess() ? SUCCESS : FAILURE,
+			System.nanoTime() - start);
+	}
+
 	private List<Annotation> _annotations = new ArrayList<>();
 	private Function<Body, Object> _bodyFunction;
 	private CheckedFunction1<List<?>, ?> _executeFunction;
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Indexes a list of {@link ActionSemantics} by resource, and by resource,
+ * action name and HTTP method, so the action semantics matching a request can
+ * be found with a hash lookup instead of scanning every registered action.
+ *
+ * <p>
+ * Resources are compared by using their {@code equals} method, which doesn't
+ * take IDs into account, so an index created with the registered actions can
+ * be queried with the resources of a concrete request.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ActionSemanticsIndex {
+
+	public ActionSemanticsIndex(Stream<ActionSemantics> stream) {
+		List<ActionSemantics> actionSemanticsList = new ArrayList<>();
+
+		stream.forEach(
+			actionSemantics -> {
+				actionSemanticsList.add(actionSemantics);
+
+				Resource resource = actionSemantics.getResource();
+
+				List<ActionSemantics> resourceActionSemantics =
+					_resourceActionSemantics.computeIfAbsent(
+						resource, __ -> new ArrayList<>());
+
+				resourceActionSemantics.add(actionSemantics);
+
+				Route route = new Route(
+					resource, actionSemantics.getActionName(),
+					actionSemantics.getHTTPMethod());
+
+				List<ActionSemantics> routeActionSemantics =
+					_routeActionSemantics.computeIfAbsent(
+						route, __ -> new ArrayList<>());
+
+				routeActionSemantics.add(actionSemantics);
+			});
+
+		_actionSemantics = unmodifiableList(actionSemanticsList);
+	}
+
+	/**
+	 * Returns every indexed action semantics, in the order they were provided.
+	 *
+	 * @review
+	 */
+	public Stream<ActionSemantics> getActionSemantics() {
+		return _actionSemantics.stream();
+	}
+
+	/**
+	 * Returns the action semantics of the provided resource.
+	 *
+	 * @review
+	 */
+	public Stream<ActionSemantics> getActionSemantics(Resource resource) {
+		List<ActionSemantics> list = _resourceActionSemantics.getOrDefault(
+			resource, emptyList());
+
+		return list.stream();
+	}
+
+	/**
+	 * Returns the action semantics of the provided resource with the provided
+	 * action name and HTTP method.
+	 *
+	 * @review
+	 */
+	public Stream<ActionSemantics> getActionSemantics(
+		Resource resource, String name, String method) {
+
+		List<ActionSemantics> list = _routeActionSemantics.getOrDefault(
+			new Route(resource, name, method), emptyList());
+
+		return list.stream();
+	}
+
+	private final List<ActionSemantics> _actionSemantics;
+	private final Map<Resource, List<ActionSemantics>>
+		_resourceActionSemantics = new HashMap<>();
+	private final Map<Route, List<ActionSemantics>> _routeActionSemantics =
+		new HashMap<>();
+
+	private static class Route {
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Route)) {
+				return false;
+			}
+
+			Route route = (Route)obj;
+
+			if (Objects.equals(_resource, route._resource) &&
+				Objects.equals(_name, route._name) &&
+				Objects.equals(_method, route._method)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_resource, _name, _method);
+		}
+
+		private Route(Resource resource, String name, String method) {
+			_resource = resource;
+			_name = name;
+			_method = method;
+		}
+
+		private final String _method;
+		private final String _name;
+		private final Resource _resource;
+
+	}
+
+}
\ No newline at end of file
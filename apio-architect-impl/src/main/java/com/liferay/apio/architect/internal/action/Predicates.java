@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.action;
 
 import static java.util.Arrays.asList;
 
+import com.liferay.apio.architect.annotation.Actions.BatchRetrieve;
 import com.liferay.apio.architect.annotation.EntryPoint;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.resource.Resource;
@@ -73,6 +74,14 @@ public class Predicates {
 	public static final Predicate<ActionSemantics> isActionByPUT = isActionBy(
 		"PUT");
 
+	/**
+	 * Checks if an action is a batch retrieve action.
+	 *
+	 * @review
+	 */
+	public static final Predicate<ActionSemantics> isBatchRetrieveAction =
+		hasAnnotation(BatchRetrieve.class);
+
 	/**
 	 * Checks if an action's method is {@code POST} and its name is {@code
 	 * create}.
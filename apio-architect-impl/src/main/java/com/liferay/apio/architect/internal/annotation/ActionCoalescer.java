@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.internal.annotation;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
+
+import com.liferay.apio.architect.internal.response.ResponseCache;
+import com.liferay.apio.architect.resource.Resource;
+
+import io.vavr.control.Try;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Coalesces identical concurrent retrieve actions, so only the first one is
+ * executed and the others wait for it and return the same result (or rethrow
+ * the same exception).
+ *
+ * <p>
+ * Two requests are identical if they have the same resource, action name,
+ * query string, {@code Accept-Language} and {@code Prefer} headers and
+ * credentials. Credentials are compared by the digest returned by {@link
+ * ResponseCache#getCredentialsKeyOptional(Object)}; requests whose
+ * credentials don't have a stable key are never coalesced.
+ * </p>
+ *
+ * <p>
+ * The in-flight action is released once it returns or, if it returns a
+ * {@code CompletionStage}, once that stage completes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ActionCoalescer {
+
+	/**
+	 * Creates an action coalescer.
+	 *
+	 * @param  credentialsFunction the function that returns the credentials
+	 *         of a request, or {@code null} if there aren't credentials
+	 * @review
+	 */
+	public ActionCoalescer(
+		Function<HttpServletRequest, Object> credentialsFunction) {
+
+		_credentialsFunction = credentialsFunction;
+	}
+
+	/**
+	 * Releases the in-flight actions over resources with the same name as the
+	 * supplied resource, so requests arriving after it has been modified don't
+	 * wait for a retrieval that started before. In-flight actions over other
+	 * resources aren't released.
+	 *
+	 * @param  resource the modified resource
+	 * @review
+	 */
+	public void clear(Resource resource) {
+		Map<String, CompletableFuture<Object>> inFlightActions =
+			_inFlightActions.get(resource.getName());
+
+		if (inFlightActions != null) {
+			inFlightActions.clear();
+		}
+	}
+
+	/**
+	 * Returns an action that coalesces identical concurrent requests of the
+	 * supplied retrieve action.
+	 *
+	 * @param  resource the action's resource
+	 * @param  name the action's name
+	 * @param  action the retrieve action
+	 * @return the coalescing action
+	 * @review
+	 */
+	public Action coalesce(Resource resource, String name, Action action) {
+		return request -> {
+			Optional<String> keyOptional = _getKeyOptional(
+				resource, name, request);
+
+			if (!keyOptional.isPresent()) {
+				return action.apply(request);
+			}
+
+			String key = keyOptional.get();
+
+			Map<String, CompletableFuture<Object>> inFlightActions =
+				_inFlightActions.computeIfAbsent(
+					resource.getName(), __ -> new ConcurrentHashMap<>());
+
+			CompletableFuture<Object> completableFuture =
+				new CompletableFuture<>();
+
+			CompletableFuture<Object> inFlightCompletableFuture =
+				inFlightActions.putIfAbsent(key, completableFuture);
+
+			if (inFlightCompletableFuture != null) {
+				return _await(inFlightCompletableFuture);
+			}
+
+			Runnable runnable = () -> inFlightActions.remove(
+				key, completableFuture);
+
+			try {
+				Object object = action.apply(request);
+
+				completableFuture.complete(object);
+
+				_runOnCompletion(object, runnable);
+
+				return object;
+			}
+			catch (Throwable t) {
+				completableFuture.completeExceptionally(t);
+
+				runnable.run();
+
+				throw t;
+			}
+		};
+	}
+
+	private static Object _await(CompletableFuture<Object> completableFuture) {
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable cause = ce.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+
+			throw ce;
+		}
+	}
+
+	private static void _runOnCompletion(Object object, Runnable runnable) {
+		Object value = object;
+
+		if (object instanceof Try) {
+			Try<?> objectTry = (Try<?>)object;
+
+			value = objectTry.getOrNull();
+		}
+
+		if (value instanceof CompletionStage) {
+			CompletionStage<?> completionStage = (CompletionStage<?>)value;
+
+			completionStage.whenComplete((result, throwable) -> runnable.run());
+
+			return;
+		}
+
+		runnable.run();
+	}
+
+	private Optional<String> _getKeyOptional(
+		Resource resource, String name, HttpServletRequest request) {
+
+		Optional<String> optional = ResponseCache.getCredentialsKeyOptional(
+			_credentialsFunction.apply(request));
+
+		return optional.map(
+			credentialsKey -> String.join(
+				" ", resource.toString(), name,
+				String.valueOf(request.getQueryString()),
+				String.valueOf(request.getHeader(ACCEPT_LANGUAGE)),
+				String.valueOf(request.getHeader("Prefer")), credentialsKey)
+		);
+	}
+
+	private final Function<HttpServletRequest, Object> _credentialsFunction;
+	private final Map<String, Map<String, CompletableFuture<Object>>>
+		_inFlightActions = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -24,7 +24,9 @@ import com.liferay.apio.architect.single.model.SingleModel;
 
 import io.vavr.control.Either;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -107,4 +109,28 @@ public interface ActionManager {
 	public Optional<SingleModel> getItemSingleModel(
 		Item item, HttpServletRequest request);
 
+	/**
+	 * Returns the {@link SingleModel} instances for the supplied IDs of a
+	 * resource, retrieved by executing the resource's {@link
+	 * com.liferay.apio.architect.annotation.Actions.BatchRetrieve} action
+	 * once. The single models are returned in a map where each key is the
+	 * {@link Resource.Id#asObject() object version} of its ID. If the resource
+	 * doesn't have a batch retrieve action, or the batch retrieval fails, an
+	 * empty map is returned, so callers should fall back to {@link
+	 * #getItemSingleModel(Item, HttpServletRequest)} for any ID missing in the
+	 * map.
+	 *
+	 * @param  name the resource's name
+	 * @param  ids the IDs of the items to retrieve
+	 * @param  request the current HTTP request
+	 * @return the single models found, mapped by the object version of their
+	 *         ID
+	 * @review
+	 */
+	public default Map<Object, SingleModel> getItemSingleModels(
+		String name, List<Resource.Id> ids, HttpServletRequest request) {
+
+		return Collections.emptyMap();
+	}
+
 }
\ No newline at end of file
@@ -14,26 +14,29 @@
 
 package com.liferay.apio.architect.internal.annotation;
 
-import static com.liferay.apio.architect.internal.action.Predicates.isAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isActionFor;
-import static com.liferay.apio.architect.internal.action.Predicates.isCreateAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isRootCollectionAction;
 import static com.liferay.apio.architect.internal.action.converter.EntryPointConverter.getEntryPointFrom;
+import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getBatchSingleModels;
 import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
+import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.DEFAULT_SIZE_THRESHOLD;
+import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.closeBinaryFiles;
 import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.vavr.Predicates.instanceOf;
 import static io.vavr.control.Either.left;
 import static io.vavr.control.Either.right;
 
+import static java.util.Collections.emptyMap;
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.liferay.apio.architect.annotation.GenericParentId;
 import com.liferay.apio.architect.annotation.Id;
 import com.liferay.apio.architect.annotation.ParentId;
@@ -42,10 +45,12 @@ import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.response.ResponseCache;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -67,8 +72,13 @@ import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
+import java.io.File;
+
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -76,13 +86,18 @@ import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.BadRequestException;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.core.MediaType;
 
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import org.slf4j.Logger;
+
 /**
  * Provides methods to get the different actions provided by the different
  * routers.
@@ -120,10 +135,11 @@ public class ActionManagerImpl implements ActionManager {
 			Paged paged = Paged.of(params.get(0));
 
 			if ("GET".equals(method)) {
-				return _getAction(paged, isRootCollectionAction);
+				return _getAction(
+					paged, "retrieve", "GET", isRootCollectionAction);
 			}
 			else if ("POST".equals(method)) {
-				return _getAction(paged, isCreateAction);
+				return _getAction(paged, "create", "POST");
 			}
 		}
 		else if (numberOfParams == 2) {
@@ -131,7 +147,7 @@ public class ActionManagerImpl implements ActionManager {
 			String actionName = params.get(1);
 
 			Either<Error, Action> pagedActionEither = _getAction(
-				paged, isAction(actionName, method));
+				paged, actionName, method);
 
 			if (pagedActionEither.isRight()) {
 				return pagedActionEither;
@@ -141,13 +157,13 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (item != null) {
 				if ("DELETE".equals(method)) {
-					return _getAction(item, isRemoveAction);
+					return _getAction(item, "remove", "DELETE");
 				}
 				else if ("PUT".equals(method)) {
-					return _getAction(item, isReplaceAction);
+					return _getAction(item, "replace", "PUT");
 				}
 				else if ("GET".equals(method)) {
-					return _getAction(item, isRetrieveAction);
+					return _getAction(item, "retrieve", "GET");
 				}
 			}
 		}
@@ -157,10 +173,10 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (genericParent != null) {
 				if ("GET".equals(method)) {
-					return _getAction(genericParent, isRetrieveAction);
+					return _getAction(genericParent, "retrieve", "GET");
 				}
 				else if ("POST".equals(method)) {
-					return _getAction(genericParent, isCreateAction);
+					return _getAction(genericParent, "create", "POST");
 				}
 			}
 			else {
@@ -175,7 +191,7 @@ public class ActionManagerImpl implements ActionManager {
 					}
 
 					Either<Error, Action> itemEither = _getAction(
-						item, isAction(params.get(2), method));
+						item, params.get(2), method);
 
 					if (itemEither.isRight()) {
 						return itemEither;
@@ -184,10 +200,10 @@ public class ActionManagerImpl implements ActionManager {
 					Nested nested = Nested.of(item, params.get(2));
 
 					if ("GET".equals(method)) {
-						return _getAction(nested, isRetrieveAction);
+						return _getAction(nested, "retrieve", "GET");
 					}
 					else if ("POST".equals(method)) {
-						return _getAction(nested, isCreateAction);
+						return _getAction(nested, "create", "POST");
 					}
 				}
 			}
@@ -197,8 +213,7 @@ public class ActionManagerImpl implements ActionManager {
 				params.get(0), params.get(1), params.get(2));
 
 			if (genericParent != null) {
-				return _getAction(
-					genericParent, isAction(params.get(3), method));
+				return _getAction(genericParent, params.get(3), method);
 			}
 
 			Item item = _getItem(params.get(0), params.get(1));
@@ -206,7 +221,7 @@ public class ActionManagerImpl implements ActionManager {
 			if (item != null) {
 				Nested nested = Nested.of(item, params.get(2));
 
-				return _getAction(nested, isAction(params.get(3), method));
+				return _getAction(nested, params.get(3), method);
 			}
 		}
 
@@ -217,11 +232,12 @@ public class ActionManagerImpl implements ActionManager {
 	public Stream<ActionSemantics> getActionSemantics(
 		Resource resource, Credentials credentials) {
 
-		Stream<ActionSemantics> stream = actionSemantics();
+		ActionSemanticsIndex actionSemanticsIndex = _getActionSemanticsIndex();
 
-		return stream.filter(
-			isActionFor(resource)
-		).map(
+		Stream<ActionSemantics> stream =
+			actionSemanticsIndex.getActionSemantics(resource);
+
+		return stream.map(
 			actionSemantics -> actionSemantics.withResource(resource)
 		);
 	}
@@ -265,11 +281,13 @@ public class ActionManagerImpl implements ActionManager {
 		Item item, HttpServletRequest request) {
 
 		return Either.narrow(
-			_getAction(item, isRetrieveAction)
+			_getAction(item, "retrieve", "GET")
 		).map(
 			action -> action.apply(request)
 		).map(
 			object -> object instanceof Try ? ((Try)object).get() : object
+		).map(
+			ActionManagerImpl::_join
 		).toJavaOptional(
 		).filter(
 			instanceOf(SingleModel.class)
@@ -278,20 +296,176 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
+	@Override
+	public Map<Object, SingleModel> getItemSingleModels(
+		String name, List<Resource.Id> ids, HttpServletRequest request) {
+
+		Stream<ActionSemantics> stream =
+			_actionRouterManager.getBatchRetrieveActionSemantics();
+
+		Optional<ActionSemantics> optionalActionSemantics = stream.filter(
+			isActionFor(Item.of(name))
+		).findFirst();
+
+		if (!optionalActionSemantics.isPresent() || ids.isEmpty()) {
+			return emptyMap();
+		}
+
+		Stream<Resource.Id> idsStream = ids.stream();
+
+		List<Object> identifiers = idsStream.map(
+			Resource.Id::asObject
+		).collect(
+			toList()
+		);
+
+		ActionSemantics actionSemantics = optionalActionSemantics.get();
+
+		Action action = actionSemantics.toAction(
+			(semantics, httpServletRequest, clazz) -> {
+				if (Id.class.equals(clazz)) {
+					return identifiers;
+				}
+
+				return _provide(semantics, httpServletRequest, clazz);
+			});
+
+		Try<?> modelsTry = (Try<?>)action.apply(request);
+
+		modelsTry.onFailure(
+			throwable -> _logger.warn(
+				"Unable to retrieve {} in batch, retrieving each one instead",
+				name, throwable));
+
+		return getBatchSingleModels(modelsTry, identifiers, name);
+	}
+
+	@Activate
+	protected void activate(BundleContext bundleContext) {
+		_multipartSizeThreshold = _getMultipartSizeThreshold(bundleContext);
+
+		String multipartRepository = bundleContext.getProperty(
+			_MULTIPART_REPOSITORY);
+
+		if (multipartRepository == null) {
+			multipartRepository = System.getProperty("java.io.tmpdir");
+		}
+
+		_multipartRepository = new File(multipartRepository);
+
+		if (Boolean.parseBoolean(
+				bundleContext.getProperty(_ACTION_COALESCING))) {
+
+			_actionCoalescer = new ActionCoalescer(
+				request -> providerManager.provideOptional(
+					request, Credentials.class
+				).map(
+					Credentials::get
+				).orElse(
+					null
+				));
+		}
+	}
+
 	@Reference
 	protected PathIdentifierMapperManager pathIdentifierMapperManager;
 
 	@Reference
 	protected ProviderManager providerManager;
 
+	private static Object _afterCompletion(Object object, Runnable runnable) {
+		runnable.run();
+
+		if (object instanceof Try) {
+			Try<?> objectTry = (Try<?>)object;
+
+			return objectTry.map(value -> _whenComplete(value, runnable));
+		}
+
+		return _whenComplete(object, runnable);
+	}
+
+	private static Object _afterExecution(Object object, Runnable runnable) {
+		if (object instanceof Try) {
+			Try<?> objectTry = (Try<?>)object;
+
+			if (objectTry.isSuccess()) {
+				return objectTry.map(value -> _afterExecution(value, runnable));
+			}
+		}
+		else if (object instanceof CompletionStage) {
+			return _whenComplete(object, runnable);
+		}
+
+		runnable.run();
+
+		return object;
+	}
+
+	private static Object _join(Object object) {
+		if (object instanceof CompletionStage) {
+			CompletionStage<?> completionStage = (CompletionStage<?>)object;
+
+			CompletableFuture<?> completableFuture =
+				completionStage.toCompletableFuture();
+
+			return completableFuture.join();
+		}
+
+		return object;
+	}
+
+	private static Object _whenComplete(Object object, Runnable runnable) {
+		if (object instanceof CompletionStage) {
+			CompletionStage<?> completionStage = (CompletionStage<?>)object;
+
+			return completionStage.whenComplete(
+				(result, throwable) -> runnable.run());
+		}
+
+		return object;
+	}
+
+	private static Action _withBinaryFilesClosing(Action action) {
+		return request -> {
+			Object object;
+
+			try {
+				object = action.apply(request);
+			}
+			catch (Throwable t) {
+				closeBinaryFiles(request);
+
+				throw t;
+			}
+
+			return _afterExecution(object, () -> closeBinaryFiles(request));
+		};
+	}
+
+	private void _computeActionSemanticsIndex() {
+		INSTANCE.putActionSemanticsIndex(
+			new ActionSemanticsIndex(actionSemantics()));
+	}
+
 	private Either<Action.Error, Action> _getAction(
-		Resource resource, Predicate<ActionSemantics> predicate) {
+		Resource resource, String name, String method) {
 
-		Stream<ActionSemantics> actionSemanticsStream = actionSemantics();
+		return _getAction(resource, name, method, __ -> true);
+	}
+
+	private Either<Action.Error, Action> _getAction(
+		Resource resource, String name, String method,
+		Predicate<ActionSemantics> predicate) {
+
+		ActionSemanticsIndex actionSemanticsIndex = _getActionSemanticsIndex();
+
+		Stream<ActionSemantics> actionSemanticsStream =
+			actionSemanticsIndex.getActionSemantics(resource, name, method);
 
 		Optional<ActionSemantics> optionalActionSemantics =
 			actionSemanticsStream.filter(
-				predicate.and(isActionFor(resource))
+				predicate
 			).findFirst();
 
 		if (!optionalActionSemantics.isPresent()) {
@@ -303,7 +477,27 @@ public class ActionManagerImpl implements ActionManager {
 		ActionSemantics updatedActionSemantics = actionSemantics.withResource(
 			resource);
 
-		return right(updatedActionSemantics.toAction(this::_provide));
+		Action action = updatedActionSemantics.toAction(this::_provide);
+
+		// Uploaded files are closed once the action completes, so spooled
+		// files don't wait for the garbage collector to be deleted
+
+		if (!HttpMethod.GET.equals(method)) {
+			action = _withBinaryFilesClosing(action);
+		}
+
+		if (_responseCache.isEnabled()) {
+			action = _withResponseCache(resource, method, action);
+		}
+
+		// Coalesced requests don't record a retrieval in the response cache,
+		// since the shared models may have been retrieved before they arrived
+
+		if (_actionCoalescer != null) {
+			action = _withActionCoalescer(resource, name, method, action);
+		}
+
+		return right(action);
 	}
 
 	private Either<Action.Error, Action> _getBinaryFileAction(
@@ -329,6 +523,11 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
+	private ActionSemanticsIndex _getActionSemanticsIndex() {
+		return INSTANCE.getActionSemanticsIndex(
+			this::_computeActionSemanticsIndex);
+	}
+
 	private Body _getBody(HttpServletRequest request) {
 		MediaType mediaType = Try.of(
 			() -> MediaType.valueOf(request.getContentType())
@@ -341,12 +540,34 @@ public class ActionManagerImpl implements ActionManager {
 		}
 
 		if (MULTIPART_FORM_DATA_TYPE.isCompatible(mediaType)) {
-			return multipartToBody(request);
+			return multipartToBody(
+				request, _multipartSizeThreshold, _multipartRepository);
 		}
 
 		throw new NotSupportedException();
 	}
 
+	private int _getMultipartSizeThreshold(BundleContext bundleContext) {
+		String multipartSizeThreshold = bundleContext.getProperty(
+			_MULTIPART_SIZE_THRESHOLD);
+
+		if (multipartSizeThreshold == null) {
+			return DEFAULT_SIZE_THRESHOLD;
+		}
+
+		try {
+			return Integer.parseInt(multipartSizeThreshold.trim());
+		}
+		catch (NumberFormatException nfe) {
+			_logger.warn(
+				"Invalid value {} for property {}, using the default size " +
+					"threshold",
+				multipartSizeThreshold, _MULTIPART_SIZE_THRESHOLD);
+
+			return DEFAULT_SIZE_THRESHOLD;
+		}
+	}
+
 	private GenericParent _getGenericParent(
 		String name, String genericParentName, String genericParentStringId) {
 
@@ -438,9 +659,46 @@ public class ActionManagerImpl implements ActionManager {
 		return providerManager.provideMandatory(request, clazz);
 	}
 
+	private Action _withActionCoalescer(
+		Resource resource, String name, String method, Action action) {
+
+		if (HttpMethod.GET.equals(method)) {
+			return _actionCoalescer.coalesce(resource, name, action);
+		}
+
+		return request -> _afterCompletion(
+			action.apply(request), () -> _actionCoalescer.clear(resource));
+	}
+
+	private Action _withResponseCache(
+		Resource resource, String method, Action action) {
+
+		if (HttpMethod.GET.equals(method)) {
+			return request -> {
+				_responseCache.startRetrieving(request);
+
+				return action.apply(request);
+			};
+		}
+
+		return request -> _afterCompletion(
+			action.apply(request), () -> _responseCache.invalidate(resource));
+	}
+
+	private static final String _ACTION_COALESCING =
+		"apio.architect.action.coalescing";
+
+	private static final String _MULTIPART_REPOSITORY =
+		"apio.architect.multipart.repository";
+
+	private static final String _MULTIPART_SIZE_THRESHOLD =
+		"apio.architect.multipart.size.threshold";
+
 	private static final NotFound _notFound = new NotFound() {
 	};
 
+	private ActionCoalescer _actionCoalescer;
+
 	@Reference
 	private ActionRouterManager _actionRouterManager;
 
@@ -453,12 +711,20 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
+	private Logger _logger = getLogger(getClass());
+	private File _multipartRepository = new File(
+		System.getProperty("java.io.tmpdir"));
+	private int _multipartSizeThreshold = DEFAULT_SIZE_THRESHOLD;
+
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
 	@Reference
 	private RepresentableManager _representableManager;
 
+	@Reference
+	private ResponseCache _responseCache;
+
 	@Reference
 	private ReusableNestedCollectionRouterManager
 		_reusableNestedCollectionRouterManager;
@@ -14,8 +14,10 @@
 
 package com.liferay.apio.architect.internal.annotation;
 
+import static com.liferay.apio.architect.internal.action.Predicates.isBatchRetrieveAction;
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.execute;
+import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.executeBatch;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getBodyResourceClassName;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getParamClasses;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getResource;
@@ -23,6 +25,7 @@ import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUt
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.isListBody;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.needsParameterFromBody;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInMethodOrInItsAnnotations;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.toInvoker;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -39,6 +42,7 @@ import static org.osgi.service.component.annotations.ReferencePolicyOption.GREED
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.annotation.Actions.Action;
+import com.liferay.apio.architect.annotation.Actions.BatchRetrieve;
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.form.Form;
@@ -48,8 +52,10 @@ import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.router.ActionRouter;
 
+import io.vavr.CheckedFunction1;
 import io.vavr.control.Option;
 
 import java.lang.reflect.Method;
@@ -82,13 +88,22 @@ public class ActionRouterManager {
 	}
 
 	public Stream<ActionSemantics> getActionSemantics() {
-		return Optional.ofNullable(
-			INSTANCE.getActionSemantics(this::_computeActionSemantics)
-		).map(
-			List::stream
-		).orElseGet(
-			Stream::empty
-		);
+		Stream<ActionSemantics> stream = _getActionSemanticsStream();
+
+		return stream.filter(isBatchRetrieveAction.negate());
+	}
+
+	/**
+	 * Returns the semantics of the actions annotated with {@link
+	 * BatchRetrieve}. These actions aren't returned by {@link
+	 * #getActionSemantics()}, since they can't be executed from a request.
+	 *
+	 * @review
+	 */
+	public Stream<ActionSemantics> getBatchRetrieveActionSemantics() {
+		Stream<ActionSemantics> stream = _getActionSemanticsStream();
+
+		return stream.filter(isBatchRetrieveAction);
 	}
 
 	@SuppressWarnings("Convert2MethodRef")
@@ -142,6 +157,11 @@ public class ActionRouterManager {
 	private Option<ActionSemantics> _getActionSemanticsOption(
 		ActionRouter actionRouter, Method method, String name) {
 
+		if (method.isAnnotationPresent(BatchRetrieve.class)) {
+			return _getBatchRetrieveActionSemanticsOption(
+				actionRouter, method, name);
+		}
+
 		Action action = findAnnotationInMethodOrInItsAnnotations(
 			method, Action.class);
 
@@ -162,6 +182,9 @@ public class ActionRouterManager {
 
 		Resource resource = getResource(method, name);
 
+		CheckedFunction1<Object[], Object> invoker = toInvoker(
+			actionRouter, method);
+
 		ActionSemantics actionSemantics = ActionSemantics.ofResource(
 			resource
 		).name(
@@ -171,8 +194,7 @@ public class ActionRouterManager {
 		).returns(
 			getReturnClass(method)
 		).executeFunction(
-			params -> execute(
-				resource, params, array -> method.invoke(actionRouter, array))
+			params -> execute(resource, params, invoker)
 		).bodyFunction(
 			body -> isListBody(method) ? form.getList(body) : form.get(body)
 		).receivesParams(
@@ -184,6 +206,49 @@ public class ActionRouterManager {
 		return some(actionSemantics);
 	}
 
+	private Stream<ActionSemantics> _getActionSemanticsStream() {
+		return Optional.ofNullable(
+			INSTANCE.getActionSemantics(this::_computeActionSemantics)
+		).map(
+			List::stream
+		).orElseGet(
+			Stream::empty
+		);
+	}
+
+	private Option<ActionSemantics> _getBatchRetrieveActionSemanticsOption(
+		ActionRouter actionRouter, Method method, String name) {
+
+		if (!List.class.equals(method.getReturnType())) {
+			_logger.warn(
+				"Batch retrieve method with name {} must return a list",
+				method.getName());
+
+			return none();
+		}
+
+		CheckedFunction1<Object[], Object> invoker = toInvoker(
+			actionRouter, method);
+
+		ActionSemantics actionSemantics = ActionSemantics.ofResource(
+			Item.of(name)
+		).name(
+			"batch-retrieve"
+		).method(
+			"GET"
+		).returns(
+			List.class
+		).executeFunction(
+			params -> executeBatch(params, invoker)
+		).receivesParams(
+			getParamClasses(method)
+		).annotatedWith(
+			method.getDeclaredAnnotations()
+		).build();
+
+		return some(actionSemantics);
+	}
+
 	private static final TypeVariable<Class<ActionRouter>>
 		_actionRouterTypeParameter = ActionRouter.class.getTypeParameters()[0];
 	private static final List<String> _mandatoryClassNames = Arrays.asList(
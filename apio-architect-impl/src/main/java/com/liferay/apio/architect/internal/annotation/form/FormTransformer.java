@@ -21,6 +21,7 @@ import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.alias.IdentifierFunction;
 import com.liferay.apio.architect.annotation.FieldMode;
+import com.liferay.apio.architect.annotation.GeneratedType;
 import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
 import com.liferay.apio.architect.annotation.Vocabulary.RelativeURL;
@@ -31,14 +32,10 @@ import com.liferay.apio.architect.internal.annotation.representor.processor.Fiel
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.internal.form.FormImpl;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -49,7 +46,7 @@ import java.util.stream.Stream;
 
 /**
  * Responsible of building a {@link Form} using a parsed type. This class will
- * create a Proxy of the type and build a form around it
+ * create a {@link TypeInstanceFactory} for the type and build a form around it
  *
  * @author Víctor Galán
  * @review
@@ -57,7 +54,8 @@ import java.util.stream.Stream;
 public class FormTransformer {
 
 	/**
-	 * Builds a form using a parsed type.
+	 * Builds a form using a parsed type. If code has been generated for the
+	 * type at build time, the form is filled by that code.
 	 *
 	 * @param  parsedType the parsed type
 	 * @param  pathToIdentifierFunction function that extract the identifier
@@ -74,6 +72,16 @@ public class FormTransformer {
 		FormImpl.BuilderImpl<T> formBuilder = new FormImpl.BuilderImpl<>(
 			pathToIdentifierFunction, nameFunction);
 
+		Optional<GeneratedType<?>> generatedTypeOptional =
+			parsedType.getGeneratedTypeOptional();
+
+		if (generatedTypeOptional.isPresent()) {
+			GeneratedType<T> generatedType = unsafeCast(
+				generatedTypeOptional.get());
+
+			return generatedType.getForm(formBuilder);
+		}
+
 		return _fillForm(parsedType, formBuilder);
 	}
 
@@ -82,22 +90,18 @@ public class FormTransformer {
 
 		Class<T> typeClass = unsafeCast(parsedType.getTypeClass());
 
-		Map<String, Object> resultsMap = new HashMap<>();
-
-		InvocationHandler invocationHandler =
-			(object, method, args) -> resultsMap.get(method.getName());
+		TypeInstanceFactory<T> typeInstanceFactory = new TypeInstanceFactory<>(
+			typeClass);
 
 		Function<String, BiConsumer<T, ?>> formFunction =
-			methodName -> (object, value) -> resultsMap.put(methodName, value);
+			typeInstanceFactory::getSetter;
 
 		Builder.FieldStep<T> fieldStep = formBuilder.title(
 			__ -> ""
 		).description(
 			__ -> ""
 		).constructor(
-			() -> (T)Proxy.newProxyInstance(
-				typeClass.getClassLoader(), new Class<?>[] {typeClass},
-				invocationHandler)
+			typeInstanceFactory::create
 		);
 
 		List<FieldData<RelativeURL>> relativeURLFieldDataList =
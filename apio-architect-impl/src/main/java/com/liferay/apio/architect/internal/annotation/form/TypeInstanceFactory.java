@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Creates the instances of a {@link
+ * com.liferay.apio.architect.annotation.Vocabulary.Type} interface filled by
+ * its form.
+ *
+ * <p>Everything that depends only on the type is resolved once, when the
+ * factory is created: the proxy class and its constructor, and a slot for the
+ * value of every method of the type. Each instance stores its values in its
+ * own array, so calling one of its methods reads an array slot and form
+ * setters write to it, without looking up values by method name.
+ *
+ * <p>A proxy class always passes the same {@code Method} instances to its
+ * invocation handler, which are not the ones returned by {@link
+ * Class#getMethods()}. These instances are recorded by calling every method
+ * once on a probe instance, so the slot of a method is found by identity
+ * instead of by {@link Method#equals(Object)}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TypeInstanceFactory<T> {
+
+	public TypeInstanceFactory(Class<T> typeClass) {
+		MethodRecorder methodRecorder = new MethodRecorder();
+
+		Object probe = Proxy.newProxyInstance(
+			typeClass.getClassLoader(), new Class<?>[] {typeClass},
+			methodRecorder);
+
+		for (Method method : typeClass.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			Integer index = _indexes.get(method.getName());
+
+			if (index == null) {
+				index = _indexes.size();
+
+				_indexes.put(method.getName(), index);
+			}
+
+			_methodIndexes.put(methodRecorder.record(probe, method), index);
+		}
+
+		_constructorMethodHandle = _getConstructorMethodHandle(
+			typeClass, probe.getClass());
+	}
+
+	/**
+	 * Creates a new instance of the type, whose methods return {@code null}
+	 * until their value is set.
+	 *
+	 * @return the new instance
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public T create() {
+		InvocationHandler invocationHandler = new ValuesInvocationHandler(
+			_methodIndexes, new Object[_indexes.size()]);
+
+		try {
+			return (T)(Object)_constructorMethodHandle.invokeExact(
+				invocationHandler);
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable throwable) {
+			throw new IllegalStateException(throwable);
+		}
+	}
+
+	/**
+	 * Returns a function that sets the value returned by the type's method
+	 * with the provided name.
+	 *
+	 * @param  methodName the method's name
+	 * @return the function that sets the method's value
+	 * @throws IllegalArgumentException if the type doesn't have a method with
+	 *         that name
+	 * @review
+	 */
+	public <V> BiConsumer<T, V> getSetter(String methodName) {
+		Integer index = _indexes.get(methodName);
+
+		if (index == null) {
+			throw new IllegalArgumentException(
+				"Type doesn't have a method named " + methodName);
+		}
+
+		int slot = index;
+
+		return (t, value) -> {
+			ValuesInvocationHandler valuesInvocationHandler =
+				(ValuesInvocationHandler)Proxy.getInvocationHandler(t);
+
+			valuesInvocationHandler._values[slot] = value;
+		};
+	}
+
+	private static MethodHandle _getConstructorMethodHandle(
+		Class<?> typeClass, Class<?> proxyClass) {
+
+		try {
+			Constructor<?> constructor = proxyClass.getConstructor(
+				InvocationHandler.class);
+
+			constructor.setAccessible(true);
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			MethodHandle methodHandle = lookup.unreflectConstructor(
+				constructor);
+
+			return methodHandle.asType(
+				methodType(Object.class, InvocationHandler.class));
+		}
+		catch (IllegalAccessException | NoSuchMethodException e) {
+			throw new IllegalArgumentException(
+				"Unable to create instances of " + typeClass, e);
+		}
+	}
+
+	private static Object _getDefaultValue(Class<?> clazz) {
+		if (clazz.isPrimitive() && (clazz != void.class)) {
+			return Array.get(Array.newInstance(clazz, 1), 0);
+		}
+
+		return null;
+	}
+
+	private final MethodHandle _constructorMethodHandle;
+	private final Map<String, Integer> _indexes = new HashMap<>();
+	private final Map<Method, Integer> _methodIndexes =
+		new IdentityHashMap<>();
+
+	private static class MethodRecorder implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			_method = method;
+
+			return _getDefaultValue(method.getReturnType());
+		}
+
+		public Method record(Object probe, Method method) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			Object[] args = new Object[parameterTypes.length];
+
+			for (int i = 0; i < args.length; i++) {
+				args[i] = _getDefaultValue(parameterTypes[i]);
+			}
+
+			_method = null;
+
+			method.setAccessible(true);
+
+			try {
+				method.invoke(probe, args);
+			}
+			catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IllegalArgumentException(
+					"Unable to record method " + method, e);
+			}
+
+			return _method;
+		}
+
+		private Method _method;
+
+	}
+
+	private static class ValuesInvocationHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (method.getDeclaringClass() == Object.class) {
+				return _invokeObjectMethod(proxy, method, args);
+			}
+
+			Integer index = _methodIndexes.get(method);
+
+			if (index == null) {
+				return null;
+			}
+
+			return _values[index];
+		}
+
+		private ValuesInvocationHandler(
+			Map<Method, Integer> methodIndexes, Object[] values) {
+
+			_methodIndexes = methodIndexes;
+			_values = values;
+		}
+
+		private Object _invokeObjectMethod(
+			Object proxy, Method method, Object[] args) {
+
+			String name = method.getName();
+
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			Class<?> proxyClass = proxy.getClass();
+
+			return proxyClass.getName() + "@" +
+				Integer.toHexString(System.identityHashCode(proxy));
+		}
+
+		private final Map<Method, Integer> _methodIndexes;
+		private final Object[] _values;
+
+	}
+
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.annotation.representor;
 
+import static com.liferay.apio.architect.annotation.FieldMode.READ_ONLY;
 import static com.liferay.apio.architect.annotation.Vocabulary.LinkTo.ResourceType.CHILD_COLLECTION;
 import static com.liferay.apio.architect.annotation.Vocabulary.LinkTo.ResourceType.GENERIC_PARENT_COLLECTION;
 import static com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformerUtil.addCommonFields;
@@ -23,6 +24,7 @@ import static com.liferay.apio.architect.internal.annotation.representor.StringU
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
+import com.liferay.apio.architect.annotation.GeneratedType;
 import com.liferay.apio.architect.annotation.Vocabulary.BidirectionalModel;
 import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
@@ -35,13 +37,13 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.representor.Representor.FirstStep;
 
-import io.vavr.control.Try;
-
 import java.lang.reflect.Method;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -56,7 +58,8 @@ import java.util.function.Supplier;
 public class RepresentorTransformer {
 
 	/**
-	 * Transforms a parsed type into a representor.
+	 * Transforms a parsed type into a representor. If code has been generated
+	 * for the type at build time, the representor is filled by that code.
 	 *
 	 * @param  parsedType the parsed type {@link ParsedType}
 	 * @param  nameFunction the function that gets a class's {@link
@@ -78,16 +81,49 @@ public class RepresentorTransformer {
 		Representor.Builder<T, S> builder = _createBuilder(
 			typeClass, nameFunction, unsafeCast(relatedCollections));
 
+		Optional<GeneratedType<?>> generatedTypeOptional =
+			parsedType.getGeneratedTypeOptional();
+
+		if (generatedTypeOptional.isPresent()) {
+			GeneratedType<T> generatedType = unsafeCast(
+				generatedTypeOptional.get());
+
+			_putReusableIdentifierClasses(typeClass);
+
+			return generatedType.getRepresentor(builder);
+		}
+
+		Method idMethod = parsedType.getIdMethod();
+
+		Function<T, S> identifierFunction = t -> null;
+
+		if (idMethod != null) {
+			identifierFunction = getMethodFunction(idMethod);
+		}
+
 		FirstStep<T> firstStep = builder.types(
 			type.value()
 		).identifier(
-			t -> Try.of(
-				parsedType::getIdMethod
-			).mapTry(
-				method -> (S)method.invoke(t)
-			).getOrNull()
+			identifierFunction
 		);
 
+		Method lastModifiedMethod = parsedType.getLastModifiedMethod();
+
+		if (lastModifiedMethod != null) {
+			firstStep.lastModified(getMethodFunction(lastModifiedMethod));
+		}
+
+		Method versionMethod = parsedType.getVersionMethod();
+
+		if (versionMethod != null) {
+			Function<T, Object> versionFunction = getMethodFunction(
+				versionMethod);
+
+			firstStep.version(
+				versionFunction.andThen(
+					version -> Objects.toString(version, null)));
+		}
+
 		_processFields(parsedType, firstStep);
 
 		return firstStep.build();
@@ -149,22 +185,41 @@ public class RepresentorTransformer {
 
 				firstStep.addRelatedCollection(
 					fieldData.getFieldName(), linkTo.resource(),
-					model -> Try.of(
-						() -> method.invoke(model)
-					).getOrNull());
+					getMethodFunction(method));
+
+				_putReusableIdentifierClass(linkTo, method);
+			}
+		}
+
+		addCommonFields(firstStep, parsedType);
+	}
+
+	private static void _putReusableIdentifierClass(
+		LinkTo linkTo, Method method) {
 
-				Class<? extends Identifier<?>> typeClass = linkTo.resource();
+		Class<? extends Identifier<?>> typeClass = linkTo.resource();
 
-				Type type = typeClass.getAnnotation(Type.class);
+		Type type = typeClass.getAnnotation(Type.class);
 
-				String name = toLowercaseSlug(type.value());
+		String name = toLowercaseSlug(type.value());
 
-				INSTANCE.putReusableIdentifierClass(
-					name, method.getReturnType());
+		INSTANCE.putReusableIdentifierClass(name, method.getReturnType());
+	}
+
+	private static void _putReusableIdentifierClasses(Class<?> typeClass) {
+		for (Method method : typeClass.getMethods()) {
+			Field field = method.getAnnotation(Field.class);
+			LinkTo linkTo = method.getAnnotation(LinkTo.class);
+
+			if ((field == null) || (linkTo == null) ||
+				!GENERIC_PARENT_COLLECTION.equals(linkTo.resourceType()) ||
+				READ_ONLY.equals(field.mode())) {
+
+				continue;
 			}
-		}
 
-		addCommonFields(firstStep, parsedType);
+			_putReusableIdentifierClass(linkTo, method);
+		}
 	}
 
 }
\ No newline at end of file
@@ -25,9 +25,9 @@ import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
 import com.liferay.apio.architect.annotation.Vocabulary.RelativeURL;
 import com.liferay.apio.architect.file.BinaryFile;
-import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.internal.annotation.representor.processor.FieldData;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil;
 import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 
@@ -155,19 +155,11 @@ public class RepresentorTransformerUtil {
 	public static <A, T, S> BiFunction<T, A, S> getMethodBiFunction(
 		Method method) {
 
-		return (t, a) -> Try.fromFallible(
-			() -> (S)method.invoke(t, a)
-		).orElse(
-			null
-		);
+		return MethodHandleUtil.toBiFunction(method);
 	}
 
 	public static <T, S> Function<T, S> getMethodFunction(Method method) {
-		return t -> Try.fromFallible(
-			() -> (S)method.invoke(t)
-		).orElse(
-			null
-		);
+		return MethodHandleUtil.toFunction(method);
 	}
 
 	private static void _addBasicFields(
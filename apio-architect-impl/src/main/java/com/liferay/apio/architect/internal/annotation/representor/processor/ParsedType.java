@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.annotation.representor.processor;
 
+import com.liferay.apio.architect.annotation.GeneratedType;
 import com.liferay.apio.architect.annotation.Vocabulary.BidirectionalModel;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
 import com.liferay.apio.architect.annotation.Vocabulary.RelativeURL;
@@ -23,6 +24,7 @@ import java.lang.reflect.Method;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Holds information about a class annotated with {@link Type}.
@@ -52,6 +54,20 @@ public class ParsedType {
 		return _fieldDataList;
 	}
 
+	/**
+	 * Returns the code generated at build time for the type, if present;
+	 * {@code Optional#empty()} otherwise. If present, it should be used
+	 * instead of the rest of the information of this parsed type, which may be
+	 * empty.
+	 *
+	 * @return the code generated for the type, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<GeneratedType<?>> getGeneratedTypeOptional() {
+		return Optional.ofNullable(_generatedType);
+	}
+
 	/**
 	 * The method used to obtain the ID of the type.
 	 *
@@ -61,6 +77,16 @@ public class ParsedType {
 		return _method;
 	}
 
+	/**
+	 * The method used to obtain the last modification date of the type, if
+	 * present; {@code null} otherwise.
+	 *
+	 * @review
+	 */
+	public Method getLastModifiedMethod() {
+		return _lastModifiedMethod;
+	}
+
 	/**
 	 * Returns the list of linkedModelField data.
 	 *
@@ -131,6 +157,16 @@ public class ParsedType {
 		return _typeClass;
 	}
 
+	/**
+	 * The method used to obtain the version of the type, if present; {@code
+	 * null} otherwise.
+	 *
+	 * @review
+	 */
+	public Method getVersionMethod() {
+		return _versionMethod;
+	}
+
 	public static class Builder {
 
 		public Builder(Type type, Class<?> typeClass) {
@@ -174,10 +210,22 @@ public class ParsedType {
 			return _parsedType;
 		}
 
+		public void generatedType(GeneratedType<?> generatedType) {
+			_parsedType._generatedType = generatedType;
+		}
+
 		public void idMethod(Method method) {
 			_parsedType._method = method;
 		}
 
+		public void lastModifiedMethod(Method method) {
+			_parsedType._lastModifiedMethod = method;
+		}
+
+		public void versionMethod(Method method) {
+			_parsedType._versionMethod = method;
+		}
+
 		private final ParsedType _parsedType;
 
 	}
@@ -188,6 +236,8 @@ public class ParsedType {
 	private List<FieldData<BidirectionalModel>> _bidirectionalFieldData =
 		new ArrayList<>();
 	private List<FieldData> _fieldDataList = new ArrayList<>();
+	private GeneratedType<?> _generatedType;
+	private Method _lastModifiedMethod;
 	private List<FieldData<LinkTo>> _linkToFieldData = new ArrayList<>();
 	private List<FieldData<Class<?>>> _listFieldData = new ArrayList<>();
 	private List<FieldData<ParsedType>> _listParsedTypes = new ArrayList<>();
@@ -197,5 +247,6 @@ public class ParsedType {
 		new ArrayList<>();
 	private Type _type;
 	private Class<?> _typeClass;
+	private Method _versionMethod;
 
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import static org.osgi.service.component.annotations.ReferencePolicyOption.GREED
 
 import static org.slf4j.LoggerFactory.getLogger;
 
+import com.liferay.apio.architect.annotation.GeneratedType;
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.router.ActionRouter;
@@ -118,12 +119,55 @@ public class ParsedTypeManager {
 			return;
 		}
 
-		ParsedType parsedType = TypeProcessor.processType(
-			(Class<? extends Identifier>)clazz);
+		Optional<GeneratedType<?>> generatedTypeOptional =
+			_getGeneratedTypeOptional(clazz);
+
+		ParsedType parsedType = generatedTypeOptional.map(
+			generatedType -> {
+				ParsedType.Builder builder = new ParsedType.Builder(
+					clazz.getAnnotation(Type.class), clazz);
+
+				builder.generatedType(generatedType);
+
+				return builder.build();
+			}
+		).orElseGet(
+			() -> TypeProcessor.processType((Class<? extends Identifier>)clazz)
+		);
 
 		INSTANCE.putParsedType(clazz.getName(), parsedType);
 	}
 
+	private Optional<GeneratedType<?>> _getGeneratedTypeOptional(
+		Class<?> clazz) {
+
+		String className = GeneratedType.getClassName(clazz.getName());
+
+		try {
+			ClassLoader classLoader = clazz.getClassLoader();
+
+			Class<?> generatedClass = classLoader.loadClass(className);
+
+			if (!GeneratedType.class.isAssignableFrom(generatedClass)) {
+				_logger.warn(
+					"Class {} must implement {}", generatedClass,
+					GeneratedType.class);
+
+				return Optional.empty();
+			}
+
+			return Optional.of((GeneratedType<?>)generatedClass.newInstance());
+		}
+		catch (ClassNotFoundException cnfe) {
+			return Optional.empty();
+		}
+		catch (ReflectiveOperationException roe) {
+			_logger.warn("Unable to instantiate {}", className, roe);
+
+			return Optional.empty();
+		}
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policyOption = GREEDY,
 		service = ActionRouter.class
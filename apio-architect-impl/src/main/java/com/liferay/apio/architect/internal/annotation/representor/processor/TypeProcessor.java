@@ -17,6 +17,8 @@ package com.liferay.apio.architect.internal.annotation.representor.processor;
 import static org.apache.commons.lang3.reflect.MethodUtils.getMethodsListWithAnnotation;
 
 import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.LastModified;
+import com.liferay.apio.architect.annotation.Version;
 import com.liferay.apio.architect.annotation.Vocabulary.BidirectionalModel;
 import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
@@ -26,6 +28,7 @@ import com.liferay.apio.architect.functional.Try;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType.Builder;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 
@@ -73,6 +76,20 @@ public class TypeProcessor {
 		}
 	}
 
+	private static Method _getAnnotatedMethod(
+		Class<?> typeClass, Class<? extends Annotation> annotationClass) {
+
+		return Try.fromFallible(
+			() -> getMethodsListWithAnnotation(typeClass, annotationClass)
+		).filter(
+			methods -> !methods.isEmpty()
+		).map(
+			methods -> methods.get(0)
+		).orElse(
+			null
+		);
+	}
+
 	private static void _processMethod(Builder builder, Method method) {
 		LinkTo linkTo = method.getAnnotation(LinkTo.class);
 
@@ -128,17 +145,11 @@ public class TypeProcessor {
 		Builder builder = new Builder(type, typeClass);
 
 		if (!nested) {
-			Method idMethod = Try.fromFallible(
-				() -> getMethodsListWithAnnotation(typeClass, Id.class)
-			).filter(
-				methods -> !methods.isEmpty()
-			).map(
-				methods -> methods.get(0)
-			).orElse(
-				null
-			);
-
-			builder.idMethod(idMethod);
+			builder.idMethod(_getAnnotatedMethod(typeClass, Id.class));
+			builder.lastModifiedMethod(
+				_getAnnotatedMethod(typeClass, LastModified.class));
+			builder.versionMethod(
+				_getAnnotatedMethod(typeClass, Version.class));
 		}
 
 		List<Method> methods = getMethodsListWithAnnotation(
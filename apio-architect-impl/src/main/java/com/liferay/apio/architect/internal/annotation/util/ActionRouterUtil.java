@@ -17,8 +17,10 @@ package com.liferay.apio.architect.internal.annotation.util;
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInAnyParameter;
 
+import static io.leangen.geantyref.GenericTypeReflector.erase;
 import static io.leangen.geantyref.GenericTypeReflector.getTypeParameter;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
 
 import com.liferay.apio.architect.annotation.GenericParentId;
@@ -41,13 +43,18 @@ import com.liferay.apio.architect.resource.Resource.Paged;
 import com.liferay.apio.architect.single.model.SingleModel;
 
 import io.vavr.CheckedFunction1;
+import io.vavr.control.Try;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -83,6 +90,11 @@ public final class ActionRouterUtil {
 	 * Otherwise, it gets wrapped in a {@code SingleModel}.
 	 * </p>
 	 *
+	 * <p>
+	 * If the element is a {@code CompletionStage}, a new stage that applies
+	 * the same transformations to its value is returned.
+	 * </p>
+	 *
 	 * @param  resource the action's resource
 	 * @param  params the action's params
 	 * @param  actionExecuteFunction the function used to execute the action
@@ -121,37 +133,55 @@ public final class ActionRouterUtil {
 		try {
 			Object result = actionExecuteFunction.apply(updatedParams);
 
-			if (result == null) {
-				return null;
-			}
+			if (result instanceof CompletionStage) {
+				CompletionStage<?> completionStage = (CompletionStage<?>)result;
 
-			if (result instanceof List) {
-				List<?> list = (List<?>)result;
-
-				PageItems<?> pageItems = new PageItems<>(list, list.size());
+				Resource actionResource = resource;
 
-				Pagination pagination = new PaginationImpl(list.size(), 1);
+				return completionStage.thenApply(
+					value -> _toResult(actionResource, params, value));
+			}
 
-				return new PageImpl<>(resource, pageItems, pagination);
+			return _toResult(resource, params, result);
+		}
+		catch (Throwable throwable) {
+			if (nonNull(throwable.getCause())) {
+				throw throwable.getCause();
 			}
 
-			if (result instanceof PageItems) {
-				PageItems<?> pageItems = (PageItems<?>)result;
+			throw throwable;
+		}
+	}
 
-				for (Object param : params) {
-					if (param instanceof Pagination) {
-						return new PageImpl<>(
-							resource, pageItems, (Pagination)param);
-					}
-				}
+	/**
+	 * Executes the provided {@code actionExecuteFunction} of a {@link
+	 * com.liferay.apio.architect.annotation.Actions.BatchRetrieve} action and
+	 * returns its result. Unlike {@link #execute(Resource, List,
+	 * CheckedFunction1)}, the params are used as they are, and the result isn't
+	 * transformed, since it must be a list of models.
+	 *
+	 * @param  params the action's params
+	 * @param  actionExecuteFunction the function used to execute the action
+	 * @return the list of models returned by the action, if the action returns
+	 *         a {@code List}; {@code null} otherwise
+	 * @throws Throwable if the action throws any exception, its cause is thrown
+	 *         instead
+	 * @review
+	 */
+	public static List<?> executeBatch(
+			List<?> params,
+			CheckedFunction1<Object[], Object> actionExecuteFunction)
+		throws Throwable {
 
-				Pagination pagination = new PaginationImpl(
-					pageItems.getTotalCount(), 1);
+		try {
+			Object result = actionExecuteFunction.apply(
+				params.toArray(new Object[0]));
 
-				return new PageImpl<>(resource, pageItems, pagination);
+			if (result instanceof List) {
+				return (List<?>)result;
 			}
 
-			return new SingleModelImpl<>(result, resource.getName());
+			return null;
 		}
 		catch (Throwable throwable) {
 			if (nonNull(throwable.getCause())) {
@@ -162,6 +192,53 @@ public final class ActionRouterUtil {
 		}
 	}
 
+	/**
+	 * Returns the {@link SingleModel} instances of the models retrieved by a
+	 * {@link com.liferay.apio.architect.annotation.Actions.BatchRetrieve}
+	 * action, mapped by their identifier. Models are matched with the
+	 * identifiers by their position, and {@code null} models are skipped.
+	 *
+	 * <p>
+	 * If the batch retrieval failed, or it didn't return a model for each
+	 * identifier, an empty map is returned, so callers fall back to the single
+	 * retrieve action for every identifier.
+	 * </p>
+	 *
+	 * @param  modelsTry the result of the batch retrieve action
+	 * @param  identifiers the identifiers of the requested models
+	 * @param  name the resource's name
+	 * @return the single models found, mapped by their identifier
+	 * @review
+	 */
+	public static Map<Object, SingleModel> getBatchSingleModels(
+		Try<?> modelsTry, List<Object> identifiers, String name) {
+
+		Object result = modelsTry.getOrNull();
+
+		if (!(result instanceof List)) {
+			return emptyMap();
+		}
+
+		List<?> models = (List<?>)result;
+
+		if (models.size() != identifiers.size()) {
+			return emptyMap();
+		}
+
+		Map<Object, SingleModel> singleModels = new HashMap<>();
+
+		for (int i = 0; i < identifiers.size(); i++) {
+			Object model = models.get(i);
+
+			if (model != null) {
+				singleModels.put(
+					identifiers.get(i), new SingleModelImpl<>(model, name));
+			}
+		}
+
+		return singleModels;
+	}
+
 	/**
 	 * Returns the name of the class that must be provided from the HTTP body.
 	 *
@@ -317,6 +394,7 @@ public final class ActionRouterUtil {
 	 *
 	 * <p>{@link PageItems} and {@link List} are translated to {@link Page}.
 	 * <p>{@code void} is translated to {@link Void}.
+	 * <p>{@code CompletionStage<X>} is translated like {@code X}.
 	 * <p>A class annotated with {@link Type} is translated to {@link
 	 * SingleModel}.
 	 * <p>Otherwise, the return from {@link Method#getReturnType()} is returned.
@@ -328,23 +406,19 @@ public final class ActionRouterUtil {
 	public static Class<?> getReturnClass(Method method) {
 		Class<?> returnType = method.getReturnType();
 
-		if (PageItems.class.equals(returnType)) {
-			return Page.class;
+		if (!CompletionStage.class.isAssignableFrom(returnType)) {
+			return _getReturnClass(returnType);
 		}
 
-		if (List.class.equals(returnType)) {
-			return Page.class;
-		}
+		java.lang.reflect.Type type = getTypeParameter(
+			method.getGenericReturnType(),
+			CompletionStage.class.getTypeParameters()[0]);
 
-		if (returnType.getAnnotation(Type.class) != null) {
-			return SingleModel.class;
+		if (type == null) {
+			return Object.class;
 		}
 
-		if (void.class.equals(returnType)) {
-			return Void.class;
-		}
-
-		return returnType;
+		return _getReturnClass(erase(type));
 	}
 
 	/**
@@ -383,6 +457,73 @@ public final class ActionRouterUtil {
 	private ActionRouterUtil() {
 	}
 
+	private static Class<?> _getReturnClass(Class<?> returnType) {
+		if (PageItems.class.equals(returnType)) {
+			return Page.class;
+		}
+
+		if (List.class.equals(returnType)) {
+			return Page.class;
+		}
+
+		if (returnType.getAnnotation(Type.class) != null) {
+			return SingleModel.class;
+		}
+
+		if (void.class.equals(returnType)) {
+			return Void.class;
+		}
+
+		return returnType;
+	}
+
+	private static Object _toResult(
+		Resource resource, List<?> params, Object result) {
+
+		if (result == null) {
+			return null;
+		}
+
+		if (result instanceof List) {
+			List<?> list = (List<?>)result;
+
+			PageItems<?> pageItems = new PageItems<>(list, list.size());
+
+			Pagination pagination = new PaginationImpl(list.size(), 1);
+
+			return new PageImpl<>(resource, pageItems, pagination);
+		}
+
+		if (result instanceof PageItems) {
+			PageItems<?> pageItems = (PageItems<?>)result;
+
+			for (Object param : params) {
+				if (param instanceof Pagination) {
+					return new PageImpl<>(
+						resource, pageItems, (Pagination)param);
+				}
+			}
+
+			Collection<?> items = pageItems.getItems();
+
+			int totalCount = items.size();
+
+			if (!pageItems.isTotalCountLazy()) {
+				Optional<Integer> totalCountOptional =
+					pageItems.getTotalCountOptional();
+
+				totalCount = totalCountOptional.orElse(totalCount);
+			}
+
+			Pagination pagination = new PaginationImpl(totalCount, 1);
+
+			return new PageImpl<>(
+				resource, new PageItems<>(items, totalCount), pagination);
+		}
+
+		return new SingleModelImpl<>(result, resource.getName());
+	}
+
 	private static final Class<com.liferay.apio.architect.annotation.Body>
 		_BODY_ANNOTATION = com.liferay.apio.architect.annotation.Body.class;
 
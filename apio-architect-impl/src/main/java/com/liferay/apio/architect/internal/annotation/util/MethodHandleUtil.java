@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vavr.CheckedFunction1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Provides utility functions for compiling annotated methods into functions
+ * backed by a {@link MethodHandle}, so they can be called without the
+ * argument arrays and access checks of {@link Method#invoke(Object,
+ * Object...)}.
+ *
+ * <p>Method handles are used instead of {@code LambdaMetafactory}, since the
+ * classes it generates are resolved with this bundle's class loader, which
+ * can't see the classes of the bundles providing the annotated types.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class MethodHandleUtil {
+
+	/**
+	 * Returns a function that calls the method on the function's first
+	 * argument, with the function's second argument as the method's only
+	 * parameter. The function returns {@code null} if the method throws an
+	 * exception, and rethrows any {@link Error}.
+	 *
+	 * @param  method the method
+	 * @return the function
+	 * @throws IllegalArgumentException if the method can't be accessed
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, T, S> BiFunction<T, A, S> toBiFunction(Method method) {
+		MethodHandle methodHandle = unreflect(
+			method
+		).asType(
+			methodType(Object.class, Object.class, Object.class)
+		);
+
+		return (t, a) -> {
+			try {
+				Object result = (Object)methodHandle.invokeExact(
+					(Object)t, (Object)a);
+
+				return (S)result;
+			}
+			catch (Error error) {
+				throw error;
+			}
+			catch (Throwable throwable) {
+				return null;
+			}
+		};
+	}
+
+	/**
+	 * Returns a function that calls the method on the function's argument. The
+	 * function returns {@code null} if the method throws an exception, and
+	 * rethrows any {@link Error}.
+	 *
+	 * @param  method the method
+	 * @return the function
+	 * @throws IllegalArgumentException if the method can't be accessed
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, S> Function<T, S> toFunction(Method method) {
+		MethodHandle methodHandle = unreflect(
+			method
+		).asType(
+			methodType(Object.class, Object.class)
+		);
+
+		return t -> {
+			try {
+				Object result = (Object)methodHandle.invokeExact((Object)t);
+
+				return (S)result;
+			}
+			catch (Error error) {
+				throw error;
+			}
+			catch (Throwable throwable) {
+				return null;
+			}
+		};
+	}
+
+	/**
+	 * Returns a function that calls the method on the provided target, with
+	 * the elements of the function's argument as the method's parameters.
+	 * Like {@link Method#invoke(Object, Object...)}, exceptions thrown by the
+	 * method are wrapped in an {@link InvocationTargetException}. Errors, such
+	 * as an {@code OutOfMemoryError}, are rethrown as they are.
+	 *
+	 * @param  target the object on which the method is called
+	 * @param  method the method
+	 * @return the function
+	 * @throws IllegalArgumentException if the method can't be accessed
+	 * @review
+	 */
+	public static CheckedFunction1<Object[], Object> toInvoker(
+		Object target, Method method) {
+
+		MethodHandle methodHandle = unreflect(
+			method
+		).bindTo(
+			target
+		).asSpreader(
+			Object[].class, method.getParameterCount()
+		).asType(
+			methodType(Object.class, Object[].class)
+		);
+
+		return array -> {
+			try {
+				return (Object)methodHandle.invokeExact(array);
+			}
+			catch (Error error) {
+				throw error;
+			}
+			catch (Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Returns a method handle for the method. The method is made accessible
+	 * first, so methods declared in non-public classes can be called.
+	 *
+	 * @param  method the method
+	 * @return the method handle
+	 * @throws IllegalArgumentException if the method can't be accessed
+	 * @review
+	 */
+	public static MethodHandle unreflect(Method method) {
+		try {
+			if (!method.isAccessible()) {
+				method.setAccessible(true);
+			}
+
+			return _lookup.unreflect(method);
+		}
+		catch (IllegalAccessException | SecurityException e) {
+			throw new IllegalArgumentException(
+				"Unable to access method " + method, e);
+		}
+	}
+
+	private MethodHandleUtil() {
+	}
+
+	private static final Lookup _lookup = MethodHandles.lookup();
+
+}
\ No newline at end of file
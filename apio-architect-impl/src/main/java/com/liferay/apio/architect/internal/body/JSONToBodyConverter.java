@@ -14,10 +14,19 @@
 
 package com.liferay.apio.architect.internal.body;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 
+import static java.util.Spliterator.ORDERED;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -25,13 +34,16 @@ import com.liferay.apio.architect.form.Body;
 
 import io.vavr.control.Try;
 
-import java.io.InputStreamReader;
+import java.io.IOException;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -40,6 +52,13 @@ import javax.ws.rs.BadRequestException;
 /**
  * Reads JSON objects as a {@link Body}.
  *
+ * <p>
+ * Every request body is parsed with the same {@link ObjectReader}, directly
+ * from the request's bytes. JSON arrays, used by batch operations, are not
+ * read as a whole: their elements are parsed one at a time, while they are
+ * consumed through {@link Body#getBodyMembersStreamOptional()}.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
@@ -50,22 +69,55 @@ public class JSONToBodyConverter {
 	 * instance or fails with a {@link BadRequestException} if the input is not
 	 * a valid JSON.
 	 *
+	 * <p>
+	 * If the body is a JSON array, the returned {@code Body} reads its members
+	 * lazily from the request, so malformed members make the {@code Body}
+	 * fail with a {@link BadRequestException} once they are reached.
+	 * </p>
+	 *
 	 * @review
 	 */
 	public static Body jsonToBody(HttpServletRequest request) {
-		return Try.withResources(
-			() -> new InputStreamReader(request.getInputStream(), UTF_8)
-		).of(
-			new ObjectMapper()::readTree
-		).filter(
-			node -> node.isObject() || node.isArray()
-		).map(
-			JSONBodyImpl::new
+		return Try.of(
+			() -> _createParser(request)
+		).mapTry(
+			JSONToBodyConverter::_toBody
 		).getOrElseThrow(
 			() -> new BadRequestException("Body is not a valid JSON")
 		);
 	}
 
+	private static JsonParser _createParser(HttpServletRequest request)
+		throws IOException {
+
+		JsonFactory jsonFactory = _OBJECT_READER.getFactory();
+
+		return jsonFactory.createParser(request.getInputStream());
+	}
+
+	private static Body _toBody(JsonParser jsonParser) throws IOException {
+		JsonToken jsonToken = jsonParser.nextToken();
+
+		if (jsonToken == START_ARRAY) {
+			return new StreamingJSONBodyImpl(jsonParser);
+		}
+
+		try {
+			if (jsonToken != START_OBJECT) {
+				throw new JsonParseException(
+					jsonParser, "Body is not a JSON object or array");
+			}
+
+			return new JSONBodyImpl(_OBJECT_READER.readTree(jsonParser));
+		}
+		finally {
+			jsonParser.close();
+		}
+	}
+
+	private static final ObjectReader _OBJECT_READER =
+		new ObjectMapper().readerFor(JsonNode.class);
+
 	/**
 	 * {@link Body} implementation for {@code "application/json"}.
 	 *
@@ -86,9 +138,7 @@ public class JSONToBodyConverter {
 			).map(
 				ArrayNode.class::cast
 			).map(
-				JSONBodyImpl::_getJsonElements
-			).map(
-				List::stream
+				JSONBodyImpl::_getJsonElementsStream
 			).map(
 				stream -> stream.filter(
 					JsonNode::isObject
@@ -117,9 +167,7 @@ public class JSONToBodyConverter {
 			).map(
 				ArrayNode.class::cast
 			).map(
-				JSONBodyImpl::_getJsonElements
-			).map(
-				List::stream
+				JSONBodyImpl::_getJsonElementsStream
 			).map(
 				stream -> stream.filter(
 					JsonNode::isObject
@@ -153,9 +201,7 @@ public class JSONToBodyConverter {
 			).map(
 				ArrayNode.class::cast
 			).map(
-				JSONBodyImpl::_getJsonElements
-			).map(
-				List::stream
+				JSONBodyImpl::_getJsonElementsStream
 			).map(
 				stream -> stream.filter(
 					JsonNode::isValueNode
@@ -178,17 +224,147 @@ public class JSONToBodyConverter {
 			);
 		}
 
-		private static List<JsonNode> _getJsonElements(ArrayNode arrayNode) {
-			List<JsonNode> jsonNodes = new ArrayList<>();
+		private static Stream<JsonNode> _getJsonElementsStream(
+			ArrayNode arrayNode) {
 
-			Iterator<JsonNode> iterator = arrayNode.iterator();
+			return StreamSupport.stream(arrayNode.spliterator(), false);
+		}
 
-			iterator.forEachRemaining(jsonNodes::add);
+		private final JsonNode _jsonNode;
 
-			return jsonNodes;
+	}
+
+	/**
+	 * {@link Body} implementation for {@code "application/json"} arrays, that
+	 * parses its members from the request one at a time. Its members can only
+	 * be read once. The parser is closed when the members stream is closed,
+	 * when its last member is read, or when a member can't be parsed.
+	 *
+	 * @review
+	 */
+	public static class StreamingJSONBodyImpl implements Body {
+
+		/**
+		 * Creates a new body from a parser positioned at the start of a JSON
+		 * array.
+		 *
+		 * @param jsonParser the JSON parser
+		 * @review
+		 */
+		public StreamingJSONBodyImpl(JsonParser jsonParser) {
+			_jsonParser = jsonParser;
 		}
 
-		private final JsonNode _jsonNode;
+		@Override
+		public Optional<List<Body>> getBodyMembersOptional() {
+			if (_bodyMembers == null) {
+				try (Stream<Body> stream = _getBodyMembersStream()) {
+					_bodyMembers = stream.collect(Collectors.toList());
+				}
+			}
+
+			return Optional.of(_bodyMembers);
+		}
+
+		@Override
+		public Optional<Stream<Body>> getBodyMembersStreamOptional() {
+			if (_bodyMembers != null) {
+				return Optional.of(_bodyMembers.stream());
+			}
+
+			return Optional.of(_getBodyMembersStream());
+		}
+
+		@Override
+		public Optional<String> getValueOptional(String key) {
+			return Optional.empty();
+		}
+
+		private Stream<Body> _getBodyMembersStream() {
+			if (_read) {
+				throw new IllegalStateException(
+					"Body members have already been read");
+			}
+
+			_read = true;
+
+			Iterator<Body> iterator = new BodyMembersIterator();
+
+			Stream<Body> stream = StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(iterator, ORDERED), false);
+
+			return stream.onClose(() -> Try.run(_jsonParser::close));
+		}
+
+		private List<Body> _bodyMembers;
+		private final JsonParser _jsonParser;
+		private boolean _read;
+
+		private class BodyMembersIterator implements Iterator<Body> {
+
+			@Override
+			public boolean hasNext() {
+				if ((_next == null) && !_finished) {
+					_next = Try.of(
+						this::_readNext
+					).onFailure(
+						__ -> Try.run(_jsonParser::close)
+					).getOrElseThrow(
+						t -> new BadRequestException(
+							"Body is not a valid JSON Array", t)
+					);
+				}
+
+				if (_next != null) {
+					return true;
+				}
+
+				return false;
+			}
+
+			@Override
+			public Body next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				Body body = _next;
+
+				_next = null;
+
+				return body;
+			}
+
+			private Body _readNext() throws IOException {
+				JsonToken jsonToken = _jsonParser.nextToken();
+
+				while ((jsonToken != null) && (jsonToken != END_ARRAY)) {
+					if (jsonToken == START_OBJECT) {
+						return new JSONBodyImpl(
+							_OBJECT_READER.readTree(_jsonParser));
+					}
+
+					_jsonParser.skipChildren();
+
+					jsonToken = _jsonParser.nextToken();
+				}
+
+				_finished = true;
+
+				_jsonParser.close();
+
+				if (jsonToken == null) {
+					throw new JsonParseException(
+						_jsonParser, "Unexpected end of JSON Array");
+				}
+
+				return null;
+			}
+
+			private boolean _finished;
+			private Body _next;
+
+		}
 
 	}
 
@@ -19,17 +19,26 @@ import static org.apache.commons.fileupload.servlet.ServletFileUpload.isMultipar
 import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.form.Body;
 
+import io.vavr.control.Try;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -40,8 +49,8 @@ import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.BadRequestException;
 
-import org.apache.commons.fileupload.FileItem;
-import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
@@ -50,45 +59,103 @@ import org.apache.commons.fileupload.util.Streams;
 /**
  * Reads {@code "multipart/form-data"} as a {@link Body}.
  *
+ * <p>The request is read as a stream of parts, without parsing the whole
+ * request first. Form field values are read into memory, while uploaded files
+ * are only kept in memory up to a size threshold, and spooled to a temporary
+ * file beyond it. Spooled files reach the {@link BinaryFile} as input streams
+ * that are opened on the first read, and delete the file when closed. If
+ * reading a later part fails, the files already spooled are deleted before the
+ * {@link BadRequestException} is thrown. Otherwise, the binary files are
+ * recorded in the request, so they can be closed with {@link
+ * #closeBinaryFiles(HttpServletRequest)} once the body isn't needed anymore.
+ *
  * @author Alejandro Hernández
  * @review
  */
 public class MultipartToBodyConverter {
 
+	/**
+	 * The default size threshold, in bytes, beyond which uploaded files are
+	 * spooled to a temporary file.
+	 *
+	 * @review
+	 */
+	public static final int DEFAULT_SIZE_THRESHOLD =
+		DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD;
+
+	/**
+	 * Closes every binary file of the bodies read from the request, deleting
+	 * the temporary files of the spooled ones. The binary files can't be read
+	 * after this method is called.
+	 *
+	 * @param  request the request whose bodies were read
+	 * @review
+	 */
+	public static void closeBinaryFiles(HttpServletRequest request) {
+		List<BinaryFile> binaryFiles = _getBinaryFiles(request);
+
+		if (binaryFiles == null) {
+			return;
+		}
+
+		request.removeAttribute(_BINARY_FILES);
+
+		_closeBinaryFiles(binaryFiles);
+	}
+
 	/**
 	 * Reads a {@code "multipart/form"} HTTP request body into a {@link Body}
 	 * instance or fails with a {@link BadRequestException} if the input is not
-	 * a valid multipart form.
+	 * a valid multipart form. Uploaded files bigger than {@link
+	 * #DEFAULT_SIZE_THRESHOLD} are spooled to the default temporary-file
+	 * directory.
 	 *
 	 * @review
 	 */
 	public static Body multipartToBody(HttpServletRequest request) {
+		return multipartToBody(
+			request, DEFAULT_SIZE_THRESHOLD,
+			new File(System.getProperty("java.io.tmpdir")));
+	}
+
+	/**
+	 * Reads a {@code "multipart/form"} HTTP request body into a {@link Body}
+	 * instance or fails with a {@link BadRequestException} if the input is not
+	 * a valid multipart form.
+	 *
+	 * @param  request the current request
+	 * @param  sizeThreshold the size, in bytes, beyond which uploaded files
+	 *         are spooled to a temporary file
+	 * @param  repository the directory in which temporary files are created
+	 * @return the body
+	 * @review
+	 */
+	public static Body multipartToBody(
+		HttpServletRequest request, int sizeThreshold, File repository) {
+
 		if (!isMultipartContent(request)) {
 			throw new BadRequestException(
 				"Request body is not a valid multipart form");
 		}
 
-		FileItemFactory fileItemFactory = new DiskFileItemFactory();
-
-		ServletFileUpload servletFileUpload = new ServletFileUpload(
-			fileItemFactory);
+		ServletFileUpload servletFileUpload = new ServletFileUpload();
 
-		try {
-			List<FileItem> fileItems = servletFileUpload.parseRequest(request);
+		Map<String, String> values = new HashMap<>();
+		Map<String, BinaryFile> binaryFiles = new HashMap<>();
+		Map<String, Map<Integer, String>> indexedValueLists = new HashMap<>();
+		Map<String, Map<Integer, BinaryFile>> indexedFileLists =
+			new HashMap<>();
 
-			Iterator<FileItem> iterator = fileItems.iterator();
+		List<BinaryFile> storedBinaryFiles = new ArrayList<>();
 
-			Map<String, String> values = new HashMap<>();
-			Map<String, BinaryFile> binaryFiles = new HashMap<>();
-			Map<String, Map<Integer, String>> indexedValueLists =
-				new HashMap<>();
-			Map<String, Map<Integer, BinaryFile>> indexedFileLists =
-				new HashMap<>();
+		try {
+			FileItemIterator fileItemIterator =
+				servletFileUpload.getItemIterator(request);
 
-			while (iterator.hasNext()) {
-				FileItem fileItem = iterator.next();
+			while (fileItemIterator.hasNext()) {
+				FileItemStream fileItemStream = fileItemIterator.next();
 
-				String name = fileItem.getFieldName();
+				String name = fileItemStream.getFieldName();
 
 				Matcher matcher = _arrayPattern.matcher(name);
 
@@ -97,48 +164,80 @@ public class MultipartToBodyConverter {
 
 					String actualName = matcher.group(1);
 
-					_storeFileItem(
-						fileItem,
+					_storeFileItemStream(
+						fileItemStream, sizeThreshold, repository,
+						storedBinaryFiles,
 						value -> {
 							Map<Integer, String> indexedMap =
 								indexedValueLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+									actualName, __ -> new TreeMap<>());
 
 							indexedMap.put(index, value);
 						},
 						binaryFile -> {
 							Map<Integer, BinaryFile> indexedMap =
 								indexedFileLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+									actualName, __ -> new TreeMap<>());
 
 							indexedMap.put(index, binaryFile);
 						});
 				}
 				else {
-					_storeFileItem(
-						fileItem, value -> values.put(name, value),
+					_storeFileItemStream(
+						fileItemStream, sizeThreshold, repository,
+						storedBinaryFiles, value -> values.put(name, value),
 						binaryFile -> binaryFiles.put(name, binaryFile));
 				}
 			}
-
-			Map<String, List<String>> valueLists = _flattenMap(
-				indexedValueLists);
-
-			Map<String, List<BinaryFile>> fileLists = _flattenMap(
-				indexedFileLists);
-
-			return Body.create(
-				key -> Optional.ofNullable(values.get(key)),
-				key -> Optional.ofNullable(valueLists.get(key)),
-				key -> Optional.ofNullable(fileLists.get(key)),
-				key -> Optional.ofNullable(binaryFiles.get(key)));
 		}
 		catch (FileUploadException | IndexOutOfBoundsException |
 			   NumberFormatException e) {
 
+			_closeBinaryFiles(storedBinaryFiles);
+
 			throw new BadRequestException(
 				"Request body is not a valid multipart form", e);
 		}
+		catch (IOException ioe) {
+			_closeBinaryFiles(storedBinaryFiles);
+
+			throw new BadRequestException("Invalid body", ioe);
+		}
+		catch (RuntimeException re) {
+			_closeBinaryFiles(storedBinaryFiles);
+
+			throw re;
+		}
+
+		if (!storedBinaryFiles.isEmpty()) {
+			List<BinaryFile> requestBinaryFiles = _getBinaryFiles(request);
+
+			if (requestBinaryFiles == null) {
+				request.setAttribute(_BINARY_FILES, storedBinaryFiles);
+			}
+			else {
+				requestBinaryFiles.addAll(storedBinaryFiles);
+			}
+		}
+
+		Map<String, List<String>> valueLists = _flattenMap(indexedValueLists);
+
+		Map<String, List<BinaryFile>> fileLists = _flattenMap(
+			indexedFileLists);
+
+		return Body.create(
+			key -> Optional.ofNullable(values.get(key)),
+			key -> Optional.ofNullable(valueLists.get(key)),
+			key -> Optional.ofNullable(fileLists.get(key)),
+			key -> Optional.ofNullable(binaryFiles.get(key)));
+	}
+
+	private static void _closeBinaryFiles(List<BinaryFile> binaryFiles) {
+		for (BinaryFile binaryFile : binaryFiles) {
+			InputStream inputStream = binaryFile.getInputStream();
+
+			Try.run(inputStream::close);
+		}
 	}
 
 	private static <T> Map<String, List<T>> _flattenMap(
@@ -159,30 +258,109 @@ public class MultipartToBodyConverter {
 				}));
 	}
 
-	private static void _storeFileItem(
-		FileItem fileItem, Consumer<String> valueConsumer,
-		Consumer<BinaryFile> fileConsumer) {
+	@SuppressWarnings("unchecked")
+	private static List<BinaryFile> _getBinaryFiles(
+		HttpServletRequest request) {
 
-		try {
-			if (fileItem.isFormField()) {
-				InputStream stream = fileItem.getInputStream();
+		return (List<BinaryFile>)request.getAttribute(_BINARY_FILES);
+	}
+
+	private static BinaryFile _spool(
+			InputStream inputStream, String mimeType, String name,
+			int sizeThreshold, File repository)
+		throws IOException {
+
+		BufferOutputStream bufferOutputStream = new BufferOutputStream();
 
-				valueConsumer.accept(Streams.asString(stream));
+		byte[] bytes = new byte[_BUFFER_SIZE];
+		int read;
+
+		while ((read = inputStream.read(bytes)) != -1) {
+			if ((bufferOutputStream.size() + read) > sizeThreshold) {
+				return _spoolToFile(
+					bufferOutputStream, bytes, read, inputStream, mimeType,
+					name, repository);
 			}
-			else {
-				BinaryFile binaryFile = new BinaryFile(
-					fileItem.getInputStream(), fileItem.getSize(),
-					fileItem.getContentType(), fileItem.getName());
 
-				fileConsumer.accept(binaryFile);
+			bufferOutputStream.write(bytes, 0, read);
+		}
+
+		return new BinaryFile(
+			bufferOutputStream.toInputStream(),
+			(long)bufferOutputStream.size(), mimeType, name);
+	}
+
+	private static BinaryFile _spoolToFile(
+			BufferOutputStream bufferOutputStream, byte[] bytes, int read,
+			InputStream inputStream, String mimeType, String name,
+			File repository)
+		throws IOException {
+
+		Path path = Files.createTempFile(
+			repository.toPath(), "apio-upload-", ".tmp");
+
+		long size = bufferOutputStream.size();
+
+		try (OutputStream outputStream = Files.newOutputStream(path)) {
+			bufferOutputStream.writeTo(outputStream);
+
+			do {
+				outputStream.write(bytes, 0, read);
+
+				size += read;
 			}
+			while ((read = inputStream.read(bytes)) != -1);
 		}
 		catch (IOException ioe) {
-			throw new BadRequestException("Invalid body", ioe);
+			Files.deleteIfExists(path);
+
+			throw ioe;
 		}
+
+		return new BinaryFile(
+			new TemporaryFileInputStream(path), size, mimeType, name);
 	}
 
+	private static void _storeFileItemStream(
+			FileItemStream fileItemStream, int sizeThreshold, File repository,
+			List<BinaryFile> storedBinaryFiles, Consumer<String> valueConsumer,
+			Consumer<BinaryFile> fileConsumer)
+		throws IOException {
+
+		try (InputStream inputStream = fileItemStream.openStream()) {
+			if (fileItemStream.isFormField()) {
+				valueConsumer.accept(Streams.asString(inputStream));
+			}
+			else {
+				BinaryFile binaryFile = _spool(
+					inputStream, fileItemStream.getContentType(),
+					fileItemStream.getName(), sizeThreshold, repository);
+
+				storedBinaryFiles.add(binaryFile);
+
+				fileConsumer.accept(binaryFile);
+			}
+		}
+	}
+
+	private static final String _BINARY_FILES =
+		MultipartToBodyConverter.class.getName() + "#BINARY_FILES";
+
+	private static final int _BUFFER_SIZE = 8192;
+
 	private static final Pattern _arrayPattern = Pattern.compile(
 		"([A-Z|a-z]+)\\[([0-9]+)]");
 
+	/**
+	 * A {@code ByteArrayOutputStream} whose content can be read without
+	 * copying its buffer.
+	 */
+	private static class BufferOutputStream extends ByteArrayOutputStream {
+
+		public InputStream toInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads a temporary file, which is only opened on the first read, and deleted
+ * when the stream is closed.
+ *
+ * <p>{@link MultipartToBodyConverter} closes these streams itself when reading
+ * the request fails, and the action manager closes them once the action that
+ * received the body completes. Only if neither happens, the file is deleted
+ * when the stream is garbage collected, as a last resort.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TemporaryFileInputStream extends InputStream {
+
+	public TemporaryFileInputStream(Path path) {
+		_path = path;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return _getInputStream().available();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (_inputStream != null) {
+				_inputStream.close();
+			}
+		}
+		finally {
+			Files.deleteIfExists(_path);
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		return _getInputStream().read();
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		return _getInputStream().read(bytes, offset, length);
+	}
+
+	@Override
+	public long skip(long count) throws IOException {
+		return _getInputStream().skip(count);
+	}
+
+	@Override
+	protected void finalize() throws Throwable {
+		try {
+			close();
+		}
+		finally {
+			super.finalize();
+		}
+	}
+
+	private InputStream _getInputStream() throws IOException {
+		if (_inputStream == null) {
+			_inputStream = Files.newInputStream(_path);
+		}
+
+		return _inputStream;
+	}
+
+	private InputStream _inputStream;
+	private final Path _path;
+
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a range of bytes of a {@link BinaryFile} backed by a file,
+ * served as a partial response to requests with a {@code Range} header. Only
+ * binary files backed by a file can be served partially, since their content
+ * can be read from any position.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class BinaryFileRange extends BinaryFile {
+
+	/**
+	 * Creates a range of a binary file backed by a file.
+	 *
+	 * @param  binaryFile the binary file
+	 * @param  offset the position of the range's first byte
+	 * @param  length the range's length
+	 * @throws IllegalArgumentException if the binary file isn't backed by a
+	 *         file
+	 * @review
+	 */
+	public BinaryFileRange(BinaryFile binaryFile, long offset, long length) {
+		super(
+			_getPath(binaryFile), binaryFile.getMimeType(),
+			binaryFile.getName());
+
+		_binaryFile = binaryFile;
+		_offset = offset;
+		_length = length;
+	}
+
+	/**
+	 * Returns the binary file containing the range.
+	 *
+	 * @return the binary file
+	 * @review
+	 */
+	public BinaryFile getBinaryFile() {
+		return _binaryFile;
+	}
+
+	/**
+	 * Returns the content of the file containing the range, positioned at the
+	 * range's first byte. Only the first {@link #getSize()} bytes of the
+	 * returned input stream belong to the range.
+	 *
+	 * @return the content, positioned at the range's first byte
+	 * @throws UncheckedIOException if the file couldn't be opened
+	 * @review
+	 */
+	@Override
+	public InputStream getInputStream() {
+		try {
+			FileChannel fileChannel = FileChannel.open(
+				_getPath(_binaryFile), StandardOpenOption.READ);
+
+			fileChannel.position(_offset);
+
+			return Channels.newInputStream(fileChannel);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	/**
+	 * Returns the position of the range's first byte in the binary file.
+	 *
+	 * @return the position of the range's first byte
+	 * @review
+	 */
+	public long getOffset() {
+		return _offset;
+	}
+
+	/**
+	 * Returns the range's length.
+	 *
+	 * @return the range's length
+	 * @review
+	 */
+	@Override
+	public long getSize() {
+		return _length;
+	}
+
+	private static Path _getPath(BinaryFile binaryFile) {
+		return binaryFile.getPathOptional(
+		).orElseThrow(
+			() -> new IllegalArgumentException(
+				"Only binary files backed by a file can be served partially")
+		);
+	}
+
+	private final BinaryFile _binaryFile;
+	private final long _length;
+	private final long _offset;
+
+}
\ No newline at end of file
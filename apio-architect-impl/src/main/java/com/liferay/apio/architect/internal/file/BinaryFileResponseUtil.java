@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.nio.file.Path;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+/**
+ * Provides utility functions for answering requests whose result is a {@link
+ * BinaryFile}, honoring conditional and {@code Range} headers.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class BinaryFileResponseUtil {
+
+	/**
+	 * Creates the response for a request whose result is the provided binary
+	 * file.
+	 *
+	 * <p>Binary files with a last modification date get a strong entity tag
+	 * and a {@code Last-Modified} header, and matching conditional requests
+	 * are answered without content. Binary files backed by a file also accept
+	 * ranges: a single satisfiable byte range in the {@code Range} header
+	 * (guarded by {@code If-Range}, if present) is answered with a partial
+	 * response; any other {@code Range} header is ignored, except ranges
+	 * starting past the end of the file, which are answered with a {@code
+	 * 416} status. Binary files backed by an input stream can't be read from
+	 * an arbitrary position, so their {@code Range} headers are ignored and
+	 * the {@code Accept-Ranges} header isn't sent.
+	 *
+	 * @param  binaryFile the binary file
+	 * @param  request the current request
+	 * @param  httpHeaders the current request's headers
+	 * @return the response
+	 * @review
+	 */
+	public static Response toResponse(
+		BinaryFile binaryFile, Request request, HttpHeaders httpHeaders) {
+
+		Date lastModified = binaryFile.getLastModifiedOptional(
+		).orElse(
+			null
+		);
+
+		EntityTag entityTag = null;
+
+		if (lastModified != null) {
+			entityTag = new EntityTag(
+				Long.toHexString(binaryFile.getSize()) + "-" +
+					Long.toHexString(lastModified.getTime()));
+
+			ResponseBuilder responseBuilder = request.evaluatePreconditions(
+				lastModified, entityTag);
+
+			if (responseBuilder != null) {
+				return responseBuilder.lastModified(
+					lastModified
+				).tag(
+					entityTag
+				).build();
+			}
+		}
+
+		Optional<Path> pathOptional = binaryFile.getPathOptional();
+
+		if (!pathOptional.isPresent()) {
+			return Response.ok(
+				binaryFile
+			).lastModified(
+				lastModified
+			).tag(
+				entityTag
+			).build();
+		}
+
+		ResponseBuilder responseBuilder = _getResponseBuilder(
+			binaryFile, httpHeaders, lastModified, entityTag);
+
+		return responseBuilder.header(
+			"Accept-Ranges", "bytes"
+		).lastModified(
+			lastModified
+		).tag(
+			entityTag
+		).build();
+	}
+
+	private static ResponseBuilder _getResponseBuilder(
+		BinaryFile binaryFile, HttpHeaders httpHeaders, Date lastModified,
+		EntityTag entityTag) {
+
+		String range = httpHeaders.getHeaderString("Range");
+		long size = binaryFile.getSize();
+
+		if ((range == null) || (size < 0) ||
+			!_isIfRangeSatisfied(
+				httpHeaders.getHeaderString("If-Range"), lastModified,
+				entityTag)) {
+
+			return Response.ok(binaryFile);
+		}
+
+		Matcher matcher = _RANGE_PATTERN.matcher(range.trim());
+
+		if (!matcher.matches()) {
+			return Response.ok(binaryFile);
+		}
+
+		String first = matcher.group(1);
+		String last = matcher.group(2);
+
+		long start;
+		long end = size - 1;
+
+		if (first.isEmpty()) {
+			if (last.isEmpty()) {
+				return Response.ok(binaryFile);
+			}
+
+			long suffixLength = Long.parseLong(last);
+
+			if (suffixLength == 0) {
+				return _getNotSatisfiableResponseBuilder(size);
+			}
+
+			start = Math.max(0, size - suffixLength);
+		}
+		else {
+			start = Long.parseLong(first);
+
+			if (!last.isEmpty()) {
+				long lastPosition = Long.parseLong(last);
+
+				if (lastPosition < start) {
+					return Response.ok(binaryFile);
+				}
+
+				end = Math.min(lastPosition, end);
+			}
+		}
+
+		if (start >= size) {
+			return _getNotSatisfiableResponseBuilder(size);
+		}
+
+		long length = end - start + 1;
+
+		if (length == size) {
+			return Response.ok(binaryFile);
+		}
+
+		return Response.status(
+			PARTIAL_CONTENT
+		).entity(
+			new BinaryFileRange(binaryFile, start, length)
+		).header(
+			"Content-Range", "bytes " + start + "-" + end + "/" + size
+		);
+	}
+
+	private static ResponseBuilder _getNotSatisfiableResponseBuilder(
+		long size) {
+
+		return Response.status(
+			REQUESTED_RANGE_NOT_SATISFIABLE
+		).header(
+			"Content-Range", "bytes */" + size
+		);
+	}
+
+	private static boolean _isIfRangeSatisfied(
+		String ifRange, Date lastModified, EntityTag entityTag) {
+
+		if (ifRange == null) {
+			return true;
+		}
+
+		String value = ifRange.trim();
+
+		if (value.startsWith("W/")) {
+			return false;
+		}
+
+		if (value.startsWith("\"")) {
+			if (entityTag == null) {
+				return false;
+			}
+
+			return value.equals("\"" + entityTag.getValue() + "\"");
+		}
+
+		if (lastModified == null) {
+			return false;
+		}
+
+		try {
+			ZonedDateTime zonedDateTime = ZonedDateTime.parse(
+				value, DateTimeFormatter.RFC_1123_DATE_TIME);
+
+			long seconds = lastModified.getTime() / 1000;
+
+			return zonedDateTime.toEpochSecond() == seconds;
+		}
+		catch (DateTimeParseException dtpe) {
+			return false;
+		}
+	}
+
+	private BinaryFileResponseUtil() {
+	}
+
+	private static final Pattern _RANGE_PATTERN = Pattern.compile(
+		"bytes=(\\d{0,18})-(\\d{0,18})", Pattern.CASE_INSENSITIVE);
+
+}
\ No newline at end of file
@@ -24,6 +24,7 @@ import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
@@ -60,7 +61,7 @@ public class FailureFilter implements ContainerResponseFilter {
 			entityTry.onFailure(
 				throwable -> {
 					Response response = _errorUtil.getErrorResponse(
-						throwable, _request);
+						throwable, _request, _httpHeaders);
 
 					_updateContext(containerResponseContext, response);
 				});
@@ -91,6 +92,9 @@ public class FailureFilter implements ContainerResponseFilter {
 	@Reference
 	private ErrorUtil _errorUtil;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
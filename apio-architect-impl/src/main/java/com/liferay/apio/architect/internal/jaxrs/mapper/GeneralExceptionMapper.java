@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.jaxrs.mapper;
 import com.liferay.apio.architect.internal.jaxrs.util.ErrorUtil;
 
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
@@ -41,12 +42,15 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 
 	@Override
 	public Response toResponse(Exception exception) {
-		return _errorUtil.getErrorResponse(exception, _request);
+		return _errorUtil.getErrorResponse(exception, _request, _httpHeaders);
 	}
 
 	@Reference
 	private ErrorUtil _errorUtil;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
@@ -18,6 +18,7 @@ import com.liferay.apio.architect.internal.jaxrs.util.ErrorUtil;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
@@ -47,12 +48,16 @@ public class WebApplicationExceptionMapper
 	public Response toResponse(
 		WebApplicationException webApplicationException) {
 
-		return _errorUtil.getErrorResponse(webApplicationException, _request);
+		return _errorUtil.getErrorResponse(
+			webApplicationException, _request, _httpHeaders);
 	}
 
 	@Reference
 	private ErrorUtil _errorUtil;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
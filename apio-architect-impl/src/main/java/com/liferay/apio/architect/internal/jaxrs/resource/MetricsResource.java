@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.resource;
+
+import com.liferay.apio.architect.internal.metrics.Metrics;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+
+/**
+ * Declares the resource that returns the recorded {@link Metrics} in the
+ * Prometheus text exposition format, so they can be scraped by a Prometheus
+ * server.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MetricsResource {
+
+	/**
+	 * Returns the recorded metrics.
+	 *
+	 * @review
+	 */
+	@GET
+	@Produces("text/plain; version=0.0.4; charset=utf-8")
+	public String metrics() {
+		Metrics metrics = Metrics.INSTANCE;
+
+		return metrics.toPrometheusText();
+	}
+
+}
\ No newline at end of file
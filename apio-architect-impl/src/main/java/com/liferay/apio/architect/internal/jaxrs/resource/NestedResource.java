@@ -20,6 +20,8 @@ import io.vavr.Function2;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -31,11 +33,15 @@ import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
 /**
- * Declares a nested resource where nested APIs are called.
+ * Declares a nested resource where nested APIs are called. Requests are
+ * suspended until the response is available, so actions don't have to block
+ * the request thread.
  *
  * @author Alejandro Hernández
  * @review
@@ -43,9 +49,9 @@ import javax.ws.rs.core.Response;
 public class NestedResource {
 
 	/**
-	 * Returns the result generated from executing an action over a non-default
-	 * method (other than the ones included in {@link javax.ws.rs.HttpMethod})
-	 * with the provided parameters.
+	 * Resumes the request with the result of executing an action over a
+	 * non-default method (other than the ones included in {@link
+	 * javax.ws.rs.HttpMethod}) with the provided parameters.
 	 *
 	 * <p>
 	 * Since JAX-RS resources cannot be created dynamically, this endpoint
@@ -59,30 +65,33 @@ public class NestedResource {
 	 * @review
 	 */
 	@CUSTOM
-	public Response custom(@Context HttpServletRequest httpServletRequest) {
-		return _getResponseForMethod(httpServletRequest.getMethod());
+	public void custom(
+		@Context HttpServletRequest httpServletRequest,
+		@Suspended AsyncResponse asyncResponse) {
+
+		_resumeWithMethod(httpServletRequest.getMethod(), asyncResponse);
 	}
 
 	/**
-	 * Returns the result generated from executing a {@code DELETE} action with
-	 * the provided parameters.
+	 * Resumes the request with the result of executing a {@code DELETE} action
+	 * with the provided parameters.
 	 *
 	 * @review
 	 */
 	@DELETE
-	public Response delete() {
-		return _getResponseForMethod("DELETE");
+	public void delete(@Suspended AsyncResponse asyncResponse) {
+		_resumeWithMethod("DELETE", asyncResponse);
 	}
 
 	/**
-	 * Returns the response generated from executing a {@code GET} action with
-	 * the provided parameters.
+	 * Resumes the request with the response of executing a {@code GET} action
+	 * with the provided parameters.
 	 *
 	 * @review
 	 */
 	@GET
-	public Response get() {
-		return _getResponseForMethod("GET");
+	public void get(@Suspended AsyncResponse asyncResponse) {
+		_resumeWithMethod("GET", asyncResponse);
 	}
 
 	/**
@@ -121,36 +130,36 @@ public class NestedResource {
 	}
 
 	/**
-	 * Returns the response generated from executing a {@code PATCH} action with
-	 * the provided parameters.
+	 * Resumes the request with the response of executing a {@code PATCH} action
+	 * with the provided parameters.
 	 *
 	 * @review
 	 */
 	@PATCH
-	public Response patch() {
-		return _getResponseForMethod("PATCH");
+	public void patch(@Suspended AsyncResponse asyncResponse) {
+		_resumeWithMethod("PATCH", asyncResponse);
 	}
 
 	/**
-	 * Returns the response generated from executing a {@code POST} action with
-	 * the provided parameters.
+	 * Resumes the request with the response of executing a {@code POST} action
+	 * with the provided parameters.
 	 *
 	 * @review
 	 */
 	@POST
-	public Response post() {
-		return _getResponseForMethod("POST");
+	public void post(@Suspended AsyncResponse asyncResponse) {
+		_resumeWithMethod("POST", asyncResponse);
 	}
 
 	/**
-	 * Returns the response generated from executing a {@code PUT} action with
-	 * the provided parameters.
+	 * Resumes the request with the response of executing a {@code PUT} action
+	 * with the provided parameters.
 	 *
 	 * @review
 	 */
 	@PUT
-	public Response put() {
-		return _getResponseForMethod("PUT");
+	public void put(@Suspended AsyncResponse asyncResponse) {
+		_resumeWithMethod("PUT", asyncResponse);
 	}
 
 	/**
@@ -201,19 +210,22 @@ public class NestedResource {
 
 			/**
 			 * Provides the function used to obtain the response for a given
-			 * method and params.
+			 * method and params. The request is resumed when the returned
+			 * stage completes.
 			 *
 			 * @review
 			 */
 			public AllowedMethodsFunctionStep responseFunction(
-				Function2<String, List<String>, Response> responseFunction);
+				Function2<String, List<String>, CompletionStage<Response>>
+					responseFunction);
 
 		}
 
 	}
 
 	private NestedResource(
-		Function2<String, List<String>, Response> responseFunction,
+		Function2<String, List<String>, CompletionStage<Response>>
+			responseFunction,
 		Function1<List<String>, Set<String>> allowedMethodsFunction,
 		List<String> params) {
 
@@ -222,12 +234,31 @@ public class NestedResource {
 		_params = params;
 	}
 
-	private Response _getResponseForMethod(String method) {
-		return _responseFunction.apply(method, _params);
+	private void _resumeWithMethod(
+		String method, AsyncResponse asyncResponse) {
+
+		CompletionStage<Response> completionStage = _responseFunction.apply(
+			method, _params);
+
+		completionStage.whenComplete(
+			(response, throwable) -> {
+				if (throwable == null) {
+					asyncResponse.resume(response);
+				}
+				else if ((throwable instanceof CompletionException) &&
+						 (throwable.getCause() != null)) {
+
+					asyncResponse.resume(throwable.getCause());
+				}
+				else {
+					asyncResponse.resume(throwable);
+				}
+			});
 	}
 
 	private final Function1<List<String>, Set<String>> _allowedMethodsFunction;
 	private final List<String> _params;
-	private final Function2<String, List<String>, Response> _responseFunction;
+	private final Function2<String, List<String>, CompletionStage<Response>>
+		_responseFunction;
 
 }
\ No newline at end of file
@@ -14,34 +14,80 @@
 
 package com.liferay.apio.architect.internal.jaxrs.resource;
 
+import static com.liferay.apio.architect.internal.tracing.Tracing.ROUTE;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.file.BinaryFileResponseUtil;
+import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.internal.message.json.EntryPointMessageMapper;
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.metrics.Metrics;
+import com.liferay.apio.architect.internal.response.EntityTagUtil;
+import com.liferay.apio.architect.internal.response.RenderedResponse;
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.DocumentationMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.EntryPointMessageMapperManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
 
 import io.vavr.control.Either;
+import io.vavr.control.Try;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.GET;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
+import org.slf4j.Logger;
+
 /**
  * Declares the resource from which all of the APIs originate.
  *
@@ -54,42 +100,157 @@ public class RootResource {
 	/**
 	 * Returns the application schema.
 	 *
+	 * <p>
+	 * The rendered schema is cached, so requests with an {@code If-None-Match}
+	 * header matching its {@code ETag} are answered with {@code 304 Not
+	 * Modified} without creating it again.
+	 * </p>
+	 *
 	 * @review
 	 */
 	@GET
 	@Path("/doc")
-	public Documentation documentation() {
-		return _actionManager.getDocumentation(_request);
+	public Response documentation() {
+		Optional<DocumentationMessageMapper> optional =
+			_documentationMessageMapperManager.
+				getDocumentationMessageMapperOptional(
+					_containerRequest, _httpHeaders);
+
+		return _toCachedResponse(
+			Documentation.class, optional,
+			() -> _actionManager.getDocumentation(_request));
 	}
 
 	/**
 	 * Returns the entry point of the application.
 	 *
+	 * <p>
+	 * Like the application schema, the rendered entry point is cached and
+	 * conditional requests matching its {@code ETag} are answered with {@code
+	 * 304 Not Modified}.
+	 * </p>
+	 *
 	 * @review
 	 */
 	@GET
 	@Path("/")
-	public EntryPoint home() {
-		return _actionManager.getEntryPoint();
+	public Response home() {
+		Optional<EntryPointMessageMapper> optional =
+			_entryPointMessageMapperManager.getEntryPointMessageMapperOptional(
+				_containerRequest, _httpHeaders);
+
+		return _toCachedResponse(
+			EntryPoint.class, optional, _actionManager::getEntryPoint);
+	}
+
+	/**
+	 * Returns the resource that exposes the recorded latency metrics in the
+	 * Prometheus text exposition format, if the {@code
+	 * apio.architect.metrics.enabled} property is {@code true}. Otherwise,
+	 * returns the nested resource that handles the actions of a resource named
+	 * {@code metrics}, if any.
+	 *
+	 * @review
+	 */
+	@Path("/metrics")
+	public Object metrics(
+		@Context HttpServletRequest httpServletRequest,
+		@Context Request containerRequest, @Context HttpHeaders httpHeaders) {
+
+		if (_metricsEnabled) {
+			return _metricsResource;
+		}
+
+		return nestedResource(
+			"metrics", httpServletRequest, containerRequest, httpHeaders);
 	}
 
 	/**
 	 * Returns the nested resource that handles the actions provided by the
 	 * {@link ActionManager}.
 	 *
+	 * <p>
+	 * If the {@code Representor} of a single model retrieved with a {@code GET}
+	 * request provides the model's version or last modification date, they
+	 * are returned in the {@code ETag} and {@code Last-Modified} headers, and
+	 * matching conditional requests are answered with {@code 304 Not
+	 * Modified} before the model is written.
+	 * </p>
+	 *
+	 * <p>
+	 * Actions are executed in the executor configured with the {@code
+	 * apio.architect.action.executor.threads} property (in the request thread
+	 * if it isn't set), and the response is resumed once the action, or the
+	 * {@code CompletionStage} it returns, completes. Providers used by actions
+	 * executed outside the request thread mustn't depend on thread-local
+	 * state.
+	 * </p>
+	 *
 	 * @review
 	 */
 	@Path("/{param}")
-	public NestedResource nestedResource(@PathParam("param") String param) {
+	public NestedResource nestedResource(
+		@PathParam("param") String param,
+		@Context HttpServletRequest httpServletRequest,
+		@Context Request containerRequest, @Context HttpHeaders httpHeaders) {
+
 		return NestedResource.Builder.params(
 			singletonList(param)
 		).responseFunction(
-			this::_getResponse
+			(method, params) -> _getResponseCompletionStage(
+				method, params, httpServletRequest, containerRequest,
+				httpHeaders)
 		).allowedMethodsFunction(
 			__ -> emptySet()
 		).build();
 	}
 
+	@Activate
+	protected void activate(BundleContext bundleContext) {
+		int threads = _getActionExecutorThreads(bundleContext);
+
+		if (threads > 0) {
+			_executorService = Executors.newFixedThreadPool(threads);
+
+			_executor = _executorService;
+		}
+		else {
+			_executor = Runnable::run;
+		}
+
+		_metricsEnabled = Boolean.parseBoolean(
+			bundleContext.getProperty(_METRICS_ENABLED));
+
+		Metrics.INSTANCE.setEnabled(_metricsEnabled);
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		if (_executorService != null) {
+			_executorService.shutdown();
+
+			_executorService = null;
+		}
+
+		if (_metricsEnabled) {
+			Metrics metrics = Metrics.INSTANCE;
+
+			metrics.setEnabled(false);
+
+			metrics.clear();
+		}
+	}
+
+	private static Try<Object> _toFailure(Throwable throwable) {
+		if ((throwable instanceof CompletionException) &&
+			(throwable.getCause() != null)) {
+
+			return Try.failure(throwable.getCause());
+		}
+
+		return Try.failure(throwable);
+	}
+
 	private static Response _toResponse(NotAllowed notAllowed) {
 		return Response.status(
 			METHOD_NOT_ALLOWED
@@ -98,27 +259,217 @@ public class RootResource {
 		).build();
 	}
 
+	private static CompletionStage<Object> _toResultCompletionStage(
+		Object object) {
+
+		if (!(object instanceof Try)) {
+			return completedFuture(object);
+		}
+
+		Try<?> objectTry = (Try<?>)object;
+
+		if (objectTry.isFailure() ||
+			!(objectTry.get() instanceof CompletionStage)) {
+
+			return completedFuture(object);
+		}
+
+		CompletionStage<?> completionStage =
+			(CompletionStage<?>)objectTry.get();
+
+		return completionStage.handle(
+			(result, throwable) -> {
+				if (throwable != null) {
+					return _toFailure(throwable);
+				}
+
+				return Try.success(result);
+			});
+	}
+
+	private int _getActionExecutorThreads(BundleContext bundleContext) {
+		String actionExecutorThreads = bundleContext.getProperty(
+			_ACTION_EXECUTOR_THREADS);
+
+		if (actionExecutorThreads == null) {
+			return 0;
+		}
+
+		try {
+			return Integer.parseInt(actionExecutorThreads.trim());
+		}
+		catch (NumberFormatException nfe) {
+			_logger.warn(
+				"Invalid value {} for property {}, actions will be executed " +
+					"in the request thread",
+				actionExecutorThreads, _ACTION_EXECUTOR_THREADS);
+
+			return 0;
+		}
+	}
+
 	@SuppressWarnings("Convert2MethodRef")
-	private Response _getResponse(String method, List<String> params) {
-		Either<Error, Action> either = _actionManager.getAction(method, params);
+	private CompletionStage<Response> _getResponseCompletionStage(
+		String method, List<String> params,
+		HttpServletRequest httpServletRequest, Request containerRequest,
+		HttpHeaders httpHeaders) {
+
+		Tracing tracing = Tracing.INSTANCE;
+
+		Span span = tracing.startSpan(httpServletRequest, ROUTE);
+
+		Either<Error, Action> either;
+
+		try {
+			either = _actionManager.getAction(method, params);
+		}
+		finally {
+			span.finish();
+		}
 
 		return either.fold(
 			error -> {
 				if (error instanceof NotAllowed) {
-					return _toResponse((NotAllowed)error);
+					return completedFuture(_toResponse((NotAllowed)error));
 				}
 
-				return _notFoundResponse;
+				return completedFuture(_notFoundResponse);
 			},
-			action -> _toResponse(action));
+			action -> CompletableFuture.supplyAsync(
+				() -> action.apply(httpServletRequest), _executor
+			).thenCompose(
+				RootResource::_toResultCompletionStage
+			).thenApply(
+				object -> _toResponse(
+					method, object, containerRequest, httpHeaders)
+			));
+	}
+
+	private Response _toCachedResponse(
+		Class<?> clazz, Optional<? extends MessageMapper> optional,
+		Supplier<Object> supplier) {
+
+		AcceptLanguage acceptLanguage = _providerManager.provideOptional(
+			_request, AcceptLanguage.class
+		).orElse(
+			Locale::getDefault
+		);
+
+		ApplicationURL applicationURL = _providerManager.provideMandatory(
+			_request, ApplicationURL.class);
+
+		Optional<EntityTag> entityTagOptional = optional.map(
+			MessageMapper::getMediaType
+		).map(
+			mediaType -> RenderedResponse.getKey(
+				clazz, mediaType, acceptLanguage, applicationURL)
+		).flatMap(
+			INSTANCE::<RenderedResponse>getRenderedResponseOptional
+		).map(
+			RenderedResponse::getEntityTag
+		);
+
+		Optional<ResponseBuilder> responseBuilderOptional =
+			entityTagOptional.map(_containerRequest::evaluatePreconditions);
+
+		return responseBuilderOptional.orElseGet(
+			() -> Response.ok(supplier.get())
+		).build();
+	}
+
+	private Response _toConditionalResponse(
+		SingleModel<Object> singleModel, Request containerRequest) {
+
+		Optional<Representor<Object>> optional =
+			_representableManager.getRepresentorOptional(
+				singleModel.getResourceName());
+
+		if (!optional.isPresent()) {
+			return Response.ok(
+				singleModel
+			).build();
+		}
+
+		Representor<Object> representor = optional.get();
+
+		Object model = singleModel.getModel();
+
+		Date lastModified = representor.getLastModifiedOptional(
+			model
+		).orElse(
+			null
+		);
+
+		EntityTag entityTag = representor.getVersionOptional(
+			model
+		).map(
+			version -> EntityTagUtil.getVersionEntityTag(
+				singleModel.getResourceName(),
+				representor.getIdentifier(model), version)
+		).orElse(
+			null
+		);
+
+		ResponseBuilder responseBuilder = null;
+
+		if ((lastModified != null) && (entityTag != null)) {
+			responseBuilder = containerRequest.evaluatePreconditions(
+				lastModified, entityTag);
+		}
+		else if (lastModified != null) {
+			responseBuilder = containerRequest.evaluatePreconditions(
+				lastModified);
+		}
+		else if (entityTag != null) {
+			responseBuilder = containerRequest.evaluatePreconditions(
+				entityTag);
+		}
+
+		if (responseBuilder == null) {
+			responseBuilder = Response.ok(singleModel);
+		}
+
+		return responseBuilder.lastModified(
+			lastModified
+		).tag(
+			entityTag
+		).build();
 	}
 
-	private Response _toResponse(Action action) {
+	private Response _toResponse(
+		String method, Object object, Request containerRequest,
+		HttpHeaders httpHeaders) {
+
+		Object value = object;
+
+		if (object instanceof Try) {
+			Try<?> objectTry = (Try<?>)object;
+
+			if (objectTry.isSuccess()) {
+				value = objectTry.get();
+			}
+		}
+
+		if (HttpMethod.GET.equals(method) && (value instanceof SingleModel)) {
+			return _toConditionalResponse(unsafeCast(value), containerRequest);
+		}
+
+		if (HttpMethod.GET.equals(method) && (value instanceof BinaryFile)) {
+			return BinaryFileResponseUtil.toResponse(
+				(BinaryFile)value, containerRequest, httpHeaders);
+		}
+
 		return Response.ok(
-			action.apply(_request)
+			object
 		).build();
 	}
 
+	private static final String _ACTION_EXECUTOR_THREADS =
+		"apio.architect.action.executor.threads";
+
+	private static final String _METRICS_ENABLED =
+		"apio.architect.metrics.enabled";
+
 	private static final Response _notFoundResponse = Response.status(
 		NOT_FOUND
 	).build();
@@ -126,6 +477,32 @@ public class RootResource {
 	@Reference
 	private ActionManager _actionManager;
 
+	@Context
+	private Request _containerRequest;
+
+	@Reference
+	private DocumentationMessageMapperManager
+		_documentationMessageMapperManager;
+
+	@Reference
+	private EntryPointMessageMapperManager _entryPointMessageMapperManager;
+
+	private Executor _executor = Runnable::run;
+	private ExecutorService _executorService;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	private final Logger _logger = getLogger(getClass());
+	private boolean _metricsEnabled;
+	private final MetricsResource _metricsResource = new MetricsResource();
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private RepresentableManager _representableManager;
+
 	@Context
 	private HttpServletRequest _request;
 
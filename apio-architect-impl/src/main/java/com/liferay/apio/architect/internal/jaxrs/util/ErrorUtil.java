@@ -28,6 +28,7 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.Erro
 import java.util.Optional;
 
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
@@ -49,10 +50,11 @@ public class ErrorUtil {
 	 *
 	 * @param  e the exception
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the response
 	 */
 	public <E extends Throwable> Response getErrorResponse(
-		E e, Request request) {
+		E e, Request request, HttpHeaders httpHeaders) {
 
 		if (!Exception.class.isAssignableFrom(e.getClass())) {
 			_logException(e, e.getMessage());
@@ -85,7 +87,8 @@ public class ErrorUtil {
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
-			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
+			_errorMessageMapperManager.getErrorMessageMapperOptional(
+				request, httpHeaders);
 
 		return errorMessageMapperOptional.map(
 			errorMessageMapper -> Response.status(
@@ -27,6 +27,7 @@ import com.liferay.apio.architect.internal.writer.BatchResultWriter.Builder;
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -58,10 +59,10 @@ public class BatchResultMessageBodyWriter<T>
 
 	@Override
 	public Optional<BatchResultMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _batchResultMessageMapperManager.
-			getBatchResultMessageMapperOptional(request);
+			getBatchResultMessageMapperOptional(request, httpHeaders);
 	}
 
 	@Override
@@ -18,6 +18,7 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.BinaryFileRange;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,7 +38,8 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Writes an input stream as a binary output stream.
+ * Writes an input stream as a binary output stream. {@link BinaryFileRange}
+ * instances only write the bytes of the range.
  *
  * @author Javier Gamarra
  */
@@ -79,16 +81,41 @@ public class BinaryResourceBodyWriter implements MessageBodyWriter<BinaryFile> {
 		multivaluedMap.put(
 			CONTENT_LENGTH, Collections.singletonList(binaryFile.getSize()));
 
-		byte[] bytes = new byte[1024];
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			_copy(inputStream, binaryFile, outputStream);
+		}
+
+		outputStream.close();
+	}
+
+	private static void _copy(
+			InputStream inputStream, BinaryFile binaryFile,
+			OutputStream outputStream)
+		throws IOException {
+
+		byte[] bytes = new byte[_BUFFER_SIZE];
 
-		InputStream inputStream = binaryFile.getInputStream();
-		int value = -1;
+		long remaining = Long.MAX_VALUE;
 
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
+		if (binaryFile instanceof BinaryFileRange) {
+			remaining = binaryFile.getSize();
 		}
 
-		outputStream.close();
+		while (remaining > 0) {
+			int length = (int)Math.min(bytes.length, remaining);
+
+			int read = inputStream.read(bytes, 0, length);
+
+			if (read == -1) {
+				break;
+			}
+
+			outputStream.write(bytes, 0, read);
+
+			remaining -= read;
+		}
 	}
 
+	private static final int _BUFFER_SIZE = 8192;
+
 }
\ No newline at end of file
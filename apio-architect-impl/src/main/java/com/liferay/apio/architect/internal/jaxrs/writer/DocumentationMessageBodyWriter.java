@@ -26,6 +26,7 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -57,10 +58,15 @@ public class DocumentationMessageBodyWriter
 
 	@Override
 	public Optional<DocumentationMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _documentationMessageMapperManager.
-			getDocumentationMessageMapperOptional(request);
+			getDocumentationMessageMapperOptional(request, httpHeaders);
+	}
+
+	@Override
+	protected Optional<Class<?>> getRenderedResponseClassOptional() {
+		return Optional.of(Documentation.class);
 	}
 
 	@Override
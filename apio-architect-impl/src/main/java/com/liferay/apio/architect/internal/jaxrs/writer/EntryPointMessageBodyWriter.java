@@ -26,6 +26,7 @@ import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -58,10 +59,15 @@ public class EntryPointMessageBodyWriter
 
 	@Override
 	public Optional<EntryPointMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _entryPointMessageMapperManager.
-			getEntryPointMessageMapperOptional(request);
+			getEntryPointMessageMapperOptional(request, httpHeaders);
+	}
+
+	@Override
+	protected Optional<Class<?>> getRenderedResponseClassOptional() {
+		return Optional.of(EntryPoint.class);
 	}
 
 	@Override
@@ -24,10 +24,16 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.Page
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
 import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.internal.writer.util.MemoizedSingleModelFunction;
 import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -61,9 +67,24 @@ public class PageMessageBodyWriter<T>
 
 	@Override
 	public Optional<PageMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
+
+		return _pageMessageMapperManager.getPageMessageMapperOptional(
+			request, httpHeaders);
+	}
+
+	@Override
+	protected Optional<String> getResourceNameOptional(Page<T> page) {
+		Resource resource = page.getResource();
 
-		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
+		return Optional.of(resource.getName());
+	}
+
+	@Override
+	protected Optional<Resource> getResponseCacheResourceOptional(
+		Page<T> page) {
+
+		return Optional.of(page.getResource());
 	}
 
 	@Override
@@ -71,10 +92,49 @@ public class PageMessageBodyWriter<T>
 		Page<T> page, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(this::getSingleModelOptional);
+
+		PageWriter<T> pageWriter = _getPageWriter(
+			page, pageMessageMapper, requestInfo, memoizedSingleModelFunction);
+
+		try {
+			return pageWriter.write();
+		}
+		finally {
+			recordRelatedModelLookups(memoizedSingleModelFunction);
+		}
+	}
+
+	@Override
+	protected void write(
+			Page<T> page, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(this::getSingleModelOptional);
+
+		PageWriter<T> pageWriter = _getPageWriter(
+			page, pageMessageMapper, requestInfo, memoizedSingleModelFunction);
+
+		try {
+			pageWriter.write(outputStream);
+		}
+		finally {
+			recordRelatedModelLookups(memoizedSingleModelFunction);
+		}
+	}
+
+	private PageWriter<T> _getPageWriter(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo,
+		MemoizedSingleModelFunction memoizedSingleModelFunction) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -89,13 +149,13 @@ public class PageMessageBodyWriter<T>
 			).requestInfo(
 				requestInfo
 			).singleModelFunction(
-				this::getSingleModelOptional
+				memoizedSingleModelFunction
 			).actionSemanticsFunction(
 				resource -> actionManager.getActionSemantics(
 					resource, credentials)
+			).batchSingleModelFunction(
+				this::getSingleModels
 			).build());
-
-		return pageWriter.write();
 	}
 
 	@Reference
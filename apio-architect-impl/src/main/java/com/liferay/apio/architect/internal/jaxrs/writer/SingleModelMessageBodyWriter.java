@@ -24,11 +24,18 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.Sing
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
 import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.internal.writer.util.MemoizedSingleModelFunction;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
 
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
@@ -62,10 +69,33 @@ public class SingleModelMessageBodyWriter<T>
 
 	@Override
 	public Optional<SingleModelMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, HttpHeaders httpHeaders) {
 
 		return _singleModelMessageMapperManager.
-			getSingleModelMessageMapperOptional(request);
+			getSingleModelMessageMapperOptional(request, httpHeaders);
+	}
+
+	@Override
+	protected Optional<String> getResourceNameOptional(
+		SingleModel<T> singleModel) {
+
+		return Optional.of(singleModel.getResourceName());
+	}
+
+	@Override
+	protected Optional<Resource> getResponseCacheResourceOptional(
+		SingleModel<T> singleModel) {
+
+		String name = singleModel.getResourceName();
+
+		Optional<Representor<T>> optional =
+			_representableManager.getRepresentorOptional(name);
+
+		return optional.map(
+			representor -> representor.getIdentifier(singleModel.getModel())
+		).flatMap(
+			identifier -> getItemOptional(name, identifier)
+		);
 	}
 
 	@Override
@@ -74,10 +104,57 @@ public class SingleModelMessageBodyWriter<T>
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(this::getSingleModelOptional);
+
+		SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo,
+			memoizedSingleModelFunction);
+
+		try {
+			Optional<String> optional = singleModelWriter.write();
+
+			return optional.orElseThrow(NotFoundException::new);
+		}
+		finally {
+			recordRelatedModelLookups(memoizedSingleModelFunction);
+		}
+	}
+
+	@Override
+	protected void write(
+			SingleModel<T> singleModel,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(this::getSingleModelOptional);
+
+		SingleModelWriter<T> singleModelWriter = _getSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo,
+			memoizedSingleModelFunction);
+
+		try {
+			if (!singleModelWriter.write(outputStream)) {
+				throw new NotFoundException();
+			}
+		}
+		finally {
+			recordRelatedModelLookups(memoizedSingleModelFunction);
+		}
+	}
+
+	private SingleModelWriter<T> _getSingleModelWriter(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo,
+		MemoizedSingleModelFunction memoizedSingleModelFunction) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				singleModel
 			).modelMessageMapper(
@@ -92,15 +169,11 @@ public class SingleModelMessageBodyWriter<T>
 			).requestInfo(
 				requestInfo
 			).singleModelFunction(
-				this::getSingleModelOptional
+				memoizedSingleModelFunction
 			).actionSemanticsFunction(
 				resource -> actionManager.getActionSemantics(
 					resource, credentials)
 			).build());
-
-		Optional<String> optional = singleModelWriter.write();
-
-		return optional.orElseThrow(NotFoundException::new);
 	}
 
 	@Reference
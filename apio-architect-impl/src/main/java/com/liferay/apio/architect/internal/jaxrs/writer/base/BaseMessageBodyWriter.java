@@ -14,44 +14,68 @@
 
 package com.liferay.apio.architect.internal.jaxrs.writer.base;
 
+import static com.liferay.apio.architect.internal.tracing.Tracing.SERIALIZATION;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+import static javax.ws.rs.core.HttpHeaders.VARY;
 
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.metrics.Metrics;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.RenderedResponse;
+import com.liferay.apio.architect.internal.response.ResponseCache;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.internal.writer.util.MemoizedSingleModelFunction;
 import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 import java.nio.charset.StandardCharsets;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Request;
@@ -81,10 +105,12 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 * returns {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
-	public abstract Optional<S> getMessageMapperOptional(Request request);
+	public abstract Optional<S> getMessageMapperOptional(
+		Request request, HttpHeaders httpHeaders);
 
 	@Override
 	public long getSize(
@@ -107,51 +133,108 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			T t, Class<?> aClass, Type type, Annotation[] annotations,
 			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
 			OutputStream outputStream)
-		throws WebApplicationException {
+		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
+		Optional<S> optional = getMessageMapperOptional(_request, _httpHeaders);
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		S s = optional.orElseThrow(NotSupportedException::new);
 
-		Optional<S> optional = getMessageMapperOptional(_request);
+		Metrics metrics = Metrics.INSTANCE;
 
-		S s = optional.orElseThrow(NotSupportedException::new);
+		if (!metrics.isEnabled()) {
+			_writeTracedTo(t, s, httpHeaders, outputStream);
 
-		RequestInfo requestInfo = RequestInfo.create(
-			builder -> builder.httpServletRequest(
-				request
-			).serverURL(
-				providerManager.provideMandatory(request, ServerURL.class)
-			).applicationURL(
-				providerManager.provideMandatory(request, ApplicationURL.class)
-			).embedded(
-				providerManager.provideOptional(
-					request, Embedded.class
-				).orElse(
-					__ -> false
-				)
-			).fields(
-				providerManager.provideOptional(
-					request, Fields.class
-				).orElse(
-					__ -> string -> true
-				)
-			).language(
-				providerManager.provideOptional(
-					request, AcceptLanguage.class
-				).orElse(
-					Locale::getDefault
-				)
-			).build());
+			return;
+		}
 
-		String result = write(t, s, requestInfo);
+		long start = System.nanoTime();
 
-		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+		String outcome = Metrics.FAILURE;
 
-		printWriter.println(result);
+		try {
+			_writeTracedTo(t, s, httpHeaders, outputStream);
 
-		printWriter.close();
+			outcome = Metrics.SUCCESS;
+		}
+		finally {
+			Class<?> clazz = getClass();
+
+			Optional<String> resourceNameOptional = getResourceNameOptional(t);
+
+			metrics.recordWrite(
+				clazz.getSimpleName(), resourceNameOptional.orElse(""),
+				s.getMediaType(), outcome, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Returns the {@link Item} of the resource with the supplied name
+	 * identified by the supplied identifier, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the item's identifier
+	 * @return the {@code Item}, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Item> getItemOptional(String name, Object identifier) {
+		Optional<Id> optionalId = _getId(name, identifier);
+
+		return optionalId.map(id -> Item.of(name, id));
+	}
+
+	/**
+	 * Returns the class under which the representations written by this {@code
+	 * MessageBodyWriter} are cached, if they only change when the registered
+	 * routers or representors change, for a given media type, language and
+	 * application URL. In that case, each representation is only written once,
+	 * cached until the {@code ManagerCache} is cleared, and returned with a
+	 * strong {@code ETag}.
+	 *
+	 * <p>
+	 * The same class must be used to look up the cached representation, so
+	 * this is a fixed class rather than the runtime class of the entity, which
+	 * might be an implementation or a lambda. This method returns an empty
+	 * {@code Optional} by default.
+	 * </p>
+	 *
+	 * @return the class of the cached representations, if they can be cached;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Class<?>> getRenderedResponseClassOptional() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the name of the resource whose representation is being written,
+	 * if present; returns {@code Optional#empty()} otherwise. The name is used
+	 * to label the write latencies recorded in the {@link Metrics}. This method
+	 * returns {@code Optional#empty()} by default.
+	 *
+	 * @param  t the element being written
+	 * @return the resource's name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	protected Optional<String> getResourceNameOptional(T t) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the resource whose representation is being written, if its
+	 * representations can be stored in the {@link ResponseCache}; returns
+	 * {@code Optional#empty()} otherwise. The cached representations are
+	 * invalidated when an action modifies that resource. This method returns
+	 * {@code Optional#empty()} by default.
+	 *
+	 * @param  t the element being written
+	 * @return the element's resource, if its representations can be stored
+	 *         in the response cache; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Resource> getResponseCacheResourceOptional(T t) {
+		return Optional.empty();
 	}
 
 	/**
@@ -170,12 +253,72 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			identifierClass.getName());
 
 		return nameOptional.flatMap(
-			name -> _getItem(name, identifier)
+			name -> getItemOptional(name, identifier)
 		).flatMap(
 			item -> actionManager.getItemSingleModel(item, request)
 		);
 	}
 
+	/**
+	 * Returns the {@link SingleModel} instances identified by the supplied
+	 * identifiers, retrieved at once with the resource's batch retrieve
+	 * action. The single models are mapped by their identifier. If the
+	 * resource doesn't have a batch retrieve action, an empty map is returned.
+	 *
+	 * @param  identifiers the single models identifiers
+	 * @param  identifierClass the resource identifier class
+	 * @return the single models found, mapped by their identifier
+	 * @review
+	 */
+	protected Map<Object, SingleModel> getSingleModels(
+		List<Object> identifiers, Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = nameManager.getNameOptional(
+			identifierClass.getName());
+
+		if (!nameOptional.isPresent()) {
+			return emptyMap();
+		}
+
+		String name = nameOptional.get();
+
+		Stream<Object> stream = identifiers.stream();
+
+		List<Id> ids = stream.map(
+			identifier -> _getId(name, identifier)
+		).filter(
+			Optional::isPresent
+		).map(
+			Optional::get
+		).collect(
+			Collectors.toList()
+		);
+
+		return actionManager.getItemSingleModels(name, ids, request);
+	}
+
+	/**
+	 * Records in the {@link Metrics} the number of related models the supplied
+	 * function returned without retrieving them again (hits) and the number it
+	 * had to retrieve (misses). Writers must call this method once they've
+	 * written the element with that function.
+	 *
+	 * @param  memoizedSingleModelFunction the function used to retrieve the
+	 *         related models of the written element
+	 * @review
+	 */
+	protected void recordRelatedModelLookups(
+		MemoizedSingleModelFunction memoizedSingleModelFunction) {
+
+		Class<?> clazz = getClass();
+
+		Metrics metrics = Metrics.INSTANCE;
+
+		metrics.recordRelatedModelLookups(
+			clazz.getSimpleName(), memoizedSingleModelFunction.getHitCount(),
+			memoizedSingleModelFunction.getMissCount());
+	}
+
 	/**
 	 * Writes the element to a {@code String} by using the supplied message
 	 * mapper and the current {@link RequestInfo}.
@@ -187,6 +330,37 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	protected abstract String write(T t, S s, RequestInfo requestInfo);
 
+	/**
+	 * Writes the element directly to the output stream by using the supplied
+	 * message mapper and the current {@link RequestInfo}. The response headers
+	 * have already been set when this method is called, so writers able to
+	 * produce their representation incrementally should override this method
+	 * to avoid creating the intermediate {@code String} returned by {@link
+	 * #write(Object, MessageMapper, RequestInfo)}, which is what this method
+	 * writes by default.
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @param  outputStream the output stream
+	 * @throws IOException if the element couldn't be written
+	 */
+	protected void write(
+			T t, S s, RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		String result = write(t, s, requestInfo);
+
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			outputStream, StandardCharsets.UTF_8);
+
+		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+
+		printWriter.println(result);
+
+		printWriter.close();
+	}
+
 	@Reference
 	protected ActionManager actionManager;
 
@@ -202,17 +376,201 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Context
 	protected HttpServletRequest request;
 
-	private Optional<Item> _getItem(String name, Object identifier) {
+	@Reference
+	protected ResponseCache responseCache;
+
+	private Optional<Id> _getId(String name, Object identifier) {
 		Optional<Path> optionalPath = pathIdentifierMapperManager.mapToPath(
 			name, identifier);
 
-		return optionalPath.map(
-			path -> Id.of(identifier, path.getId())
+		return optionalPath.map(path -> Id.of(identifier, path.getId()));
+	}
+
+	private RenderedResponse _render(T t, S s, RequestInfo requestInfo) {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			write(t, s, requestInfo, byteArrayOutputStream);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+
+		return new RenderedResponse(byteArrayOutputStream.toByteArray());
+	}
+
+	private Optional<Resource> _getResponseCacheResourceOptional(T t) {
+		if (!responseCache.isEnabled() ||
+			!HttpMethod.GET.equals(request.getMethod())) {
+
+			return Optional.empty();
+		}
+
+		return getResponseCacheResourceOptional(t);
+	}
+
+	private void _writeCached(
+			T t, S s, RequestInfo requestInfo, Resource resource,
+			OutputStream outputStream)
+		throws IOException {
+
+		Object credentials = providerManager.provideOptional(
+			request, Credentials.class
 		).map(
-			id -> Item.of(name, id)
+			Credentials::get
+		).orElse(
+			null
 		);
+
+		Optional<String> keyOptional = ResponseCache.getKeyOptional(
+			request, s.getMediaType(), requestInfo.getAcceptLanguage(),
+			requestInfo.getApplicationURL(), credentials);
+
+		if (!keyOptional.isPresent()) {
+			write(t, s, requestInfo, outputStream);
+
+			return;
+		}
+
+		String key = keyOptional.get();
+
+		Optional<RenderedResponse> optional =
+			responseCache.getRenderedResponseOptional(key);
+
+		RenderedResponse renderedResponse = optional.orElseGet(
+			() -> {
+				RenderedResponse newRenderedResponse = _render(
+					t, s, requestInfo);
+
+				responseCache.put(request, key, resource, newRenderedResponse);
+
+				return newRenderedResponse;
+			});
+
+		outputStream.write(renderedResponse.getBytes());
+	}
+
+	/**
+	 * Writes the element inside a serialization span. If the {@code
+	 * Server-Timing} header is enabled, the element is written to a buffer
+	 * first, so the header can include the serialization time.
+	 */
+	private void _writeTracedTo(
+			T t, S s, MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		Tracing tracing = Tracing.INSTANCE;
+
+		if (!tracing.isEnabled()) {
+			_writeTo(t, s, httpHeaders, outputStream);
+
+			return;
+		}
+
+		Span span = tracing.startSpan(request, SERIALIZATION);
+
+		if (!tracing.isServerTimingEnabled()) {
+			try {
+				_writeTo(t, s, httpHeaders, outputStream);
+			}
+			finally {
+				span.finish();
+			}
+
+			return;
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			_writeTo(t, s, httpHeaders, byteArrayOutputStream);
+		}
+		finally {
+			span.finish();
+		}
+
+		Optional<String> optional = tracing.getServerTimingOptional(request);
+
+		optional.ifPresent(
+			serverTiming -> httpHeaders.put(
+				_SERVER_TIMING, singletonList(serverTiming)));
+
+		byteArrayOutputStream.writeTo(outputStream);
 	}
 
+	private void _writeTo(
+			T t, S s, MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		RequestInfo requestInfo = RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				request
+			).serverURL(
+				providerManager.provideMandatory(request, ServerURL.class)
+			).applicationURL(
+				providerManager.provideMandatory(request, ApplicationURL.class)
+			).embedded(
+				providerManager.provideOptional(
+					request, Embedded.class
+				).orElse(
+					__ -> false
+				)
+			).fields(
+				providerManager.provideOptional(
+					request, Fields.class
+				).orElse(
+					__ -> string -> true
+				)
+			).language(
+				providerManager.provideOptional(
+					request, AcceptLanguage.class
+				).orElse(
+					Locale::getDefault
+				)
+			).build());
+
+		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
+		httpHeaders.put(VARY, singletonList(ACCEPT));
+
+		Optional<Class<?>> renderedResponseClassOptional =
+			getRenderedResponseClassOptional();
+
+		if (!renderedResponseClassOptional.isPresent()) {
+			Optional<Resource> resourceOptional =
+				_getResponseCacheResourceOptional(t);
+
+			if (resourceOptional.isPresent()) {
+				_writeCached(
+					t, s, requestInfo, resourceOptional.get(), outputStream);
+			}
+			else {
+				write(t, s, requestInfo, outputStream);
+			}
+
+			return;
+		}
+
+		String key = RenderedResponse.getKey(
+			renderedResponseClassOptional.get(), s.getMediaType(),
+			requestInfo.getAcceptLanguage(), requestInfo.getApplicationURL());
+
+		RenderedResponse renderedResponse = INSTANCE.getRenderedResponse(
+			key, () -> _render(t, s, requestInfo));
+
+		httpHeaders.put(ETAG, singletonList(renderedResponse.getEntityTag()));
+
+		outputStream.write(renderedResponse.getBytes());
+	}
+
+	private static final String _SERVER_TIMING = "Server-Timing";
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
@@ -17,12 +17,21 @@ package com.liferay.apio.architect.internal.message.json;
 import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -84,8 +93,25 @@ import java.util.function.Function;
  */
 public class JSONObjectBuilder {
 
+	/**
+	 * Creates a JSON object builder whose content is only populated, by the
+	 * provided consumer, when the JSON object is written. This lets writers
+	 * add big JSON objects (like the items of a page) to a JSON array or field
+	 * without keeping all of them in memory at the same time when the result
+	 * is written with {@link #writeTo(OutputStream)}.
+	 *
+	 * @param  consumer the consumer that populates the JSON object
+	 * @return the deferred JSON object builder
+	 */
+	public static JSONObjectBuilder deferred(
+		Consumer<JSONObjectBuilder> consumer) {
+
+		return new JSONObjectBuilder(
+			_OBJECT_MAPPER.createObjectNode(), consumer);
+	}
+
 	public JSONObjectBuilder() {
-		_objectNode = _OBJECT_MAPPER.createObjectNode();
+		this(_OBJECT_MAPPER.createObjectNode(), null);
 	}
 
 	/**
@@ -96,7 +122,7 @@ public class JSONObjectBuilder {
 	 */
 	public String build() {
 		try {
-			return _OBJECT_MAPPER.writeValueAsString(_objectNode);
+			return _OBJECT_MAPPER.writeValueAsString(_getJsonNode());
 		}
 		catch (JsonProcessingException jpe) {
 			return _objectNode.toString();
@@ -243,6 +269,28 @@ public class JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder directly
+	 * to the provided output stream, using UTF-8 encoding. Unlike {@link
+	 * #build()}, this method doesn't create an intermediate {@code String}, and
+	 * deferred JSON objects are populated and released one at a time, while
+	 * they are being written.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the JSON object couldn't be written
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		JsonFactory jsonFactory = _OBJECT_MAPPER.getFactory();
+
+		try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(
+				outputStream, JsonEncoding.UTF8)) {
+
+			jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			_OBJECT_MAPPER.writeValue(jsonGenerator, _getJsonNode());
+		}
+	}
+
 	public static class ArrayValueStep {
 
 		public ArrayValueStep(ArrayNode arrayNode) {
@@ -292,7 +340,7 @@ public class JSONObjectBuilder {
 		 *        object to add to the JSON array
 		 */
 		public void add(JSONObjectBuilder jsonObjectBuilder) {
-			_arrayNode.add(jsonObjectBuilder._objectNode);
+			_arrayNode.add(jsonObjectBuilder._getJsonNode());
 		}
 
 		/**
@@ -585,9 +633,9 @@ public class JSONObjectBuilder {
 		 * @param jsonObjectBuilder the {@link JSONObjectBuilder}
 		 */
 		public void objectValue(JSONObjectBuilder jsonObjectBuilder) {
-			ObjectNode objectNode = jsonObjectBuilder._objectNode;
+			JsonNode jsonNode = jsonObjectBuilder._getJsonNode();
 
-			_objectNode.set(_name, objectNode);
+			_objectNode.set(_name, jsonNode);
 		}
 
 		/**
@@ -604,6 +652,24 @@ public class JSONObjectBuilder {
 
 	}
 
+	private JSONObjectBuilder(
+		ObjectNode objectNode, Consumer<JSONObjectBuilder> deferredConsumer) {
+
+		_objectNode = objectNode;
+		_deferredConsumer = deferredConsumer;
+	}
+
+	private JsonNode _getJsonNode() {
+		if (_deferredConsumer == null) {
+			return _objectNode;
+		}
+
+		return _OBJECT_MAPPER.getNodeFactory(
+		).pojoNode(
+			new DeferredJSONObject(_objectNode, _deferredConsumer)
+		);
+	}
+
 	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper() {
 		{
 			configure(SORT_PROPERTIES_ALPHABETICALLY, true);
@@ -611,6 +677,46 @@ public class JSONObjectBuilder {
 		}
 	};
 
+	private final Consumer<JSONObjectBuilder> _deferredConsumer;
 	private final ObjectNode _objectNode;
 
+	private static class DeferredJSONObject extends JsonSerializable.Base {
+
+		@Override
+		public void serialize(
+				JsonGenerator jsonGenerator,
+				SerializerProvider serializerProvider)
+			throws IOException {
+
+			JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder(
+				_objectNode.deepCopy(), null);
+
+			_consumer.accept(jsonObjectBuilder);
+
+			serializerProvider.defaultSerializeValue(
+				jsonObjectBuilder._objectNode, jsonGenerator);
+		}
+
+		@Override
+		public void serializeWithType(
+				JsonGenerator jsonGenerator,
+				SerializerProvider serializerProvider,
+				TypeSerializer typeSerializer)
+			throws IOException {
+
+			serialize(jsonGenerator, serializerProvider);
+		}
+
+		private DeferredJSONObject(
+			ObjectNode objectNode, Consumer<JSONObjectBuilder> consumer) {
+
+			_objectNode = objectNode;
+			_consumer = consumer;
+		}
+
+		private final Consumer<JSONObjectBuilder> _consumer;
+		private final ObjectNode _objectNode;
+
+	}
+
 }
\ No newline at end of file
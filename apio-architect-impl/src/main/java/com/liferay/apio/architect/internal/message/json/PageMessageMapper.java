@@ -391,6 +391,20 @@ public interface PageMessageMapper<T>
 					itemJSONObjectBuilder, embeddedPathElements, url));
 	}
 
+	/**
+	 * Maps the estimated total number of elements in the collection to its
+	 * JSON object representation. This method is only called if the exact
+	 * total is unknown.
+	 *
+	 * @param jsonObjectBuilder the JSON object builder for the page
+	 * @param estimatedTotalCount the estimated total number of elements in the
+	 *        collection
+	 * @review
+	 */
+	public default void mapItemEstimatedTotalCount(
+		JSONObjectBuilder jsonObjectBuilder, int estimatedTotalCount) {
+	}
+
 	/**
 	 * Maps a resource link to its JSON object representation.
 	 *
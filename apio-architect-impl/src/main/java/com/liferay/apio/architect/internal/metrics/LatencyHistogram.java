@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in a fixed set of buckets, from 100 microseconds to 10
+ * seconds, plus an overflow bucket. Recording a latency only increments two
+ * counters without taking any lock, so it can be done on every request.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Returns the upper bounds of the buckets, in nanoseconds. The returned
+	 * array must not be modified.
+	 *
+	 * @return the buckets' upper bounds
+	 * @review
+	 */
+	public static long[] getBucketBounds() {
+		return _BUCKET_BOUNDS;
+	}
+
+	/**
+	 * Returns the cumulative count of latencies of each bucket: the number of
+	 * recorded latencies less than or equal to each bucket's upper bound. The
+	 * returned array has an extra last element, with the total number of
+	 * recorded latencies.
+	 *
+	 * @return the cumulative count of each bucket
+	 * @review
+	 */
+	public long[] getCumulativeCounts() {
+		long[] cumulativeCounts = new long[_counts.length()];
+
+		long count = 0;
+
+		for (int i = 0; i < cumulativeCounts.length; i++) {
+			count += _counts.get(i);
+
+			cumulativeCounts[i] = count;
+		}
+
+		return cumulativeCounts;
+	}
+
+	/**
+	 * Returns the sum of the recorded latencies, in nanoseconds.
+	 *
+	 * @return the sum of the recorded latencies
+	 * @review
+	 */
+	public long getSum() {
+		return _sum.sum();
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param  nanos the latency, in nanoseconds
+	 * @review
+	 */
+	public void record(long nanos) {
+		int i = 0;
+
+		while ((i < _BUCKET_BOUNDS.length) && (nanos > _BUCKET_BOUNDS[i])) {
+			i++;
+		}
+
+		_counts.incrementAndGet(i);
+
+		_sum.add(nanos);
+	}
+
+	private static final long[] _BUCKET_BOUNDS = {
+		100_000L, 250_000L, 500_000L, 1_000_000L, 2_500_000L, 5_000_000L,
+		10_000_000L, 25_000_000L, 50_000_000L, 100_000_000L, 250_000_000L,
+		500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L,
+		10_000_000_000L
+	};
+
+	private final AtomicLongArray _counts = new AtomicLongArray(
+		_BUCKET_BOUNDS.length + 1);
+	private final LongAdder _sum = new LongAdder();
+
+}
\ No newline at end of file
@@ -0,0 +1,387 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.math.BigDecimal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of the executed actions and of the written responses,
+ * and returns them in the Prometheus text exposition format.
+ *
+ * <p>
+ * There should only be one instance of this class, accessible through {@link
+ * #INSTANCE}. Nothing is recorded until the metrics are enabled with {@link
+ * #setEnabled(boolean)}.
+ * </p>
+ *
+ * <p>
+ * Each latency is recorded in a {@link LatencyHistogram}, so the exposed
+ * histograms also contain the number of executed actions and written
+ * responses, for every combination of labels.
+ * </p>
+ *
+ * <p>
+ * The number of related models that writers find already retrieved (hits) or
+ * have to retrieve (misses) while writing a response is also counted.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class Metrics {
+
+	/**
+	 * The {@link Metrics} instance.
+	 */
+	public static final Metrics INSTANCE = new Metrics();
+
+	/**
+	 * The outcome of an action or write that throws an exception or fails.
+	 */
+	public static final String FAILURE = "failure";
+
+	/**
+	 * The result of a related model lookup that returns a model already
+	 * retrieved for the same response.
+	 */
+	public static final String HIT = "hit";
+
+	/**
+	 * The result of a related model lookup that has to retrieve the model.
+	 */
+	public static final String MISS = "miss";
+
+	/**
+	 * The outcome of an action or write that finishes successfully.
+	 */
+	public static final String SUCCESS = "success";
+
+	/**
+	 * Removes every recorded latency.
+	 *
+	 * @review
+	 */
+	public void clear() {
+		_actionFamily.clear();
+		_relatedModelLookups.clear();
+		_writeFamily.clear();
+	}
+
+	/**
+	 * Returns {@code true} if the metrics are being recorded.
+	 *
+	 * @return {@code true} if the metrics are being recorded; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	/**
+	 * Records the latency of an executed action.
+	 *
+	 * @param  resourceName the name of the action's resource
+	 * @param  actionName the action's name
+	 * @param  method the action's HTTP method
+	 * @param  outcome the action's outcome, {@link #SUCCESS} or {@link
+	 *         #FAILURE}
+	 * @param  nanos the action's latency, in nanoseconds
+	 * @review
+	 */
+	public void recordAction(
+		String resourceName, String actionName, String method, String outcome,
+		long nanos) {
+
+		if (_enabled) {
+			_actionFamily.record(
+				nanos, resourceName, actionName, method, outcome);
+		}
+	}
+
+	/**
+	 * Records the lookups of related models performed while writing a
+	 * response.
+	 *
+	 * @param  writer the name of the writer
+	 * @param  hitCount the number of related models that had already been
+	 *         retrieved
+	 * @param  missCount the number of related models that had to be retrieved
+	 * @review
+	 */
+	public void recordRelatedModelLookups(
+		String writer, long hitCount, long missCount) {
+
+		if (_enabled) {
+			_addRelatedModelLookups(writer, HIT, hitCount);
+			_addRelatedModelLookups(writer, MISS, missCount);
+		}
+	}
+
+	/**
+	 * Records the latency of a written response.
+	 *
+	 * @param  writer the name of the writer
+	 * @param  resourceName the name of the written resource, or an empty
+	 *         string if the response doesn't belong to a resource
+	 * @param  mediaType the response's media type
+	 * @param  outcome the write's outcome, {@link #SUCCESS} or {@link
+	 *         #FAILURE}
+	 * @param  nanos the write's latency, in nanoseconds
+	 * @review
+	 */
+	public void recordWrite(
+		String writer, String resourceName, String mediaType, String outcome,
+		long nanos) {
+
+		if (_enabled) {
+			_writeFamily.record(
+				nanos, writer, resourceName, mediaType, outcome);
+		}
+	}
+
+	/**
+	 * Enables or disables the recording of metrics.
+	 *
+	 * @param  enabled whether the metrics must be recorded
+	 * @review
+	 */
+	public void setEnabled(boolean enabled) {
+		_enabled = enabled;
+	}
+
+	/**
+	 * Returns the recorded metrics in the Prometheus text exposition format.
+	 *
+	 * @return the recorded metrics
+	 * @review
+	 */
+	public String toPrometheusText() {
+		StringBuilder sb = new StringBuilder();
+
+		_actionFamily.write(sb);
+		_writeFamily.write(sb);
+
+		_writeRelatedModelLookups(sb);
+
+		return sb.toString();
+	}
+
+	private Metrics() {
+	}
+
+	private void _addRelatedModelLookups(
+		String writer, String result, long count) {
+
+		if (count == 0) {
+			return;
+		}
+
+		LongAdder longAdder = _relatedModelLookups.computeIfAbsent(
+			Arrays.asList(writer, result), __ -> new LongAdder());
+
+		longAdder.add(count);
+	}
+
+	private void _writeRelatedModelLookups(StringBuilder sb) {
+		if (_relatedModelLookups.isEmpty()) {
+			return;
+		}
+
+		sb.append("# HELP ");
+		sb.append(_RELATED_MODEL_LOOKUPS);
+		sb.append(" Lookups of related models while writing responses.\n");
+		sb.append("# TYPE ");
+		sb.append(_RELATED_MODEL_LOOKUPS);
+		sb.append(" counter\n");
+
+		List<Map.Entry<List<String>, LongAdder>> entries = new ArrayList<>(
+			_relatedModelLookups.entrySet());
+
+		entries.sort(
+			Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+
+		for (Map.Entry<List<String>, LongAdder> entry : entries) {
+			List<String> labelValues = entry.getKey();
+			LongAdder longAdder = entry.getValue();
+
+			sb.append(_RELATED_MODEL_LOOKUPS);
+			sb.append("{writer=\"");
+			sb.append(Family._escape(labelValues.get(0)));
+			sb.append("\",result=\"");
+			sb.append(labelValues.get(1));
+			sb.append("\"} ");
+			sb.append(longAdder.sum());
+			sb.append("\n");
+		}
+	}
+
+	private static final String _RELATED_MODEL_LOOKUPS =
+		"apio_architect_related_model_lookups_total";
+
+	private final Family _actionFamily = new Family(
+		"apio_architect_action_duration_seconds",
+		"Latency of the executed actions.", "resource", "action", "method",
+		"outcome");
+	private volatile boolean _enabled;
+	private final Map<List<String>, LongAdder> _relatedModelLookups =
+		new ConcurrentHashMap<>();
+	private final Family _writeFamily = new Family(
+		"apio_architect_write_duration_seconds",
+		"Latency of the written responses.", "writer", "resource",
+		"media_type", "outcome");
+
+	/**
+	 * Holds the histograms of a metric, one for every combination of label
+	 * values.
+	 */
+	private static class Family {
+
+		public void clear() {
+			_histograms.clear();
+		}
+
+		public void record(long nanos, String... labelValues) {
+			LatencyHistogram latencyHistogram = _histograms.computeIfAbsent(
+				Arrays.asList(labelValues), __ -> new LatencyHistogram());
+
+			latencyHistogram.record(nanos);
+		}
+
+		public void write(StringBuilder sb) {
+			if (_histograms.isEmpty()) {
+				return;
+			}
+
+			sb.append("# HELP ");
+			sb.append(_name);
+			sb.append(" ");
+			sb.append(_help);
+			sb.append("\n# TYPE ");
+			sb.append(_name);
+			sb.append(" histogram\n");
+
+			List<Map.Entry<List<String>, LatencyHistogram>> entries =
+				new ArrayList<>(_histograms.entrySet());
+
+			entries.sort(
+				(entry1, entry2) -> {
+					String labelValues1 = String.valueOf(entry1.getKey());
+
+					return labelValues1.compareTo(
+						String.valueOf(entry2.getKey()));
+				});
+
+			long[] bucketBounds = LatencyHistogram.getBucketBounds();
+
+			for (Map.Entry<List<String>, LatencyHistogram> entry : entries) {
+				String labels = _getLabels(entry.getKey());
+
+				LatencyHistogram latencyHistogram = entry.getValue();
+
+				long[] cumulativeCounts =
+					latencyHistogram.getCumulativeCounts();
+
+				for (int i = 0; i < cumulativeCounts.length; i++) {
+					String le = "+Inf";
+
+					if (i < bucketBounds.length) {
+						le = _toSeconds(bucketBounds[i]);
+					}
+
+					_writeSample(
+						sb, "_bucket", labels + ",le=\"" + le + "\"",
+						String.valueOf(cumulativeCounts[i]));
+				}
+
+				_writeSample(
+					sb, "_sum", labels,
+					_toSeconds(latencyHistogram.getSum()));
+				_writeSample(
+					sb, "_count", labels,
+					String.valueOf(
+						cumulativeCounts[cumulativeCounts.length - 1]));
+			}
+		}
+
+		private static String _escape(String labelValue) {
+			return labelValue.replace(
+				"\\", "\\\\"
+			).replace(
+				"\"", "\\\""
+			).replace(
+				"\n", "\\n"
+			);
+		}
+
+		private static String _toSeconds(long nanos) {
+			BigDecimal bigDecimal = BigDecimal.valueOf(nanos, 9);
+
+			return bigDecimal.stripTrailingZeros(
+			).toPlainString();
+		}
+
+		private Family(String name, String help, String... labelNames) {
+			_name = name;
+			_help = help;
+			_labelNames = labelNames;
+		}
+
+		private String _getLabels(List<String> labelValues) {
+			StringBuilder sb = new StringBuilder();
+
+			for (int i = 0; i < _labelNames.length; i++) {
+				if (i > 0) {
+					sb.append(",");
+				}
+
+				sb.append(_labelNames[i]);
+				sb.append("=\"");
+				sb.append(_escape(String.valueOf(labelValues.get(i))));
+				sb.append("\"");
+			}
+
+			return sb.toString();
+		}
+
+		private void _writeSample(
+			StringBuilder sb, String suffix, String labels, String value) {
+
+			sb.append(_name);
+			sb.append(suffix);
+			sb.append("{");
+			sb.append(labels);
+			sb.append("} ");
+			sb.append(value);
+			sb.append("\n");
+		}
+
+		private final String _help;
+		private final Map<List<String>, LatencyHistogram> _histograms =
+			new ConcurrentHashMap<>();
+		private final String[] _labelNames;
+		private final String _name;
+
+	}
+
+}
\ No newline at end of file
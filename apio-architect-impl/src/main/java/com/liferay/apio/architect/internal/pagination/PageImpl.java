@@ -45,7 +45,64 @@ public class PageImpl<T> implements Page<T> {
 		_items = pageItems.getItems();
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
-		_totalCount = pageItems.getTotalCount();
+
+		if (pageItems.isTotalCountLazy() &&
+			!pagination.isTotalCountRequested()) {
+
+			_totalCount = -1;
+		}
+		else {
+			_totalCount = pageItems.getTotalCount();
+		}
+
+		if (_totalCount < 0) {
+			Optional<Integer> estimatedTotalCountOptional =
+				pageItems.getEstimatedTotalCountOptional();
+
+			_estimatedTotalCount = estimatedTotalCountOptional.orElse(-1);
+		}
+		else {
+			_estimatedTotalCount = -1;
+		}
+
+		Optional<String> afterCursorOptional =
+			pagination.getAfterCursorOptional();
+
+		_afterCursor = afterCursorOptional.orElse(null);
+
+		Optional<String> beforeCursorOptional =
+			pagination.getBeforeCursorOptional();
+
+		_beforeCursor = beforeCursorOptional.orElse(null);
+
+		Optional<String> nextCursorOptional =
+			pageItems.getNextCursorOptional();
+
+		_nextCursor = nextCursorOptional.orElse(null);
+
+		Optional<String> previousCursorOptional =
+			pageItems.getPreviousCursorOptional();
+
+		_previousCursor = previousCursorOptional.orElse(null);
+	}
+
+	@Override
+	public Optional<String> getAfterCursorOptional() {
+		return Optional.ofNullable(_afterCursor);
+	}
+
+	@Override
+	public Optional<String> getBeforeCursorOptional() {
+		return Optional.ofNullable(_beforeCursor);
+	}
+
+	@Override
+	public Optional<Integer> getEstimatedTotalCountOptional() {
+		if (_estimatedTotalCount < 0) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_estimatedTotalCount);
 	}
 
 	@Override
@@ -60,6 +117,14 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getLastPageNumber() {
+		if (_totalCount < 0) {
+			if (hasNext()) {
+				return _pageNumber + 1;
+			}
+
+			return _pageNumber;
+		}
+
 		if (_totalCount == 0) {
 			return 1;
 		}
@@ -67,6 +132,11 @@ public class PageImpl<T> implements Page<T> {
 		return -Math.floorDiv(-_totalCount, _itemsPerPage);
 	}
 
+	@Override
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
 	@Override
 	public List<Operation> getOperations() {
 		return emptyList();
@@ -82,6 +152,11 @@ public class PageImpl<T> implements Page<T> {
 		return Optional.empty();
 	}
 
+	@Override
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
 	@Override
 	public Resource getResource() {
 		return _resource;
@@ -97,8 +172,33 @@ public class PageImpl<T> implements Page<T> {
 		return _totalCount;
 	}
 
+	@Override
+	public Optional<Integer> getTotalCountOptional() {
+		if (_totalCount < 0) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_totalCount);
+	}
+
 	@Override
 	public boolean hasNext() {
+		if (isCursorBased()) {
+			if (_nextCursor != null) {
+				return true;
+			}
+
+			return false;
+		}
+
+		if (_totalCount < 0) {
+			if (_items.size() >= _itemsPerPage) {
+				return true;
+			}
+
+			return false;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -108,6 +208,14 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasPrevious() {
+		if (isCursorBased()) {
+			if (_previousCursor != null) {
+				return true;
+			}
+
+			return false;
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -115,9 +223,25 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
+	@Override
+	public boolean isCursorBased() {
+		if ((_afterCursor != null) || (_beforeCursor != null) ||
+			(_nextCursor != null) || (_previousCursor != null)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private final String _afterCursor;
+	private final String _beforeCursor;
+	private final int _estimatedTotalCount;
 	private final Collection<T> _items;
 	private final int _itemsPerPage;
+	private final String _nextCursor;
 	private final int _pageNumber;
+	private final String _previousCursor;
 	private final Resource _resource;
 	private final int _totalCount;
 
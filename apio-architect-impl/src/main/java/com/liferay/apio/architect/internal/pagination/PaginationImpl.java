@@ -16,6 +16,8 @@ package com.liferay.apio.architect.internal.pagination;
 
 import com.liferay.apio.architect.pagination.Pagination;
 
+import java.util.Optional;
+
 /**
  * Defines pagination for a collection endpoint. An instance of this class is
  * handed to resources that handle pagination parameters.
@@ -28,8 +30,35 @@ import com.liferay.apio.architect.pagination.Pagination;
 public class PaginationImpl implements Pagination {
 
 	public PaginationImpl(int itemsPerPage, int pageNumber) {
+		this(itemsPerPage, pageNumber, null, null);
+	}
+
+	public PaginationImpl(
+		int itemsPerPage, int pageNumber, String afterCursor,
+		String beforeCursor) {
+
+		this(itemsPerPage, pageNumber, afterCursor, beforeCursor, false);
+	}
+
+	public PaginationImpl(
+		int itemsPerPage, int pageNumber, String afterCursor,
+		String beforeCursor, boolean totalCountRequested) {
+
 		_itemsPerPage = itemsPerPage;
 		_pageNumber = pageNumber;
+		_afterCursor = afterCursor;
+		_beforeCursor = beforeCursor;
+		_totalCountRequested = totalCountRequested;
+	}
+
+	@Override
+	public Optional<String> getAfterCursorOptional() {
+		return Optional.ofNullable(_afterCursor);
+	}
+
+	@Override
+	public Optional<String> getBeforeCursorOptional() {
+		return Optional.ofNullable(_beforeCursor);
 	}
 
 	@Override
@@ -52,7 +81,15 @@ public class PaginationImpl implements Pagination {
 		return (_pageNumber - 1) * _itemsPerPage;
 	}
 
+	@Override
+	public boolean isTotalCountRequested() {
+		return _totalCountRequested;
+	}
+
+	private final String _afterCursor;
+	private final String _beforeCursor;
 	private final int _itemsPerPage;
 	private final int _pageNumber;
+	private final boolean _totalCountRequested;
 
 }
\ No newline at end of file
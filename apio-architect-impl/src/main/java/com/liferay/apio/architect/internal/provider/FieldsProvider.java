@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +36,11 @@ import org.osgi.service.component.annotations.Component;
  * Lets consumers use the {@code fields} affordance in order to select which
  * fields must be included in representations.
  *
+ * <p>
+ * The selected fields of each list of types are computed once per request, so
+ * testing a field doesn't allocate.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -73,25 +80,42 @@ public class FieldsProvider implements Provider<Fields> {
 				entry -> Arrays.asList(entry.getValue()[0].split(",")))
 		);
 
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+		if (fieldsMap.isEmpty()) {
+			return types -> _allFieldsPredicate;
+		}
+
+		Map<List<String>, Predicate<String>> fieldsPredicates =
+			new ConcurrentHashMap<>();
+
+		return types -> fieldsPredicates.computeIfAbsent(
+			types, __ -> _getFieldsPredicate(fieldsMap, types));
+	}
+
+	private static Predicate<String> _getFieldsPredicate(
+		Map<String, List<String>> fieldsMap, List<String> types) {
+
+		Stream<String> stream = types.stream();
+
+		Set<String> fields = stream.map(
+			fieldsMap::get
+		).filter(
+			Objects::nonNull
+		).flatMap(
+			List::stream
+		).collect(
+			Collectors.toSet()
+		);
+
+		if (fields.isEmpty()) {
+			return _allFieldsPredicate;
+		}
+
+		return fields::contains;
 	}
 
 	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
 
+	private static final Predicate<String> _allFieldsPredicate = __ -> true;
 	private static final Function<String, String> _getTypeFunction =
 		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
 
@@ -19,6 +19,9 @@ import com.liferay.apio.architect.internal.pagination.PaginationImpl;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.provider.Provider;
 
+import java.util.Collections;
+import java.util.Enumeration;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.osgi.service.component.annotations.Component;
@@ -43,7 +46,11 @@ public class PaginationProvider implements Provider<Pagination> {
 		int pageNumber = _getAsInt(
 			httpServletRequest.getParameter("page"), _PAGE_NUMBER_DEFAULT);
 
-		return new PaginationImpl(itemsPerPage, pageNumber);
+		return new PaginationImpl(
+			itemsPerPage, pageNumber,
+			_getCursor(httpServletRequest.getParameter("after")),
+			_getCursor(httpServletRequest.getParameter("before")),
+			_isTotalCountRequested(httpServletRequest));
 	}
 
 	private int _getAsInt(String parameterValue, int defaultValue) {
@@ -58,6 +65,45 @@ public class PaginationProvider implements Provider<Pagination> {
 		);
 	}
 
+	private String _getCursor(String parameterValue) {
+		if ((parameterValue == null) || parameterValue.isEmpty()) {
+			return null;
+		}
+
+		return parameterValue;
+	}
+
+	private boolean _isTotalCountRequested(
+		HttpServletRequest httpServletRequest) {
+
+		String count = httpServletRequest.getParameter("count");
+
+		if (count != null) {
+			return _EXACT_COUNT.equalsIgnoreCase(count);
+		}
+
+		Enumeration<String> enumeration = httpServletRequest.getHeaders(
+			"Prefer");
+
+		if (enumeration == null) {
+			return false;
+		}
+
+		for (String prefer : Collections.list(enumeration)) {
+			for (String preference : prefer.split("[,;]")) {
+				String trimmed = preference.trim();
+
+				if (trimmed.equalsIgnoreCase("count=" + _EXACT_COUNT)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static final String _EXACT_COUNT = "exact";
+
 	private static final int _ITEMS_PER_PAGE_DEFAULT = 30;
 
 	private static final int _PAGE_NUMBER_DEFAULT = 1;
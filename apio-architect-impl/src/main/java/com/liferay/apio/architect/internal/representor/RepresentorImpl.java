@@ -20,7 +20,9 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +38,24 @@ public class RepresentorImpl<T>
 		return _modelToIdentifierFunction.apply(model);
 	}
 
+	@Override
+	public Optional<Date> getLastModifiedOptional(T model) {
+		return Optional.ofNullable(
+			_lastModifiedFunction
+		).map(
+			function -> function.apply(model)
+		);
+	}
+
+	@Override
+	public Optional<String> getVersionOptional(T model) {
+		return Optional.ofNullable(
+			_versionFunction
+		).map(
+			function -> function.apply(model)
+		);
+	}
+
 	@Override
 	public boolean isNested() {
 		return false;
@@ -111,6 +131,22 @@ public class RepresentorImpl<T>
 				return this;
 			}
 
+			@Override
+			public FirstStep<T> lastModified(
+				Function<T, Date> lastModifiedFunction) {
+
+				baseRepresentor._setLastModifiedFunction(lastModifiedFunction);
+
+				return this;
+			}
+
+			@Override
+			public FirstStep<T> version(Function<T, String> versionFunction) {
+				baseRepresentor._setVersionFunction(versionFunction);
+
+				return this;
+			}
+
 		}
 
 		public class IdentifierStepImpl implements IdentifierStep<T, S> {
@@ -148,6 +184,18 @@ public class RepresentorImpl<T>
 		_modelToIdentifierFunction = modelToIdentifierFunction;
 	}
 
+	private void _setLastModifiedFunction(
+		Function<T, Date> lastModifiedFunction) {
+
+		_lastModifiedFunction = lastModifiedFunction;
+	}
+
+	private void _setVersionFunction(Function<T, String> versionFunction) {
+		_versionFunction = versionFunction;
+	}
+
+	private Function<T, Date> _lastModifiedFunction;
 	private Function<T, ?> _modelToIdentifierFunction;
+	private Function<T, String> _versionFunction;
 
 }
\ No newline at end of file
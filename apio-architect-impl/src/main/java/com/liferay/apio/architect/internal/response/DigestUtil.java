@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Base64;
+
+/**
+ * Provides utility functions for creating digests.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class DigestUtil {
+
+	/**
+	 * Returns the SHA-256 digest of the bytes, encoded with the URL-safe
+	 * Base64 alphabet and without padding.
+	 *
+	 * @param  bytes the bytes
+	 * @return the digest
+	 * @review
+	 */
+	public static String digest(byte[] bytes) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			Base64.Encoder encoder = Base64.getUrlEncoder();
+
+			return encoder.withoutPadding(
+			).encodeToString(
+				messageDigest.digest(bytes)
+			);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	/**
+	 * Returns the SHA-256 digest of the string's UTF-8 bytes, encoded with the
+	 * URL-safe Base64 alphabet and without padding.
+	 *
+	 * @param  string the string
+	 * @return the digest
+	 * @review
+	 */
+	public static String digest(String string) {
+		return digest(string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private DigestUtil() {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static com.liferay.apio.architect.internal.response.DigestUtil.digest;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Provides utility functions for creating entity tags.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class EntityTagUtil {
+
+	/**
+	 * Returns the weak entity tag of a model version. The entity tag is
+	 * calculated from the version and the identity of the model's resource, so
+	 * models of different resources, or with different identifiers, never
+	 * share an entity tag, even if their versions are equal.
+	 *
+	 * @param  resourceName the name of the model's resource
+	 * @param  identifier the model's identifier
+	 * @param  version the model's version
+	 * @return the weak entity tag
+	 * @review
+	 */
+	public static EntityTag getVersionEntityTag(
+		String resourceName, Object identifier, String version) {
+
+		StringBuilder sb = new StringBuilder();
+
+		for (String part :
+				new String[] {
+					resourceName, String.valueOf(identifier), version
+				}) {
+
+			sb.append(part.length());
+			sb.append(':');
+			sb.append(part);
+		}
+
+		return new EntityTag(digest(sb.toString()), true);
+	}
+
+	private EntityTagUtil() {
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static com.liferay.apio.architect.internal.response.DigestUtil.digest;
+
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.language.AcceptLanguage;
+
+import java.util.Locale;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Holds the bytes of a response rendered in advance, together with a strong
+ * entity tag calculated from them. Instances of this class are cached by
+ * {@link
+ * com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache},
+ * so responses that only change when the registered routers or representors
+ * change (like the API documentation) are rendered once, and by {@link
+ * ResponseCache}, so hot single models and pages aren't rendered again until
+ * they're modified.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RenderedResponse {
+
+	/**
+	 * Returns the key that identifies the rendered response of an entity
+	 * class, with the supplied media type, language and application URL.
+	 *
+	 * @param  clazz the class of the rendered entity
+	 * @param  mediaType the response's media type
+	 * @param  acceptLanguage the request's accepted language
+	 * @param  applicationURL the application URL
+	 * @return the key of the rendered response
+	 * @review
+	 */
+	public static String getKey(
+		Class<?> clazz, String mediaType, AcceptLanguage acceptLanguage,
+		ApplicationURL applicationURL) {
+
+		Locale locale = acceptLanguage.getPreferredLocale();
+
+		return String.join(
+			" ", clazz.getName(), mediaType, locale.toLanguageTag(),
+			applicationURL.get());
+	}
+
+	public RenderedResponse(byte[] bytes) {
+		_bytes = bytes;
+
+		_entityTag = new EntityTag(digest(bytes));
+	}
+
+	/**
+	 * Returns the rendered bytes. The returned array must not be modified.
+	 *
+	 * @return the rendered bytes
+	 * @review
+	 */
+	public byte[] getBytes() {
+		return _bytes;
+	}
+
+	/**
+	 * Returns the strong entity tag of the rendered bytes.
+	 *
+	 * @return the entity tag
+	 * @review
+	 */
+	public EntityTag getEntityTag() {
+		return _entityTag;
+	}
+
+	private final byte[] _bytes;
+	private final EntityTag _entityTag;
+
+}
\ No newline at end of file
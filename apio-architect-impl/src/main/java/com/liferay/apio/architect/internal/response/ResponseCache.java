@@ -0,0 +1,573 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static com.liferay.apio.architect.internal.response.DigestUtil.digest;
+
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the rendered representations of single models and pages between
+ * requests, so hot resources aren't written again for every request.
+ *
+ * <p>
+ * The cache is disabled unless the {@code
+ * apio.architect.response.cache.max.bytes} property is set, and it's bounded
+ * by the total size of the rendered representations. When it's full, a new
+ * representation is only admitted if it has been requested more often than
+ * the least recently used one, which is evicted. Request frequencies are
+ * approximated with a small count-min sketch that is periodically halved, so
+ * one-off requests can't flush the hot representations.
+ * </p>
+ *
+ * <p>
+ * Lookups don't block: representations are read from a concurrent map, and
+ * their recency is only updated when no other thread is storing or
+ * invalidating representations, so the eviction order is approximate under
+ * contention. Stores and invalidations are serialized by a lock.
+ * </p>
+ *
+ * <p>
+ * Representations are invalidated when an action other than {@code GET} is
+ * executed over a resource with the same name: actions over an {@link Item}
+ * invalidate its representations and the collections of that resource,
+ * while actions over a collection invalidate every representation of the
+ * resource. Representations with embedded resources are invalidated by any
+ * action, since they may contain any other resource. Representations
+ * rendered from models retrieved before an invalidation aren't stored.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = ResponseCache.class)
+public class ResponseCache {
+
+	/**
+	 * Returns a stable key of the credentials, if present; returns {@code
+	 * Optional#empty()} otherwise. Only {@code null} credentials and
+	 * credentials that are a {@code CharSequence}, a {@code Number} or a
+	 * {@code Boolean} have a stable key, since the string representation of
+	 * other objects may not identify the credentials (it may be the default
+	 * {@code Object#toString()}, for example). The key contains a digest of the
+	 * credentials, never the credentials themselves.
+	 *
+	 * @param  credentials the credentials, or {@code null} if there aren't
+	 *         credentials
+	 * @return the credentials' key, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public static Optional<String> getCredentialsKeyOptional(
+		Object credentials) {
+
+		if (credentials == null) {
+			return Optional.of("-");
+		}
+
+		if (!(credentials instanceof CharSequence) &&
+			!(credentials instanceof Number) &&
+			!(credentials instanceof Boolean)) {
+
+			return Optional.empty();
+		}
+
+		Class<?> clazz = credentials.getClass();
+
+		return Optional.of(digest(clazz.getName() + ":" + credentials));
+	}
+
+	/**
+	 * Returns the key of a request's representation, if the request's
+	 * credentials have a stable key; returns {@code Optional#empty()}
+	 * otherwise. The key contains the request URL (including its query
+	 * string, so the {@code fields}, {@code embedded} and pagination
+	 * parameters are part of it), the media type, the preferred language, the
+	 * application URL, the {@code Prefer} header and a digest of the request's
+	 * credentials.
+	 *
+	 * <p>
+	 * Representations of requests whose credentials don't have a {@link
+	 * #getCredentialsKeyOptional(Object) stable key} aren't cached.
+	 * </p>
+	 *
+	 * @param  httpServletRequest the request
+	 * @param  mediaType the response's media type
+	 * @param  acceptLanguage the request's accepted language
+	 * @param  applicationURL the application URL
+	 * @param  credentials the request's credentials, or {@code null} if there
+	 *         aren't credentials
+	 * @return the key of the request's representation, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<String> getKeyOptional(
+		HttpServletRequest httpServletRequest, String mediaType,
+		AcceptLanguage acceptLanguage, ApplicationURL applicationURL,
+		Object credentials) {
+
+		Optional<String> credentialsKeyOptional = getCredentialsKeyOptional(
+			credentials);
+
+		if (!credentialsKeyOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		StringBuffer sb = httpServletRequest.getRequestURL();
+
+		String queryString = httpServletRequest.getQueryString();
+
+		if (queryString != null) {
+			sb.append("?");
+			sb.append(queryString);
+		}
+
+		Locale locale = acceptLanguage.getPreferredLocale();
+
+		return Optional.of(
+			String.join(
+				" ", sb.toString(), mediaType, locale.toLanguageTag(),
+				applicationURL.get(),
+				String.valueOf(httpServletRequest.getHeader("Prefer")),
+				credentialsKeyOptional.get()));
+	}
+
+	/**
+	 * Returns the rendered representation stored with the key, if present;
+	 * returns {@code Optional#empty()} otherwise. Every call counts as a
+	 * request of the representation for the admission policy.
+	 *
+	 * @param  key the representation's key
+	 * @return the rendered representation, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<RenderedResponse> getRenderedResponseOptional(String key) {
+		if (!isEnabled()) {
+			return Optional.empty();
+		}
+
+		_frequencySketch.increment(key);
+
+		Entry entry = _entries.get(key);
+
+		if (entry == null) {
+			return Optional.empty();
+		}
+
+		if (_lock.tryLock()) {
+			try {
+				_recentEntries.get(key);
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		return Optional.of(entry._renderedResponse);
+	}
+
+	/**
+	 * Invalidates the representations affected by an action over the
+	 * resource.
+	 *
+	 * @param  resource the resource modified by the action
+	 * @review
+	 */
+	public void invalidate(Resource resource) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		_lock.lock();
+
+		try {
+			_generation++;
+
+			for (String key : new ArrayList<>(_embeddedKeys)) {
+				_remove(key);
+			}
+
+			Set<String> keys = _keys.get(resource.getName());
+
+			if (keys == null) {
+				return;
+			}
+
+			String id = _getId(resource);
+
+			for (String key : new ArrayList<>(keys)) {
+				Entry entry = _entries.get(key);
+
+				if ((id == null) || (entry._id == null) ||
+					id.equals(entry._id)) {
+
+					_remove(key);
+				}
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the cache is enabled.
+	 *
+	 * @return {@code true} if the cache is enabled; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		if (_maxBytes > 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Stores the rendered representation of a resource retrieved in the
+	 * request. The representation is discarded if it's bigger than the
+	 * cache, if it isn't admitted, or if any representation was invalidated
+	 * after the request's models were retrieved.
+	 *
+	 * @param  httpServletRequest the request whose models were rendered
+	 * @param  key the representation's key
+	 * @param  resource the rendered resource
+	 * @param  renderedResponse the rendered representation
+	 * @review
+	 */
+	public void put(
+		HttpServletRequest httpServletRequest, String key, Resource resource,
+		RenderedResponse renderedResponse) {
+
+		if (!isEnabled()) {
+			return;
+		}
+
+		byte[] bytes = renderedResponse.getBytes();
+
+		long weight = bytes.length + key.length();
+
+		if (weight > _maxBytes) {
+			return;
+		}
+
+		boolean embedded = false;
+
+		if (httpServletRequest.getParameter("embedded") != null) {
+			embedded = true;
+		}
+
+		Entry entry = new Entry(
+			key, resource.getName(), _getId(resource), embedded,
+			renderedResponse, weight);
+
+		Object generation = httpServletRequest.getAttribute(_GENERATION);
+
+		_lock.lock();
+
+		try {
+			if (!Long.valueOf(_generation).equals(generation)) {
+				return;
+			}
+
+			_store(entry);
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 * Records, in the request, the moment in which its first model is about
+	 * to be retrieved. Only the representations of requests with this record
+	 * are stored.
+	 *
+	 * @param  httpServletRequest the request
+	 * @review
+	 */
+	public void startRetrieving(
+		HttpServletRequest httpServletRequest) {
+
+		if (isEnabled() &&
+			(httpServletRequest.getAttribute(_GENERATION) == null)) {
+
+			httpServletRequest.setAttribute(_GENERATION, _generation);
+		}
+	}
+
+	@Activate
+	protected void activate(BundleContext bundleContext) {
+		String maxBytes = bundleContext.getProperty(_MAX_BYTES);
+
+		if (maxBytes == null) {
+			return;
+		}
+
+		try {
+			_maxBytes = Long.parseLong(maxBytes.trim());
+		}
+		catch (NumberFormatException nfe) {
+			_logger.warn(
+				"Invalid value {} for property {}, the response cache will " +
+					"be disabled",
+				maxBytes, _MAX_BYTES);
+		}
+	}
+
+	private static String _getId(Resource resource) {
+		if (!(resource instanceof Item)) {
+			return null;
+		}
+
+		Item item = (Item)resource;
+
+		return item.getIdOptional(
+		).map(
+			Id::asString
+		).orElse(
+			null
+		);
+	}
+
+	private void _remove(String key) {
+		Entry entry = _entries.remove(key);
+
+		if (entry != null) {
+			_recentEntries.remove(key);
+
+			_unindex(entry);
+		}
+	}
+
+	private void _store(Entry entry) {
+		String key = entry._key;
+
+		Entry currentEntry = _entries.get(key);
+
+		long bytes = _bytes;
+
+		if (currentEntry != null) {
+			bytes -= currentEntry._weight;
+		}
+
+		List<Entry> victims = new ArrayList<>();
+
+		Collection<Entry> entries = _recentEntries.values();
+
+		Iterator<Entry> iterator = entries.iterator();
+
+		while ((bytes + entry._weight) > _maxBytes) {
+			Entry victim = iterator.next();
+
+			if (victim == currentEntry) {
+				continue;
+			}
+
+			if (_frequencySketch.frequency(key) <=
+					_frequencySketch.frequency(victim._key)) {
+
+				return;
+			}
+
+			victims.add(victim);
+
+			bytes -= victim._weight;
+		}
+
+		_remove(key);
+
+		for (Entry victim : victims) {
+			_remove(victim._key);
+		}
+
+		_entries.put(key, entry);
+		_recentEntries.put(key, entry);
+
+		_bytes += entry._weight;
+
+		if (entry._embedded) {
+			_embeddedKeys.add(key);
+		}
+		else {
+			Set<String> keys = _keys.computeIfAbsent(
+				entry._name, __ -> new HashSet<>());
+
+			keys.add(key);
+		}
+	}
+
+	private void _unindex(Entry entry) {
+		_bytes -= entry._weight;
+
+		if (entry._embedded) {
+			_embeddedKeys.remove(entry._key);
+
+			return;
+		}
+
+		Set<String> keys = _keys.get(entry._name);
+
+		if (keys == null) {
+			return;
+		}
+
+		keys.remove(entry._key);
+
+		if (keys.isEmpty()) {
+			_keys.remove(entry._name);
+		}
+	}
+
+	private static final String _GENERATION =
+		ResponseCache.class.getName() + "#GENERATION";
+
+	private static final String _MAX_BYTES =
+		"apio.architect.response.cache.max.bytes";
+
+	private static final Logger _logger = LoggerFactory.getLogger(
+		ResponseCache.class);
+
+	private long _bytes;
+	private final Set<String> _embeddedKeys = new HashSet<>();
+	private final Map<String, Entry> _entries = new ConcurrentHashMap<>();
+	private final FrequencySketch _frequencySketch = new FrequencySketch();
+	private volatile long _generation;
+	private final Map<String, Set<String>> _keys = new HashMap<>();
+	private final ReentrantLock _lock = new ReentrantLock();
+	private long _maxBytes;
+	private final Map<String, Entry> _recentEntries = new LinkedHashMap<>(
+		16, 0.75F, true);
+
+	private static class Entry {
+
+		private Entry(
+			String key, String name, String id, boolean embedded,
+			RenderedResponse renderedResponse, long weight) {
+
+			_key = key;
+			_name = name;
+			_id = id;
+			_embedded = embedded;
+			_renderedResponse = renderedResponse;
+			_weight = weight;
+		}
+
+		private final boolean _embedded;
+		private final String _id;
+		private final String _key;
+		private final String _name;
+		private final RenderedResponse _renderedResponse;
+		private final long _weight;
+
+	}
+
+	/**
+	 * Approximates how often each key is requested with four rows of 4-bit
+	 * counters. Counters are halved after a number of increments, so old
+	 * requests lose weight. Counters are updated without locking, since a
+	 * lost update only makes a frequency slightly less accurate.
+	 */
+	private static class FrequencySketch {
+
+		public int frequency(String key) {
+			int hash = _spread(key.hashCode());
+
+			int frequency = Integer.MAX_VALUE;
+
+			for (int i = 0; i < _SEEDS.length; i++) {
+				frequency = Math.min(frequency, _counters[_index(hash, i)]);
+			}
+
+			return frequency;
+		}
+
+		public void increment(String key) {
+			int hash = _spread(key.hashCode());
+
+			for (int i = 0; i < _SEEDS.length; i++) {
+				int index = _index(hash, i);
+
+				if (_counters[index] < _MAX_FREQUENCY) {
+					_counters[index]++;
+				}
+			}
+
+			if (_increments.incrementAndGet() == _RESET_INCREMENTS) {
+				for (int i = 0; i < _counters.length; i++) {
+					_counters[i] >>>= 1;
+				}
+
+				_increments.addAndGet(-_RESET_INCREMENTS);
+			}
+		}
+
+		private static int _spread(int hash) {
+			hash ^= hash >>> 17;
+			hash *= 0xED5AD4BB;
+			hash ^= hash >>> 11;
+
+			return hash;
+		}
+
+		private int _index(int hash, int i) {
+			int index = (hash ^ _SEEDS[i]) * 0x9E3779B9;
+
+			return (index >>> 16) & (_counters.length - 1);
+		}
+
+		private static final int _MAX_FREQUENCY = 15;
+
+		private static final int _RESET_INCREMENTS = 10 * 4096;
+
+		private static final int[] _SEEDS = {
+			0x97CB3127, 0xB8F9A1C3, 0x3C6EF372, 0xDAA66D2B
+		};
+
+		private final byte[] _counters = new byte[4096];
+		private final AtomicInteger _increments = new AtomicInteger();
+
+	}
+
+}
\ No newline at end of file
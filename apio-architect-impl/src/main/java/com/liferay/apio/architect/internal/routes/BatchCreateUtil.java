@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.routes;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Provides utility functions for the batch-create actions that create their
+ * elements in chunks.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class BatchCreateUtil {
+
+	/**
+	 * Creates the elements of the stream in chunks of {@code chunkSize}
+	 * elements, and returns a {@link BatchResult} with the identifiers of
+	 * every element. Every element is created before this method returns, so
+	 * a failure can still be answered with an error response. Only one chunk
+	 * of elements is kept in memory at a time; the chunks created before a
+	 * failure stay created. The stream is closed before this method returns.
+	 *
+	 * @param  stream the stream of elements to create
+	 * @param  chunkSize the maximum number of elements of each chunk
+	 * @param  throwableFunction the function that creates a chunk of elements
+	 *         and returns their identifiers
+	 * @param  resourceName the name of the elements' resource
+	 * @return the batch result
+	 * @review
+	 */
+	public static <R, S> BatchResult<S> createInChunks(
+			Stream<R> stream, int chunkSize,
+			ThrowableFunction<List<R>, List<S>> throwableFunction,
+			String resourceName)
+		throws Exception {
+
+		List<S> identifiers = new ArrayList<>();
+
+		try (Stream<R> closeableStream = stream) {
+			Iterator<R> iterator = closeableStream.iterator();
+
+			while (iterator.hasNext()) {
+				List<R> chunk = new ArrayList<>(chunkSize);
+
+				while (iterator.hasNext() && (chunk.size() < chunkSize)) {
+					chunk.add(iterator.next());
+				}
+
+				identifiers.addAll(throwableFunction.apply(chunk));
+			}
+		}
+
+		return new BatchResult<>(identifiers, resourceName);
+	}
+
+	/**
+	 * Returns the stream of the body members, transformed with the form.
+	 *
+	 * @param  body the body
+	 * @param  form the form of each body member
+	 * @return the stream of transformed body members
+	 * @throws BadRequestException if the body doesn't contain members
+	 * @review
+	 */
+	public static <R> Stream<R> getBodyMembersStream(Body body, Form<R> form) {
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
+
+		Stream<Body> stream = optional.orElseThrow(
+			() -> new BadRequestException("Body does not contain members"));
+
+		return stream.map(form::get);
+	}
+
+	private BatchCreateUtil() {
+	}
+
+}
\ No newline at end of file
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.routes;
 
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.getBodyMembersStream;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import static java.util.Collections.unmodifiableList;
@@ -110,10 +112,32 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			Function<T, S> modelToIdentifierFunction,
 			Function<String, Optional<String>> nameFunction) {
 
+			this(
+				paged, formBuilderSupplier, modelToIdentifierFunction,
+				nameFunction, 0);
+		}
+
+		/**
+		 * Creates a builder whose batch-create action reads and creates the
+		 * body members in chunks of {@code batchCreateChunkSize} elements, so
+		 * only one chunk of body members is kept in memory at a time. Every
+		 * chunk is created before the action returns. If {@code
+		 * batchCreateChunkSize} isn't positive, every body member is read
+		 * before the elements are created.
+		 *
+		 * @review
+		 */
+		public BuilderImpl(
+			Paged paged, Supplier<Form.Builder> formBuilderSupplier,
+			Function<T, S> modelToIdentifierFunction,
+			Function<String, Optional<String>> nameFunction,
+			int batchCreateChunkSize) {
+
 			_paged = paged;
 			_formBuilderSupplier = formBuilderSupplier;
 			_modelToIdentifierFunction = modelToIdentifierFunction;
 			_nameFunction = nameFunction;
+			_batchCreateChunkSize = batchCreateChunkSize;
 		}
 
 		@Override
@@ -150,8 +174,39 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			Form<?> form = formBuilderFunction.apply(
 				unsafeCast(_formBuilderSupplier.get()));
 
-			ActionSemantics batchCreateActionSemantics =
-				ActionSemantics.ofResource(
+			ActionSemantics batchCreateActionSemantics;
+
+			if (_batchCreateChunkSize > 0) {
+				batchCreateActionSemantics = ActionSemantics.ofResource(
+					_paged
+				).name(
+					"batch-create"
+				).method(
+					"POST"
+				).returns(
+					BatchResult.class
+				).executeFunction(
+					params -> {
+						A a = unsafeCast(params.get(1));
+						B b = unsafeCast(params.get(2));
+						C c = unsafeCast(params.get(3));
+						D d = unsafeCast(params.get(4));
+
+						return createInChunks(
+							unsafeCast(params.get(0)), _batchCreateChunkSize,
+							(List<R> list) ->
+								batchCreatorThrowablePentaFunction.apply(
+									list, a, b, c, d),
+							_paged.getName());
+					}
+				).bodyFunction(
+					body -> getBodyMembersStream(body, form)
+				).receivesParams(
+					Body.class, aClass, bClass, cClass, dClass
+				).build();
+			}
+			else {
+				batchCreateActionSemantics = ActionSemantics.ofResource(
 					_paged
 				).name(
 					"batch-create"
@@ -172,6 +227,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 				).receivesParams(
 					Body.class, aClass, bClass, cClass, dClass
 				).build();
+			}
 
 			_actionSemantics.add(batchCreateActionSemantics);
 
@@ -328,6 +384,7 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 
 		private final List<ActionSemantics> _actionSemantics =
 			new ArrayList<>();
+		private final int _batchCreateChunkSize;
 		private final Supplier<Form.Builder> _formBuilderSupplier;
 		private final Function<T, S> _modelToIdentifierFunction;
 		private final Function<String, Optional<String>> _nameFunction;
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.routes;
 
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.getBodyMembersStream;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
@@ -98,6 +100,23 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			Resource resource, Supplier<Form.Builder> formBuilderSupplier,
 			Function<T, S> modelToIdentifierFunction) {
 
+			this(resource, formBuilderSupplier, modelToIdentifierFunction, 0);
+		}
+
+		/**
+		 * Creates a builder whose batch-create action reads and creates the
+		 * body members in chunks of {@code batchCreateChunkSize} elements, as
+		 * {@link CollectionRoutesImpl.BuilderImpl} does. If {@code
+		 * batchCreateChunkSize} isn't positive, every body member is read
+		 * before the elements are created.
+		 *
+		 * @review
+		 */
+		public BuilderImpl(
+			Resource resource, Supplier<Form.Builder> formBuilderSupplier,
+			Function<T, S> modelToIdentifierFunction,
+			int batchCreateChunkSize) {
+
 			if (!(resource instanceof Nested) &&
 				!(resource instanceof GenericParent)) {
 
@@ -108,6 +127,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			_resource = resource;
 			_formBuilderSupplier = formBuilderSupplier;
 			_modelToIdentifierFunction = modelToIdentifierFunction;
+			_batchCreateChunkSize = batchCreateChunkSize;
 		}
 
 		@Override
@@ -146,8 +166,40 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			Form form = formBuilderFunction.apply(
 				unsafeCast(_formBuilderSupplier.get()));
 
-			ActionSemantics batchCreateActionSemantics =
-				ActionSemantics.ofResource(
+			ActionSemantics batchCreateActionSemantics;
+
+			if (_batchCreateChunkSize > 0) {
+				batchCreateActionSemantics = ActionSemantics.ofResource(
+					_resource
+				).name(
+					"batch-create"
+				).method(
+					"POST"
+				).returns(
+					BatchResult.class
+				).executeFunction(
+					params -> {
+						U u = _getId(params.get(0));
+						A a = unsafeCast(params.get(2));
+						B b = unsafeCast(params.get(3));
+						C c = unsafeCast(params.get(4));
+						D d = unsafeCast(params.get(5));
+
+						return createInChunks(
+							unsafeCast(params.get(1)), _batchCreateChunkSize,
+							(List<R> list) ->
+								batchCreatorThrowableHexaFunction.apply(
+									u, list, a, b, c, d),
+							_resource.getName());
+					}
+				).bodyFunction(
+					body -> getBodyMembersStream(body, form)
+				).receivesParams(
+					_getIdClass(), Body.class, aClass, bClass, cClass, dClass
+				).build();
+			}
+			else {
+				batchCreateActionSemantics = ActionSemantics.ofResource(
 					_resource
 				).name(
 					"batch-create"
@@ -168,6 +220,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 				).receivesParams(
 					_getIdClass(), Body.class, aClass, bClass, cClass, dClass
 				).build();
+			}
 
 			_actionSemantics.add(batchCreateActionSemantics);
 
@@ -285,6 +338,7 @@ public class NestedCollectionRoutesImpl<T, S, U>
 
 		private final List<ActionSemantics> _actionSemantics =
 			new ArrayList<>();
+		private final int _batchCreateChunkSize;
 		private final Supplier<Form.Builder> _formBuilderSupplier;
 		private final Function<T, S> _modelToIdentifierFunction;
 		private final Resource _resource;
@@ -0,0 +1,315 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.tracing;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.tracing.SpanListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+
+/**
+ * Measures the phases of each request and reports them to the registered
+ * {@link SpanListener} instances and, if enabled, in the {@code
+ * Server-Timing} response header.
+ *
+ * <p>
+ * There should only be one instance of this class, accessible through {@link
+ * #INSTANCE}. If the {@code Server-Timing} header is disabled and there are no
+ * span listeners, starting a span returns a no-op span without reading the
+ * clock.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class Tracing {
+
+	/**
+	 * The {@link Tracing} instance.
+	 */
+	public static final Tracing INSTANCE = new Tracing();
+
+	/**
+	 * The name of the span that measures the execution of an action.
+	 */
+	public static final String ACTION = "action";
+
+	/**
+	 * The name of the span that measures the retrieval of embedded related
+	 * models.
+	 */
+	public static final String EMBEDDED = "embedded";
+
+	/**
+	 * The name of the span that measures the provision of an action's
+	 * parameters.
+	 */
+	public static final String PROVIDE = "provide";
+
+	/**
+	 * The name of the span that measures the resolution of an action.
+	 */
+	public static final String ROUTE = "route";
+
+	/**
+	 * The name of the span that measures the writing of the response.
+	 */
+	public static final String SERIALIZATION = "serialization";
+
+	/**
+	 * Adds a span listener.
+	 *
+	 * @param  spanListener the span listener
+	 * @review
+	 */
+	public void addSpanListener(SpanListener spanListener) {
+		_spanListeners.add(spanListener);
+	}
+
+	/**
+	 * Removes every span listener and disables the {@code Server-Timing}
+	 * header.
+	 *
+	 * @review
+	 */
+	public void clear() {
+		_serverTimingEnabled = false;
+
+		_spanListeners.clear();
+	}
+
+	/**
+	 * Returns the value of the {@code Server-Timing} header for the supplied
+	 * request, with the total duration of each phase finished so far, in
+	 * milliseconds, if the header is enabled and any phase has finished;
+	 * returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the value of the {@code Server-Timing} header, if present;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getServerTimingOptional(
+		HttpServletRequest httpServletRequest) {
+
+		if (!_serverTimingEnabled || (httpServletRequest == null)) {
+			return Optional.empty();
+		}
+
+		Map<String, Long> durations = _getDurations(httpServletRequest);
+
+		if (durations == null) {
+			return Optional.empty();
+		}
+
+		StringJoiner stringJoiner = new StringJoiner(", ");
+
+		synchronized (durations) {
+			durations.forEach(
+				(name, nanos) -> stringJoiner.add(
+					name + ";dur=" + _toMillis(nanos)));
+		}
+
+		return Optional.of(stringJoiner.toString());
+	}
+
+	/**
+	 * Returns {@code true} if spans are being measured, because the {@code
+	 * Server-Timing} header is enabled or there are span listeners.
+	 *
+	 * @return {@code true} if spans are being measured; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		if (_serverTimingEnabled) {
+			return true;
+		}
+
+		return !_spanListeners.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} if the {@code Server-Timing} header is enabled.
+	 *
+	 * @return {@code true} if the {@code Server-Timing} header is enabled;
+	 *         {@code false} otherwise
+	 * @review
+	 */
+	public boolean isServerTimingEnabled() {
+		return _serverTimingEnabled;
+	}
+
+	/**
+	 * Removes a span listener.
+	 *
+	 * @param  spanListener the span listener
+	 * @review
+	 */
+	public void removeSpanListener(SpanListener spanListener) {
+		_spanListeners.remove(spanListener);
+	}
+
+	/**
+	 * Enables or disables the {@code Server-Timing} header. While it's
+	 * enabled, the message body writers buffer every response in memory
+	 * before writing it, so that the header can include the serialization
+	 * phase.
+	 *
+	 * @param  serverTimingEnabled whether the {@code Server-Timing} header
+	 *         must be returned
+	 * @review
+	 */
+	public void setServerTimingEnabled(boolean serverTimingEnabled) {
+		_serverTimingEnabled = serverTimingEnabled;
+	}
+
+	/**
+	 * Starts a span for the supplied request. The returned span must be
+	 * finished once the phase ends, even if it fails.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  name the span's name
+	 * @return the started span
+	 * @review
+	 */
+	public Span startSpan(HttpServletRequest httpServletRequest, String name) {
+		if ((httpServletRequest == null) || !isEnabled()) {
+			return _NOOP_SPAN;
+		}
+
+		for (SpanListener spanListener : _spanListeners) {
+			try {
+				spanListener.spanStarted(httpServletRequest, name);
+			}
+			catch (Exception e) {
+				_logger.warn("Span listener {} failed", spanListener, e);
+			}
+		}
+
+		return new Span(httpServletRequest, name);
+	}
+
+	/**
+	 * Represents a started phase of a request.
+	 *
+	 * @review
+	 */
+	public class Span {
+
+		/**
+		 * Finishes this span. Calling this method more than once, or on the
+		 * no-op span, has no effect.
+		 *
+		 * @review
+		 */
+		public void finish() {
+			if ((_httpServletRequest == null) || _finished) {
+				return;
+			}
+
+			_finished = true;
+
+			long durationNanos = System.nanoTime() - _start;
+
+			if (_serverTimingEnabled) {
+				_addDuration(_httpServletRequest, _name, durationNanos);
+			}
+
+			for (SpanListener spanListener : _spanListeners) {
+				try {
+					spanListener.spanFinished(
+						_httpServletRequest, _name, durationNanos);
+				}
+				catch (Exception e) {
+					_logger.warn("Span listener {} failed", spanListener, e);
+				}
+			}
+		}
+
+		private Span(HttpServletRequest httpServletRequest, String name) {
+			_httpServletRequest = httpServletRequest;
+			_name = name;
+
+			_start = System.nanoTime();
+		}
+
+		private volatile boolean _finished;
+		private final HttpServletRequest _httpServletRequest;
+		private final String _name;
+		private final long _start;
+
+	}
+
+	private static String _toMillis(long nanos) {
+		BigDecimal bigDecimal = BigDecimal.valueOf(nanos, 6);
+
+		return bigDecimal.setScale(
+			3, RoundingMode.HALF_UP
+		).toPlainString();
+	}
+
+	private Tracing() {
+	}
+
+	private void _addDuration(
+		HttpServletRequest httpServletRequest, String name, long nanos) {
+
+		Map<String, Long> durations;
+
+		synchronized (httpServletRequest) {
+			durations = _getDurations(httpServletRequest);
+
+			if (durations == null) {
+				durations = Collections.synchronizedMap(new LinkedHashMap<>());
+
+				httpServletRequest.setAttribute(_DURATIONS, durations);
+			}
+		}
+
+		durations.merge(name, nanos, Long::sum);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Long> _getDurations(
+		HttpServletRequest httpServletRequest) {
+
+		return (Map<String, Long>)httpServletRequest.getAttribute(_DURATIONS);
+	}
+
+	private static final String _DURATIONS = Tracing.class.getName();
+
+	private static final Span _NOOP_SPAN = INSTANCE.new Span(null, null);
+
+	private final Logger _logger = getLogger(getClass());
+	private volatile boolean _serverTimingEnabled;
+	private final List<SpanListener> _spanListeners =
+		new CopyOnWriteArrayList<>();
+
+}
\ No newline at end of file
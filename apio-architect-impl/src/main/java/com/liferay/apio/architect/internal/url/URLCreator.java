@@ -122,6 +122,40 @@ public final class URLCreator {
 		return createAbsoluteURL(applicationURL, uri.toString());
 	}
 
+	/**
+	 * Returns the URL for a collection page requested with a cursor.
+	 *
+	 * @param  collectionURL the collection URL
+	 * @param  page the page
+	 * @param  cursorParameterName the name of the cursor's parameter ({@code
+	 *         after} or {@code before})
+	 * @param  cursor the cursor, or {@code null} for the collection's first
+	 *         page
+	 * @return the collection page URL
+	 * @review
+	 */
+	public static String createCollectionCursorPageURL(
+		String collectionURL, Page page, String cursorParameterName,
+		String cursor) {
+
+		UriBuilder uriBuilder = UriBuilder.fromUri(collectionURL);
+
+		if (cursor == null) {
+			return uriBuilder.queryParam(
+				"per_page", page.getItemsPerPage()
+			).build(
+			).toString();
+		}
+
+		return uriBuilder.queryParam(
+			cursorParameterName, "{cursor}"
+		).queryParam(
+			"per_page", page.getItemsPerPage()
+		).build(
+			cursor
+		).toString();
+	}
+
 	/**
 	 * Returns the URL for a collection page.
 	 *
@@ -14,11 +14,15 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 
+import static org.apache.commons.lang3.StringUtils.deleteWhitespace;
+
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
@@ -35,12 +39,24 @@ import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Variant;
@@ -54,6 +70,35 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * The message mapper chosen for each {@code Accept} header is also cached, for
+ * every kind of message mapper, so content negotiation only happens the first
+ * time a client sends a given {@code Accept} header. Only a bounded number of
+ * different headers is remembered per kind of message mapper.
+ * </p>
+ *
+ * <p>
+ * The cached data is kept in an immutable snapshot that is replaced atomically,
+ * so readers never take a lock and always see a consistent view, even while
+ * the cache is being cleared or repopulated. Missing data is computed into a
+ * private copy of the current snapshot, which is only published once the
+ * computation finishes. Only one computation runs per snapshot: threads that
+ * miss data meanwhile wait for it to finish, and then compute on top of the
+ * published snapshot only if their data is still missing.
+ * </p>
+ *
+ * <p>
+ * Responses that only depend on the cached data (like the API documentation)
+ * can also be cached already rendered. Like the negotiated message mappers,
+ * they're discarded whenever the snapshot is replaced.
+ * </p>
+ *
+ * <p>
+ * The same happens with the fields fragments: the values of the basic fields
+ * of versioned models, reused by every writer that writes the same version of
+ * a model.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -69,44 +114,43 @@ public class ManagerCache {
 	 * @param actionSemantics the action semantics
 	 */
 	public void addActionSemantics(ActionSemantics actionSemantics) {
-		if (_actionSemantics == null) {
-			_actionSemantics = new ArrayList<>();
-		}
-
-		_actionSemantics.add(actionSemantics);
+		_update(
+			snapshot -> {
+				if (snapshot._actionSemantics == null) {
+					snapshot._actionSemantics = new ArrayList<>();
+				}
+
+				snapshot._actionSemantics.add(actionSemantics);
+			});
 	}
 
 	/**
 	 * Clears the cache.
 	 */
 	public void clear() {
-		_actionSemantics = null;
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_entryPointMessageMappers = null;
-		_errorMessageMappers = null;
-		_identifierClasses = null;
-		_reusableIdentifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_parsedTypes = null;
-		_batchResultMessageMappers = null;
-		_representors = null;
-		_reusableNestedCollectionRoutes = null;
-		_rootResourceNameSdks = null;
-		_singleModelMessageMappers = null;
+		_snapshotReference.set(new Snapshot());
 	}
 
 	public List<ActionSemantics> getActionSemantics(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_actionSemantics == null) {
-			computeEmptyFunction.invoke();
-		}
+		return _get(
+			snapshot -> snapshot._actionSemantics, computeEmptyFunction);
+	}
 
-		return _actionSemantics;
+	/**
+	 * Returns the index of the action semantics provided by every router.
+	 *
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the action semantics index
+	 * @review
+	 */
+	public ActionSemanticsIndex getActionSemanticsIndex(
+		EmptyFunction computeEmptyFunction) {
+
+		return _get(
+			snapshot -> snapshot._actionSemanticsIndex, computeEmptyFunction);
 	}
 
 	/**
@@ -114,6 +158,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the batch result message mapper, if present; {@code
@@ -121,14 +166,13 @@ public class ManagerCache {
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
 		getBatchResultMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_batchResultMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<BatchResultMessageMapper> optional = _getMessageMapperOptional(
-			request, _batchResultMessageMappers);
+			BatchResultMessageMapper.class,
+			snapshot -> snapshot._batchResultMessageMappers, request,
+			httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -136,21 +180,15 @@ public class ManagerCache {
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _collectionRoutes;
+		return _get(
+			snapshot -> snapshot._collectionRoutes, computeEmptyFunction);
 	}
 
 	public CustomDocumentation getDocumentationContribution(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_customDocumentation == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _customDocumentation;
+		return _get(
+			snapshot -> snapshot._customDocumentation, computeEmptyFunction);
 	}
 
 	/**
@@ -158,6 +196,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the documentation message mapper, if present; {@code
@@ -165,14 +204,14 @@ public class ManagerCache {
 	 */
 	public Optional<DocumentationMessageMapper>
 		getDocumentationMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+			_getMessageMapperOptional(
+				DocumentationMessageMapper.class,
+				snapshot -> snapshot._documentationMessageMappers, request,
+				httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -182,20 +221,20 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the entry point message mapper, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_entryPointMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
 		Optional<EntryPointMessageMapper> optional = _getMessageMapperOptional(
-			request, _entryPointMessageMappers);
+			EntryPointMessageMapper.class,
+			snapshot -> snapshot._entryPointMessageMappers, request,
+			httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -205,24 +244,42 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the error message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
 		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+			ErrorMessageMapper.class, snapshot -> snapshot._errorMessageMappers,
+			request, httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns the fields fragment identified by the key, creating an empty one
+	 * if it's not present. A fields fragment maps each basic field of a model
+	 * to its computed value, so it can be filled concurrently while the model
+	 * is written. The least recently used fragments are evicted when there
+	 * are too many of them, or when the values they hold weigh too much.
+	 *
+	 * @param  key the fields fragment's key
+	 * @return the fields fragment
+	 * @review
+	 */
+	public Map<String, Object> getFieldsFragment(String key) {
+		Snapshot snapshot = _getSnapshot();
+
+		FieldsFragments fieldsFragments = snapshot._fieldsFragments;
+
+		return fieldsFragments.get(key);
+	}
+
 	/**
 	 * Returns the resource name's identifier class.
 	 *
@@ -234,12 +291,8 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_identifierClasses
+			_get(snapshot -> snapshot._identifierClasses, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -250,11 +303,7 @@ public class ManagerCache {
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _itemRoutes;
+		return _get(snapshot -> snapshot._itemRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -269,13 +318,11 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		Optional<Map<String, String>> optional = getNamesOptional();
-
-		return optional.map(map -> map.get(className));
+		return Optional.ofNullable(
+			_get(snapshot -> snapshot._names, computeEmptyFunction)
+		).map(
+			map -> map.get(className)
+		);
 	}
 
 	/**
@@ -288,17 +335,16 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		Snapshot snapshot = _getSnapshot();
+
+		return Optional.ofNullable(snapshot._names);
 	}
 
 	public Map<String, NestedCollectionRoutes> getNestedCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _nestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._nestedCollectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -306,20 +352,19 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the page message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
 
 		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+			PageMessageMapper.class, snapshot -> snapshot._pageMessageMappers,
+			request, httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -335,21 +380,66 @@ public class ManagerCache {
 	public Map<String, ParsedType> getParsedTypesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_parsedTypes == null) {
-			computeEmptyFunction.invoke();
+		return _get(snapshot -> snapshot._parsedTypes, computeEmptyFunction);
+	}
+
+	/**
+	 * Returns the rendered response cached with the key. If no response is
+	 * cached with the key, it's rendered with the supplier and cached until the
+	 * cache is cleared or any of its data changes.
+	 *
+	 * <p>
+	 * The rendered response is cached in the snapshot that was current when the
+	 * rendering started, so a response rendered while the cache is being
+	 * cleared or repopulated is never returned for later requests.
+	 * </p>
+	 *
+	 * @param  key the rendered response's key
+	 * @param  supplier the supplier that renders the response
+	 * @return the rendered response
+	 * @review
+	 */
+	public <T> T getRenderedResponse(String key, Supplier<T> supplier) {
+		Snapshot snapshot = _getSnapshot();
+
+		Object object = snapshot._renderedResponses.get(key);
+
+		if (object != null) {
+			return Unsafe.unsafeCast(object);
 		}
 
-		return _parsedTypes;
+		T t = supplier.get();
+
+		if (snapshot._renderedResponses.size() < _RENDERED_RESPONSES_MAX_SIZE) {
+			snapshot._renderedResponses.putIfAbsent(key, t);
+		}
+
+		return t;
+	}
+
+	/**
+	 * Returns the rendered response cached with the key, if present; returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @param  key the rendered response's key
+	 * @return the rendered response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public <T> Optional<T> getRenderedResponseOptional(String key) {
+		Snapshot snapshot = _getSnapshot();
+
+		return Optional.ofNullable(
+			snapshot._renderedResponses.get(key)
+		).map(
+			Unsafe::unsafeCast
+		);
 	}
 
 	public Map<String, Representor> getRepresentorMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _representors;
+		return _get(snapshot -> snapshot._representors, computeEmptyFunction);
 	}
 
 	/**
@@ -364,12 +454,8 @@ public class ManagerCache {
 	public <T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
 		return Optional.ofNullable(
-			_representors
+			_get(snapshot -> snapshot._representors, computeEmptyFunction)
 		).map(
 			map -> map.get(name)
 		).map(
@@ -380,16 +466,16 @@ public class ManagerCache {
 	public Map<String, NestedCollectionRoutes> getReusableCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _reusableNestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._reusableNestedCollectionRoutes,
+			computeEmptyFunction);
 	}
 
 	public Optional<Class<?>> getReusableIdentifierClassOptional(String name) {
+		Snapshot snapshot = _getSnapshot();
+
 		return Optional.ofNullable(
-			_reusableIdentifierClasses
+			snapshot._reusableIdentifierClasses
 		).map(
 			map -> map.get(name)
 		).map(
@@ -402,6 +488,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the single model message mapper, if present; {@code
@@ -409,18 +496,30 @@ public class ManagerCache {
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
-
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+			Request request, HttpHeaders httpHeaders,
+			EmptyFunction computeEmptyFunction) {
 
 		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+			SingleModelMessageMapper.class,
+			snapshot -> snapshot._singleModelMessageMappers, request,
+			httpHeaders, computeEmptyFunction);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Sets the index of the action semantics provided by every router.
+	 *
+	 * @param  actionSemanticsIndex the action semantics index
+	 * @review
+	 */
+	public void putActionSemanticsIndex(
+		ActionSemanticsIndex actionSemanticsIndex) {
+
+		_update(
+			snapshot -> snapshot._actionSemanticsIndex = actionSemanticsIndex);
+	}
+
 	/**
 	 * Adds a batch result message mapper.
 	 *
@@ -431,11 +530,15 @@ public class ManagerCache {
 		MediaType mediaType,
 		BatchResultMessageMapper batchResultMessageMapper) {
 
-		if (_batchResultMessageMappers == null) {
-			_batchResultMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._batchResultMessageMappers == null) {
+					snapshot._batchResultMessageMappers = new HashMap<>();
+				}
 
-		_batchResultMessageMappers.put(mediaType, batchResultMessageMapper);
+				snapshot._batchResultMessageMappers.put(
+					mediaType, batchResultMessageMapper);
+			});
 	}
 
 	/**
@@ -447,17 +550,21 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._collectionRoutes == null) {
+					snapshot._collectionRoutes = new HashMap<>();
+				}
 
-		_collectionRoutes.put(key, collectionRoutes);
+				snapshot._collectionRoutes.put(key, collectionRoutes);
+			});
 	}
 
 	public void putDocumentationContribution(
 		CustomDocumentation customDocumentation) {
 
-		_customDocumentation = customDocumentation;
+		_update(
+			snapshot -> snapshot._customDocumentation = customDocumentation);
 	}
 
 	/**
@@ -470,11 +577,15 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._documentationMessageMappers == null) {
+					snapshot._documentationMessageMappers = new HashMap<>();
+				}
 
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+				snapshot._documentationMessageMappers.put(
+					mediaType, documentationMessageMapper);
+			});
 	}
 
 	/**
@@ -486,11 +597,15 @@ public class ManagerCache {
 	public void putEntryPointMessageMapper(
 		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
 
-		if (_entryPointMessageMappers == null) {
-			_entryPointMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._entryPointMessageMappers == null) {
+					snapshot._entryPointMessageMappers = new HashMap<>();
+				}
 
-		_entryPointMessageMappers.put(mediaType, entryPointMessageMapper);
+				snapshot._entryPointMessageMappers.put(
+					mediaType, entryPointMessageMapper);
+			});
 	}
 
 	/**
@@ -502,11 +617,15 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._errorMessageMappers == null) {
+					snapshot._errorMessageMappers = new HashMap<>();
+				}
 
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+				snapshot._errorMessageMappers.put(
+					mediaType, errorMessageMapper);
+			});
 	}
 
 	/**
@@ -518,11 +637,14 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._identifierClasses == null) {
+					snapshot._identifierClasses = new HashMap<>();
+				}
 
-		_identifierClasses.put(key, identifierClass);
+				snapshot._identifierClasses.put(key, identifierClass);
+			});
 	}
 
 	/**
@@ -532,11 +654,14 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
-
-		_itemRoutes.put(key, itemRoutes);
+		_update(
+			snapshot -> {
+				if (snapshot._itemRoutes == null) {
+					snapshot._itemRoutes = new HashMap<>();
+				}
+
+				snapshot._itemRoutes.put(key, itemRoutes);
+			});
 	}
 
 	/**
@@ -546,11 +671,14 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
-
-		_names.put(key, name);
+		_update(
+			snapshot -> {
+				if (snapshot._names == null) {
+					snapshot._names = new HashMap<>();
+				}
+
+				snapshot._names.put(key, name);
+			});
 	}
 
 	/**
@@ -562,11 +690,15 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._nestedCollectionRoutes == null) {
+					snapshot._nestedCollectionRoutes = new HashMap<>();
+				}
 
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+				snapshot._nestedCollectionRoutes.put(
+					key, nestedCollectionRoutes);
+			});
 	}
 
 	/**
@@ -578,11 +710,14 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._pageMessageMappers == null) {
+					snapshot._pageMessageMappers = new HashMap<>();
+				}
 
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+				snapshot._pageMessageMappers.put(mediaType, pageMessageMapper);
+			});
 	}
 
 	/**
@@ -593,11 +728,14 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putParsedType(String key, ParsedType parsedType) {
-		if (_parsedTypes == null) {
-			_parsedTypes = new HashMap<>();
-		}
-
-		_parsedTypes.put(key, parsedType);
+		_update(
+			snapshot -> {
+				if (snapshot._parsedTypes == null) {
+					snapshot._parsedTypes = new HashMap<>();
+				}
+
+				snapshot._parsedTypes.put(key, parsedType);
+			});
 	}
 
 	/**
@@ -607,21 +745,27 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
-
-		_representors.put(key, representor);
+		_update(
+			snapshot -> {
+				if (snapshot._representors == null) {
+					snapshot._representors = new HashMap<>();
+				}
+
+				snapshot._representors.put(key, representor);
+			});
 	}
 
 	public void putReusableIdentifierClass(
 		String key, Class<?> identifierClass) {
 
-		if (_reusableIdentifierClasses == null) {
-			_reusableIdentifierClasses = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._reusableIdentifierClasses == null) {
+					snapshot._reusableIdentifierClasses = new HashMap<>();
+				}
 
-		_reusableIdentifierClasses.put(key, identifierClass);
+				snapshot._reusableIdentifierClasses.put(key, identifierClass);
+			});
 	}
 
 	/**
@@ -634,12 +778,15 @@ public class ManagerCache {
 	public void putReusableNestedCollectionRoutes(
 		String key, NestedCollectionRoutes reusableNestedCollectionRoutes) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			_reusableNestedCollectionRoutes = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._reusableNestedCollectionRoutes == null) {
+					snapshot._reusableNestedCollectionRoutes = new HashMap<>();
+				}
 
-		_reusableNestedCollectionRoutes.put(
-			key, reusableNestedCollectionRoutes);
+				snapshot._reusableNestedCollectionRoutes.put(
+					key, reusableNestedCollectionRoutes);
+			});
 	}
 
 	/**
@@ -649,11 +796,14 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putRootResourceNameSdk(String rootResourceNameSdk) {
-		if (_rootResourceNameSdks == null) {
-			_rootResourceNameSdks = new ArrayList<>();
-		}
-
-		_rootResourceNameSdks.add(rootResourceNameSdk);
+		_update(
+			snapshot -> {
+				if (snapshot._rootResourceNameSdks == null) {
+					snapshot._rootResourceNameSdks = new ArrayList<>();
+				}
+
+				snapshot._rootResourceNameSdks.add(rootResourceNameSdk);
+			});
 	}
 
 	/**
@@ -666,16 +816,139 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> {
+				if (snapshot._singleModelMessageMappers == null) {
+					snapshot._singleModelMessageMappers = new HashMap<>();
+				}
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+				snapshot._singleModelMessageMappers.put(
+					mediaType, singleModelMessageMapper);
+			});
 	}
 
 	private ManagerCache() {
 	}
 
+	/**
+	 * Computes the data returned by the function, using the provided compute
+	 * function, and returns the snapshot containing it.
+	 *
+	 * <p>
+	 * The computation is performed on a copy of the current snapshot that is
+	 * published once it finishes, unless the cache has been cleared or updated
+	 * meanwhile; in that case the computed snapshot is only returned to the
+	 * caller. Only one computation runs on top of each snapshot; other threads
+	 * wait for it instead of repeating it. Compute functions that need data
+	 * from other managers reuse the snapshot being computed by the current
+	 * thread.
+	 * </p>
+	 */
+	private Snapshot _compute(
+		Function<Snapshot, ?> function, EmptyFunction computeEmptyFunction) {
+
+		Snapshot computingSnapshot = _computingSnapshot.get();
+
+		if (computingSnapshot != null) {
+			computeEmptyFunction.invoke();
+
+			return computingSnapshot;
+		}
+
+		while (true) {
+			Snapshot currentSnapshot = _snapshotReference.get();
+
+			if (function.apply(currentSnapshot) != null) {
+				return currentSnapshot;
+			}
+
+			Computation computation = _computationReference.get();
+
+			if ((computation != null) &&
+				(computation._baseSnapshot == currentSnapshot)) {
+
+				CompletableFuture<Snapshot> completableFuture =
+					computation._completableFuture;
+
+				completableFuture.join();
+
+				continue;
+			}
+
+			Computation newComputation = new Computation(currentSnapshot);
+
+			if (!_computationReference.compareAndSet(
+					computation, newComputation)) {
+
+				continue;
+			}
+
+			Snapshot snapshot = new Snapshot(currentSnapshot);
+
+			_computingSnapshot.set(snapshot);
+
+			try {
+				computeEmptyFunction.invoke();
+
+				_snapshotReference.compareAndSet(currentSnapshot, snapshot);
+			}
+			finally {
+				_computingSnapshot.remove();
+
+				_computationReference.compareAndSet(newComputation, null);
+
+				newComputation._completableFuture.complete(snapshot);
+			}
+
+			return snapshot;
+		}
+	}
+
+	private <T> T _get(
+		Function<Snapshot, T> function, EmptyFunction computeEmptyFunction) {
+
+		T t = function.apply(_getSnapshot());
+
+		if (t != null) {
+			return t;
+		}
+
+		return function.apply(_compute(function, computeEmptyFunction));
+	}
+
+	private <T> Optional<T> _getMessageMapperOptional(
+		Class<T> clazz, Function<Snapshot, Map<MediaType, T>> function,
+		Request request, HttpHeaders httpHeaders,
+		EmptyFunction computeEmptyFunction) {
+
+		Snapshot snapshot = _getSnapshot();
+
+		if (function.apply(snapshot) == null) {
+			snapshot = _compute(function, computeEmptyFunction);
+		}
+
+		Map<String, Optional<?>> negotiatedMessageMappers =
+			snapshot._negotiatedMessageMappers.computeIfAbsent(
+				clazz, __ -> new ConcurrentHashMap<>());
+
+		String key = _getNegotiationKey(httpHeaders);
+
+		Optional<?> negotiatedOptional = negotiatedMessageMappers.get(key);
+
+		if (negotiatedOptional != null) {
+			return negotiatedOptional.map(clazz::cast);
+		}
+
+		Optional<T> optional = _getMessageMapperOptional(
+			request, function.apply(snapshot));
+
+		if (negotiatedMessageMappers.size() < _NEGOTIATIONS_MAX_SIZE) {
+			negotiatedMessageMappers.put(key, optional);
+		}
+
+		return optional;
+	}
+
 	private <T> Optional<T> _getMessageMapperOptional(
 		Request request, Map<MediaType, T> messageMappers) {
 
@@ -704,6 +977,28 @@ public class ManagerCache {
 		);
 	}
 
+	private String _getNegotiationKey(HttpHeaders httpHeaders) {
+		String accept = httpHeaders.getHeaderString(ACCEPT);
+
+		if (accept == null) {
+			return "";
+		}
+
+		accept = deleteWhitespace(accept);
+
+		return accept.toLowerCase(Locale.ENGLISH);
+	}
+
+	private Snapshot _getSnapshot() {
+		Snapshot computingSnapshot = _computingSnapshot.get();
+
+		if (computingSnapshot != null) {
+			return computingSnapshot;
+		}
+
+		return _snapshotReference.get();
+	}
+
 	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
 		VariantListBuilder variantListBuilder = newInstance();
 
@@ -721,27 +1016,314 @@ public class ManagerCache {
 		return variantListBuilder.mediaTypes(mediaTypes);
 	}
 
+	private void _update(Consumer<Snapshot> consumer) {
+		Snapshot computingSnapshot = _computingSnapshot.get();
+
+		if (computingSnapshot != null) {
+			consumer.accept(computingSnapshot);
+
+			return;
+		}
+
+		Snapshot currentSnapshot;
+		Snapshot snapshot;
+
+		do {
+			currentSnapshot = _snapshotReference.get();
+
+			snapshot = new Snapshot(currentSnapshot);
+
+			consumer.accept(snapshot);
+		}
+		while (!_snapshotReference.compareAndSet(currentSnapshot, snapshot));
+	}
+
+	private static final int _FIELDS_FRAGMENTS_MAX_SIZE = 4096;
+
+	private static final long _FIELDS_FRAGMENTS_MAX_WEIGHT = 16 * 1024 * 1024;
+
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
 
-	private List<ActionSemantics> _actionSemantics;
-	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private CustomDocumentation _customDocumentation;
-	private Map<MediaType, DocumentationMessageMapper>
-		_documentationMessageMappers;
-	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, ParsedType> _parsedTypes;
-	private Map<String, Representor> _representors;
-	private Map<String, Class<?>> _reusableIdentifierClasses;
-	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
-	private List<String> _rootResourceNameSdks;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private static final int _NEGOTIATIONS_MAX_SIZE = 64;
+
+	private static final int _RENDERED_RESPONSES_MAX_SIZE = 64;
+
+	private final AtomicReference<Computation> _computationReference =
+		new AtomicReference<>();
+	private final ThreadLocal<Snapshot> _computingSnapshot =
+		new ThreadLocal<>();
+	private final AtomicReference<Snapshot> _snapshotReference =
+		new AtomicReference<>(new Snapshot());
+
+	/**
+	 * A computation running on top of a snapshot, whose future is completed
+	 * once it finishes, successfully or not.
+	 */
+	private static class Computation {
+
+		public Computation(Snapshot baseSnapshot) {
+			_baseSnapshot = baseSnapshot;
+		}
+
+		private final Snapshot _baseSnapshot;
+		private final CompletableFuture<Snapshot> _completableFuture =
+			new CompletableFuture<>();
+
+	}
+
+	/**
+	 * A fields fragment that charges the weight of every value added to it to
+	 * the fields fragments that hold it. The weight approximates the size of
+	 * the fragment: the length of its keys and character sequences, plus a
+	 * fixed amount for every other value.
+	 */
+	private static class FieldsFragment
+		extends ConcurrentHashMap<String, Object> {
+
+		public FieldsFragment(FieldsFragments fieldsFragments, long weight) {
+			_fieldsFragments = fieldsFragments;
+			_weight = weight;
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object previousValue = super.put(key, value);
+
+			if (previousValue == null) {
+				_fieldsFragments.charge(this, key.length() + _weigh(value));
+			}
+
+			return previousValue;
+		}
+
+		@Override
+		public Object putIfAbsent(String key, Object value) {
+			Object previousValue = super.putIfAbsent(key, value);
+
+			if (previousValue == null) {
+				_fieldsFragments.charge(this, key.length() + _weigh(value));
+			}
+
+			return previousValue;
+		}
+
+		private static long _weigh(Object object) {
+			if (object instanceof Optional) {
+				Optional<?> optional = (Optional<?>)object;
+
+				Long weight = optional.map(
+					FieldsFragment::_weigh
+				).orElse(
+					0L
+				);
+
+				return _VALUE_WEIGHT + weight;
+			}
+
+			if (object instanceof CharSequence) {
+				CharSequence charSequence = (CharSequence)object;
+
+				return _VALUE_WEIGHT + charSequence.length();
+			}
+
+			if (object instanceof Collection) {
+				Collection<?> collection = (Collection<?>)object;
+
+				long weight = _VALUE_WEIGHT;
+
+				for (Object element : collection) {
+					weight += _weigh(element);
+				}
+
+				return weight;
+			}
+
+			if (object instanceof Map) {
+				Map<?, ?> map = (Map<?, ?>)object;
+
+				long weight = _VALUE_WEIGHT;
+
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					weight += _weigh(entry.getKey()) + _weigh(entry.getValue());
+				}
+
+				return weight;
+			}
+
+			return _VALUE_WEIGHT;
+		}
+
+		private static final long _VALUE_WEIGHT = 16;
+
+		private boolean _evicted;
+		private final FieldsFragments _fieldsFragments;
+		private long _weight;
+
+	}
+
+	/**
+	 * Holds the fields fragments, evicting the least recently used ones when
+	 * there are more than {@link #_FIELDS_FRAGMENTS_MAX_SIZE} fragments, or
+	 * when their weight exceeds {@link #_FIELDS_FRAGMENTS_MAX_WEIGHT}.
+	 * Fragments keep working once evicted, but their weight isn't charged
+	 * anymore.
+	 */
+	private static class FieldsFragments {
+
+		public void charge(FieldsFragment fieldsFragment, long weight) {
+			_lock.lock();
+
+			try {
+				if (fieldsFragment._evicted) {
+					return;
+				}
+
+				fieldsFragment._weight += weight;
+
+				_weight += weight;
+
+				_evict();
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		public Map<String, Object> get(String key) {
+			_lock.lock();
+
+			try {
+				FieldsFragment fieldsFragment = _fieldsFragments.get(key);
+
+				if (fieldsFragment != null) {
+					return fieldsFragment;
+				}
+
+				fieldsFragment = new FieldsFragment(this, key.length());
+
+				_fieldsFragments.put(key, fieldsFragment);
+
+				_weight += fieldsFragment._weight;
+
+				_evict();
+
+				return fieldsFragment;
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		private void _evict() {
+			Collection<FieldsFragment> fieldsFragments =
+				_fieldsFragments.values();
+
+			Iterator<FieldsFragment> iterator = fieldsFragments.iterator();
+
+			while ((_fieldsFragments.size() > _FIELDS_FRAGMENTS_MAX_SIZE) ||
+				(_weight > _FIELDS_FRAGMENTS_MAX_WEIGHT)) {
+
+				FieldsFragment fieldsFragment = iterator.next();
+
+				iterator.remove();
+
+				fieldsFragment._evicted = true;
+
+				_weight -= fieldsFragment._weight;
+			}
+		}
+
+		private final Map<String, FieldsFragment> _fieldsFragments =
+			new LinkedHashMap<>(16, 0.75F, true);
+		private final ReentrantLock _lock = new ReentrantLock();
+		private long _weight;
+
+	}
+
+	/**
+	 * Holds the cached data. Once published, a snapshot is never modified;
+	 * every change is done on a copy, so its collections are copied too.
+	 */
+	private static class Snapshot {
+
+		public Snapshot() {
+		}
+
+		public Snapshot(Snapshot snapshot) {
+			_actionSemantics = _copy(snapshot._actionSemantics);
+			_actionSemanticsIndex = snapshot._actionSemanticsIndex;
+			_batchResultMessageMappers = _copy(
+				snapshot._batchResultMessageMappers);
+			_collectionRoutes = _copy(snapshot._collectionRoutes);
+			_customDocumentation = snapshot._customDocumentation;
+			_documentationMessageMappers = _copy(
+				snapshot._documentationMessageMappers);
+			_entryPointMessageMappers = _copy(
+				snapshot._entryPointMessageMappers);
+			_errorMessageMappers = _copy(snapshot._errorMessageMappers);
+			_identifierClasses = _copy(snapshot._identifierClasses);
+			_itemRoutes = _copy(snapshot._itemRoutes);
+			_names = _copy(snapshot._names);
+			_nestedCollectionRoutes = _copy(snapshot._nestedCollectionRoutes);
+			_pageMessageMappers = _copy(snapshot._pageMessageMappers);
+			_parsedTypes = _copy(snapshot._parsedTypes);
+			_representors = _copy(snapshot._representors);
+			_reusableIdentifierClasses = _copy(
+				snapshot._reusableIdentifierClasses);
+			_reusableNestedCollectionRoutes = _copy(
+				snapshot._reusableNestedCollectionRoutes);
+			_rootResourceNameSdks = _copy(snapshot._rootResourceNameSdks);
+			_singleModelMessageMappers = _copy(
+				snapshot._singleModelMessageMappers);
+		}
+
+		private static <T> List<T> _copy(List<T> list) {
+			if (list == null) {
+				return null;
+			}
+
+			return new ArrayList<>(list);
+		}
+
+		private static <K, V> Map<K, V> _copy(Map<K, V> map) {
+			if (map == null) {
+				return null;
+			}
+
+			return new HashMap<>(map);
+		}
+
+		private List<ActionSemantics> _actionSemantics;
+		private ActionSemanticsIndex _actionSemanticsIndex;
+		private Map<MediaType, BatchResultMessageMapper>
+			_batchResultMessageMappers;
+		private Map<String, CollectionRoutes> _collectionRoutes;
+		private CustomDocumentation _customDocumentation;
+		private Map<MediaType, DocumentationMessageMapper>
+			_documentationMessageMappers;
+		private Map<MediaType, EntryPointMessageMapper>
+			_entryPointMessageMappers;
+		private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+		private final FieldsFragments _fieldsFragments = new FieldsFragments();
+		private Map<String, Class<Identifier>> _identifierClasses;
+		private Map<String, ItemRoutes> _itemRoutes;
+		private Map<String, String> _names;
+		private final Map<Class<?>, Map<String, Optional<?>>>
+			_negotiatedMessageMappers = new ConcurrentHashMap<>();
+		private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
+		private Map<MediaType, PageMessageMapper> _pageMessageMappers;
+		private Map<String, ParsedType> _parsedTypes;
+		private final Map<String, Object> _renderedResponses =
+			new ConcurrentHashMap<>();
+		private Map<String, Representor> _representors;
+		private Map<String, Class<?>> _reusableIdentifierClasses;
+		private Map<String, NestedCollectionRoutes>
+			_reusableNestedCollectionRoutes;
+		private List<String> _rootResourceNameSdks;
+		private Map<MediaType, SingleModelMessageMapper>
+			_singleModelMessageMappers;
+
+	}
 
 }
\ No newline at end of file
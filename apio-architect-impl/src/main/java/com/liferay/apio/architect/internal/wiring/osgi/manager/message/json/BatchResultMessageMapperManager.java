@@ -21,6 +21,7 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.base.MessageMappe
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -46,14 +47,16 @@ public class BatchResultMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the {@code BatchResultMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
-		getBatchResultMessageMapperOptional(Request request) {
+		getBatchResultMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
 
 		return INSTANCE.getBatchResultMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.base.MessageMappe
 
 import java.util.Optional;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 
 import org.osgi.service.component.annotations.Component;
@@ -46,14 +47,16 @@ public class DocumentationMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the {@code DocumentationMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<DocumentationMessageMapper>
-		getDocumentationMessageMapperOptional(Request request) {
+		getDocumentationMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
 
 		return INSTANCE.getDocumentationMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, httpHeaders, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
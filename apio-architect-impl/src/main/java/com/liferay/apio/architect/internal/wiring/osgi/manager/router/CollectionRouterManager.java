@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getBatchCreateChunkSize;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -82,6 +83,8 @@ public class CollectionRouterManager
 	}
 
 	private void _computeCollectionRoutes() {
+		int batchCreateChunkSize = getBatchCreateChunkSize(bundleContext);
+
 		forEachService(
 			(className, collectionRouter) -> {
 				Optional<String> nameOptional = _nameManager.getNameOptional(
@@ -115,7 +118,8 @@ public class CollectionRouterManager
 					() -> new FormImpl.BuilderImpl<>(
 						_pathIdentifierMapperManager::mapToIdentifierOrFail,
 						_nameManager::getNameOptional),
-					representor::getIdentifier, _nameManager::getNameOptional);
+					representor::getIdentifier, _nameManager::getNameOptional,
+					batchCreateChunkSize);
 
 				@SuppressWarnings("unchecked")
 				CollectionRoutes collectionRoutes =
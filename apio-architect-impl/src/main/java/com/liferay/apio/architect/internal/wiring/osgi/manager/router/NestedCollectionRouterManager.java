@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PARENT_IDENTIFIER_CLASS;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PRINCIPAL_TYPE_ARGUMENT;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getBatchCreateChunkSize;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getGenericClassFromProperty;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getTypeParamTry;
 
@@ -130,6 +131,8 @@ public class NestedCollectionRouterManager
 	}
 
 	private void _computeNestedCollectionRoutes() {
+		int batchCreateChunkSize = getBatchCreateChunkSize(bundleContext);
+
 		forEachService(
 			(key, nestedCollectionRouter) -> {
 				String[] classNames = key.split("-");
@@ -188,7 +191,7 @@ public class NestedCollectionRouterManager
 					() -> new FormImpl.BuilderImpl<>(
 						_pathIdentifierMapperManager::mapToIdentifierOrFail,
 						_nameManager::getNameOptional),
-					representor::getIdentifier);
+					representor::getIdentifier, batchCreateChunkSize);
 
 				@SuppressWarnings("unchecked")
 				NestedCollectionRoutes nestedCollectionRoutes =
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.router;
 
 import static com.liferay.apio.architect.internal.annotation.representor.StringUtil.toLowercaseSlug;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.util.ManagerUtil.getBatchCreateChunkSize;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -88,6 +89,8 @@ public class ReusableNestedCollectionRouterManager
 	}
 
 	private void _computeNestedCollectionRoutes() {
+		int batchCreateChunkSize = getBatchCreateChunkSize(bundleContext);
+
 		forEachService(
 			(className, reusableNestedCollectionRouter) -> {
 				Optional<String> nameOptional = _nameManager.getNameOptional(
@@ -137,7 +140,7 @@ public class ReusableNestedCollectionRouterManager
 					() -> new FormImpl.BuilderImpl<>(
 						_pathIdentifierMapperManager::mapToIdentifierOrFail,
 						_nameManager::getNameOptional),
-					representor::getIdentifier);
+					representor::getIdentifier, batchCreateChunkSize);
 
 				@SuppressWarnings("unchecked")
 				NestedCollectionRoutes nestedCollectionRoutes =
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.tracing;
+
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.tracing.SpanListener;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.util.tracker.ServiceTracker;
+
+/**
+ * Registers every {@link SpanListener} service in {@link Tracing}, and enables
+ * the {@code Server-Timing} response header if the {@code
+ * apio.architect.server.timing.enabled} property is {@code true}.
+ *
+ * <p>Enabling the header has a memory cost: since the header must include the
+ * serialization phase, every response is written to an in-memory buffer and
+ * only copied to the client once it's complete. Big responses, such as large
+ * pages, are therefore held in memory as a whole, and nothing is sent to the
+ * client until they are fully written. The property is meant for diagnostics,
+ * not for production.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = {})
+public class SpanListenerManager {
+
+	@Activate
+	protected void activate(BundleContext bundleContext) {
+		Tracing tracing = Tracing.INSTANCE;
+
+		tracing.setServerTimingEnabled(
+			Boolean.parseBoolean(
+				bundleContext.getProperty(_SERVER_TIMING_ENABLED)));
+
+		_serviceTracker = new ServiceTracker<SpanListener, SpanListener>(
+			bundleContext, SpanListener.class, null) {
+
+			@Override
+			public SpanListener addingService(
+				ServiceReference<SpanListener> serviceReference) {
+
+				SpanListener spanListener = super.addingService(
+					serviceReference);
+
+				tracing.addSpanListener(spanListener);
+
+				return spanListener;
+			}
+
+			@Override
+			public void removedService(
+				ServiceReference<SpanListener> serviceReference,
+				SpanListener spanListener) {
+
+				tracing.removeSpanListener(spanListener);
+
+				super.removedService(serviceReference, spanListener);
+			}
+
+		};
+
+		_serviceTracker.open();
+	}
+
+	@Deactivate
+	protected void deactivate() {
+		_serviceTracker.close();
+
+		Tracing tracing = Tracing.INSTANCE;
+
+		tracing.clear();
+	}
+
+	private static final String _SERVER_TIMING_ENABLED =
+		"apio.architect.server.timing.enabled";
+
+	private ServiceTracker<SpanListener, SpanListener> _serviceTracker;
+
+}
\ No newline at end of file
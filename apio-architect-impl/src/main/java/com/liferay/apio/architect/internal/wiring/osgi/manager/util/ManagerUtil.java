@@ -30,6 +30,9 @@ import org.osgi.framework.ServiceReference;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.util.tracker.ServiceTracker;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Provides a util class for managers.
  *
@@ -77,6 +80,37 @@ public class ManagerUtil {
 				});
 	}
 
+	/**
+	 * Returns the size of the chunks in which batch-create actions create
+	 * their elements, set in the {@code apio.architect.batch.create.chunk.size}
+	 * property. Returns {@code 0}, so the elements aren't created in chunks, if
+	 * the property isn't set or isn't a number.
+	 *
+	 * @param  bundleContext the bundle context
+	 * @return the size of the batch-create chunks
+	 * @review
+	 */
+	public static int getBatchCreateChunkSize(BundleContext bundleContext) {
+		String batchCreateChunkSize = bundleContext.getProperty(
+			_BATCH_CREATE_CHUNK_SIZE);
+
+		if (batchCreateChunkSize == null) {
+			return 0;
+		}
+
+		try {
+			return Integer.parseInt(batchCreateChunkSize.trim());
+		}
+		catch (NumberFormatException nfe) {
+			_logger.warn(
+				"Invalid value {} for property {}, batch-create actions will " +
+					"not be chunked",
+				batchCreateChunkSize, _BATCH_CREATE_CHUNK_SIZE);
+
+			return 0;
+		}
+	}
+
 	/**
 	 * Returns a {@code Try.Success} containing the generic class if it's
 	 * present inside the properties of a {@code ServiceReference}. Returns a
@@ -148,4 +182,10 @@ public class ManagerUtil {
 		);
 	}
 
+	private static final String _BATCH_CREATE_CHUNK_SIZE =
+		"apio.architect.batch.create.chunk.size";
+
+	private static final Logger _logger = LoggerFactory.getLogger(
+		ManagerUtil.class);
+
 }
\ No newline at end of file
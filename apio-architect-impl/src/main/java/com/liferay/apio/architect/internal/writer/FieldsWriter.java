@@ -14,12 +14,14 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.tracing.Tracing.EMBEDDED;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createGenericParentResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedResourceURL;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -34,7 +36,12 @@ import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.ServerURL;
+import com.liferay.apio.architect.language.AcceptLanguage;
 import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
@@ -50,6 +57,8 @@ import io.vavr.Tuple;
 import io.vavr.control.Try;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -63,6 +72,17 @@ import org.slf4j.Logger;
 /**
  * Writes the different fields declared on a {@code Representor}.
  *
+ * <p>
+ * If the {@code Representor} provides the model's version, the computed values
+ * of its basic fields are stored in a fields fragment of the {@code
+ * ManagerCache}, identified by the model's path and version and by the
+ * request's languages and URLs. Every writer that later writes the same
+ * version of the model (in a page, a nested collection, a single view or as an
+ * embedded resource) reuses those values instead of calling the field
+ * functions again. The {@link Fields} selection is applied to the reused
+ * values, so requests selecting different fields share the same fragment.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @param  <T> the model's type
  */
@@ -114,9 +134,13 @@ public class FieldsWriter<T> {
 	 *         exists; an always-successful predicate otherwise
 	 */
 	public Predicate<String> getFieldsPredicate() {
-		Fields fields = _requestInfo.getFields();
+		if (_fieldsPredicate == null) {
+			Fields fields = _requestInfo.getFields();
+
+			_fieldsPredicate = fields.apply(_baseRepresentor.getTypes());
+		}
 
-		return fields.apply(_baseRepresentor.getTypes());
+		return _fieldsPredicate;
 	}
 
 	/**
@@ -151,12 +175,12 @@ public class FieldsWriter<T> {
 	public void writeApplicationRelativeURLFields(
 		BiConsumer<String, String> biConsumer) {
 
-		writeFields(
+		_writeFragmentFields(
+			"applicationRelativeURL",
 			BaseRepresentor::getApplicationRelativeURLFunctions,
-			writeField(
-				relativeURL -> createAbsoluteURL(
-					_requestInfo.getApplicationURL(), relativeURL),
-				biConsumer));
+			relativeURL -> createAbsoluteURL(
+				_requestInfo.getApplicationURL(), relativeURL),
+			biConsumer);
 	}
 
 	/**
@@ -184,8 +208,9 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeBooleanFields(BiConsumer<String, Boolean> biConsumer) {
-		writeFields(
-			BaseRepresentor::getBooleanFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"boolean", BaseRepresentor::getBooleanFunctions,
+			Function.identity(), biConsumer);
 	}
 
 	/**
@@ -198,8 +223,9 @@ public class FieldsWriter<T> {
 	public void writeBooleanListFields(
 		BiConsumer<String, List<Boolean>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"booleanList", BaseRepresentor::getBooleanListFunctions,
+			Function.identity(), biConsumer);
 	}
 
 	/**
@@ -264,14 +290,12 @@ public class FieldsWriter<T> {
 		List<FieldFunction<T, U>> list = representorFunction.apply(
 			_baseRepresentor);
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		Stream<FieldFunction<T, U>> stream = list.stream();
 
 		stream.filter(
-			fieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
-				return fieldsPredicate.test(fieldFunction.getKey());
-			}
+			fieldFunction -> fieldsPredicate.test(fieldFunction.getKey())
 		).forEach(
 			fieldFunction -> _tryToWriteField(
 				fieldFunction.getKey(),
@@ -291,9 +315,9 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each link
 	 */
 	public void writeLinks(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getLinkFunctions,
-			writeField(Function.identity(), biConsumer));
+		_writeFragmentFields(
+			"link", BaseRepresentor::getLinkFunctions, Function.identity(),
+			biConsumer);
 	}
 
 	/**
@@ -306,11 +330,10 @@ public class FieldsWriter<T> {
 	public void writeLocalizedStringFields(
 		BiConsumer<String, String> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getLocalizedStringFunctions,
-			writeField(
-				function -> function.apply(_requestInfo.getAcceptLanguage()),
-				biConsumer));
+		_writeFragmentFields(
+			"localizedString", BaseRepresentor::getLocalizedStringFunctions,
+			function -> function.apply(_requestInfo.getAcceptLanguage()),
+			biConsumer);
 	}
 
 	public <S> void writeNestedLists(
@@ -318,6 +341,8 @@ public class FieldsWriter<T> {
 		SingleModel<S> singleModel,
 		BiConsumer<NestedListFieldFunction, List<?>> biConsumer) {
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
 		).<BaseRepresentor<S>>map(
@@ -330,8 +355,6 @@ public class FieldsWriter<T> {
 			Stream::empty
 		).forEach(
 			nestedListFieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
 				String key = nestedListFieldFunction.getKey();
 
 				if (!fieldsPredicate.test(key)) {
@@ -357,6 +380,8 @@ public class FieldsWriter<T> {
 			<SingleModel<S>, FunctionalList<String>, BaseRepresentorFunction>
 				triConsumer) {
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
 		).<BaseRepresentor<U>>map(
@@ -369,8 +394,6 @@ public class FieldsWriter<T> {
 			Stream::empty
 		).forEach(
 			nestedFieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
 				String key = nestedFieldFunction.getKey();
 
 				if (!fieldsPredicate.test(key)) {
@@ -410,8 +433,9 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeNumberFields(BiConsumer<String, Number> biConsumer) {
-		writeFields(
-			BaseRepresentor::getNumberFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"number", BaseRepresentor::getNumberFunctions, Function.identity(),
+			biConsumer);
 	}
 
 	/**
@@ -424,8 +448,9 @@ public class FieldsWriter<T> {
 	public void writeNumberListFields(
 		BiConsumer<String, List<Number>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getNumberListFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"numberList", BaseRepresentor::getNumberListFunctions,
+			Function.identity(), biConsumer);
 	}
 
 	/**
@@ -561,10 +586,21 @@ public class FieldsWriter<T> {
 					".", stream.collect(Collectors.toList()));
 
 				if (embedded.test(embeddedPath)) {
-					Optional<SingleModel<U>> singleModelOptional =
-						getSingleModel(
+					Tracing tracing = Tracing.INSTANCE;
+
+					Span span = tracing.startSpan(
+						_requestInfo.getHttpServletRequest(), EMBEDDED);
+
+					Optional<SingleModel<U>> singleModelOptional;
+
+					try {
+						singleModelOptional = getSingleModel(
 							relatedModel, _singleModel,
 							unsafeCast(_singleModelFunction));
+					}
+					finally {
+						span.finish();
+					}
 
 					if (!singleModelOptional.isPresent()) {
 						return;
@@ -668,12 +704,11 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the consumer that writes each field
 	 */
 	public void writeRelativeURLFields(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getRelativeURLFunctions,
-			writeField(
-				relativeURL -> createAbsoluteURL(
-					_requestInfo.getServerURL(), relativeURL),
-				biConsumer));
+		_writeFragmentFields(
+			"relativeURL", BaseRepresentor::getRelativeURLFunctions,
+			relativeURL -> createAbsoluteURL(
+				_requestInfo.getServerURL(), relativeURL),
+			biConsumer);
 	}
 
 	/**
@@ -700,8 +735,9 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the consumer that writes each field
 	 */
 	public void writeStringFields(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getStringFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"string", BaseRepresentor::getStringFunctions, Function.identity(),
+			biConsumer);
 	}
 
 	/**
@@ -714,8 +750,9 @@ public class FieldsWriter<T> {
 	public void writeStringListFields(
 		BiConsumer<String, List<String>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getStringListFunctions, writeField(biConsumer));
+		_writeFragmentFields(
+			"stringList", BaseRepresentor::getStringListFunctions,
+			Function.identity(), biConsumer);
 	}
 
 	/**
@@ -728,6 +765,45 @@ public class FieldsWriter<T> {
 		consumer.accept(_baseRepresentor.getTypes());
 	}
 
+	private Optional<String> _getFieldsFragmentKeyOptional() {
+		if (!(_baseRepresentor instanceof Representor)) {
+			return Optional.empty();
+		}
+
+		Representor<T> representor = (Representor<T>)_baseRepresentor;
+
+		AcceptLanguage acceptLanguage = _requestInfo.getAcceptLanguage();
+
+		Stream<Locale> stream = acceptLanguage.getLocales();
+
+		String languageTags = stream.map(
+			Locale::toLanguageTag
+		).collect(
+			Collectors.joining(",")
+		);
+
+		ApplicationURL applicationURL = _requestInfo.getApplicationURL();
+		ServerURL serverURL = _requestInfo.getServerURL();
+
+		return representor.getVersionOptional(
+			_singleModel.getModel()
+		).map(
+			version -> String.join(
+				" ", _path.getName(), _path.getId(), version, languageTags,
+				applicationURL.get(), serverURL.get())
+		);
+	}
+
+	private Optional<Map<String, Object>> _getFieldsFragmentOptional() {
+		if (_fieldsFragmentOptional == null) {
+			Optional<String> optional = _getFieldsFragmentKeyOptional();
+
+			_fieldsFragmentOptional = optional.map(INSTANCE::getFieldsFragment);
+		}
+
+		return _fieldsFragmentOptional;
+	}
+
 	private void _tryToWriteField(String key, Consumer<String> consumer) {
 		try {
 			consumer.accept(key);
@@ -739,6 +815,56 @@ public class FieldsWriter<T> {
 		}
 	}
 
+	private <U, V> void _writeFragmentFields(
+		String type,
+		Function<BaseRepresentor<T>, List<FieldFunction<T, U>>>
+			representorFunction,
+		Function<U, V> function, BiConsumer<String, V> biConsumer) {
+
+		Optional<Map<String, Object>> optional = _getFieldsFragmentOptional();
+
+		if (!optional.isPresent()) {
+			writeFields(representorFunction, writeField(function, biConsumer));
+
+			return;
+		}
+
+		Map<String, Object> fieldsFragment = optional.get();
+
+		List<FieldFunction<T, U>> list = representorFunction.apply(
+			_baseRepresentor);
+
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
+		BiConsumer<String, V> fieldBiConsumer = writeField(biConsumer);
+
+		Stream<FieldFunction<T, U>> stream = list.stream();
+
+		stream.filter(
+			fieldFunction -> fieldsPredicate.test(fieldFunction.getKey())
+		).forEach(
+			fieldFunction -> _tryToWriteField(
+				fieldFunction.getKey(),
+				key -> {
+					String fragmentKey = type + "." + key;
+
+					Optional<V> valueOptional = unsafeCast(
+						fieldsFragment.get(fragmentKey));
+
+					if (valueOptional == null) {
+						U u = fieldFunction.apply(_singleModel.getModel());
+
+						valueOptional = Optional.ofNullable(function.apply(u));
+
+						fieldsFragment.putIfAbsent(fragmentKey, valueOptional);
+					}
+
+					valueOptional.ifPresent(
+						value -> fieldBiConsumer.accept(key, value));
+				})
+		);
+	}
+
 	private void _writeResourceURL(
 		String url, FunctionalList<String> parentEmbeddedPathElements,
 		BiConsumer<String, FunctionalList<String>> biConsumer, String key) {
@@ -752,6 +878,8 @@ public class FieldsWriter<T> {
 
 	private final BaseRepresentor<T> _baseRepresentor;
 	private final FunctionalList<String> _embeddedPathElements;
+	private Optional<Map<String, Object>> _fieldsFragmentOptional;
+	private Predicate<String> _fieldsPredicate;
 	private final Logger _logger = getLogger(getClass());
 	private final Path _path;
 	private final RequestInfo _requestInfo;
@@ -14,14 +14,21 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.tracing.Tracing.EMBEDDED;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionCursorPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createResourceURL;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPathOptional;
 
+import static java.util.Collections.emptyMap;
+
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
+import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.alias.ActionSemanticsFunction;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.internal.alias.BatchSingleModelFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
@@ -31,17 +38,32 @@ import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageType;
 import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.tracing.Tracing;
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
 import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.related.RelatedModel;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Writes a page.
@@ -72,9 +94,11 @@ public class PageWriter<T> {
 		_representorFunction = builder._representorFunction;
 		_requestInfo = builder._requestInfo;
 		_resourceNameFunction = builder._resourceNameFunction;
-		_singleModelFunction = builder._singleModelFunction;
+		_batchSingleModelFunction = builder._batchSingleModelFunction;
+		_retrieveSingleModelFunction = builder._singleModelFunction;
 
 		_jsonObjectBuilder = new JSONObjectBuilder();
+		_singleModelFunction = this::_getSingleModelOptional;
 	}
 
 	/**
@@ -89,45 +113,24 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		Optional<String> optionalURL = createResourceURL(
-			_requestInfo.getApplicationURL(), _page.getResource());
-
-		optionalURL.ifPresent(
-			url -> _pageMessageMapper.mapCollectionURL(
-				_jsonObjectBuilder, url));
-
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(new SingleModelImpl<>(model, resourceName)));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+		_writePage(false);
 
-		_actionSemanticsFunction.apply(
-			_page.getResource()
-		).forEach(
-			actionWriter::write
-		);
-
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
+		return _jsonObjectBuilder.build();
+	}
 
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	/**
+	 * Writes the handled {@link Page} directly to the provided output stream.
+	 * Unlike {@link #write()}, the JSON object of each item is populated while
+	 * it's being written to the stream, and discarded right after, so the
+	 * memory needed doesn't grow with the page's size.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the page couldn't be written
+	 */
+	public void write(OutputStream outputStream) throws IOException {
+		_writePage(true);
 
-		return _jsonObjectBuilder.build();
+		_jsonObjectBuilder.writeTo(outputStream);
 	}
 
 	/**
@@ -171,6 +174,28 @@ public class PageWriter<T> {
 
 		public class BuildStep {
 
+			/**
+			 * Adds information to the builder about the function that gets
+			 * several {@code SingleModel} at once, using their identifiers.
+			 * This function is used to retrieve every embedded related model
+			 * of the page's items with one call per relation. The related
+			 * models it doesn't return are retrieved one by one with the
+			 * {@link SingleModelFunctionStep#singleModelFunction(
+			 * SingleModelFunction) single model function}.
+			 *
+			 * @param  batchSingleModelFunction the function that gets several
+			 *         {@code SingleModel} of a class
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep batchSingleModelFunction(
+				BatchSingleModelFunction batchSingleModelFunction) {
+
+				_batchSingleModelFunction = batchSingleModelFunction;
+
+				return this;
+			}
+
 			/**
 			 * Constructs and returns a {@code PageWriter} instance with the
 			 * information provided to the builder.
@@ -305,6 +330,8 @@ public class PageWriter<T> {
 		}
 
 		private ActionSemanticsFunction _actionSemanticsFunction;
+		private BatchSingleModelFunction _batchSingleModelFunction =
+			(identifiers, identifierClass) -> emptyMap();
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
 		private PathFunction _pathFunction;
@@ -315,6 +342,19 @@ public class PageWriter<T> {
 
 	}
 
+	private Optional<SingleModel> _getSingleModelOptional(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		Map<Object, SingleModel> singleModels = _embeddedSingleModels.get(
+			identifierClass);
+
+		if ((singleModels != null) && singleModels.containsKey(identifier)) {
+			return Optional.of(singleModels.get(identifier));
+		}
+
+		return _retrieveSingleModelFunction.apply(identifier, identifierClass);
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -325,6 +365,80 @@ public class PageWriter<T> {
 		};
 	}
 
+	private void _retrieveEmbeddedSingleModels(
+		Representor<T> representor, Collection<T> items) {
+
+		if (items.isEmpty()) {
+			return;
+		}
+
+		Embedded embedded = _requestInfo.getEmbedded();
+		Fields fields = _requestInfo.getFields();
+
+		Predicate<String> fieldsPredicate = fields.apply(
+			representor.getTypes());
+
+		for (RelatedModel<T, ?> relatedModel :
+				representor.getRelatedModels()) {
+
+			String key = relatedModel.getKey();
+
+			if (embedded.test(key) && fieldsPredicate.test(key)) {
+				_retrieveRelatedSingleModels(relatedModel, items);
+			}
+		}
+	}
+
+	private <S> void _retrieveRelatedSingleModels(
+		RelatedModel<T, S> relatedModel, Collection<T> items) {
+
+		Function<T, S> modelToIdentifierFunction =
+			relatedModel.getModelToIdentifierFunction();
+
+		Stream<T> stream = items.stream();
+
+		List<Object> identifiers = stream.<Object>map(
+			modelToIdentifierFunction::apply
+		).filter(
+			Objects::nonNull
+		).distinct(
+		).collect(
+			Collectors.toList()
+		);
+
+		if (identifiers.isEmpty()) {
+			return;
+		}
+
+		Class<? extends Identifier> identifierClass =
+			relatedModel.getIdentifierClass();
+
+		Tracing tracing = Tracing.INSTANCE;
+
+		Span span = tracing.startSpan(
+			_requestInfo.getHttpServletRequest(), EMBEDDED);
+
+		Map<Object, SingleModel> singleModels;
+
+		try {
+			singleModels = _batchSingleModelFunction.apply(
+				identifiers, identifierClass);
+		}
+		finally {
+			span.finish();
+		}
+
+		if (singleModels.isEmpty()) {
+			return;
+		}
+
+		Map<Object, SingleModel> embeddedSingleModels =
+			_embeddedSingleModels.computeIfAbsent(
+				identifierClass, __ -> new HashMap<>());
+
+		embeddedSingleModels.putAll(singleModels);
+	}
+
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
@@ -453,7 +567,7 @@ public class PageWriter<T> {
 			collectionJSONObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
-	private void _writeItem(SingleModel<T> singleModel) {
+	private void _writeItem(SingleModel<T> singleModel, boolean deferred) {
 		Optional<Path> pathOptional = getPathOptional(
 			singleModel, _pathFunction, _representorFunction::apply);
 
@@ -471,48 +585,18 @@ public class PageWriter<T> {
 
 		FieldsWriter<T> fieldsWriter = optional.get();
 
-		JSONObjectBuilder itemJsonObjectBuilder = new JSONObjectBuilder();
+		JSONObjectBuilder itemJsonObjectBuilder;
 
-		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _pageMessageMapper.mapItemSelfURL(
-				_jsonObjectBuilder, itemJsonObjectBuilder, url));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(embeddedSingleModel, embeddedPathElements1) ->
-				_writeItemEmbeddedModelFields(
-					embeddedSingleModel, embeddedPathElements1,
-					itemJsonObjectBuilder),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_pageMessageMapper.mapItemEmbeddedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_pageMessageMapper.mapItemLinkedResourceURL(
-					_jsonObjectBuilder, itemJsonObjectBuilder,
-					embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> _writeItemEmbeddedModelFields(
-				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
-				nestedRepresentorFunction, singleModel));
+		if (deferred) {
+			itemJsonObjectBuilder = JSONObjectBuilder.deferred(
+				jsonObjectBuilder -> _writeItemFields(
+					fieldsWriter, singleModel, jsonObjectBuilder));
+		}
+		else {
+			itemJsonObjectBuilder = new JSONObjectBuilder();
 
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedLists(
-				nestedListFieldFunction, list, itemJsonObjectBuilder,
-				singleModel, null));
+			_writeItemFields(fieldsWriter, singleModel, itemJsonObjectBuilder);
+		}
 
 		_pageMessageMapper.onFinishItem(
 			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
@@ -662,6 +746,52 @@ public class PageWriter<T> {
 				rootSingleModel, embeddedPathElements));
 	}
 
+	private void _writeItemFields(
+		FieldsWriter<T> fieldsWriter, SingleModel<T> singleModel,
+		JSONObjectBuilder itemJsonObjectBuilder) {
+
+		_writeBasicFields(fieldsWriter, itemJsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _pageMessageMapper.mapItemSelfURL(
+				_jsonObjectBuilder, itemJsonObjectBuilder, url));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(embeddedSingleModel, embeddedPathElements1) ->
+				_writeItemEmbeddedModelFields(
+					embeddedSingleModel, embeddedPathElements1,
+					itemJsonObjectBuilder),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_pageMessageMapper.mapItemEmbeddedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_pageMessageMapper.mapItemLinkedResourceURL(
+					_jsonObjectBuilder, itemJsonObjectBuilder,
+					embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> _writeItemEmbeddedModelFields(
+				nestedSingleModel, nestedPathElements, itemJsonObjectBuilder,
+				nestedRepresentorFunction, singleModel));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedLists(
+				nestedListFieldFunction, list, itemJsonObjectBuilder,
+				singleModel, null));
+	}
+
 	private <U> void _writeNestedList(
 		String fieldName, List<U> nestedList,
 		JSONObjectBuilder jsonObjectBuilder,
@@ -709,10 +839,113 @@ public class PageWriter<T> {
 			baseRepresentorFunction, rootSingleModel);
 	}
 
+	private void _writePage(boolean deferItems) {
+		Optional<Integer> totalCountOptional = _page.getTotalCountOptional();
+
+		if (totalCountOptional.isPresent()) {
+			_pageMessageMapper.mapItemTotalCount(
+				_jsonObjectBuilder, totalCountOptional.get());
+		}
+		else {
+			Optional<Integer> estimatedTotalCountOptional =
+				_page.getEstimatedTotalCountOptional();
+
+			estimatedTotalCountOptional.ifPresent(
+				estimatedTotalCount ->
+					_pageMessageMapper.mapItemEstimatedTotalCount(
+						_jsonObjectBuilder, estimatedTotalCount));
+		}
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		Optional<String> optionalURL = createResourceURL(
+			_requestInfo.getApplicationURL(), _page.getResource());
+
+		optionalURL.ifPresent(
+			url -> _pageMessageMapper.mapCollectionURL(
+				_jsonObjectBuilder, url));
+
+		String resourceName = _page.getResourceName();
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			representor -> _retrieveEmbeddedSingleModels(
+				unsafeCast(representor), items)
+		);
+
+		items.forEach(
+			model -> _writeItem(
+				new SingleModelImpl<>(model, resourceName), deferItems));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		_actionSemanticsFunction.apply(
+			_page.getResource()
+		).forEach(
+			actionWriter::write
+		);
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(_jsonObjectBuilder)
+		);
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	}
+
+	private void _writeCursorPageURLs(String url) {
+		Optional<String> afterCursorOptional = _page.getAfterCursorOptional();
+		Optional<String> beforeCursorOptional = _page.getBeforeCursorOptional();
+
+		String currentPageURL = afterCursorOptional.map(
+			cursor -> createCollectionCursorPageURL(url, _page, "after", cursor)
+		).orElseGet(
+			() -> createCollectionCursorPageURL(
+				url, _page, "before", beforeCursorOptional.orElse(null))
+		);
+
+		_pageMessageMapper.mapCurrentPageURL(
+			_jsonObjectBuilder, currentPageURL);
+
+		_pageMessageMapper.mapFirstPageURL(
+			_jsonObjectBuilder,
+			createCollectionCursorPageURL(url, _page, null, null));
+
+		Optional<String> nextCursorOptional = _page.getNextCursorOptional();
+
+		nextCursorOptional.ifPresent(
+			cursor -> _pageMessageMapper.mapNextPageURL(
+				_jsonObjectBuilder,
+				createCollectionCursorPageURL(url, _page, "after", cursor)));
+
+		Optional<String> previousCursorOptional =
+			_page.getPreviousCursorOptional();
+
+		previousCursorOptional.ifPresent(
+			cursor -> _pageMessageMapper.mapPreviousPageURL(
+				_jsonObjectBuilder,
+				createCollectionCursorPageURL(url, _page, "before", cursor)));
+	}
+
 	private void _writePageURLs() {
 		Optional<String> optionalURL = createResourceURL(
 			_requestInfo.getApplicationURL(), _page.getResource());
 
+		if (_page.isCursorBased()) {
+			optionalURL.ifPresent(this::_writeCursorPageURLs);
+
+			return;
+		}
+
+		Optional<Integer> totalCountOptional = _page.getTotalCountOptional();
+
 		optionalURL.ifPresent(
 			url -> {
 				_pageMessageMapper.mapCurrentPageURL(
@@ -723,9 +956,11 @@ public class PageWriter<T> {
 					_jsonObjectBuilder,
 					createCollectionPageURL(url, _page, PageType.FIRST));
 
-				_pageMessageMapper.mapLastPageURL(
-					_jsonObjectBuilder,
-					createCollectionPageURL(url, _page, PageType.LAST));
+				if (totalCountOptional.isPresent()) {
+					_pageMessageMapper.mapLastPageURL(
+						_jsonObjectBuilder,
+						createCollectionPageURL(url, _page, PageType.LAST));
+				}
 
 				if (_page.hasNext()) {
 					_pageMessageMapper.mapNextPageURL(
@@ -742,6 +977,9 @@ public class PageWriter<T> {
 	}
 
 	private final ActionSemanticsFunction _actionSemanticsFunction;
+	private final BatchSingleModelFunction _batchSingleModelFunction;
+	private final Map<Class<? extends Identifier>, Map<Object, SingleModel>>
+		_embeddedSingleModels = new HashMap<>();
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
@@ -749,6 +987,7 @@ public class PageWriter<T> {
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
 	private final ResourceNameFunction _resourceNameFunction;
+	private final SingleModelFunction _retrieveSingleModelFunction;
 	private final SingleModelFunction _singleModelFunction;
 
 }
\ No newline at end of file
@@ -34,6 +34,9 @@ import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -87,71 +90,34 @@ public class SingleModelWriter<T> {
 	 *         {@code Optional#empty()} otherwise
 	 */
 	public Optional<String> write() {
-		Optional<Path> pathOptional = getPathOptional(
-			_singleModel, _pathFunction, _representorFunction::apply);
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		if (!pathOptional.isPresent()) {
-			return Optional.empty();
-		}
+		return optional.map(JSONObjectBuilder::build);
+	}
 
-		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
-			_singleModel, null, _requestInfo, _representorFunction::apply,
-			_singleModelFunction, pathOptional.get());
+	/**
+	 * Writes the handled {@link SingleModel} directly to the provided output
+	 * stream, without creating an intermediate {@code String}. If no {@code
+	 * Representor} or {@code Path} exists for the model, this method doesn't
+	 * write anything and returns {@code false}.
+	 *
+	 * @param  outputStream the output stream
+	 * @return {@code true} if the model's {@code Representor} and {@code Path}
+	 *         exist and the model has been written; {@code false} otherwise
+	 * @throws IOException if the single model couldn't be written
+	 */
+	public boolean write(OutputStream outputStream) throws IOException {
+		Optional<JSONObjectBuilder> optional = _writeSingleModel();
 
-		if (!fieldsWriterOptional.isPresent()) {
-			return Optional.empty();
+		if (!optional.isPresent()) {
+			return false;
 		}
 
-		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
-
-		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
-
-		fieldsWriter.writeSingleURL(
-			url -> _singleModelMessageMapper.mapSelfURL(
-				_jsonObjectBuilder, url));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
-
-		fieldsWriter.withItem(
-			item -> _actionSemanticsFunction.apply(
-				item
-			).forEach(
-				actionWriter::write
-			));
-
-		fieldsWriter.writeRelatedModels(
-			_pathFunction,
-			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
-				singleModel, _jsonObjectBuilder, embeddedPathElements),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL),
-			(resourceURL, embeddedPathElements) ->
-				_singleModelMessageMapper.mapEmbeddedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, resourceURL));
-
-		fieldsWriter.writeRelatedCollections(
-			_pathFunction, _resourceNameFunction,
-			(url, embeddedPathElements) ->
-				_singleModelMessageMapper.mapLinkedResourceURL(
-					_jsonObjectBuilder, embeddedPathElements, url));
-
-		fieldsWriter.writeNestedResources(
-			_representorFunction::apply, _singleModel, null,
-			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
-				-> writeEmbeddedModelFields(
-				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
-				nestedRepresentorFunction));
-
-		fieldsWriter.writeNestedLists(
-			_representorFunction::apply, _singleModel,
-			(nestedListFieldFunction, list) -> _writeNestedList(
-				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+		JSONObjectBuilder jsonObjectBuilder = optional.get();
 
-		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+		jsonObjectBuilder.writeTo(outputStream);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return true;
 	}
 
 	public <S> void writeEmbeddedModelFields(
@@ -762,6 +728,74 @@ public class SingleModelWriter<T> {
 		);
 	}
 
+	private Optional<JSONObjectBuilder> _writeSingleModel() {
+		Optional<Path> pathOptional = getPathOptional(
+			_singleModel, _pathFunction, _representorFunction::apply);
+
+		if (!pathOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<FieldsWriter<T>> fieldsWriterOptional = getFieldsWriter(
+			_singleModel, null, _requestInfo, _representorFunction::apply,
+			_singleModelFunction, pathOptional.get());
+
+		if (!fieldsWriterOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		FieldsWriter<T> fieldsWriter = fieldsWriterOptional.get();
+
+		_writeBasicFields(fieldsWriter, _jsonObjectBuilder);
+
+		fieldsWriter.writeSingleURL(
+			url -> _singleModelMessageMapper.mapSelfURL(
+				_jsonObjectBuilder, url));
+
+		ActionWriter actionWriter = new ActionWriter(
+			_singleModelMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		fieldsWriter.withItem(
+			item -> _actionSemanticsFunction.apply(
+				item
+			).forEach(
+				actionWriter::write
+			));
+
+		fieldsWriter.writeRelatedModels(
+			_pathFunction,
+			(singleModel, embeddedPathElements) -> writeEmbeddedModelFields(
+				singleModel, _jsonObjectBuilder, embeddedPathElements),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL),
+			(resourceURL, embeddedPathElements) ->
+				_singleModelMessageMapper.mapEmbeddedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, resourceURL));
+
+		fieldsWriter.writeRelatedCollections(
+			_pathFunction, _resourceNameFunction,
+			(url, embeddedPathElements) ->
+				_singleModelMessageMapper.mapLinkedResourceURL(
+					_jsonObjectBuilder, embeddedPathElements, url));
+
+		fieldsWriter.writeNestedResources(
+			_representorFunction::apply, _singleModel, null,
+			(nestedSingleModel, nestedPathElements, nestedRepresentorFunction)
+				-> writeEmbeddedModelFields(
+				nestedSingleModel, _jsonObjectBuilder, nestedPathElements,
+				nestedRepresentorFunction));
+
+		fieldsWriter.writeNestedLists(
+			_representorFunction::apply, _singleModel,
+			(nestedListFieldFunction, list) -> _writeNestedList(
+				nestedListFieldFunction, list, _jsonObjectBuilder, null));
+
+		_singleModelMessageMapper.onFinish(_jsonObjectBuilder, _singleModel);
+
+		return Optional.of(_jsonObjectBuilder);
+	}
+
 	private final ActionSemanticsFunction _actionSemanticsFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final PathFunction _pathFunction;
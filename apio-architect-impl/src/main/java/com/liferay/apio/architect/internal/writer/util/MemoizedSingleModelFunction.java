@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer.util;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps a {@link SingleModelFunction}, remembering the single model obtained
+ * for each identifier class and identifier, so the same related model is only
+ * retrieved once, no matter how many times it's referenced.
+ *
+ * <p>
+ * Instances of this class are meant to live only while a response is being
+ * written, since the remembered single models are never invalidated. They
+ * aren't thread-safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MemoizedSingleModelFunction implements SingleModelFunction {
+
+	public MemoizedSingleModelFunction(
+		SingleModelFunction singleModelFunction) {
+
+		_singleModelFunction = singleModelFunction;
+	}
+
+	@Override
+	public Optional<SingleModel> apply(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		Map<Object, Optional<SingleModel>> singleModels =
+			_singleModels.computeIfAbsent(
+				identifierClass, __ -> new HashMap<>());
+
+		Optional<SingleModel> optional = singleModels.get(identifier);
+
+		if (optional != null) {
+			_hitCount++;
+
+			return optional;
+		}
+
+		_missCount++;
+
+		optional = _singleModelFunction.apply(identifier, identifierClass);
+
+		singleModels.put(identifier, optional);
+
+		return optional;
+	}
+
+	/**
+	 * Returns the number of single models returned without calling the
+	 * wrapped function.
+	 *
+	 * @return the number of hits
+	 * @review
+	 */
+	public long getHitCount() {
+		return _hitCount;
+	}
+
+	/**
+	 * Returns the number of times the wrapped function has been called.
+	 *
+	 * @return the number of misses
+	 * @review
+	 */
+	public long getMissCount() {
+		return _missCount;
+	}
+
+	private long _hitCount;
+	private long _missCount;
+	private final SingleModelFunction _singleModelFunction;
+	private final Map<Class<? extends Identifier>,
+		Map<Object, Optional<SingleModel>>> _singleModels = new HashMap<>();
+
+}
\ No newline at end of file
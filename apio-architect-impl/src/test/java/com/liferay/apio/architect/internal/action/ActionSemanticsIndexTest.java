@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ActionSemanticsIndexTest {
+
+	@Test
+	public void testGetActionSemanticsReturnsEveryActionInOrder() {
+		List<ActionSemantics> list = _toList(
+			_actionSemanticsIndex.getActionSemantics());
+
+		assertThat(
+			list,
+			contains(_retrievePaged, _createPaged, _retrieveItem, _removeItem));
+	}
+
+	@Test
+	public void testGetActionSemanticsWithResourceIgnoresIds() {
+		Item item = Item.of("name", Id.of(42L, "42"));
+
+		List<ActionSemantics> list = _toList(
+			_actionSemanticsIndex.getActionSemantics(item));
+
+		assertThat(list, contains(_retrieveItem, _removeItem));
+	}
+
+	@Test
+	public void testGetActionSemanticsWithRoute() {
+		List<ActionSemantics> list = _toList(
+			_actionSemanticsIndex.getActionSemantics(
+				Paged.of("name"), "create", "POST"));
+
+		assertThat(list, contains(_createPaged));
+	}
+
+	@Test
+	public void testGetActionSemanticsWithUnknownResourceReturnsEmpty() {
+		List<ActionSemantics> list = _toList(
+			_actionSemanticsIndex.getActionSemantics(Paged.of("other")));
+
+		assertThat(list, empty());
+	}
+
+	@Test
+	public void testGetActionSemanticsWithUnknownRouteReturnsEmpty() {
+		List<ActionSemantics> list = _toList(
+			_actionSemanticsIndex.getActionSemantics(
+				Item.of("name"), "replace", "PUT"));
+
+		assertThat(list, empty());
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, String method) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			method
+		).returns(
+			Void.class
+		).executeFunction(
+			__ -> null
+		).receivesParams(
+		).build();
+	}
+
+	private static List<ActionSemantics> _toList(
+		Stream<ActionSemantics> stream) {
+
+		return stream.collect(toList());
+	}
+
+	private static final ActionSemantics _createPaged = _createActionSemantics(
+		Paged.of("name"), "create", "POST");
+	private static final ActionSemantics _removeItem = _createActionSemantics(
+		Item.of("name"), "remove", "DELETE");
+	private static final ActionSemantics _retrieveItem = _createActionSemantics(
+		Item.of("name"), "retrieve", "GET");
+	private static final ActionSemantics _retrievePaged =
+		_createActionSemantics(Paged.of("name"), "retrieve", "GET");
+
+	private final ActionSemanticsIndex _actionSemanticsIndex =
+		new ActionSemanticsIndex(
+			Stream.of(_retrievePaged, _createPaged, _retrieveItem, _removeItem));
+
+}
\ No newline at end of file
@@ -24,6 +24,7 @@ import static com.liferay.apio.architect.internal.action.Predicates.isActionByPO
 import static com.liferay.apio.architect.internal.action.Predicates.isActionByPUT;
 import static com.liferay.apio.architect.internal.action.Predicates.isActionFor;
 import static com.liferay.apio.architect.internal.action.Predicates.isActionNamed;
+import static com.liferay.apio.architect.internal.action.Predicates.isBatchRetrieveAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isCreateAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
@@ -36,6 +37,7 @@ import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.liferay.apio.architect.annotation.Actions.BatchRetrieve;
 import com.liferay.apio.architect.annotation.Actions.Retrieve;
 import com.liferay.apio.architect.annotation.EntryPoint;
 import com.liferay.apio.architect.pagination.Page;
@@ -147,6 +149,16 @@ public class PredicatesTest {
 		assertFalse(falsePredicate.test(_actionSemantics));
 	}
 
+	@Test
+	public void testIsBatchRetrieveAction() {
+		ActionSemantics actionSemantics = _actionSemantics.withAnnotations(
+			singletonList(() -> BatchRetrieve.class));
+
+		assertTrue(isBatchRetrieveAction.test(actionSemantics));
+
+		assertFalse(isBatchRetrieveAction.test(_actionSemantics));
+	}
+
 	@Test
 	public void testIsCreateAction() {
 		ActionSemantics actionSemantics = _actionSemantics.withMethod("POST");
@@ -0,0 +1,351 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.internal.annotation;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ActionCoalescerTest {
+
+	@After
+	public void tearDown() {
+		_releaseLatch.countDown();
+	}
+
+	@Test
+	public void testClearOnlyReleasesActionsOfTheModifiedResource()
+		throws Exception {
+
+		Action action = _actionCoalescer.coalesce(_ITEM, "retrieve", _action);
+
+		FutureTask<Object> futureTask = _start(action, _request("alice"));
+
+		_awaitExecutions(1);
+
+		_actionCoalescer.clear(Item.of("other", Id.of(1L, "1")));
+
+		FutureTask<Object> waitingFutureTask = _start(
+			action, _request("alice"));
+
+		_awaitWaiting(waitingFutureTask);
+
+		_actionCoalescer.clear(_ITEM);
+
+		FutureTask<Object> newFutureTask = _start(action, _request("alice"));
+
+		_awaitExecutions(2);
+
+		_releaseLatch.countDown();
+
+		assertThat(
+			waitingFutureTask.get(10, TimeUnit.SECONDS),
+			is(sameInstance(futureTask.get(10, TimeUnit.SECONDS))));
+		assertThat(
+			newFutureTask.get(10, TimeUnit.SECONDS),
+			is(instanceOf(Object.class)));
+		assertThat(_executions.get(), is(2));
+	}
+
+	@Test
+	public void testCompletedActionIsExecutedAgain() {
+		_releaseLatch.countDown();
+
+		Action action = _actionCoalescer.coalesce(_ITEM, "retrieve", _action);
+
+		action.apply(_request("alice"));
+		action.apply(_request("alice"));
+
+		assertThat(_executions.get(), is(2));
+	}
+
+	@Test
+	public void testConcurrentIdenticalActionsShareOneExecution()
+		throws Exception {
+
+		Action action = _actionCoalescer.coalesce(_ITEM, "retrieve", _action);
+
+		FutureTask<Object> futureTask = _start(action, _request("alice"));
+
+		_awaitExecutions(1);
+
+		FutureTask<Object> waitingFutureTask = _start(
+			action, _request("alice"));
+
+		_awaitWaiting(waitingFutureTask);
+
+		_releaseLatch.countDown();
+
+		Object result = futureTask.get(10, TimeUnit.SECONDS);
+
+		assertThat(
+			waitingFutureTask.get(10, TimeUnit.SECONDS),
+			is(sameInstance(result)));
+		assertThat(_executions.get(), is(1));
+	}
+
+	@Test
+	public void testConcurrentActionsWithDifferentCredentialsAreNotShared()
+		throws Exception {
+
+		Action action = _actionCoalescer.coalesce(_ITEM, "retrieve", _action);
+
+		FutureTask<Object> futureTask = _start(action, _request("alice"));
+		FutureTask<Object> otherFutureTask = _start(action, _request("bob"));
+
+		_awaitExecutions(2);
+
+		_releaseLatch.countDown();
+
+		assertThat(
+			otherFutureTask.get(10, TimeUnit.SECONDS),
+			is(instanceOf(Object.class)));
+		assertThat(
+			futureTask.get(10, TimeUnit.SECONDS),
+			is(instanceOf(Object.class)));
+		assertThat(_executions.get(), is(2));
+	}
+
+	@Test
+	public void testFailureIsPropagatedToWaitingActionsAndReleased()
+		throws Exception {
+
+		Action action = _actionCoalescer.coalesce(
+			_ITEM, "retrieve",
+			request -> {
+				_action.apply(request);
+
+				throw new IllegalStateException();
+			});
+
+		FutureTask<Object> futureTask = _start(action, _request("alice"));
+
+		_awaitExecutions(1);
+
+		FutureTask<Object> waitingFutureTask = _start(
+			action, _request("alice"));
+
+		_awaitWaiting(waitingFutureTask);
+
+		_releaseLatch.countDown();
+
+		assertThat(
+			_getCause(futureTask), is(instanceOf(IllegalStateException.class)));
+		assertThat(
+			_getCause(waitingFutureTask),
+			is(instanceOf(IllegalStateException.class)));
+		assertThat(_executions.get(), is(1));
+
+		assertThat(
+			_getCause(_start(action, _request("alice"))),
+			is(instanceOf(IllegalStateException.class)));
+		assertThat(_executions.get(), is(2));
+	}
+
+	@Test
+	public void testSharedPageItemsComputeTheirLazyTotalCountOnce()
+		throws Exception {
+
+		AtomicInteger totalCounts = new AtomicInteger();
+		CountDownLatch totalCountLatch = new CountDownLatch(1);
+
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singletonList("item"),
+			() -> {
+				totalCounts.incrementAndGet();
+
+				try {
+					totalCountLatch.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ie) {
+					throw new IllegalStateException(ie);
+				}
+
+				return 42;
+			});
+
+		Action action = _actionCoalescer.coalesce(
+			_ITEM, "retrieve",
+			request -> {
+				_action.apply(request);
+
+				return pageItems;
+			});
+
+		FutureTask<Object> futureTask = _start(action, _request("alice"));
+
+		_awaitExecutions(1);
+
+		FutureTask<Object> waitingFutureTask = _start(
+			action, _request("alice"));
+
+		_awaitWaiting(waitingFutureTask);
+
+		_releaseLatch.countDown();
+
+		PageItems<?> sharedPageItems = (PageItems<?>)futureTask.get(
+			10, TimeUnit.SECONDS);
+
+		assertThat(
+			waitingFutureTask.get(10, TimeUnit.SECONDS),
+			is(sameInstance(sharedPageItems)));
+
+		Action totalCountAction = request -> sharedPageItems.getTotalCount();
+
+		FutureTask<Object> totalCountFutureTask = _start(
+			totalCountAction, _request("alice"));
+
+		_awaitState(totalCountFutureTask, Thread.State.TIMED_WAITING);
+
+		FutureTask<Object> otherTotalCountFutureTask = _start(
+			totalCountAction, _request("alice"));
+
+		_awaitState(otherTotalCountFutureTask, Thread.State.BLOCKED);
+
+		totalCountLatch.countDown();
+
+		assertThat(totalCountFutureTask.get(10, TimeUnit.SECONDS), is(42));
+		assertThat(
+			otherTotalCountFutureTask.get(10, TimeUnit.SECONDS), is(42));
+		assertThat(totalCounts.get(), is(1));
+	}
+
+	private static Throwable _getCause(FutureTask<Object> futureTask)
+		throws Exception {
+
+		try {
+			futureTask.get(10, TimeUnit.SECONDS);
+
+			throw new AssertionError("The action did not fail");
+		}
+		catch (ExecutionException ee) {
+			return ee.getCause();
+		}
+	}
+
+	private static HttpServletRequest _request(String authorization) {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		when(
+			httpServletRequest.getHeader("Authorization")
+		).thenReturn(
+			authorization
+		);
+
+		return httpServletRequest;
+	}
+
+	private void _awaitExecutions(int executions) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (_executions.get() < executions) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError(
+					"The action was executed " + _executions.get() + " times");
+			}
+
+			Thread.sleep(1);
+		}
+	}
+
+	private void _awaitState(
+			FutureTask<Object> futureTask, Thread.State state)
+		throws InterruptedException {
+
+		Thread thread = _threads.get(futureTask);
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (thread.getState() != state) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("The action is not " + state);
+			}
+
+			Thread.sleep(1);
+		}
+	}
+
+	private void _awaitWaiting(FutureTask<Object> futureTask)
+		throws InterruptedException {
+
+		_awaitState(futureTask, Thread.State.WAITING);
+	}
+
+	private FutureTask<Object> _start(
+		Action action, HttpServletRequest httpServletRequest) {
+
+		FutureTask<Object> futureTask = new FutureTask<>(
+			() -> action.apply(httpServletRequest));
+
+		Thread thread = new Thread(futureTask);
+
+		thread.setDaemon(true);
+
+		thread.start();
+
+		_threads.put(futureTask, thread);
+
+		return futureTask;
+	}
+
+	private static final Item _ITEM = Item.of("name", Id.of(1L, "1"));
+
+	private final Action _action = request -> {
+		_executions.incrementAndGet();
+
+		try {
+			_releaseLatch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ie) {
+			throw new IllegalStateException(ie);
+		}
+
+		return new Object();
+	};
+
+	private final ActionCoalescer _actionCoalescer = new ActionCoalescer(
+		request -> request.getHeader("Authorization"));
+	private final AtomicInteger _executions = new AtomicInteger();
+	private final CountDownLatch _releaseLatch = new CountDownLatch(1);
+	private final Map<FutureTask<Object>, Thread> _threads =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,475 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.internal.annotation;
+
+import static com.liferay.apio.architect.annotation.FieldMode.WRITE_ONLY;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.alias.representor.NestedFieldFunction;
+import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
+import com.liferay.apio.architect.annotation.GeneratedType;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.annotation.processor.GeneratedTypeProcessor;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.annotation.form.FormTransformer;
+import com.liferay.apio.architect.internal.annotation.representor.RepresentorTransformer;
+import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Compares the representors and forms filled by the code generated by the
+ * {@link GeneratedTypeProcessor} with the ones filled with reflection.
+ *
+ * @author Alejandro Hernández
+ */
+public class GeneratedTypeTest {
+
+	@Before
+	public void setUp() throws Exception {
+		File sourceFolder = temporaryFolder.newFolder("source");
+
+		_writeSource(
+			sourceFolder, "Address", "@Type(\"Address\")",
+			"public interface Address {", "@Field(\"street\")",
+			"public String getStreet();", "}");
+		_writeSource(
+			sourceFolder, "Sample", "@Type(\"Sample\")",
+			"public interface Sample extends Identifier<Long> {",
+			"@Field(\"active\")", "public Boolean getActive();",
+			"@Field(\"address\")", "public Address getAddress();",
+			"@Field(\"children\")",
+			"@LinkTo(resource = Sample.class, resourceType = " +
+				"LinkTo.ResourceType.CHILD_COLLECTION)",
+			"public Long getChildrenId();", "@Field(\"dateCreated\")",
+			"@LastModified", "public java.util.Date getDateCreated();",
+			"@Field(value = \"description\", mode = FieldMode.WRITE_ONLY)",
+			"public String getDescription(java.util.Locale locale);",
+			"@Field(\"failing\")", "public String getFailing();", "@Id",
+			"public Long getId();", "@Field(\"image\")",
+			"@RelativeURL(fromApplication = true)", "public String getImage();",
+			"@Field(\"keywords\")",
+			"public java.util.List<String> getKeywords();",
+			"@Field(\"parent\")", "@LinkTo(resource = Sample.class)",
+			"public Long getParentId();", "@Field(\"previousAddress\")",
+			"public java.util.List<Address> getPreviousAddresses();",
+			"@Field(\"price\")", "public Double getPrice();",
+			"@Field(\"siblings\")",
+			"@LinkTo(resource = Sample.class, resourceType = " +
+				"LinkTo.ResourceType.GENERIC_PARENT_COLLECTION)",
+			"public Long getSiblingsId();", "@Field(\"url\")", "@RelativeURL",
+			"public String getUrl();", "@Version", "public long getVersion();",
+			"}");
+
+		File classesFolder = temporaryFolder.newFolder("classes");
+
+		_compile(sourceFolder, classesFolder, "Address", "Sample");
+
+		URI uri = classesFolder.toURI();
+
+		_urlClassLoader = new URLClassLoader(
+			new URL[] {uri.toURL()}, getClass().getClassLoader());
+
+		_addressClass = _urlClassLoader.loadClass("test.Address");
+		_sampleClass = _urlClassLoader.loadClass("test.Sample");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		_urlClassLoader.close();
+	}
+
+	@Test
+	public void testGeneratedFormEqualsReflectiveForm() throws Exception {
+		Map<String, String> values = new HashMap<>();
+
+		values.put("active", "true");
+		values.put("dateCreated", "2016-06-15T09:00Z");
+		values.put("failing", "failing");
+		values.put("image", "/image");
+		values.put("parent", "samples/1");
+		values.put("price", "1.5");
+		values.put("url", "/url");
+
+		Map<String, List<String>> listValues = Collections.singletonMap(
+			"keywords", Arrays.asList("one", "two"));
+
+		Body body = Body.create(
+			key -> Optional.ofNullable(values.get(key)),
+			key -> Optional.ofNullable(listValues.get(key)));
+
+		Form<Object> generatedForm = FormTransformer.toForm(
+			_getGeneratedParsedType(), __ -> "1",
+			__ -> Optional.of("samples"));
+		Form<Object> reflectiveForm = FormTransformer.toForm(
+			TypeProcessor.processType(unsafeCast(_sampleClass)), __ -> "1",
+			__ -> Optional.of("samples"));
+
+		Map<String, Object> generatedFields = _readFormFields(
+			generatedForm.get(body));
+
+		assertThat(
+			generatedFields, is(_readFormFields(reflectiveForm.get(body))));
+		assertThat(generatedFields.get("getFailing"), is("failing"));
+	}
+
+	@Test
+	public void testGeneratedRepresentorEqualsReflectiveRepresentor()
+		throws Exception {
+
+		Representor<Object> generatedRepresentor = unsafeCast(
+			RepresentorTransformer.toRepresentor(
+				_getGeneratedParsedType(), null, new HashMap<>()));
+		Representor<Object> reflectiveRepresentor = unsafeCast(
+			RepresentorTransformer.toRepresentor(
+				TypeProcessor.processType(unsafeCast(_sampleClass)), null,
+				new HashMap<>()));
+
+		Object sample = _createSample();
+
+		Map<String, Object> representation = _represent(
+			generatedRepresentor, sample);
+
+		assertThat(
+			representation, is(_represent(reflectiveRepresentor, sample)));
+		assertThat(representation.get("identifier"), is(42L));
+		assertThat(representation.get("string:failing"), is(nullValue()));
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static void _compile(
+			File sourceFolder, File classesFolder, String... names)
+		throws IOException {
+
+		JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		try (StandardJavaFileManager standardJavaFileManager =
+				javaCompiler.getStandardFileManager(null, null, UTF_8)) {
+
+			List<File> files = new ArrayList<>();
+
+			for (String name : names) {
+				files.add(new File(sourceFolder, name + ".java"));
+			}
+
+			CompilationTask compilationTask = javaCompiler.getTask(
+				null, standardJavaFileManager, null,
+				Arrays.asList(
+					"-classpath", System.getProperty("java.class.path"), "-d",
+					classesFolder.getPath(), "-s", classesFolder.getPath()),
+				null,
+				standardJavaFileManager.getJavaFileObjectsFromFiles(files));
+
+			compilationTask.setProcessors(
+				Collections.singletonList(new GeneratedTypeProcessor()));
+
+			assertThat(compilationTask.call(), is(true));
+		}
+	}
+
+	private static <T> void _putFieldFunctions(
+		Map<String, Object> map, String prefix,
+		List<? extends FieldFunction<T, ?>> fieldFunctions, T model) {
+
+		for (FieldFunction<T, ?> fieldFunction : fieldFunctions) {
+			map.put(
+				prefix + ":" + fieldFunction.getKey(),
+				fieldFunction.apply(model));
+		}
+	}
+
+	private static Map<String, Object> _represent(
+		BaseRepresentor<Object> baseRepresentor, Object model) {
+
+		Map<String, Object> map = new TreeMap<>();
+
+		if (model == null) {
+			return map;
+		}
+
+		if (baseRepresentor instanceof Representor) {
+			Representor<Object> representor = unsafeCast(baseRepresentor);
+
+			map.put("identifier", representor.getIdentifier(model));
+			map.put(
+				"lastModified", representor.getLastModifiedOptional(model));
+			map.put("version", representor.getVersionOptional(model));
+		}
+
+		map.put("types", baseRepresentor.getTypes());
+
+		_putFieldFunctions(
+			map, "applicationRelativeURL",
+			baseRepresentor.getApplicationRelativeURLFunctions(), model);
+		_putFieldFunctions(
+			map, "binary", baseRepresentor.getBinaryFunctions(), model);
+		_putFieldFunctions(
+			map, "boolean", baseRepresentor.getBooleanFunctions(), model);
+		_putFieldFunctions(
+			map, "booleanList", baseRepresentor.getBooleanListFunctions(),
+			model);
+		_putFieldFunctions(
+			map, "link", baseRepresentor.getLinkFunctions(), model);
+		_putFieldFunctions(
+			map, "number", baseRepresentor.getNumberFunctions(), model);
+		_putFieldFunctions(
+			map, "numberList", baseRepresentor.getNumberListFunctions(),
+			model);
+		_putFieldFunctions(
+			map, "relativeURL", baseRepresentor.getRelativeURLFunctions(),
+			model);
+		_putFieldFunctions(
+			map, "string", baseRepresentor.getStringFunctions(), model);
+		_putFieldFunctions(
+			map, "stringList", baseRepresentor.getStringListFunctions(),
+			model);
+
+		AcceptLanguage acceptLanguage = () -> Locale.US;
+
+		baseRepresentor.getLocalizedStringFunctions(
+		).forEach(
+			fieldFunction -> map.put(
+				"localized:" + fieldFunction.getKey(),
+				fieldFunction.apply(
+					model
+				).apply(
+					acceptLanguage
+				))
+		);
+
+		for (RelatedModel<Object, ?> relatedModel :
+				baseRepresentor.getRelatedModels()) {
+
+			map.put(
+				"relatedModel:" + relatedModel.getKey(),
+				Arrays.asList(
+					relatedModel.getIdentifierClass(),
+					relatedModel.getModelToIdentifierFunction(
+					).apply(
+						model
+					)));
+		}
+
+		baseRepresentor.getRelatedCollections(
+		).forEach(
+			relatedCollection -> map.put(
+				"relatedCollection:" + relatedCollection.getKey(),
+				Arrays.asList(
+					relatedCollection.getIdentifierClass(),
+					relatedCollection.getModelToIdentifierFunction(
+					).apply(
+						model
+					)))
+		);
+
+		for (NestedFieldFunction<Object, ?> nestedFieldFunction :
+				baseRepresentor.getNestedFieldFunctions()) {
+
+			map.put(
+				"nested:" + nestedFieldFunction.getKey(),
+				_represent(
+					unsafeCast(nestedFieldFunction.getNestedRepresentor()),
+					nestedFieldFunction.apply(model)));
+		}
+
+		for (NestedListFieldFunction<Object, ?> nestedListFieldFunction :
+				baseRepresentor.getNestedListFieldFunctions()) {
+
+			List<Object> nestedModels = unsafeCast(
+				nestedListFieldFunction.apply(model));
+
+			List<Map<String, Object>> representations = new ArrayList<>();
+
+			for (Object nestedModel : nestedModels) {
+				representations.add(
+					_represent(
+						unsafeCast(
+							nestedListFieldFunction.getNestedRepresentor()),
+						nestedModel));
+			}
+
+			map.put(
+				"nestedList:" + nestedListFieldFunction.getKey(),
+				representations);
+		}
+
+		return map;
+	}
+
+	private static void _writeSource(
+			File sourceFolder, String name, String... lines)
+		throws IOException {
+
+		List<String> source = new ArrayList<>();
+
+		source.add("package test;");
+		source.add("import com.liferay.apio.architect.annotation.*;");
+		source.add(
+			"import com.liferay.apio.architect.annotation.Vocabulary.*;");
+		source.add("import com.liferay.apio.architect.identifier.Identifier;");
+
+		Collections.addAll(source, lines);
+
+		File file = new File(sourceFolder, name + ".java");
+
+		Files.write(file.toPath(), source, UTF_8);
+	}
+
+	private Object _createAddress(String street) {
+		return _createProxy(
+			_addressClass, Collections.singletonMap("getStreet", street));
+	}
+
+	private Object _createProxy(Class<?> clazz, Map<String, Object> values) {
+		return Proxy.newProxyInstance(
+			_urlClassLoader, new Class<?>[] {clazz},
+			(proxy, method, args) -> {
+				String name = method.getName();
+
+				if (name.equals("equals")) {
+					return proxy == args[0];
+				}
+
+				if (name.equals("getDescription")) {
+					return "description-" + args[0];
+				}
+
+				if (name.equals("getFailing")) {
+					throw new IllegalStateException();
+				}
+
+				if (name.equals("hashCode")) {
+					return System.identityHashCode(proxy);
+				}
+
+				if (name.equals("toString")) {
+					return clazz.getName();
+				}
+
+				return values.get(name);
+			});
+	}
+
+	private Object _createSample() {
+		Map<String, Object> values = new HashMap<>();
+
+		values.put("getActive", true);
+		values.put("getAddress", _createAddress("Main Street"));
+		values.put("getChildrenId", 42L);
+		values.put("getDateCreated", new Date(1465981200000L));
+		values.put("getId", 42L);
+		values.put("getImage", "/image");
+		values.put("getKeywords", Arrays.asList("one", "two"));
+		values.put("getParentId", 1L);
+		values.put(
+			"getPreviousAddresses",
+			Arrays.asList(
+				_createAddress("First Street"),
+				_createAddress("Second Street")));
+		values.put("getPrice", 1.5D);
+		values.put("getSiblingsId", 2L);
+		values.put("getUrl", "/url");
+		values.put("getVersion", 3L);
+
+		return _createProxy(_sampleClass, values);
+	}
+
+	private ParsedType _getGeneratedParsedType() throws Exception {
+		Class<?> generatedClass = _urlClassLoader.loadClass(
+			GeneratedType.getClassName(_sampleClass.getName()));
+
+		ParsedType.Builder builder = new ParsedType.Builder(
+			_sampleClass.getAnnotation(Type.class), _sampleClass);
+
+		builder.generatedType((GeneratedType<?>)generatedClass.newInstance());
+
+		return builder.build();
+	}
+
+	private Map<String, Object> _readFormFields(Object object)
+		throws Exception {
+
+		Map<String, Object> map = new TreeMap<>();
+
+		for (Method method : _sampleClass.getMethods()) {
+			Field field = method.getAnnotation(Field.class);
+
+			if ((field == null) || WRITE_ONLY.equals(field.mode()) ||
+				(method.getParameterCount() > 0)) {
+
+				continue;
+			}
+
+			map.put(method.getName(), method.invoke(object));
+		}
+
+		return map;
+	}
+
+	private Class<?> _addressClass;
+	private Class<?> _sampleClass;
+	private URLClassLoader _urlClassLoader;
+
+}
\ No newline at end of file
@@ -78,10 +78,10 @@ public class FormTransformerTest {
 
 		ParsedType parsedType = TypeProcessor.processType(Dummy.class);
 
-		Form<Dummy> objectForm = FormTransformer.toForm(
+		_form = FormTransformer.toForm(
 			parsedType, __ -> "", __ -> Optional.of("something"));
 
-		_dummy = objectForm.get(body);
+		_dummy = _form.get(body);
 	}
 
 	@Test
@@ -118,6 +118,22 @@ public class FormTransformerTest {
 		assertThat(_dummy.getRelativeUrl2(), is("/second"));
 	}
 
+	@Test
+	public void testTwoBodiesFromOneFormDoNotShareValues() {
+		Body body = Body.create(
+			key -> Optional.ofNullable(
+				key.equals("stringField1") ? "other" : null),
+			key -> Optional.empty());
+
+		Dummy dummy = _form.get(body);
+
+		assertThat(dummy.getBooleanField1(), is(nullValue()));
+		assertThat(dummy.getStringField1(), is("other"));
+		assertThat(_dummy.getBooleanField1(), is(true));
+		assertThat(_dummy.getStringField1(), is("string1"));
+	}
+
 	private static Dummy _dummy;
+	private static Form<Dummy> _form;
 
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import static org.junit.Assert.assertThat;
+
+import com.liferay.apio.architect.internal.annotation.representor.types.Dummy;
+
+import java.util.function.BiConsumer;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class TypeInstanceFactoryTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGettingSetterOfUnknownMethodFails() {
+		_typeInstanceFactory.getSetter("unknownMethod");
+	}
+
+	@Test
+	public void testInstancesAreEqualOnlyToThemselves() {
+		Dummy dummy = _typeInstanceFactory.create();
+
+		assertThat(dummy.equals(dummy), is(true));
+		assertThat(dummy.equals(_typeInstanceFactory.create()), is(false));
+		assertThat(dummy.hashCode(), is(System.identityHashCode(dummy)));
+	}
+
+	@Test
+	public void testInstancesDoNotShareValues() {
+		BiConsumer<Dummy, String> biConsumer = _typeInstanceFactory.getSetter(
+			"getStringField1");
+
+		Dummy dummy1 = _typeInstanceFactory.create();
+		Dummy dummy2 = _typeInstanceFactory.create();
+
+		biConsumer.accept(dummy1, "string1");
+
+		assertThat(dummy1.getStringField1(), is("string1"));
+		assertThat(dummy2.getStringField1(), is(nullValue()));
+	}
+
+	@Test
+	public void testMethodsReturnNullUntilSet() {
+		Dummy dummy = _typeInstanceFactory.create();
+
+		assertThat(dummy.getStringField1(), is(nullValue()));
+	}
+
+	private final TypeInstanceFactory<Dummy> _typeInstanceFactory =
+		new TypeInstanceFactory<>(Dummy.class);
+
+}
\ No newline at end of file
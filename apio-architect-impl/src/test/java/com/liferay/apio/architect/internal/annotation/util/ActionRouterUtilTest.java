@@ -15,6 +15,8 @@
 package com.liferay.apio.architect.internal.annotation.util;
 
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.execute;
+import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.executeBatch;
+import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getBatchSingleModels;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getBodyResourceClassName;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getParamClasses;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.getResource;
@@ -33,6 +35,7 @@ import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -53,9 +56,14 @@ import com.liferay.apio.architect.resource.Resource.Nested;
 import com.liferay.apio.architect.resource.Resource.Paged;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import io.vavr.control.Try;
+
 import java.lang.reflect.Method;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.Test;
 
@@ -65,6 +73,23 @@ import org.junit.Test;
  */
 public class ActionRouterUtilTest {
 
+	@Test
+	public void testExecuteBatchReturnsList() throws Throwable {
+		List<?> list = executeBatch(
+			asList(asList(1L, 2L), "Apio"), params -> params[0]);
+
+		assertEquals(asList(1L, 2L), list);
+	}
+
+	@Test
+	public void testExecuteBatchReturnsNullIfResultIsNotList()
+		throws Throwable {
+
+		List<?> list = executeBatch(emptyList(), __ -> "Apio");
+
+		assertNull(list);
+	}
+
 	@Test
 	public void testExecuteLeavesNullAsNull() throws Throwable {
 		Object result = execute(Paged.of("name"), emptyList(), __ -> null);
@@ -141,6 +166,34 @@ public class ActionRouterUtilTest {
 		assertThat(page.getTotalCount(), is(31));
 	}
 
+	@Test
+	public void testExecuteTransformsValueOfCompletionStage() throws Throwable {
+		CompletableFuture<Object> completableFuture = new CompletableFuture<>();
+
+		Object result = execute(
+			Item.of("name"), singletonList(Resource.Id.of(4, "4")),
+			__ -> completableFuture);
+
+		assertThat(result, is(instanceOf(CompletionStage.class)));
+
+		completableFuture.complete(asList("Apio", "Architect"));
+
+		CompletionStage<?> completionStage = (CompletionStage<?>)result;
+
+		CompletableFuture<?> resultCompletableFuture =
+			completionStage.toCompletableFuture();
+
+		Object value = resultCompletableFuture.get();
+
+		assertThat(value, is(instanceOf(Page.class)));
+
+		Page<?> page = (Page<?>)value;
+
+		assertThat(page.getItems(), contains("Apio", "Architect"));
+		assertThat(
+			page.getResource(), is(Item.of("name", Resource.Id.of(4, "4"))));
+	}
+
 	@Test
 	public void testExecuteUnwrapsIdAsObjectAndReturnsSingleModel()
 		throws Throwable {
@@ -159,6 +212,22 @@ public class ActionRouterUtilTest {
 		assertThat(singleModel.getOperations(), is(emptyList()));
 	}
 
+	@Test(expected = UnsupportedOperationException.class)
+	public void testFailingExecuteBatchThrowsExceptionCause()
+		throws Throwable {
+
+		List<?> list = executeBatch(
+			emptyList(),
+			__ -> {
+				UnsupportedOperationException cause =
+					new UnsupportedOperationException();
+
+				throw new IllegalArgumentException(cause);
+			});
+
+		assertNull(list);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testFailingExecuteThrowsExceptionCauseIfPresent()
 		throws Throwable {
@@ -188,6 +257,35 @@ public class ActionRouterUtilTest {
 		assertNull(result);
 	}
 
+	@Test
+	public void testGetBatchSingleModelsMapsModelsByIdentifier() {
+		Map<Object, SingleModel> singleModels = getBatchSingleModels(
+			Try.success(asList("Apio", null)), asList(1L, 2L), "name");
+
+		assertThat(singleModels.keySet(), contains(1L));
+
+		SingleModel singleModel = singleModels.get(1L);
+
+		assertThat(singleModel.getModel(), is("Apio"));
+		assertThat(singleModel.getResourceName(), is("name"));
+	}
+
+	@Test
+	public void testGetBatchSingleModelsReturnsEmptyMapIfBatchFails() {
+		Map<Object, SingleModel> singleModels = getBatchSingleModels(
+			Try.failure(new IllegalStateException()), asList(1L, 2L), "name");
+
+		assertTrue(singleModels.isEmpty());
+	}
+
+	@Test
+	public void testGetBatchSingleModelsReturnsEmptyMapIfSizeDiffers() {
+		Map<Object, SingleModel> singleModels = getBatchSingleModels(
+			Try.success(singletonList("Apio")), asList(1L, 2L), "name");
+
+		assertTrue(singleModels.isEmpty());
+	}
+
 	@Test
 	public void testGetBodyResourceClass() throws NoSuchMethodException {
 		Method listBodyMethod = MyAnnotatedInterface.class.getMethod(
@@ -273,6 +371,15 @@ public class ActionRouterUtilTest {
 
 	@Test
 	public void testGetReturnClass() throws NoSuchMethodException {
+		Method returningCompletionStageOfMyTypeMethod =
+			MyAnnotatedInterface.class.getMethod(
+				"returningCompletionStageOfMyType");
+		Method returningCompletionStageOfPageItemsMethod =
+			MyAnnotatedInterface.class.getMethod(
+				"returningCompletionStageOfPageItems");
+		Method returningCompletionStageOfVoidMethod =
+			MyAnnotatedInterface.class.getMethod(
+				"returningCompletionStageOfVoid");
 		Method returningListMethod = MyAnnotatedInterface.class.getMethod(
 			"returningList");
 		Method returningMyTypeMethod = MyAnnotatedInterface.class.getMethod(
@@ -284,6 +391,15 @@ public class ActionRouterUtilTest {
 		Method returningVoidMethod = MyAnnotatedInterface.class.getMethod(
 			"returningVoid");
 
+		assertThat(
+			getReturnClass(returningCompletionStageOfMyTypeMethod),
+			is(equalTo(SingleModel.class)));
+		assertThat(
+			getReturnClass(returningCompletionStageOfPageItemsMethod),
+			is(equalTo(Page.class)));
+		assertThat(
+			getReturnClass(returningCompletionStageOfVoidMethod),
+			is(equalTo(Void.class)));
 		assertThat(
 			getReturnClass(returningListMethod), is(equalTo(Page.class)));
 		assertThat(
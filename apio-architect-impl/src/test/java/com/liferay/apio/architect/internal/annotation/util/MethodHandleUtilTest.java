@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.toBiFunction;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.toFunction;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.toInvoker;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import io.vavr.CheckedFunction1;
+
+import java.lang.reflect.InvocationTargetException;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MethodHandleUtilTest {
+
+	@Test
+	public void testToBiFunctionCallsMethodWithArgument()
+		throws NoSuchMethodException {
+
+		BiFunction<Dummy, String, String> biFunction = toBiFunction(
+			Dummy.class.getMethod("concat", String.class));
+
+		assertThat(biFunction.apply(new Dummy("Apio"), "!"), is("Apio!"));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testToBiFunctionRethrowsErrors() throws NoSuchMethodException {
+		BiFunction<Dummy, String, String> biFunction = toBiFunction(
+			Dummy.class.getMethod("error", String.class));
+
+		biFunction.apply(new Dummy("Apio"), "!");
+	}
+
+	@Test
+	public void testToFunctionCallsMethod() throws NoSuchMethodException {
+		Function<Dummy, String> function = toFunction(
+			Dummy.class.getMethod("getName"));
+
+		assertThat(function.apply(new Dummy("Apio")), is("Apio"));
+	}
+
+	@Test
+	public void testToFunctionReturnsNullIfMethodFails()
+		throws NoSuchMethodException {
+
+		Function<Dummy, String> function = toFunction(
+			Dummy.class.getMethod("fail"));
+
+		assertThat(function.apply(new Dummy("Apio")), is(nullValue()));
+	}
+
+	@Test
+	public void testToInvokerCallsMethodWithArrayElements() throws Throwable {
+		CheckedFunction1<Object[], Object> invoker = toInvoker(
+			new Dummy("Apio"), Dummy.class.getMethod("concat", String.class));
+
+		assertThat(invoker.apply(new Object[] {"!"}), is("Apio!"));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testToInvokerRethrowsErrors() throws Throwable {
+		CheckedFunction1<Object[], Object> invoker = toInvoker(
+			new Dummy("Apio"), Dummy.class.getMethod("error", String.class));
+
+		invoker.apply(new Object[] {"!"});
+	}
+
+	@Test
+	public void testToInvokerWrapsExceptionsLikeMethodInvoke()
+		throws Throwable {
+
+		CheckedFunction1<Object[], Object> invoker = toInvoker(
+			new Dummy("Apio"), Dummy.class.getMethod("fail"));
+
+		try {
+			invoker.apply(new Object[0]);
+
+			fail("An exception should have been thrown");
+		}
+		catch (InvocationTargetException ite) {
+			assertThat(
+				ite.getCause(),
+				is(instanceOf(UnsupportedOperationException.class)));
+		}
+	}
+
+	private static class Dummy {
+
+		public String concat(String suffix) {
+			return _name + suffix;
+		}
+
+		public String error(String message) {
+			throw new AssertionError(message);
+		}
+
+		public String fail() {
+			throw new UnsupportedOperationException();
+		}
+
+		public String getName() {
+			return _name;
+		}
+
+		private Dummy(String name) {
+			_name = name;
+		}
+
+		private final String _name;
+
+	}
+
+}
\ No newline at end of file
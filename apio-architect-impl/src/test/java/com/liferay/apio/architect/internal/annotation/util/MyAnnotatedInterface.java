@@ -27,6 +27,7 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * @author Alejandro Hernández
@@ -44,6 +45,13 @@ public interface MyAnnotatedInterface {
 
 	public void notAnnotated();
 
+	public CompletionStage<MyType> returningCompletionStageOfMyType();
+
+	public CompletionStage<PageItems<MyType>>
+		returningCompletionStageOfPageItems();
+
+	public CompletionStage<Void> returningCompletionStageOfVoid();
+
 	public List<MyType> returningList();
 
 	public MyType returningMyType();
@@ -18,6 +18,8 @@ import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonT
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
@@ -28,14 +30,22 @@ import static org.mockito.Mockito.when;
 
 import com.liferay.apio.architect.form.Body;
 
+import io.vavr.control.Try;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+
 import org.hamcrest.Matcher;
 
 import org.junit.Before;
@@ -52,6 +62,63 @@ public class JSONToBodyConverterTest {
 		_request = mock(HttpServletRequest.class);
 	}
 
+	@Test
+	public void testTransformingInvalidJSONArrayClosesInputWhenMemberFails()
+		throws IOException {
+
+		String json = "[{\"language\": \"Spanish\"}, {\"language\": ";
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		InputStream inputStream = new ByteArrayInputStream(
+			json.getBytes(UTF_8)) {
+
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+
+		};
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		Body body = jsonToBody(_request);
+
+		Try<Optional<List<Body>>> bodyMembersTry = Try.of(
+			body::getBodyMembersOptional);
+
+		assertThat(bodyMembersTry.isFailure(), is(true));
+		assertThat(closed.get(), is(true));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testTransformingInvalidJSONArrayFailsWhenMemberIsRead()
+		throws IOException {
+
+		String json = "[{\"language\": \"Spanish\"}, {\"language\": ";
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(
+				new ByteArrayInputStream(json.getBytes(UTF_8)))
+		);
+
+		Body body = jsonToBody(_request);
+
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
+
+		Iterator<Body> iterator = optional.get().iterator();
+
+		_assertValue(iterator.next(), "language", "Spanish");
+
+		iterator.next();
+	}
+
 	@Test
 	public void testTransformingJSONArrayIntoBody() throws IOException {
 		InputStream inputStream = _getInputStream("/body/json-body-2.json");
@@ -75,6 +142,30 @@ public class JSONToBodyConverterTest {
 			});
 	}
 
+	@Test
+	public void testTransformingJSONArrayIntoBodyStream() throws IOException {
+		InputStream inputStream = _getInputStream("/body/json-body-2.json");
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		Body body = jsonToBody(_request);
+
+		Optional<Stream<Body>> optional = body.getBodyMembersStreamOptional();
+
+		assertThat(optional, is(optionalWithValue()));
+
+		Iterator<Body> iterator = optional.get().iterator();
+
+		_testLanguage(iterator.next(), "Spanish", "es-ES", "Apio");
+		_testLanguage(iterator.next(), "English", "en", "Celery");
+
+		assertThat(iterator.hasNext(), is(false));
+	}
+
 	@Test
 	public void testTransformingJSONObjectIntoBody() throws IOException {
 		InputStream inputStream = _getInputStream("/body/json-body-1.json");
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.closeBinaryFiles;
+import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import static org.junit.Assert.fail;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.apache.commons.fileupload.util.Streams;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MultipartToBodyConverterTest {
+
+	@Before
+	public void setUp() throws IOException {
+		String multipart = String.join(
+			"\r\n", "--boundary",
+			"Content-Disposition: form-data; name=\"headline\"", "",
+			"Hello", "--boundary",
+			"Content-Disposition: form-data; name=\"tags[1]\"", "", "second",
+			"--boundary", "Content-Disposition: form-data; name=\"tags[0]\"",
+			"", "first", "--boundary",
+			"Content-Disposition: form-data; name=\"file\"; " +
+				"filename=\"file.txt\"",
+			"Content-Type: text/plain", "", "Some file content",
+			"--boundary--", "");
+
+		_request = _createRequest(multipart);
+	}
+
+	@Test
+	public void testClosingTheBinaryFilesDeletesSpooledFiles() {
+		File repository = temporaryFolder.getRoot();
+
+		multipartToBody(_request, 4, repository);
+
+		assertThat(repository.listFiles(), is(arrayWithSize(1)));
+
+		closeBinaryFiles(_request);
+
+		assertThat(repository.listFiles(), is(emptyArray()));
+	}
+
+	@Test
+	public void testFilesBeyondSizeThresholdAreSpooledAndDeletedOnClose()
+		throws IOException {
+
+		File repository = temporaryFolder.getRoot();
+
+		Body body = multipartToBody(_request, 4, repository);
+
+		assertThat(repository.listFiles(), is(arrayWithSize(1)));
+
+		Optional<BinaryFile> optional = body.getFileOptional("file");
+
+		BinaryFile binaryFile = optional.get();
+
+		assertThat(binaryFile.getSize(), is(17L));
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			assertThat(
+				inputStream, is(instanceOf(TemporaryFileInputStream.class)));
+			assertThat(Streams.asString(inputStream), is("Some file content"));
+		}
+
+		assertThat(repository.listFiles(), is(emptyArray()));
+	}
+
+	@Test
+	public void testFilesWithinSizeThresholdAreKeptInMemory()
+		throws IOException {
+
+		File repository = temporaryFolder.getRoot();
+
+		Body body = multipartToBody(_request, 1024, repository);
+
+		assertThat(repository.listFiles(), is(emptyArray()));
+
+		Optional<BinaryFile> optional = body.getFileOptional("file");
+
+		BinaryFile binaryFile = optional.get();
+
+		assertThat(binaryFile.getMimeType(), is("text/plain"));
+		assertThat(binaryFile.getName(), is("file.txt"));
+		assertThat(
+			Streams.asString(binaryFile.getInputStream()),
+			is("Some file content"));
+	}
+
+	@Test
+	public void testSpooledFilesAreDeletedIfALaterPartFails()
+		throws IOException {
+
+		String multipart = String.join(
+			"\r\n", "--boundary",
+			"Content-Disposition: form-data; name=\"file\"; " +
+				"filename=\"file.txt\"",
+			"Content-Type: text/plain", "", "Some file content", "--boundary",
+			"Content-Disposition: form-data; name=\"tags[99999999999]\"", "",
+			"tag", "--boundary--", "");
+
+		File repository = temporaryFolder.getRoot();
+
+		try {
+			multipartToBody(_createRequest(multipart), 4, repository);
+
+			fail("Expected BadRequestException");
+		}
+		catch (BadRequestException bre) {
+			assertThat(repository.listFiles(), is(emptyArray()));
+		}
+	}
+
+	@Test
+	public void testValuesAreReadInIndexOrder() {
+		Body body = multipartToBody(
+			_request, 1024, temporaryFolder.getRoot());
+
+		assertThat(
+			body.getValueOptional("headline"),
+			is(optionalWithValue(is("Hello"))));
+		assertThat(
+			body.getValueListOptional("tags"),
+			is(optionalWithValue(contains("first", "second"))));
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static HttpServletRequest _createRequest(String multipart)
+		throws IOException {
+
+		HttpServletRequest request = mock(HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		doAnswer(
+			invocation -> attributes.put(
+				invocation.getArgument(0), invocation.getArgument(1))
+		).when(
+			request
+		).setAttribute(
+			anyString(), any()
+		);
+
+		doAnswer(
+			invocation -> attributes.remove(invocation.getArgument(0))
+		).when(
+			request
+		).removeAttribute(
+			anyString()
+		);
+
+		when(
+			request.getAttribute(anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArgument(0))
+		);
+
+		when(
+			request.getContentType()
+		).thenReturn(
+			"multipart/form-data; boundary=boundary"
+		);
+
+		when(
+			request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(
+				new ByteArrayInputStream(multipart.getBytes(UTF_8)))
+		);
+
+		when(
+			request.getMethod()
+		).thenReturn(
+			"POST"
+		);
+
+		return request;
+	}
+
+	private HttpServletRequest _request;
+
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryFileResponseUtilTest {
+
+	@Before
+	public void setUp() throws IOException {
+		File file = temporaryFolder.newFile();
+
+		Path path = file.toPath();
+
+		Files.write(path, new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+		_binaryFile = new BinaryFile(path, "text/plain", "file.txt");
+		_httpHeaders = mock(HttpHeaders.class);
+	}
+
+	@Test
+	public void testMultipleRangesAreIgnored() {
+		Response response = _getResponse("bytes=1-2,4-5", null);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntity(), is(_binaryFile));
+	}
+
+	@Test
+	public void testRangeIsIgnoredIfIfRangeDoesNotMatch() {
+		Response response = _getResponse("bytes=2-5", "\"abc\"");
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntity(), is(_binaryFile));
+	}
+
+	@Test
+	public void testRangePastTheEndIsNotSatisfiable() {
+		Response response = _getResponse("bytes=20-", null);
+
+		assertThat(response.getStatus(), is(416));
+		assertThat(
+			response.getHeaderString("Content-Range"), is("bytes */10"));
+	}
+
+	@Test
+	public void testRequestWithoutRangeReturnsWholeFile() {
+		Response response = _getResponse(null, null);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntity(), is(_binaryFile));
+		assertThat(response.getHeaderString("Accept-Ranges"), is("bytes"));
+		assertThat(response.getEntityTag(), is(notNullValue()));
+	}
+
+	@Test
+	public void testSatisfiableRangeReturnsPartialContent() throws IOException {
+		Response response = _getResponse("bytes=2-5", null);
+
+		assertThat(response.getStatus(), is(206));
+		assertThat(
+			response.getHeaderString("Content-Range"), is("bytes 2-5/10"));
+		assertThat(response.getEntity(), is(instanceOf(BinaryFileRange.class)));
+
+		BinaryFileRange binaryFileRange =
+			(BinaryFileRange)response.getEntity();
+
+		assertThat(binaryFileRange.getOffset(), is(2L));
+		assertThat(binaryFileRange.getSize(), is(4L));
+
+		try (InputStream inputStream = binaryFileRange.getInputStream()) {
+			assertThat(inputStream.read(), is(2));
+		}
+	}
+
+	@Test
+	public void testStreamBackedBinaryFileIgnoresRanges() {
+		_binaryFile = new BinaryFile(
+			new ByteArrayInputStream(new byte[10]), 10L, "text/plain");
+
+		Response response = _getResponse("bytes=2-5", null);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntity(), is(_binaryFile));
+		assertThat(response.getHeaderString("Accept-Ranges"), is(nullValue()));
+	}
+
+	@Test
+	public void testSuffixRangeReturnsLastBytes() {
+		Response response = _getResponse("bytes=-3", null);
+
+		assertThat(response.getStatus(), is(206));
+		assertThat(
+			response.getHeaderString("Content-Range"), is("bytes 7-9/10"));
+	}
+
+	private Response _getResponse(String range, String ifRange) {
+		when(
+			_httpHeaders.getHeaderString("Range")
+		).thenReturn(
+			range
+		);
+
+		when(
+			_httpHeaders.getHeaderString("If-Range")
+		).thenReturn(
+			ifRange
+		);
+
+		return BinaryFileResponseUtil.toResponse(
+			_binaryFile, mock(Request.class), _httpHeaders);
+	}
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private BinaryFile _binaryFile;
+	private HttpHeaders _httpHeaders;
+
+}
\ No newline at end of file
@@ -58,7 +58,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.ws.rs.BadRequestException;
 
@@ -292,6 +294,39 @@ public class FormTest {
 		form.get(_body);
 	}
 
+	@Test
+	public void testListFormClosesMembersStreamIfAMemberFails() {
+		Form<Map<String, Object>> form = _mapForm(
+			builder -> builder.addRequiredString(
+				"string1", (map, string) -> map.put("s1", string)));
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Body invalidBody = key -> Optional.empty();
+
+		Body body = new Body() {
+
+			@Override
+			public Optional<Stream<Body>> getBodyMembersStreamOptional() {
+				Stream<Body> stream = Stream.of(_body, invalidBody);
+
+				return Optional.of(stream.onClose(() -> closed.set(true)));
+			}
+
+			@Override
+			public Optional<String> getValueOptional(String key) {
+				return Optional.empty();
+			}
+
+		};
+
+		Try<List<Map<String, Object>>> listTry = Try.fromFallible(
+			() -> form.getList(body));
+
+		assertThat(listTry.isFailure(), is(true));
+		assertThat(closed.get(), is(true));
+	}
+
 	@Test
 	public void testListFormCreatesValidList() {
 		Form<Map<String, Object>> form = _getForm();
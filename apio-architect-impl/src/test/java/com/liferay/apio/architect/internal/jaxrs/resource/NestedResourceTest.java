@@ -18,20 +18,31 @@ import static java.lang.String.join;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import org.mockito.ArgumentCaptor;
+
 /**
  * @author Alejandro Hernández
  */
@@ -42,9 +53,23 @@ public class NestedResourceTest {
 		_nestedResource = NestedResource.Builder.params(
 			asList("1", "2")
 		).responseFunction(
-			(method, params) -> Response.ok(
-				"Endpoint = " + join("/", params) + ", Method = " + method
-			).build()
+			(method, params) -> {
+				if ("LOCK".equals(method)) {
+					CompletableFuture<Response> completableFuture =
+						new CompletableFuture<>();
+
+					completableFuture.completeExceptionally(
+						new CompletionException(new NotFoundException()));
+
+					return completableFuture;
+				}
+
+				return completedFuture(
+					Response.ok(
+						"Endpoint = " + join("/", params) + ", Method = " +
+							method
+					).build());
+			}
 		).allowedMethodsFunction(
 			__ -> singleton("PUT")
 		).build();
@@ -56,15 +81,33 @@ public class NestedResourceTest {
 
 		when(request.getMethod()).thenReturn("CUSTOM");
 
-		Response response = _nestedResource.custom(request);
+		Response response = _getResponse(
+			asyncResponse -> _nestedResource.custom(request, asyncResponse));
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = CUSTOM"));
 	}
 
+	@Test
+	public void testCustomResumesWithCauseOfFailedResponse() {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+
+		when(request.getMethod()).thenReturn("LOCK");
+
+		AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+		_nestedResource.custom(request, asyncResponse);
+
+		verify(
+			asyncResponse
+		).resume(
+			any(NotFoundException.class)
+		);
+	}
+
 	@Test
 	public void testDeleteCallsResultFunctionWithDeleteMethod() {
-		Response response = _nestedResource.delete();
+		Response response = _getResponse(_nestedResource::delete);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = DELETE"));
@@ -72,7 +115,7 @@ public class NestedResourceTest {
 
 	@Test
 	public void testGetCallsResultFunctionWithGetMethod() {
-		Response response = _nestedResource.get();
+		Response response = _getResponse(_nestedResource::get);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = GET"));
@@ -83,7 +126,7 @@ public class NestedResourceTest {
 		NestedResource childNestedResource = _nestedResource.nestedResource(
 			"3");
 
-		Response response = childNestedResource.get();
+		Response response = _getResponse(childNestedResource::get);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2/3, Method = GET"));
@@ -99,7 +142,7 @@ public class NestedResourceTest {
 
 	@Test
 	public void testPatchCallsResultFunctionWithPatchMethod() {
-		Response response = _nestedResource.patch();
+		Response response = _getResponse(_nestedResource::patch);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = PATCH"));
@@ -107,7 +150,7 @@ public class NestedResourceTest {
 
 	@Test
 	public void testPostCallsResultFunctionWithPostMethod() {
-		Response response = _nestedResource.post();
+		Response response = _getResponse(_nestedResource::post);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = POST"));
@@ -115,12 +158,29 @@ public class NestedResourceTest {
 
 	@Test
 	public void testPutCallsResultFunctionWithPutMethod() {
-		Response response = _nestedResource.put();
+		Response response = _getResponse(_nestedResource::put);
 
 		assertThat(response.getStatus(), is(200));
 		assertThat(response.getEntity(), is("Endpoint = 1/2, Method = PUT"));
 	}
 
+	private Response _getResponse(Consumer<AsyncResponse> consumer) {
+		AsyncResponse asyncResponse = mock(AsyncResponse.class);
+
+		consumer.accept(asyncResponse);
+
+		ArgumentCaptor<Response> argumentCaptor = ArgumentCaptor.forClass(
+			Response.class);
+
+		verify(
+			asyncResponse
+		).resume(
+			argumentCaptor.capture()
+		);
+
+		return argumentCaptor.getValue();
+	}
+
 	private NestedResource _nestedResource;
 
 }
\ No newline at end of file
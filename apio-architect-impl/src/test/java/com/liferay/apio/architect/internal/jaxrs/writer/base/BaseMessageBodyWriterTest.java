@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.internal.jaxrs.writer.base;
+
+import static com.liferay.apio.architect.internal.metrics.Metrics.INSTANCE;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.util.MemoizedSingleModelFunction;
+
+import java.util.Optional;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BaseMessageBodyWriterTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.setEnabled(true);
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.setEnabled(false);
+
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testRelatedModelLookupsAreRecordedInTheMetrics() {
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(
+				(identifier, identifierClass) -> Optional.empty());
+
+		memoizedSingleModelFunction.apply(1L, Identifier.class);
+		memoizedSingleModelFunction.apply(1L, Identifier.class);
+		memoizedSingleModelFunction.apply(2L, Identifier.class);
+
+		TestMessageBodyWriter testMessageBodyWriter =
+			new TestMessageBodyWriter();
+
+		testMessageBodyWriter.recordRelatedModelLookups(
+			memoizedSingleModelFunction);
+
+		String text = INSTANCE.toPrometheusText();
+
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_related_model_lookups_total{" +
+					"writer=\"TestMessageBodyWriter\",result=\"hit\"} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_related_model_lookups_total{" +
+					"writer=\"TestMessageBodyWriter\",result=\"miss\"} 2\n"));
+	}
+
+	private static class TestMessageBodyWriter
+		extends BaseMessageBodyWriter<String, MessageMapper<String>> {
+
+		@Override
+		public boolean canWrite(Class<?> clazz) {
+			return false;
+		}
+
+		@Override
+		public Optional<MessageMapper<String>> getMessageMapperOptional(
+			Request request, HttpHeaders httpHeaders) {
+
+			return Optional.empty();
+		}
+
+		@Override
+		protected String write(
+			String string, MessageMapper<String> messageMapper,
+			RequestInfo requestInfo) {
+
+			return string;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -14,9 +14,21 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.json.JSONException;
 
@@ -65,6 +77,36 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingAddDeferredJsonObjectBuilderCreatesAValidJsonArray()
+		throws JSONException {
+
+		JSONObjectBuilder jsonObjectBuilder = JSONObjectBuilder.deferred(
+			builder -> builder.field(
+				"solution"
+			).numberValue(
+				42
+			));
+
+		jsonObjectBuilder.field(
+			"question"
+		).stringValue(
+			"unknown"
+		);
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).add(
+			jsonObjectBuilder
+		);
+
+		String expected =
+			"{'array': [{'question': 'unknown', 'solution': 42}]}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingAddJsonObjectBuilderCreatesAValidJsonArray()
 		throws JSONException {
@@ -424,6 +466,70 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingWriteToPopulatesDeferredObjectsWhenWritten()
+		throws IOException, JSONException {
+
+		List<String> events = new ArrayList<>();
+
+		_jsonObjectBuilder.field(
+			"array"
+		).arrayValue(
+		).add(
+			JSONObjectBuilder.deferred(
+				builder -> {
+					events.add("populated");
+
+					builder.field(
+						"solution"
+					).numberValue(
+						42
+					);
+				})
+		);
+
+		assertThat(events, is(empty()));
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_jsonObjectBuilder.writeTo(byteArrayOutputStream);
+
+		assertThat(events, contains("populated"));
+
+		String expected = "{'array': [{'solution': 42}]}";
+
+		assertEquals(
+			expected, new String(byteArrayOutputStream.toByteArray(), UTF_8),
+			true);
+	}
+
+	@Test
+	public void testInvokingWriteToWritesTheSameJsonObjectAsBuild()
+		throws IOException, JSONException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner", "other"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"string"
+		).stringValue(
+			"\u00e1pio"
+		);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_jsonObjectBuilder.writeTo(byteArrayOutputStream);
+
+		assertEquals(
+			_jsonObjectBuilder.build(),
+			new String(byteArrayOutputStream.toByteArray(), UTF_8), true);
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.liferay.apio.architect.internal.metrics.Metrics.FAILURE;
+import static com.liferay.apio.architect.internal.metrics.Metrics.INSTANCE;
+import static com.liferay.apio.architect.internal.metrics.Metrics.SUCCESS;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MetricsTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.setEnabled(true);
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.setEnabled(false);
+
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testActionLatenciesAreAddedToTheirBuckets() {
+		INSTANCE.recordAction("people", "retrieve", "GET", SUCCESS, 200_000L);
+		INSTANCE.recordAction("people", "retrieve", "GET", SUCCESS, 3_000_000L);
+		INSTANCE.recordAction(
+			"people", "retrieve", "GET", SUCCESS, 20_000_000_000L);
+
+		String text = INSTANCE.toPrometheusText();
+
+		String labels =
+			"resource=\"people\",action=\"retrieve\",method=\"GET\"," +
+				"outcome=\"success\"";
+
+		assertThat(
+			text,
+			containsString(
+				"# TYPE apio_architect_action_duration_seconds histogram\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_bucket{" + labels +
+					",le=\"0.0001\"} 0\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_bucket{" + labels +
+					",le=\"0.00025\"} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_bucket{" + labels +
+					",le=\"0.005\"} 2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_bucket{" + labels +
+					",le=\"10\"} 2\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_bucket{" + labels +
+					",le=\"+Inf\"} 3\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_sum{" + labels +
+					"} 20.0032\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_action_duration_seconds_count{" + labels +
+					"} 3\n"));
+	}
+
+	@Test
+	public void testEveryLabelCombinationHasItsOwnHistogram() {
+		INSTANCE.recordWrite(
+			"PageMessageBodyWriter", "people", "application/json", SUCCESS,
+			1_000L);
+		INSTANCE.recordWrite(
+			"PageMessageBodyWriter", "people", "application/json", FAILURE,
+			1_000L);
+
+		String text = INSTANCE.toPrometheusText();
+
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_write_duration_seconds_count{" +
+					"writer=\"PageMessageBodyWriter\",resource=\"people\"," +
+						"media_type=\"application/json\"," +
+							"outcome=\"failure\"} 1\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_write_duration_seconds_count{" +
+					"writer=\"PageMessageBodyWriter\",resource=\"people\"," +
+						"media_type=\"application/json\"," +
+							"outcome=\"success\"} 1\n"));
+		assertThat(
+			text, not(containsString("apio_architect_action_duration")));
+	}
+
+	@Test
+	public void testLabelValuesAreEscaped() {
+		INSTANCE.recordAction("a\"b\\c\nd", "retrieve", "GET", SUCCESS, 1L);
+
+		String text = INSTANCE.toPrometheusText();
+
+		assertThat(text, containsString("resource=\"a\\\"b\\\\c\\nd\""));
+	}
+
+	@Test
+	public void testNothingIsRecordedIfDisabled() {
+		INSTANCE.setEnabled(false);
+
+		INSTANCE.recordAction("people", "retrieve", "GET", SUCCESS, 1L);
+
+		assertThat(INSTANCE.toPrometheusText(), is(""));
+	}
+
+	@Test
+	public void testRelatedModelLookupsAreCounted() {
+		INSTANCE.recordRelatedModelLookups("PageMessageBodyWriter", 3L, 2L);
+		INSTANCE.recordRelatedModelLookups("PageMessageBodyWriter", 1L, 0L);
+
+		String text = INSTANCE.toPrometheusText();
+
+		assertThat(
+			text,
+			containsString(
+				"# TYPE apio_architect_related_model_lookups_total " +
+					"counter\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_related_model_lookups_total{" +
+					"writer=\"PageMessageBodyWriter\",result=\"hit\"} 4\n"));
+		assertThat(
+			text,
+			containsString(
+				"apio_architect_related_model_lookups_total{" +
+					"writer=\"PageMessageBodyWriter\",result=\"miss\"} 2\n"));
+	}
+
+}
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.pagination;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static java.util.Collections.emptyList;
 
@@ -29,6 +30,7 @@ import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +51,31 @@ public class PageTest {
 		_page = new PageImpl<>(_paged, _pageItems, pagination);
 	}
 
+	@Test
+	public void testGetEstimatedTotalCountOptionalIsEmptyWithExactTotal() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), () -> 10, 8);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 1, null, null, true));
+
+		assertThat(page.getEstimatedTotalCountOptional(), is(emptyOptional()));
+	}
+
+	@Test
+	public void testGetEstimatedTotalCountOptionalReturnsEstimation() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), () -> 10, 8);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 1));
+
+		assertThat(
+			page.getEstimatedTotalCountOptional(),
+			is(optionalWithValue(is(8))));
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+	}
+
 	@Test
 	public void testGetItemsPerPageReturnsItemsPerPage() {
 		assertThat(_page.getItemsPerPage(), is(1));
@@ -70,6 +97,19 @@ public class PageTest {
 		assertThat(page.getLastPageNumber(), is(1));
 	}
 
+	@Test
+	public void testGetLastPageNumberIsNextPageWithUnknownTotalAndFullPage() {
+		Pagination pagination = new PaginationImpl(1, 4);
+
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"));
+
+		Page<String> page = new PageImpl<>(_paged, pageItems, pagination);
+
+		assertThat(page.getLastPageNumber(), is(5));
+		assertThat(page.hasNext(), is(true));
+	}
+
 	@Test
 	public void testGetLastPageNumberReturnsLastPageNumber() {
 		assertThat(_page.getLastPageNumber(), is(10));
@@ -95,11 +135,58 @@ public class PageTest {
 		assertThat(_page.getResourceName(), is("name"));
 	}
 
+	@Test
+	public void testGetTotalCountOptionalIsEmptyWithUnknownTotal() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"));
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(30, 1));
+
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+		assertThat(page.hasNext(), is(false));
+	}
+
+	@Test
+	public void testGetTotalCountOptionalReturnsTotalCount() {
+		assertThat(
+			_page.getTotalCountOptional(), is(optionalWithValue(is(10))));
+	}
+
+	@Test
+	public void testGetTotalCountOptionalReturnsLazyTotalIfRequested() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), () -> 10);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 4, null, null, true));
+
+		assertThat(page.getTotalCountOptional(), is(optionalWithValue(is(10))));
+		assertThat(page.getLastPageNumber(), is(10));
+	}
+
 	@Test
 	public void testGetTotalCountReturnsTotalCount() {
 		assertThat(_page.getTotalCount(), is(10));
 	}
 
+	@Test
+	public void testHasNextAndHasPreviousFollowCursors() {
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), null, "next");
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 1, "after", null));
+
+		assertThat(page.isCursorBased(), is(true));
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.hasPrevious(), is(false));
+		assertThat(
+			page.getAfterCursorOptional(), is(optionalWithValue(is("after"))));
+		assertThat(
+			page.getNextCursorOptional(), is(optionalWithValue(is("next"))));
+	}
+
 	@Test
 	public void testHasNextReturnsFalseWhenIsLast() {
 		Pagination pagination = new PaginationImpl(1, 10);
@@ -114,6 +201,20 @@ public class PageTest {
 		assertThat(_page.hasNext(), is(true));
 	}
 
+	@Test
+	public void testLazyTotalCountIsNotComputedIfNotRequested() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		PageItems<String> pageItems = new PageItems<>(
+			Collections.singleton("apio"), atomicInteger::incrementAndGet);
+
+		Page<String> page = new PageImpl<>(
+			_paged, pageItems, new PaginationImpl(1, 1));
+
+		assertThat(page.getTotalCountOptional(), is(emptyOptional()));
+		assertThat(atomicInteger.get(), is(0));
+	}
+
 	@Test
 	public void testHasPreviousReturnsFalseWhenIsFirst() {
 		Pagination pagination = new PaginationImpl(1, 1);
@@ -128,6 +229,11 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testIsCursorBasedReturnsFalseWithoutCursors() {
+		assertThat(_page.isCursorBased(), is(false));
+	}
+
 	private Page<String> _page;
 	private Paged _paged;
 	private PageItems<String> _pageItems;
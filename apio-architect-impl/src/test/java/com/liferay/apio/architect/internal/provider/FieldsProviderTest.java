@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.provider;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
@@ -61,7 +62,19 @@ public class FieldsProviderTest {
 		assertThat(predicate.test("givenName"), is(true));
 	}
 
-	private Predicate<String> _getPredicate(String... personFields) {
+	@Test
+	public void testFieldsProviderReusesPredicateForSameTypes() {
+		Fields fields = _getFields("familyName,givenName");
+
+		Predicate<String> predicate = fields.apply(
+			Collections.singletonList("Person"));
+
+		assertThat(
+			fields.apply(Collections.singletonList("Person")),
+			is(sameInstance(predicate)));
+	}
+
+	private Fields _getFields(String... personFields) {
 		FieldsProvider fieldsProvider = new FieldsProvider();
 
 		HttpServletRequest httpServletRequest = Mockito.mock(
@@ -76,7 +89,11 @@ public class FieldsProviderTest {
 			parameterMap
 		);
 
-		Fields fields = fieldsProvider.createContext(httpServletRequest);
+		return fieldsProvider.createContext(httpServletRequest);
+	}
+
+	private Predicate<String> _getPredicate(String... personFields) {
+		Fields fields = _getFields(personFields);
 
 		return fields.apply(Collections.singletonList("Person"));
 	}
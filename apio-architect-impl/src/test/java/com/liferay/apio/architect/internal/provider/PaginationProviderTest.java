@@ -14,11 +14,16 @@
 
 package com.liferay.apio.architect.internal.provider;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import com.liferay.apio.architect.pagination.Pagination;
 
+import java.util.Collections;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.Test;
@@ -30,6 +35,65 @@ import org.mockito.Mockito;
  */
 public class PaginationProviderTest {
 
+	@Test
+	public void testPaginationProviderIgnoresEmptyCursors() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("after")
+		).thenReturn(
+			""
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination.getAfterCursorOptional(), is(emptyOptional()));
+		assertThat(pagination.getBeforeCursorOptional(), is(emptyOptional()));
+	}
+
+	@Test
+	public void testPaginationProviderRequestsTotalCountWithParameter() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("count")
+		).thenReturn(
+			"exact"
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination.isTotalCountRequested(), is(true));
+	}
+
+	@Test
+	public void testPaginationProviderRequestsTotalCountWithPreferHeader() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getHeaders("Prefer")
+		).thenReturn(
+			Collections.enumeration(
+				Collections.singletonList("return=minimal, count=exact"))
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination.isTotalCountRequested(), is(true));
+	}
+
 	@Test
 	public void testPaginationProviderReturnDefaultValuesIfError() {
 		PaginationProvider paginationProvider = new PaginationProvider();
@@ -48,6 +112,7 @@ public class PaginationProviderTest {
 
 		assertThat(pagination.getPageNumber(), is(1));
 		assertThat(pagination.getItemsPerPage(), is(30));
+		assertThat(pagination.isTotalCountRequested(), is(false));
 	}
 
 	@Test
@@ -102,4 +167,34 @@ public class PaginationProviderTest {
 		assertThat(pagination.getItemsPerPage(), is(42));
 	}
 
+	@Test
+	public void testPaginationProviderReturnsPaginationWithCursors() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("after")
+		).thenReturn(
+			"MTA"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("before")
+		).thenReturn(
+			"MjA"
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(
+			pagination.getAfterCursorOptional(),
+			is(optionalWithValue(is("MTA"))));
+		assertThat(
+			pagination.getBeforeCursorOptional(),
+			is(optionalWithValue(is("MjA"))));
+	}
+
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.internal.representor;
 import static com.liferay.apio.architect.internal.representor.RepresentorTestUtil.testFields;
 import static com.liferay.apio.architect.internal.representor.RepresentorTestUtil.testRelatedModel;
 
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
 import static java.util.Arrays.asList;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,6 +40,7 @@ import java.io.InputStreamReader;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -72,6 +75,10 @@ public class RepresentorTest {
 			"Type 1", "Type 2", "Type 3"
 		).identifier(
 			dummy -> dummy.id
+		).lastModified(
+			dummy -> dummy.date1
+		).version(
+			dummy -> "v" + dummy.id
 		).addApplicationRelativeURL(
 			"nullApplicationRelativeURL", __ -> null
 		).addBinary(
@@ -168,6 +175,13 @@ public class RepresentorTest {
 		assertThat(_representor.getIdentifier(_dummy), is(23));
 	}
 
+	@Test
+	public void testLastModified() {
+		assertThat(
+			_representor.getLastModifiedOptional(_dummy),
+			is(optionalWithValue(is(new Date(1465981200000L)))));
+	}
+
 	@Test
 	public void testLinks() {
 		testFields(
@@ -277,6 +291,13 @@ public class RepresentorTest {
 		assertThat(types, contains("Type 1", "Type 2", "Type 3"));
 	}
 
+	@Test
+	public void testVersion() {
+		assertThat(
+			_representor.getVersionOptional(_dummy),
+			is(optionalWithValue(is("v23"))));
+	}
+
 	private List<Class> _classes;
 	private final Dummy _dummy = new Dummy(23);
 	private List<String> _keys;
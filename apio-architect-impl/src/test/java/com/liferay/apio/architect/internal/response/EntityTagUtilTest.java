@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static com.liferay.apio.architect.internal.response.EntityTagUtil.getVersionEntityTag;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EntityTagUtilTest {
+
+	@Test
+	public void testDifferentIdentifiersWithSameVersionHaveDifferentTags() {
+		EntityTag entityTag = getVersionEntityTag("people", 1L, "3");
+
+		assertThat(entityTag, is(not(getVersionEntityTag("people", 2L, "3"))));
+	}
+
+	@Test
+	public void testDifferentResourcesWithSameVersionHaveDifferentTags() {
+		EntityTag entityTag = getVersionEntityTag("people", 1L, "3");
+
+		assertThat(
+			entityTag, is(not(getVersionEntityTag("blog-postings", 1L, "3"))));
+	}
+
+	@Test
+	public void testPartsCannotBeShiftedBetweenTheIdentifierAndTheVersion() {
+		EntityTag entityTag = getVersionEntityTag("people", "1-2", "3");
+
+		assertThat(
+			entityTag, is(not(getVersionEntityTag("people", "1", "2-3"))));
+	}
+
+	@Test
+	public void testSameVersionOfTheSameModelHasTheSameWeakTag() {
+		EntityTag entityTag = getVersionEntityTag("people", 1L, "3");
+
+		assertThat(entityTag, is(getVersionEntityTag("people", 1L, "3")));
+		assertThat(entityTag.isWeak(), is(true));
+	}
+
+}
\ No newline at end of file
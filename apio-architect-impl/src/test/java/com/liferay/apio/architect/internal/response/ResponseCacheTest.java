@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.osgi.framework.BundleContext;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCacheTest {
+
+	@Before
+	public void setUp() {
+		_responseCache = _createResponseCache("100");
+	}
+
+	@Test
+	public void testActionOverCollectionInvalidatesEveryRepresentation() {
+		_put("item", _item("1"), 10);
+		_put("page", _PAGED, 10);
+		_put("other", _otherItem, 10);
+
+		_responseCache.invalidate(_PAGED);
+
+		_assertAbsent("item");
+		_assertAbsent("page");
+		_assertPresent("other");
+	}
+
+	@Test
+	public void testActionOverItemInvalidatesItemAndCollections() {
+		_put("item-1", _item("1"), 10);
+		_put("item-2", _item("2"), 10);
+		_put("page", _PAGED, 10);
+		_put("other", _otherItem, 10);
+
+		_responseCache.invalidate(_item("1"));
+
+		_assertAbsent("item-1");
+		_assertAbsent("page");
+		_assertPresent("item-2");
+		_assertPresent("other");
+	}
+
+	@Test
+	public void testAnyActionInvalidatesRepresentationsWithEmbeddedResources() {
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest(
+			"embedded");
+
+		_responseCache.startRetrieving(httpServletRequest);
+
+		_responseCache.put(
+			httpServletRequest, "embedded", _item("1"),
+			new RenderedResponse(new byte[10]));
+
+		_assertPresent("embedded");
+
+		_responseCache.invalidate(_otherItem);
+
+		_assertAbsent("embedded");
+	}
+
+	@Test
+	public void testConcurrentLookupsAndStoresKeepRepresentations()
+		throws Exception {
+
+		_responseCache = _createResponseCache("1000");
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 8; i++) {
+				String key = "item-" + i;
+
+				futures.add(
+					executorService.submit(
+						() -> {
+							for (int j = 0; j < 1000; j++) {
+								_responseCache.getRenderedResponseOptional(key);
+								_put(key, _item(key), 10);
+							}
+						}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		for (int i = 0; i < 8; i++) {
+			_assertPresent("item-" + i);
+		}
+	}
+
+	@Test
+	public void testCredentialsWithoutStableKeyHaveNoKey() {
+		Optional<String> keyOptional = ResponseCache.getKeyOptional(
+			_mockHttpServletRequest(null), "application/json", () -> Locale.US,
+			() -> "localhost", new Object());
+
+		assertThat(keyOptional, is(emptyOptional()));
+	}
+
+	@Test
+	public void testDifferentCredentialsHaveDifferentKeys() {
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest(null);
+
+		Optional<String> keyOptional = ResponseCache.getKeyOptional(
+			httpServletRequest, "application/json", () -> Locale.US,
+			() -> "localhost", "Basic YWxpY2U6cGFzcw==");
+
+		Optional<String> otherKeyOptional = ResponseCache.getKeyOptional(
+			httpServletRequest, "application/json", () -> Locale.US,
+			() -> "localhost", "Basic Ym9iOnBhc3M=");
+
+		assertThat(keyOptional, is(optionalWithValue()));
+		assertThat(otherKeyOptional, is(optionalWithValue()));
+		assertThat(keyOptional, is(not(otherKeyOptional)));
+	}
+
+	@Test
+	public void testDisabledCacheDoesNotStoreRepresentations() {
+		_responseCache = _createResponseCache(null);
+
+		_put("item", _item("1"), 10);
+
+		assertThat(_responseCache.isEnabled(), is(false));
+
+		_assertAbsent("item");
+	}
+
+	@Test
+	public void testFrequentRepresentationEvictsLeastRecentlyUsedOne() {
+		_get("a", 2);
+		_put("a", _item("1"), 40);
+		_get("b", 2);
+		_put("b", _item("2"), 40);
+
+		_get("c", 3);
+		_put("c", _item("3"), 40);
+
+		_assertAbsent("a");
+		_assertPresent("b");
+		_assertPresent("c");
+	}
+
+	@Test
+	public void testInfrequentRepresentationIsNotAdmittedWhenFull() {
+		_get("a", 3);
+		_put("a", _item("1"), 40);
+		_get("b", 3);
+		_put("b", _item("2"), 40);
+
+		_put("c", _item("3"), 40);
+
+		_assertAbsent("c");
+		_assertPresent("a");
+		_assertPresent("b");
+	}
+
+	@Test
+	public void testRejectedRepresentationKeepsTheStoredOne() {
+		_get("a", 3);
+
+		RenderedResponse renderedResponse = _put("a", _item("1"), 40);
+
+		_get("b", 3);
+		_put("b", _item("2"), 40);
+
+		_put("a", _item("1"), 60);
+
+		assertThat(
+			_responseCache.getRenderedResponseOptional("a"),
+			is(optionalWithValue(sameInstance(renderedResponse))));
+
+		_assertPresent("b");
+	}
+
+	@Test
+	public void testRepresentationBiggerThanTheCacheIsNotStored() {
+		_put("item", _item("1"), 100);
+
+		_assertAbsent("item");
+	}
+
+	@Test
+	public void testRepresentationIsReturnedUntilInvalidated() {
+		RenderedResponse renderedResponse = _put("item", _item("1"), 10);
+
+		assertThat(
+			_responseCache.getRenderedResponseOptional("item"),
+			is(optionalWithValue(sameInstance(renderedResponse))));
+	}
+
+	@Test
+	public void testRepresentationRetrievedBeforeInvalidationIsNotStored() {
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest(null);
+
+		_responseCache.startRetrieving(httpServletRequest);
+
+		_responseCache.invalidate(_item("1"));
+
+		_responseCache.put(
+			httpServletRequest, "item", _item("1"),
+			new RenderedResponse(new byte[10]));
+
+		_assertAbsent("item");
+	}
+
+	@Test
+	public void testRepresentationWithoutRetrievalRecordIsNotStored() {
+		_responseCache.put(
+			_mockHttpServletRequest(null), "item", _item("1"),
+			new RenderedResponse(new byte[10]));
+
+		_assertAbsent("item");
+	}
+
+	private static ResponseCache _createResponseCache(String maxBytes) {
+		BundleContext bundleContext = mock(BundleContext.class);
+
+		when(
+			bundleContext.getProperty("apio.architect.response.cache.max.bytes")
+		).thenReturn(
+			maxBytes
+		);
+
+		ResponseCache responseCache = new ResponseCache();
+
+		responseCache.activate(bundleContext);
+
+		return responseCache;
+	}
+
+	private static Item _item(String id) {
+		return Item.of("name", Id.of(id, id));
+	}
+
+	private static HttpServletRequest _mockHttpServletRequest(String embedded) {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		doAnswer(
+			invocation -> attributes.put(
+				invocation.getArgument(0), invocation.getArgument(1))
+		).when(
+			httpServletRequest
+		).setAttribute(
+			anyString(), any()
+		);
+
+		when(
+			httpServletRequest.getAttribute(anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArgument(0))
+		);
+
+		when(
+			httpServletRequest.getParameter("embedded")
+		).thenReturn(
+			embedded
+		);
+
+		when(
+			httpServletRequest.getRequestURL()
+		).thenAnswer(
+			__ -> new StringBuffer("http://localhost/name/1")
+		);
+
+		return httpServletRequest;
+	}
+
+	private void _assertAbsent(String key) {
+		assertThat(
+			_responseCache.getRenderedResponseOptional(key),
+			is(emptyOptional()));
+	}
+
+	private void _assertPresent(String key) {
+		assertThat(
+			_responseCache.getRenderedResponseOptional(key),
+			is(optionalWithValue()));
+	}
+
+	private void _get(String key, int times) {
+		for (int i = 0; i < times; i++) {
+			_responseCache.getRenderedResponseOptional(key);
+		}
+	}
+
+	private RenderedResponse _put(String key, Resource resource, int size) {
+		HttpServletRequest httpServletRequest = _mockHttpServletRequest(null);
+
+		_responseCache.startRetrieving(httpServletRequest);
+
+		RenderedResponse renderedResponse = new RenderedResponse(
+			new byte[size]);
+
+		_responseCache.put(httpServletRequest, key, resource, renderedResponse);
+
+		return renderedResponse;
+	}
+
+	private static final Paged _PAGED = Paged.of("name");
+
+	private final Item _otherItem = Item.of("other", Id.of("1", "1"));
+	private ResponseCache _responseCache;
+
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.apio.architect.internal.routes;
+
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.getBodyMembersStream;
+import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWith;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.batch.BatchResult;
+import com.liferay.apio.architect.form.Body;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BatchCreateUtilTest {
+
+	@Test
+	public void testBodyWithoutMembersFails() {
+		Body body = __ -> Optional.empty();
+
+		assertThat(
+			() -> getBodyMembersStream(body, null),
+			failsWith(BadRequestException.class));
+	}
+
+	@Test
+	public void testCreateInChunksCreatesEveryChunkBeforeReturning()
+		throws Exception {
+
+		List<List<Integer>> chunks = new ArrayList<>();
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5);
+
+		BatchResult<Long> batchResult = createInChunks(
+			stream.onClose(() -> closed.set(true)), 2,
+			chunk -> {
+				chunks.add(chunk);
+
+				return _toIdentifiers(chunk);
+			},
+			"name");
+
+		assertThat(chunks, contains(asList(1, 2), asList(3, 4), asList(5)));
+		assertThat(closed.get(), is(true));
+		assertThat(batchResult.resourceName, is("name"));
+		assertThat(batchResult.getIdentifiers(), contains(1L, 2L, 3L, 4L, 5L));
+	}
+
+	@Test
+	public void testCreateInChunksFailsBeforeReturningIfAChunkFails() {
+		List<List<Integer>> chunks = new ArrayList<>();
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5);
+
+		assertThat(
+			() -> createInChunks(
+				stream.onClose(() -> closed.set(true)), 2,
+				chunk -> {
+					chunks.add(chunk);
+
+					if (chunk.contains(3)) {
+						throw new IllegalStateException();
+					}
+
+					return _toIdentifiers(chunk);
+				},
+				"name"),
+			failsWith(IllegalStateException.class));
+
+		assertThat(chunks, contains(asList(1, 2), asList(3, 4)));
+		assertThat(closed.get(), is(true));
+	}
+
+	private static List<Long> _toIdentifiers(List<Integer> chunk) {
+		Stream<Integer> stream = chunk.stream();
+
+		return stream.map(
+			Integer::longValue
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+}
\ No newline at end of file
@@ -44,6 +44,7 @@ import static org.hamcrest.core.Is.is;
 import com.liferay.apio.architect.annotation.EntryPoint;
 import com.liferay.apio.architect.batch.BatchResult;
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.routes.CollectionRoutesImpl.BuilderImpl;
 import com.liferay.apio.architect.internal.routes.RoutesTestUtil.CustomIdentifier;
@@ -58,6 +59,7 @@ import io.vavr.control.Try;
 
 import java.lang.annotation.Annotation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +79,55 @@ public class CollectionRoutesImplTest {
 			__ -> Optional.of("custom"));
 	}
 
+	@Test
+	public void testChunkedBatchCreateCreatesEveryMemberBeforeReturning()
+		throws Throwable {
+
+		List<Map<String, Object>> bodies = new ArrayList<>();
+
+		ActionSemantics actionSemantics = _getChunkedBatchCreateActionSemantics(
+			body -> {
+				bodies.add(body);
+
+				return "Apio";
+			});
+
+		Object result = actionSemantics.execute(
+			getParams(actionSemantics, _BATCH_CREATE_PARAM_CLASSES));
+
+		assertThat(bodies, hasSize(2));
+		assertThat(result, instanceOf(BatchResult.class));
+
+		BatchResult<?> batchResult = (BatchResult<?>)result;
+
+		assertThat(batchResult.getIdentifiers(), contains(42L, 42L));
+	}
+
+	@Test
+	public void testChunkedBatchCreateFailsBeforeReturningIfAMemberFails() {
+		List<Map<String, Object>> bodies = new ArrayList<>();
+
+		ActionSemantics actionSemantics = _getChunkedBatchCreateActionSemantics(
+			body -> {
+				bodies.add(body);
+
+				if (bodies.size() > 1) {
+					throw new IllegalStateException();
+				}
+
+				return "Apio";
+			});
+
+		List<?> params = getParams(
+			actionSemantics, _BATCH_CREATE_PARAM_CLASSES);
+
+		assertThat(
+			() -> actionSemantics.execute(params),
+			failsWith(IllegalStateException.class));
+
+		assertThat(bodies, hasSize(2));
+	}
+
 	@Test
 	public void testCollectionRoutesDeprecatedMethodsThrowsException() {
 		CollectionRoutes<String, Long> collectionRoutes = _builder.build();
@@ -272,6 +323,24 @@ public class CollectionRoutesImplTest {
 			"write", "custom");
 	}
 
+	private ActionSemantics _getChunkedBatchCreateActionSemantics(
+		ThrowableFunction<Map<String, Object>, String> throwableFunction) {
+
+		BuilderImpl<String, Long> builder = new BuilderImpl<>(
+			Paged.of("name"), FORM_BUILDER_SUPPLIER, IDENTIFIER_FUNCTION,
+			__ -> Optional.of("custom"), 1);
+
+		CollectionRoutes<String, Long> collectionRoutes = builder.addCreator(
+			throwableFunction, __ -> true, FORM_BUILDER_FUNCTION
+		).build();
+
+		CollectionRoutesImpl<String, Long> collectionRoutesImpl =
+			(CollectionRoutesImpl<String, Long>)collectionRoutes;
+
+		return filterActionSemantics(
+			collectionRoutesImpl.getActionSemantics(), IS_BATCH_CREATE_ACTION);
+	}
+
 	private String _testAndReturnFourParameterCreatorRoute(
 		Map<String, Object> body, String string, Long aLong, Boolean aBoolean,
 		Integer integer) {
@@ -481,6 +550,9 @@ public class CollectionRoutesImplTest {
 		assertThat(singleModel.getResourceName(), is(resourceName));
 	}
 
+	private static final List<Class<?>> _BATCH_CREATE_PARAM_CLASSES = asList(
+		Body.class, Void.class, Void.class, Void.class, Void.class);
+
 	private BuilderImpl<String, Long> _builder;
 
 }
\ No newline at end of file
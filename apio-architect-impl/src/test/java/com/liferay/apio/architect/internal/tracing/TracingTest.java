@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.tracing;
+
+import static com.liferay.apio.architect.internal.tracing.Tracing.ACTION;
+import static com.liferay.apio.architect.internal.tracing.Tracing.INSTANCE;
+import static com.liferay.apio.architect.internal.tracing.Tracing.ROUTE;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.internal.tracing.Tracing.Span;
+import com.liferay.apio.architect.tracing.SpanListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class TracingTest {
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testNothingIsMeasuredIfDisabled() {
+		HttpServletRequest httpServletRequest = _getHttpServletRequest();
+
+		Span span = INSTANCE.startSpan(httpServletRequest, ROUTE);
+
+		span.finish();
+
+		verify(
+			httpServletRequest, never()
+		).setAttribute(
+			anyString(), any()
+		);
+
+		assertThat(
+			INSTANCE.getServerTimingOptional(httpServletRequest),
+			is(emptyOptional()));
+	}
+
+	@Test
+	public void testServerTimingAddsTheDurationsOfEachPhase() {
+		INSTANCE.setServerTimingEnabled(true);
+
+		HttpServletRequest httpServletRequest = _getHttpServletRequest();
+
+		INSTANCE.startSpan(
+			httpServletRequest, ROUTE
+		).finish();
+		INSTANCE.startSpan(
+			httpServletRequest, ACTION
+		).finish();
+		INSTANCE.startSpan(
+			httpServletRequest, ACTION
+		).finish();
+
+		String serverTiming = INSTANCE.getServerTimingOptional(
+			httpServletRequest
+		).get();
+
+		assertThat(
+			serverTiming.matches(
+				"route;dur=\\d+\\.\\d{3}, action;dur=\\d+\\.\\d{3}"),
+			is(true));
+	}
+
+	@Test
+	public void testSpanListenersAreNotifiedOnce() {
+		SpanListener spanListener = mock(SpanListener.class);
+
+		INSTANCE.addSpanListener(spanListener);
+
+		HttpServletRequest httpServletRequest = _getHttpServletRequest();
+
+		Span span = INSTANCE.startSpan(httpServletRequest, ACTION);
+
+		span.finish();
+		span.finish();
+
+		verify(
+			spanListener
+		).spanStarted(
+			httpServletRequest, ACTION
+		);
+
+		verify(
+			spanListener, times(1)
+		).spanFinished(
+			eq(httpServletRequest), eq(ACTION), anyLong()
+		);
+
+		assertThat(
+			INSTANCE.getServerTimingOptional(httpServletRequest),
+			is(emptyOptional()));
+	}
+
+	private HttpServletRequest _getHttpServletRequest() {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		doAnswer(
+			invocation -> attributes.put(
+				invocation.getArgument(0), invocation.getArgument(1))
+		).when(
+			httpServletRequest
+		).setAttribute(
+			anyString(), any()
+		);
+
+		when(
+			httpServletRequest.getAttribute(anyString())
+		).thenAnswer(
+			invocation -> attributes.get(invocation.getArgument(0))
+		);
+
+		return httpServletRequest;
+	}
+
+}
\ No newline at end of file
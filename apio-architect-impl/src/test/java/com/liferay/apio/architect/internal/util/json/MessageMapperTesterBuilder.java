@@ -170,7 +170,8 @@ public class MessageMapperTesterBuilder {
 
 		/**
 		 * Validates that the output of the provided {@code PageMessageMapper}
-		 * matches the content of {@code /src/test/resources/page.json}.
+		 * matches the content of {@code /src/test/resources/page.json}, both
+		 * when written to a {@code String} and when streamed.
 		 *
 		 * @param  pageMessageMapper the {@code PageMessageMapper}
 		 * @return the builder's next step
@@ -182,13 +183,19 @@ public class MessageMapperTesterBuilder {
 
 			_validateMessageMapper(pageMessageMapper, result, "page");
 
+			String streamedResult = MockPageWriter.writeToStream(
+				pageMessageMapper);
+
+			_validateMessageMapper(pageMessageMapper, streamedResult, "page");
+
 			return this;
 		}
 
 		/**
 		 * Validates that the output of the provided {@code
 		 * SingleModelMessageMapper} matches the content of {@code
-		 * /src/test/resources/single_model.json}.
+		 * /src/test/resources/single_model.json}, both when written to a
+		 * {@code String} and when streamed.
 		 *
 		 * @param  singleModelMessageMapper the {@code SingleModelMessageMapper}
 		 * @return the builder's next step
@@ -202,6 +209,12 @@ public class MessageMapperTesterBuilder {
 			_validateMessageMapper(
 				singleModelMessageMapper, result, "single_model");
 
+			String streamedResult = MockSingleModelWriter.writeToStream(
+				singleModelMessageMapper);
+
+			_validateMessageMapper(
+				singleModelMessageMapper, streamedResult, "single_model");
+
 			return this;
 		}
 
@@ -16,6 +16,8 @@ package com.liferay.apio.architect.internal.util.writer;
 
 import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.pagination.PageImpl;
 import com.liferay.apio.architect.internal.pagination.PaginationImpl;
@@ -26,6 +28,9 @@ import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
@@ -50,6 +55,41 @@ public class MockPageWriter {
 	 * @return the string containing the JSON object
 	 */
 	public static String write(PageMessageMapper<RootModel> pageMessageMapper) {
+		PageWriter<RootModel> pageWriter = _getPageWriter(pageMessageMapper);
+
+		return pageWriter.write();
+	}
+
+	/**
+	 * Writes a {@link RootModel} collection with the hierarchy of embedded
+	 * models and multiple fields, by using the streaming output of the {@link
+	 * PageWriter}.
+	 *
+	 * @param  pageMessageMapper the {@code PageMessageMapper} to use for
+	 *         writing the JSON object
+	 * @return the string containing the JSON object
+	 */
+	public static String writeToStream(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
+		PageWriter<RootModel> pageWriter = _getPageWriter(pageMessageMapper);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			pageWriter.write(byteArrayOutputStream);
+		}
+		catch (IOException ioe) {
+			throw new AssertionError("Unable to write", ioe);
+		}
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private static PageWriter<RootModel> _getPageWriter(
+		PageMessageMapper<RootModel> pageMessageMapper) {
+
 		Collection<RootModel> items = Arrays.asList(
 			() -> "1", () -> "2", () -> "3");
 
@@ -60,7 +100,7 @@ public class MockPageWriter {
 		Page<RootModel> page = new PageImpl<>(
 			Paged.of("root"), pageItems, pagination);
 
-		PageWriter<RootModel> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -78,8 +118,6 @@ public class MockPageWriter {
 			).actionSemanticsFunction(
 				MockWriterUtil::getActionSemantics
 			).build());
-
-		return pageWriter.write();
 	}
 
 	private MockPageWriter() {
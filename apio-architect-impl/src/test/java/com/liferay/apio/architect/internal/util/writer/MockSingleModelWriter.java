@@ -16,12 +16,17 @@ package com.liferay.apio.architect.internal.util.writer;
 
 import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.util.model.RootModel;
 import com.liferay.apio.architect.internal.writer.SingleModelWriter;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
 import java.util.Optional;
 
 /**
@@ -46,28 +51,8 @@ public class MockSingleModelWriter {
 	public static String write(
 		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
 
-		SingleModel<RootModel> singleModel = new SingleModelImpl<>(
-			() -> "first", "root");
-
-		SingleModelWriter<RootModel> singleModelWriter =
-			SingleModelWriter.create(
-				builder -> builder.singleModel(
-					singleModel
-				).modelMessageMapper(
-					singleModelMessageMapper
-				).pathFunction(
-					MockWriterUtil::identifierToPath
-				).resourceNameFunction(
-					__ -> Optional.of("models")
-				).representorFunction(
-					MockWriterUtil::getRepresentorOptional
-				).requestInfo(
-					getRequestInfo()
-				).singleModelFunction(
-					MockWriterUtil::getSingleModel
-				).actionSemanticsFunction(
-					MockWriterUtil::getActionSemantics
-				).build());
+		SingleModelWriter<RootModel> singleModelWriter = _getSingleModelWriter(
+			singleModelMessageMapper);
 
 		Optional<String> optional = singleModelWriter.write();
 
@@ -75,6 +60,62 @@ public class MockSingleModelWriter {
 			() -> new AssertionError("Unable to write"));
 	}
 
+	/**
+	 * Writes a {@link RootModel} with the hierarchy of embedded models and
+	 * multiple fields, by using the streaming output of the {@link
+	 * SingleModelWriter}.
+	 *
+	 * @param  singleModelMessageMapper the {@code SingleModelMessageMapper} to
+	 *         use for writing the JSON object
+	 * @return the string containing the JSON object
+	 */
+	public static String writeToStream(
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
+
+		SingleModelWriter<RootModel> singleModelWriter = _getSingleModelWriter(
+			singleModelMessageMapper);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			if (!singleModelWriter.write(byteArrayOutputStream)) {
+				throw new AssertionError("Unable to write");
+			}
+		}
+		catch (IOException ioe) {
+			throw new AssertionError("Unable to write", ioe);
+		}
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private static SingleModelWriter<RootModel> _getSingleModelWriter(
+		SingleModelMessageMapper<RootModel> singleModelMessageMapper) {
+
+		SingleModel<RootModel> singleModel = new SingleModelImpl<>(
+			() -> "first", "root");
+
+		return SingleModelWriter.create(
+			builder -> builder.singleModel(
+				singleModel
+			).modelMessageMapper(
+				singleModelMessageMapper
+			).pathFunction(
+				MockWriterUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of("models")
+			).representorFunction(
+				MockWriterUtil::getRepresentorOptional
+			).requestInfo(
+				getRequestInfo()
+			).singleModelFunction(
+				MockWriterUtil::getSingleModel
+			).actionSemanticsFunction(
+				MockWriterUtil::getActionSemantics
+			).build());
+	}
+
 	private MockSingleModelWriter() {
 		throw new UnsupportedOperationException();
 	}
@@ -0,0 +1,309 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Variant;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@Before
+	public void setUp() {
+		_request = mock(Request.class);
+
+		when(
+			_request.selectVariant(any())
+		).thenReturn(
+			new Variant(_MEDIA_TYPE, (Locale)null, null)
+		);
+
+		INSTANCE.putSingleModelMessageMapper(
+			_MEDIA_TYPE, _singleModelMessageMapper);
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testClearInvalidatesNegotiatedMessageMappers() {
+		_getSingleModelMessageMapperOptional("application/hal+json");
+
+		INSTANCE.clear();
+
+		INSTANCE.putSingleModelMessageMapper(
+			_MEDIA_TYPE, _singleModelMessageMapper);
+
+		_getSingleModelMessageMapperOptional("application/hal+json");
+
+		verify(
+			_request, times(2)
+		).selectVariant(
+			any()
+		);
+	}
+
+	@Test
+	public void testClearWhileComputingDoesNotPublishComputedData() {
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"className",
+			() -> {
+				INSTANCE.putName("className", "name");
+
+				INSTANCE.clear();
+			});
+
+		assertThat(optional, is(optionalWithValue(is("name"))));
+
+		assertThat(INSTANCE.getNamesOptional(), is(emptyOptional()));
+	}
+
+	@Test
+	public void testComputedDataIsOnlyVisibleToOtherThreadsOnceComputed() {
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"className",
+			() -> {
+				INSTANCE.putName("className", "name");
+
+				CompletableFuture<Optional<Map<String, String>>>
+					completableFuture = CompletableFuture.supplyAsync(
+						INSTANCE::getNamesOptional);
+
+				assertThat(completableFuture.join(), is(emptyOptional()));
+			});
+
+		assertThat(optional, is(optionalWithValue(is("name"))));
+
+		CompletableFuture<Optional<Map<String, String>>> completableFuture =
+			CompletableFuture.supplyAsync(INSTANCE::getNamesOptional);
+
+		Optional<Map<String, String>> namesOptional = completableFuture.join();
+
+		assertThat(
+			namesOptional,
+			is(optionalWithValue(hasEntry("className", "name"))));
+	}
+
+	@Test
+	public void testConcurrentMissesWaitForOneComputation() throws Exception {
+		AtomicInteger computations = new AtomicInteger();
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+
+		EmptyFunction computeEmptyFunction = () -> {
+			computations.incrementAndGet();
+
+			try {
+				releaseLatch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ie) {
+				throw new IllegalStateException(ie);
+			}
+
+			INSTANCE.putName("className", "name");
+		};
+
+		FutureTask<Optional<String>> futureTask1 = _start(computeEmptyFunction);
+
+		_await(futureTask1, Thread.State.TIMED_WAITING);
+
+		FutureTask<Optional<String>> futureTask2 = _start(computeEmptyFunction);
+
+		_await(futureTask2, Thread.State.WAITING);
+
+		releaseLatch.countDown();
+
+		assertThat(
+			futureTask1.get(10, TimeUnit.SECONDS),
+			is(optionalWithValue(is("name"))));
+		assertThat(
+			futureTask2.get(10, TimeUnit.SECONDS),
+			is(optionalWithValue(is("name"))));
+		assertThat(computations.get(), is(1));
+	}
+
+	@Test
+	public void testDifferentAcceptHeadersAreNegotiatedSeparately() {
+		_getSingleModelMessageMapperOptional("application/hal+json");
+		_getSingleModelMessageMapperOptional("application/json");
+
+		verify(
+			_request, times(2)
+		).selectVariant(
+			any()
+		);
+	}
+
+	@Test
+	public void testHeavyFieldsFragmentsAreEvicted() {
+		String string = new String(new char[8 * 1024 * 1024]);
+
+		Map<String, Object> fieldsFragment1 = INSTANCE.getFieldsFragment("1");
+
+		fieldsFragment1.putIfAbsent("field", Optional.of(string));
+
+		assertThat(
+			INSTANCE.getFieldsFragment("1"), is(sameInstance(fieldsFragment1)));
+
+		Map<String, Object> fieldsFragment2 = INSTANCE.getFieldsFragment("2");
+
+		fieldsFragment2.putIfAbsent("field", Optional.of(string));
+
+		assertThat(
+			INSTANCE.getFieldsFragment("2"), is(sameInstance(fieldsFragment2)));
+		assertThat(
+			INSTANCE.getFieldsFragment("1"),
+			is(not(sameInstance(fieldsFragment1))));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedFieldsFragmentsAreEvicted() {
+		Map<String, Object> fieldsFragment0 = INSTANCE.getFieldsFragment("0");
+		Map<String, Object> fieldsFragment1 = INSTANCE.getFieldsFragment("1");
+
+		INSTANCE.getFieldsFragment("0");
+
+		for (int i = 2; i <= 4096; i++) {
+			INSTANCE.getFieldsFragment(String.valueOf(i));
+		}
+
+		assertThat(
+			INSTANCE.getFieldsFragment("0"), is(sameInstance(fieldsFragment0)));
+		assertThat(
+			INSTANCE.getFieldsFragment("1"),
+			is(not(sameInstance(fieldsFragment1))));
+	}
+
+	@Test
+	public void testSameAcceptHeaderIsOnlyNegotiatedOnce() {
+		Optional<SingleModelMessageMapper<Object>> optional =
+			_getSingleModelMessageMapperOptional(
+				"application/hal+json, application/json;q=0.5");
+
+		assertThat(optional.get(), is(sameInstance(_singleModelMessageMapper)));
+
+		optional = _getSingleModelMessageMapperOptional(
+			"Application/HAL+json,application/json; q=0.5");
+
+		assertThat(optional.get(), is(sameInstance(_singleModelMessageMapper)));
+
+		verify(
+			_request, times(1)
+		).selectVariant(
+			any()
+		);
+	}
+
+	private void _await(
+			FutureTask<Optional<String>> futureTask, Thread.State state)
+		throws InterruptedException {
+
+		Thread thread = _threads.get(futureTask);
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (thread.getState() != state) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("The thread is not " + state);
+			}
+
+			Thread.sleep(1);
+		}
+	}
+
+	private Optional<SingleModelMessageMapper<Object>>
+		_getSingleModelMessageMapperOptional(String accept) {
+
+		HttpHeaders httpHeaders = mock(HttpHeaders.class);
+
+		when(
+			httpHeaders.getHeaderString(ACCEPT)
+		).thenReturn(
+			accept
+		);
+
+		return INSTANCE.getSingleModelMessageMapperOptional(
+			_request, httpHeaders, () -> {
+			});
+	}
+
+	private FutureTask<Optional<String>> _start(
+		EmptyFunction computeEmptyFunction) {
+
+		FutureTask<Optional<String>> futureTask = new FutureTask<>(
+			() -> INSTANCE.getNameOptional("className", computeEmptyFunction));
+
+		Thread thread = new Thread(futureTask);
+
+		thread.setDaemon(true);
+
+		thread.start();
+
+		_threads.put(futureTask, thread);
+
+		return futureTask;
+	}
+
+	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
+		"application/hal+json");
+
+	private Request _request;
+	private final SingleModelMessageMapper<?> _singleModelMessageMapper = mock(
+		SingleModelMessageMapper.class);
+	private final Map<FutureTask<Optional<String>>, Thread> _threads =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.internal.writer;
 
 import static com.liferay.apio.architect.internal.util.matcher.IsAFunctionalList.aFunctionalListThat;
 import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
@@ -35,13 +36,16 @@ import static org.junit.Assert.assertEquals;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
 import com.liferay.apio.architect.internal.related.RelatedModelImpl;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.internal.util.identifier.RootModelId;
 import com.liferay.apio.architect.internal.util.model.FirstEmbeddedModel;
 import com.liferay.apio.architect.internal.util.model.RootModel;
 import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
 import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
@@ -53,8 +57,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -107,6 +114,11 @@ public class FieldsWriterTest {
 			MockWriterUtil::getSingleModel);
 	}
 
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
 	@Test
 	public void testGetSingleModel() {
 		SingleModel<Integer> parentSingleModel = new SingleModelImpl<>(3, "");
@@ -749,6 +761,93 @@ public class FieldsWriterTest {
 		assertThat(strings, hasEntry("string2", "Hypermedia"));
 	}
 
+	@Test
+	public void testWriteStringFieldsWithNewVersionCallsFieldFunctions() {
+		AtomicInteger calls = new AtomicInteger();
+		AtomicReference<String> version = new AtomicReference<>("1");
+
+		Representor<RootModel> representor = _createVersionedRepresentor(
+			calls, version);
+
+		FieldsWriter<RootModel> fieldsWriter = _createFieldsWriter(
+			representor);
+
+		fieldsWriter.writeStringFields(
+			(key, value) -> {
+			});
+
+		version.set("2");
+
+		Map<String, String> strings = new HashMap<>();
+
+		FieldsWriter<RootModel> otherFieldsWriter = _createFieldsWriter(
+			representor);
+
+		otherFieldsWriter.writeStringFields(strings::put);
+
+		assertThat(calls.get(), is(2));
+		assertThat(strings, hasEntry("string", "value 2"));
+	}
+
+	@Test
+	public void testWriteStringFieldsWithSameVersionReusesFieldsFragment() {
+		AtomicInteger calls = new AtomicInteger();
+		AtomicReference<String> version = new AtomicReference<>("1");
+
+		Representor<RootModel> representor = _createVersionedRepresentor(
+			calls, version);
+
+		Map<String, String> strings = new HashMap<>();
+
+		FieldsWriter<RootModel> fieldsWriter = _createFieldsWriter(
+			representor);
+
+		fieldsWriter.writeStringFields(strings::put);
+
+		Map<String, String> otherStrings = new HashMap<>();
+
+		FieldsWriter<RootModel> otherFieldsWriter = _createFieldsWriter(
+			representor);
+
+		otherFieldsWriter.writeStringFields(otherStrings::put);
+
+		assertThat(calls.get(), is(1));
+		assertThat(strings, hasEntry("string", "value 1"));
+		assertThat(otherStrings, is(equalTo(strings)));
+	}
+
+	@Test
+	public void testWriteStringFieldsWithSameVersionUsesFieldsFilter() {
+		AtomicInteger calls = new AtomicInteger();
+		AtomicReference<String> version = new AtomicReference<>("1");
+
+		Representor<RootModel> representor = _createVersionedRepresentor(
+			calls, version);
+
+		FieldsWriter<RootModel> fieldsWriter = _createFieldsWriter(
+			representor);
+
+		fieldsWriter.writeStringFields(
+			(key, value) -> {
+			});
+
+		Mockito.when(
+			_requestInfo.getFields()
+		).thenReturn(
+			list -> "other"::equals
+		);
+
+		Map<String, String> strings = new HashMap<>();
+
+		FieldsWriter<RootModel> otherFieldsWriter = _createFieldsWriter(
+			representor);
+
+		otherFieldsWriter.writeStringFields(strings::put);
+
+		assertThat(calls.get(), is(1));
+		assertThat(strings, is(aMapWithSize(0)));
+	}
+
 	@Test
 	public void testWriteStringListFields() {
 		Map<String, List<String>> strings = new HashMap<>();
@@ -771,6 +870,39 @@ public class FieldsWriterTest {
 		assertThat(types, contains("Type 1", "Type 2"));
 	}
 
+	private static Representor<RootModel> _createVersionedRepresentor(
+		AtomicInteger calls, AtomicReference<String> version) {
+
+		Representor.Builder<RootModel, String> builder =
+			new RepresentorImpl.BuilderImpl<>(
+				RootModelId.class, MockWriterUtil::getIdentifierName);
+
+		return builder.types(
+			"Type"
+		).identifier(
+			RootModel::getId
+		).version(
+			__ -> version.get()
+		).addString(
+			"string",
+			__ -> {
+				calls.incrementAndGet();
+
+				return "value " + version.get();
+			}
+		).build();
+	}
+
+	private FieldsWriter<RootModel> _createFieldsWriter(
+		Representor<RootModel> representor) {
+
+		return new FieldsWriter<>(
+			new SingleModelImpl<>(() -> "first", "root"), _requestInfo,
+			representor, new Path("name", "id"),
+			new FunctionalList<>(null, "first"),
+			MockWriterUtil::getSingleModel);
+	}
+
 	private FieldsWriter<RootModel> _fieldsWriter;
 	private final RequestInfo _requestInfo = Mockito.mock(RequestInfo.class);
 
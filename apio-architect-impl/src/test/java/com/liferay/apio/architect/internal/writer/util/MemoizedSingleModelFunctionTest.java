@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer.util;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MemoizedSingleModelFunctionTest {
+
+	@Test
+	public void testApplyCallsFunctionOncePerIdentifier() {
+		List<Object> identifiers = new ArrayList<>();
+
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(
+				(identifier, identifierClass) -> {
+					identifiers.add(identifier);
+
+					return Optional.of(
+						new SingleModelImpl<>(identifier, "name"));
+				});
+
+		Optional<SingleModel> optional = memoizedSingleModelFunction.apply(
+			1L, FirstIdentifier.class);
+
+		assertThat(
+			memoizedSingleModelFunction.apply(1L, FirstIdentifier.class),
+			is(sameInstance(optional)));
+
+		memoizedSingleModelFunction.apply(2L, FirstIdentifier.class);
+		memoizedSingleModelFunction.apply(1L, SecondIdentifier.class);
+
+		assertThat(identifiers.size(), is(3));
+		assertThat(memoizedSingleModelFunction.getHitCount(), is(1L));
+		assertThat(memoizedSingleModelFunction.getMissCount(), is(3L));
+	}
+
+	@Test
+	public void testApplyRemembersEmptyResults() {
+		MemoizedSingleModelFunction memoizedSingleModelFunction =
+			new MemoizedSingleModelFunction(
+				(identifier, identifierClass) -> Optional.empty());
+
+		memoizedSingleModelFunction.apply(1L, FirstIdentifier.class);
+
+		Optional<SingleModel> optional = memoizedSingleModelFunction.apply(
+			1L, FirstIdentifier.class);
+
+		assertThat(optional, is(emptyOptional()));
+		assertThat(memoizedSingleModelFunction.getHitCount(), is(1L));
+		assertThat(memoizedSingleModelFunction.getMissCount(), is(1L));
+	}
+
+	private interface FirstIdentifier extends Identifier<Long> {
+	}
+
+	private interface SecondIdentifier extends Identifier<Long> {
+	}
+
+}
\ No newline at end of file
@@ -27,11 +27,13 @@ import com.liferay.apio.architect.sample.internal.dto.RatingModel;
 import com.liferay.apio.architect.sample.internal.dto.ReviewModel;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -154,12 +156,51 @@ public class BlogPostingModelService {
 		return stream.skip(
 			start
 		).limit(
-			end
+			end - start
 		).collect(
 			Collectors.toList()
 		);
 	}
 
+	/**
+	 * Returns the blog postings whose IDs follow the specified ID, in
+	 * ascending order. Unlike {@link #getPage(int, int)}, the cost of this
+	 * method doesn't depend on the page's position.
+	 *
+	 * @param  id the ID after which the page starts
+	 * @param  count the maximum number of blog postings to return
+	 * @return the page of blog postings
+	 */
+	public List<BlogPostingModel> getPageAfter(long id, int count) {
+		Map<Long, BlogPostingModel> map = _blogPostingModels.tailMap(
+			id, false);
+
+		return _getPage(map.values(), count);
+	}
+
+	/**
+	 * Returns the blog postings whose IDs precede the specified ID, in
+	 * ascending order. Unlike {@link #getPage(int, int)}, the cost of this
+	 * method doesn't depend on the page's position.
+	 *
+	 * @param  id the ID before which the page ends
+	 * @param  count the maximum number of blog postings to return
+	 * @return the page of blog postings
+	 */
+	public List<BlogPostingModel> getPageBefore(long id, int count) {
+		ConcurrentNavigableMap<Long, BlogPostingModel> map =
+			_blogPostingModels.headMap(id, false);
+
+		Map<Long, BlogPostingModel> descendingMap = map.descendingMap();
+
+		List<BlogPostingModel> blogPostingModels = _getPage(
+			descendingMap.values(), count);
+
+		Collections.reverse(blogPostingModels);
+
+		return blogPostingModels;
+	}
+
 	/**
 	 * Deletes the blog posting that matches the specified ID.
 	 *
@@ -203,8 +244,20 @@ public class BlogPostingModelService {
 		return Optional.of(blogPostingModel);
 	}
 
-	private final Map<Long, BlogPostingModel> _blogPostingModels =
-		new ConcurrentHashMap<>();
+	private List<BlogPostingModel> _getPage(
+		Collection<BlogPostingModel> blogPostingModels, int count) {
+
+		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+
+		return stream.limit(
+			count
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private final ConcurrentNavigableMap<Long, BlogPostingModel>
+		_blogPostingModels = new ConcurrentSkipListMap<>();
 	private final AtomicLong _count = new AtomicLong(0);
 
 	@Reference
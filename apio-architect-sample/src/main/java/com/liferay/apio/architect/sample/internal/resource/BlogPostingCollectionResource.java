@@ -105,6 +105,8 @@ public class BlogPostingCollectionResource
 			"BlogPosting"
 		).identifier(
 			BlogPosting::getId
+		).lastModified(
+			BlogPosting::getDateModified
 		).addBinary(
 			"contentUrl", this::_getRawContent
 		).addDate(
@@ -41,11 +41,15 @@ import com.liferay.apio.architect.sample.internal.dto.PersonModel;
 import com.liferay.apio.architect.sample.internal.type.BlogPosting;
 import com.liferay.apio.architect.sample.internal.type.BlogSubscription;
 
+import java.nio.charset.StandardCharsets;
+
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.NotFoundException;
 
@@ -125,20 +129,27 @@ public class BlogPostingActionRouter implements ActionRouter<BlogPosting> {
 	@EntryPoint
 	@Retrieve
 	public PageItems<BlogPosting> retrievePage(Pagination pagination) {
+		Optional<String> afterCursorOptional =
+			pagination.getAfterCursorOptional();
+		Optional<String> beforeCursorOptional =
+			pagination.getBeforeCursorOptional();
+
+		if (afterCursorOptional.isPresent() ||
+			beforeCursorOptional.isPresent() ||
+			(pagination.getPageNumber() == 1)) {
+
+			return _retrieveCursorPage(
+				pagination.getItemsPerPage(), afterCursorOptional,
+				beforeCursorOptional);
+		}
+
 		List<BlogPostingModel> blogPostingModels =
 			_blogPostingModelService.getPage(
 				pagination.getStartPosition(), pagination.getEndPosition());
-		int count = _blogPostingModelService.getCount();
-
-		Stream<BlogPostingModel> stream = blogPostingModels.stream();
-
-		List<BlogPosting> blogPostings = stream.map(
-			BlogPostingConverter::toBlogPosting
-		).collect(
-			Collectors.toList()
-		);
 
-		return new PageItems<>(blogPostings, count);
+		return new PageItems<>(
+			_toBlogPostings(blogPostingModels),
+			_blogPostingModelService::getCount);
 	}
 
 	@Subscribe
@@ -163,6 +174,116 @@ public class BlogPostingActionRouter implements ActionRouter<BlogPosting> {
 		return toBlogSubscription(blogSubscriptionModel);
 	}
 
+	private static long _decodeCursor(String cursor) {
+		try {
+			Base64.Decoder decoder = Base64.getUrlDecoder();
+
+			byte[] bytes = decoder.decode(cursor);
+
+			return Long.parseLong(new String(bytes, StandardCharsets.UTF_8));
+		}
+		catch (IllegalArgumentException iae) {
+			throw new BadRequestException("Invalid cursor " + cursor, iae);
+		}
+	}
+
+	private static String _encodeCursor(BlogPostingModel blogPostingModel) {
+		String id = String.valueOf(blogPostingModel.getId());
+
+		Base64.Encoder encoder = Base64.getUrlEncoder();
+
+		return encoder.withoutPadding(
+		).encodeToString(
+			id.getBytes(StandardCharsets.UTF_8)
+		);
+	}
+
+	private static <T> T _getFirst(List<T> list) {
+		return list.get(0);
+	}
+
+	private static <T> T _getLast(List<T> list) {
+		return list.get(list.size() - 1);
+	}
+
+	private PageItems<BlogPosting> _retrieveCursorPage(
+		int itemsPerPage, Optional<String> afterCursorOptional,
+		Optional<String> beforeCursorOptional) {
+
+		List<BlogPostingModel> blogPostingModels;
+		boolean hasMore;
+		String nextCursor = null;
+		String previousCursor = null;
+
+		if (beforeCursorOptional.isPresent() &&
+			!afterCursorOptional.isPresent()) {
+
+			long id = _decodeCursor(beforeCursorOptional.get());
+
+			blogPostingModels = _blogPostingModelService.getPageBefore(
+				id, itemsPerPage + 1);
+
+			hasMore = blogPostingModels.size() > itemsPerPage;
+
+			if (hasMore) {
+				blogPostingModels = blogPostingModels.subList(
+					1, blogPostingModels.size());
+			}
+
+			if (!blogPostingModels.isEmpty()) {
+				nextCursor = _encodeCursor(_getLast(blogPostingModels));
+
+				if (hasMore) {
+					previousCursor = _encodeCursor(
+						_getFirst(blogPostingModels));
+				}
+			}
+		}
+		else {
+			long id = afterCursorOptional.map(
+				BlogPostingActionRouter::_decodeCursor
+			).orElse(
+				0L
+			);
+
+			blogPostingModels = _blogPostingModelService.getPageAfter(
+				id, itemsPerPage + 1);
+
+			hasMore = blogPostingModels.size() > itemsPerPage;
+
+			if (hasMore) {
+				blogPostingModels = blogPostingModels.subList(0, itemsPerPage);
+			}
+
+			if (!blogPostingModels.isEmpty()) {
+				if (hasMore) {
+					nextCursor = _encodeCursor(_getLast(blogPostingModels));
+				}
+
+				if (afterCursorOptional.isPresent()) {
+					previousCursor = _encodeCursor(
+						_getFirst(blogPostingModels));
+				}
+			}
+		}
+
+		return new PageItems<>(
+			_toBlogPostings(blogPostingModels),
+			_blogPostingModelService::getCount, -1, previousCursor, nextCursor);
+	}
+
+	private List<BlogPosting> _toBlogPostings(
+		List<BlogPostingModel> blogPostingModels) {
+
+		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+
+		return stream.map(
+			BlogPostingConverter::toBlogPosting
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	@Reference
 	private BlogPostingModelService _blogPostingModelService;
 
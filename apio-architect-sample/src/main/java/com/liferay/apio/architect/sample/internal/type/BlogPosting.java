@@ -18,6 +18,7 @@ import static com.liferay.apio.architect.annotation.Vocabulary.LinkTo.ResourceTy
 import static com.liferay.apio.architect.annotation.Vocabulary.LinkTo.ResourceType.GENERIC_PARENT_COLLECTION;
 
 import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.LastModified;
 import com.liferay.apio.architect.annotation.Vocabulary.Field;
 import com.liferay.apio.architect.annotation.Vocabulary.LinkTo;
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
@@ -96,6 +97,7 @@ public interface BlogPosting extends Identifier<Long> {
 	 * @return the modification date
 	 */
 	@Field("dateModified")
+	@LastModified
 	public Date getDateModified();
 
 	/**
@@ -24,14 +24,17 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
 import static javax.ws.rs.core.HttpHeaders.ALLOW;
+import static javax.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
 
 import static org.apache.commons.collections.CollectionUtils.isEqualCollection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
@@ -46,6 +49,12 @@ import com.liferay.apio.architect.single.model.SingleModel;
 
 import io.vavr.control.Either;
 
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -56,10 +65,12 @@ import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 
 import org.json.JSONObject;
 
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -72,15 +83,43 @@ import org.junit.Test;
  */
 public class RootResourceTest extends BaseTest {
 
+	@AfterClass
+	public static void deleteBinaryFile() throws IOException {
+		Files.deleteIfExists(_binaryFilePath);
+	}
+
 	@BeforeClass
-	public static void setUpClass() {
+	public static void setUpClass() throws IOException {
 		BaseTest.setUpClass();
 
+		_binaryFilePath = Files.createTempFile("root-resource-test", ".txt");
+
+		Files.write(
+			_binaryFilePath, "0123456789".getBytes(StandardCharsets.UTF_8));
+
 		beforeClassUnregisterImplementationFor(ActionManager.class);
 		beforeClassRegisterImplementationFor(
 			ActionManager.class, new ActionManagerImpl(), noProperties);
 	}
 
+	@Test
+	public void testBinaryFileEndpointAnswersRangeWithPartialContent() {
+		WebTarget webTarget = createDefaultTarget();
+
+		Response response = webTarget.path(
+			"binary"
+		).request(
+		).header(
+			"Range", "bytes=2-5"
+		).get();
+
+		assertThat(response.getStatus(), is(206));
+		assertThat(response.getHeaderString("Accept-Ranges"), is("bytes"));
+		assertThat(
+			response.getHeaderString("Content-Range"), is("bytes 2-5/10"));
+		assertThat(response.readEntity(String.class), is("2345"));
+	}
+
 	@Test
 	public void testCustomEndpoint() {
 		Response response = _makeRequestTo("hi", "SUBSCRIBE");
@@ -113,6 +152,30 @@ public class RootResourceTest extends BaseTest {
 		assertThat(jsonObject.getString("@type"), is("ApiDocumentation"));
 	}
 
+	@Test
+	public void testDocumentationEndpointAnswersMatchingETagWithNotModified() {
+		Response response = _makeRequestTo("doc", "GET");
+
+		response.readEntity(String.class);
+
+		EntityTag entityTag = response.getEntityTag();
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(entityTag, is(notNullValue()));
+
+		WebTarget webTarget = createDefaultTarget();
+
+		Response conditionalResponse = webTarget.path(
+			"doc"
+		).request(
+		).header(
+			IF_NONE_MATCH, entityTag
+		).get();
+
+		assertThat(conditionalResponse.getStatus(), is(304));
+		assertThat(conditionalResponse.getEntityTag(), is(entityTag));
+	}
+
 	@Test
 	public void testEntryPointEndpoint() {
 		WebTarget webTarget = createDefaultTarget();
@@ -127,6 +190,28 @@ public class RootResourceTest extends BaseTest {
 		assertThat(jsonObject.getString("@type"), is("EntryPoint"));
 	}
 
+	@Test
+	public void testEntryPointEndpointAnswersMatchingETagWithNotModified() {
+		WebTarget webTarget = createDefaultTarget();
+
+		Response response = webTarget.request().get();
+
+		response.readEntity(String.class);
+
+		EntityTag entityTag = response.getEntityTag();
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(entityTag, is(notNullValue()));
+
+		Response conditionalResponse = webTarget.request(
+		).header(
+			IF_NONE_MATCH, entityTag
+		).get();
+
+		assertThat(conditionalResponse.getStatus(), is(304));
+		assertThat(conditionalResponse.getEntityTag(), is(entityTag));
+	}
+
 	@Test
 	public void testNotAllowedEndpoint() {
 		Response response = _makeRequestTo("not-allowed", "GET");
@@ -223,10 +308,18 @@ public class RootResourceTest extends BaseTest {
 				return left((NotAllowed)() -> _specialNestedAllowedMethods);
 			}
 
-			Action action = __ -> format(
-				"Endpoint = %s, Method = %s", join("/", params), method);
+			if (isEqualCollection(params, singletonList("binary"))) {
+				return right(
+					_toAction(
+						new BinaryFile(
+							_binaryFilePath, "text/plain", "binary.txt")));
+			}
 
-			return right(action);
+			return right(
+				_toAction(
+					format(
+						"Endpoint = %s, Method = %s", join("/", params),
+						method)));
 		}
 
 		@Override
@@ -258,6 +351,28 @@ public class RootResourceTest extends BaseTest {
 			return Optional.empty();
 		}
 
+		/**
+		 * Returns an action created from an {@link ActionSemantics}, like the
+		 * ones created by the routers, so its result is wrapped in a {@code
+		 * Try}.
+		 */
+		private static Action _toAction(Object result) {
+			ActionSemantics actionSemantics = ActionSemantics.ofResource(
+				Item.of("test")
+			).name(
+				"test"
+			).method(
+				"GET"
+			).returns(
+				Object.class
+			).executeFunction(
+				__ -> result
+			).build();
+
+			return actionSemantics.toAction(
+				(semantics, request, clazz) -> null);
+		}
+
 		private static final NotFound _notFound = new NotFound() {
 		};
 		private static final HashSet<String> _specialAllowedMethods =
@@ -267,4 +382,6 @@ public class RootResourceTest extends BaseTest {
 
 	}
 
+	private static Path _binaryFilePath;
+
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.test.sample.jaxrs;
+
+import static javax.ws.rs.core.HttpHeaders.IF_MODIFIED_SINCE;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+
+import com.liferay.apio.architect.internal.test.base.BaseTest;
+
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+
+import org.junit.Test;
+
+/**
+ * Test suite for the conditional requests of the sample blog postings, which
+ * are retrieved through the actions created by the routers, like any other
+ * resource.
+ *
+ * @author Alejandro Hernández
+ */
+public class BlogPostingResourceTest extends BaseTest {
+
+	@Test
+	public void testBlogPostingAnswersMatchingIfModifiedSinceWithNotModified() {
+		Response response = _requestBlogPosting(null);
+
+		response.readEntity(String.class);
+
+		String lastModified = response.getHeaderString(LAST_MODIFIED);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(lastModified, is(notNullValue()));
+
+		Response conditionalResponse = _requestBlogPosting(lastModified);
+
+		assertThat(conditionalResponse.getStatus(), is(304));
+		assertThat(
+			conditionalResponse.getHeaderString(LAST_MODIFIED),
+			is(lastModified));
+	}
+
+	@Test
+	public void testBlogPostingIsReturnedIfModifiedAfterIfModifiedSince() {
+		Response response = _requestBlogPosting(
+			"Thu, 01 Jan 1970 00:00:00 GMT");
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getHeaderString(LAST_MODIFIED), is(notNullValue()));
+	}
+
+	private Response _requestBlogPosting(String ifModifiedSince) {
+		WebTarget webTarget = createDefaultTarget();
+
+		return webTarget.path(
+			"blog-postings/0"
+		).request(
+		).header(
+			IF_MODIFIED_SINCE, ifModifiedSince
+		).get();
+	}
+
+}
\ No newline at end of file